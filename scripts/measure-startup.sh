@@ -0,0 +1,67 @@
+#!/usr/bin/env sh
+# -----------------------------------------------------------------
+# 기본 모드(standard)와 빠른 시작 모드(fast-start) 이미지의 시작 시간(time-to-ready)을 비교합니다.
+#
+#   ./gradlew measureStartup  또는  sh scripts/measure-startup.sh [반복 횟수]
+#
+# docker-compose 의 mysql 컨테이너를 띄운 뒤, 각 이미지로 컨테이너를 반복 실행하여
+# - ready: 컨테이너 시작부터 /actuator/health/readiness 가 UP 이 될 때까지 걸린 시간 (밖에서 측정)
+# - jvm:   JVM 시작부터 ApplicationReadyEvent 까지의 시간 (application.ready.time 메트릭)
+# 의 평균을 출력합니다. DB 접속 정보는 ENV_FILE(.env.development) 을 사용합니다.
+# -----------------------------------------------------------------
+set -eu
+
+RUNS="${1:-3}"
+ENV_FILE="${ENV_FILE:-.env.development}"
+PORT="${PORT:-18080}"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-180}"
+IMAGE="${IMAGE:-wirebarley-app}"
+
+cd "$(dirname "$0")/.."
+
+now_millis() {
+  date +%s%3N
+}
+
+docker-compose --env-file "$ENV_FILE" up -d mysql
+until [ "$(docker inspect -f '{{.State.Health.Status}}' wirebarley_mysql)" = "healthy" ]; do
+  sleep 1
+done
+NETWORK="$(docker inspect -f '{{range $name, $_ := .NetworkSettings.Networks}}{{$name}}{{end}}' wirebarley_mysql)"
+
+measure() {
+  target="$1"
+  docker build -q --target "$target" -t "$IMAGE:$target" . > /dev/null
+
+  total_ready=0
+  total_jvm=0
+  run=1
+  while [ "$run" -le "$RUNS" ]; do
+    started="$(now_millis)"
+    container="$(docker run -d --rm --env-file "$ENV_FILE" --network "$NETWORK" -p "$PORT:8080" "$IMAGE:$target")"
+    until curl -fs "http://localhost:$PORT/actuator/health/readiness" > /dev/null 2>&1; do
+      if [ $(( $(now_millis) - started )) -gt $(( TIMEOUT_SECONDS * 1000 )) ]; then
+        docker logs "$container" | tail -50
+        docker stop "$container" > /dev/null
+        echo "$target: ${TIMEOUT_SECONDS}초 안에 준비되지 않았습니다." >&2
+        exit 1
+      fi
+      sleep 0.05
+    done
+    ready=$(( $(now_millis) - started ))
+    jvm="$(curl -fs "http://localhost:$PORT/actuator/metrics/application.ready.time" \
+      | sed -n 's/.*"value":\([0-9.E-]*\).*/\1/p' | awk '{ printf "%d", $1 * 1000 }')"
+    jvm="${jvm:-0}"
+    docker stop "$container" > /dev/null
+
+    echo "$target #$run: ready ${ready}ms, jvm ${jvm}ms"
+    total_ready=$(( total_ready + ready ))
+    total_jvm=$(( total_jvm + jvm ))
+    run=$(( run + 1 ))
+  done
+
+  echo "$target 평균: ready $(( total_ready / RUNS ))ms, jvm $(( total_jvm / RUNS ))ms"
+}
+
+measure standard
+measure fast-start
@@ -0,0 +1,57 @@
+package com.example.wirebarley.config;
+
+import com.example.wirebarley.util.AdaptiveConcurrencyLimiter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    /**
+     * API 전체에 적용되는 동시성 제한기. 커넥션 풀(primary/replica, 샤드 모두)에서 커넥션을 기다리는 스레드가 있으면 한도를 줄입니다.
+     */
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties,
+                                                                 ObjectProvider<HikariDataSource> hikariDataSources,
+                                                                 ObjectProvider<ShardDataSources> shardDataSources,
+                                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        List<HikariDataSource> pools = new ArrayList<>(hikariDataSources.orderedStream().toList());
+        shardDataSources.ifAvailable(shards -> pools.addAll(shards.getPools()));
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                properties.getInitialLimit(),
+                properties.getMinLimit(),
+                properties.getMaxLimit(),
+                properties.getMaxQueue(),
+                TimeUnit.MILLISECONDS.toNanos(properties.getMaxQueueWaitMs()),
+                properties.getLatencyTolerance(),
+                () -> threadsAwaitingConnection(pools));
+
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit).register(registry);
+            Gauge.builder("concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight).register(registry);
+            FunctionCounter.builder("concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::getRejectedCount).register(registry);
+        });
+        return limiter;
+    }
+
+    private static int threadsAwaitingConnection(List<HikariDataSource> pools) {
+        int waiters = 0;
+        for (HikariDataSource pool : pools) {
+            HikariPoolMXBean poolMXBean = pool.getHikariPoolMXBean();
+            if (poolMXBean != null) {
+                waiters += poolMXBean.getThreadsAwaitingConnection();
+            }
+        }
+        return waiters;
+    }
+}
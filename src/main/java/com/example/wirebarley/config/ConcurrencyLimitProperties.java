@@ -0,0 +1,28 @@
+package com.example.wirebarley.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * API 전체 동시 처리 수 제한 설정 (app.concurrency-limit).
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    private int initialLimit = 50;   // 시작 동시 처리 한도
+    private int minLimit = 10;       // 한도 하한
+    private int maxLimit = 200;      // 한도 상한 (Tomcat 스레드 수를 넘지 않도록 설정)
+
+    private int maxQueue = 50;            // 한도가 찼을 때 대기할 수 있는 최대 요청 수
+    private long maxQueueWaitMs = 50;     // 대기열에서 기다리는 최대 시간
+
+    // 응답 시간이 기준 응답 시간의 몇 배를 넘으면 한도를 줄일지
+    private double latencyTolerance = 2.0;
+}
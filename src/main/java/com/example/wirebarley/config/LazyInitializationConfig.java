@@ -0,0 +1,38 @@
+package com.example.wirebarley.config;
+
+import com.example.wirebarley.controller.AccountController;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * 빠른 시작 모드(fast-start 프로필, spring.main.lazy-initialization=true)에서도 시작 시 생성할 빈을 지정합니다.
+ * <ul>
+ *     <li>계좌 API(AccountController)와 그 의존 빈: 입출금/이체 첫 요청이 서비스, 리포지토리, JPA 초기화를 기다리지 않도록 합니다.</li>
+ *     <li>{@code @Scheduled} 메소드가 있는 빈: 지연 초기화되면 아무도 사용하지 않는 한 생성되지 않아 주기 작업이 등록되지 않습니다.</li>
+ * </ul>
+ * 그 외의 빈(관리용 API, actuator 엔드포인트 등)은 처음 사용할 때 생성됩니다.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    // 빈 팩토리 후처리 단계에서 조회되므로 설정 클래스를 일찍 생성하지 않도록 static 으로 선언합니다.
+    @Bean
+    static LazyInitializationExcludeFilter eagerInitializationFilter() {
+        return (beanName, beanDefinition, beanType) ->
+                beanType != null && (AccountController.class.isAssignableFrom(beanType) || hasScheduledMethod(beanType));
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    private static boolean hasScheduledMethod(Class<?> beanType) {
+        return !MethodIntrospector.selectMethods(beanType,
+                (ReflectionUtils.MethodFilter) method -> AnnotatedElementUtils.hasAnnotation(method, Scheduled.class)).isEmpty();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.wirebarley.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * JSON 외에 CBOR(application/cbor), Smile(application/x-jackson-smile) 로도 요청과 응답을 주고받을 수 있도록 설정합니다.
+ * <p>
+ * 클라이언트는 Accept 헤더로 응답 포맷을, Content-Type 헤더로 요청 본문 포맷을 선택합니다. 지정하지 않으면 JSON 을 사용합니다.
+ * 날짜 포맷 등 spring.jackson.* 설정이 JSON 과 동일하게 적용되도록 Spring Boot 가 구성한 Jackson2ObjectMapperBuilder 로 생성합니다.
+ * </p>
+ */
+@Configuration
+public class MessageConverterConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.createXmlMapper(false).factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.createXmlMapper(false).factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.wirebarley.config;
+
+import com.example.wirebarley.service.AccountRateLimiter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 계좌별 요청 빈도 제한 현황을 보여주는 actuator 엔드포인트. (/actuator/ratelimits)
+ * 엔드포인트별 전체 거절 수는 account.rate_limit.rejected 메트릭으로 확인합니다.
+ */
+@Component
+@Endpoint(id = "ratelimits")
+public class RateLimitEndpoint {
+
+    private static final int TOP_ACCOUNTS = 100;
+
+    @Autowired
+    private AccountRateLimiter accountRateLimiter;
+
+    @ReadOperation
+    public Map<String, Object> rateLimits() {
+        return Map.of(
+                "buckets", accountRateLimiter.getBucketCount(),
+                "topRejected", accountRateLimiter.topRejected(TOP_ACCOUNTS));
+    }
+}
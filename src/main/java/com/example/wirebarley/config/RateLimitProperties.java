@@ -0,0 +1,35 @@
+package com.example.wirebarley.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 계좌별 요청 빈도 제한 설정 (app.rate-limit).
+ * endpoints 의 키는 AccountController 의 메소드 이름(deposit, withdraw, transfer, deleteAccount)이며,
+ * 설정되지 않은 엔드포인트는 제한하지 않습니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 메모리에 유지하는 최대 버킷(계좌 x 엔드포인트) 수
+    private int maxBuckets = 100_000;
+
+    private Map<String, Limit> endpoints = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private int capacity = 10;             // 한 번에 허용하는 최대 요청 수
+        private double refillPerSecond = 5.0;  // 초당 채워지는 요청 수
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.wirebarley.config;
+
+import com.example.wirebarley.service.LedgerReconciliationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 원장 대사 진행 상황을 보여주고 대사를 시작하는 actuator 엔드포인트. (/actuator/reconciliation)
+ * GET 은 진행률/처리량과 마지막 결과 요약을, POST 는 백그라운드에서 대사를 시작합니다.
+ * 대사는 전체 원장을 읽는 무거운 작업이므로 POST 는 운영자 토큰이 있어야 실행됩니다. (ActuatorWriteAccessFilter)
+ */
+@Component
+@Endpoint(id = "reconciliation")
+public class ReconciliationEndpoint {
+
+    @Autowired
+    private LedgerReconciliationService ledgerReconciliationService;
+
+    @ReadOperation
+    public Map<String, Object> progress() {
+        return ledgerReconciliationService.progress();
+    }
+
+    @WriteOperation
+    public Map<String, Object> start() {
+        return Map.of("started", ledgerReconciliationService.reconcileAsync());
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.wirebarley.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * replica 의 복제 지연(Seconds_Behind_Source)을 주기적으로 확인하는 클래스.
+ * <p>
+ * 지연이 허용치를 넘거나 복제가 멈춘 경우, 혹은 replica 에 접속할 수 없는 경우
+ * {@link #isReplicaAvailable()} 가 false 가 되어 읽기 트랜잭션도 primary 로 보내집니다.
+ * replica 설정이 없는 DB(SHOW REPLICA STATUS 결과가 비어있음)는 지연이 없는 것으로 간주합니다.
+ * </p>
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String LAG_QUERY = "SHOW REPLICA STATUS";
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final DataSource replicaDataSource;
+    private final long maxLagSeconds;
+    private final boolean checkEnabled;
+
+    private volatile boolean replicaAvailable = true;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagSeconds, boolean checkEnabled) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLagSeconds = maxLagSeconds;
+        this.checkEnabled = checkEnabled;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag.check-interval-ms:1000}")
+    public void check() {
+        if (!checkEnabled) {
+            return;
+        }
+        this.update(this.measureLagSeconds());
+    }
+
+    /**
+     * 측정된 지연 시간으로 replica 사용 가능 여부를 갱신합니다.
+     * @param lagSeconds 복제 지연(초). 복제가 멈췄거나 측정에 실패한 경우 null
+     */
+    public void update(Long lagSeconds) {
+        boolean available = lagSeconds != null && lagSeconds <= maxLagSeconds;
+        if (available != replicaAvailable) {
+            log.warn("replica 사용 가능 여부 변경: {} (지연 {}초, 허용 {}초)", available, lagSeconds, maxLagSeconds);
+        }
+        replicaAvailable = available;
+    }
+
+    private Long measureLagSeconds() {
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            if (!resultSet.next()) {
+                return 0L;
+            }
+            long lag = resultSet.getLong(LAG_COLUMN);
+            return resultSet.wasNull() ? null : lag;
+        } catch (Exception ex) {
+            log.warn("replica 지연 확인 실패: {}", ex.getMessage());
+            return null;
+        }
+    }
+}
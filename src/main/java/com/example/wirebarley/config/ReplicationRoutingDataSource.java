@@ -0,0 +1,34 @@
+package com.example.wirebarley.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션의 readOnly 여부에 따라 primary / replica 커넥션 풀을 선택하는 DataSource.
+ * <p>
+ * {@code @Transactional(readOnly = true)} 작업은 replica 로, 그 외 모든 작업(락을 거는 조회 포함)은 primary 로 보냅니다.
+ * replica 지연이 허용치를 넘으면 {@link ReplicaLagMonitor} 판단에 따라 읽기 작업도 primary 로 보냅니다.
+ * 트랜잭션 속성이 확정된 뒤 커넥션을 얻어야 하므로 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용합니다.
+ * </p>
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicationRoutingDataSource(ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaLagMonitor.isReplicaAvailable()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.wirebarley.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * {@code @Scheduled} 로 선언된 주기 작업(레플리카 지연 확인 등)을 활성화합니다.
+ * <p>
+ * 모든 주기 작업은 spring.task.scheduling.pool.size 개의 스레드를 나누어 쓰므로, 스케줄러 스레드에서는 짧은 작업만 실행합니다.
+ * 몇 분 이상 걸릴 수 있는 배치(이자 지급, 자동이체, 원장 대사)는 스케줄러 스레드에서 시작만 하고 각 서비스의 전용 스레드에서 실행합니다.
+ * </p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
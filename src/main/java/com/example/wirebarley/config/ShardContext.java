@@ -0,0 +1,59 @@
+package com.example.wirebarley.config;
+
+/**
+ * 현재 스레드가 사용할 샤드 번호를 보관합니다. {@link ShardRoutingDataSource} 가 커넥션을 얻을 때 이 값으로 샤드를 선택합니다.
+ * <p>
+ * 커넥션은 첫 쿼리 실행 시점에 얻으므로, 트랜잭션이 시작된 뒤라도 첫 쿼리 전에만 설정하면 됩니다.
+ * 항상 try-with-resources 로 사용하여 블록을 벗어나면 이전 샤드로 되돌립니다.
+ * </p>
+ * <pre>
+ * try (ShardContext.Scope scope = ShardContext.enter(shard)) {
+ *     ...
+ * }
+ * </pre>
+ */
+public final class ShardContext {
+
+    // 설정되지 않은 경우 사용하는 샤드 (Idempotency-Key 기록 등 샤드와 무관한 데이터도 이 샤드에 저장됩니다)
+    public static final int DEFAULT_SHARD = 0;
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static int current() {
+        Integer shard = CURRENT.get();
+        return shard == null ? DEFAULT_SHARD : shard;
+    }
+
+    /**
+     * 현재 스레드의 샤드를 변경합니다.
+     *
+     * @param shard 샤드 번호
+     * @return 닫으면 이전 샤드로 되돌리는 Scope
+     */
+    public static Scope enter(int shard) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        return new Scope(previous);
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Integer previous;
+
+        private Scope(Integer previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.wirebarley.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.List;
+
+/**
+ * 샤드별 커넥션 풀 목록. 0번부터 샤드 순서대로 보관합니다.
+ * <p>
+ * 라우팅 DataSource 뒤에 숨은 풀을 빈으로 드러내어 동시성 제한기가 풀 포화를 감시할 수 있게 하고,
+ * 애플리케이션 종료 시 모든 풀을 닫습니다.
+ * </p>
+ */
+public class ShardDataSources implements DisposableBean {
+
+    private final List<HikariDataSource> pools;
+
+    public ShardDataSources(List<HikariDataSource> pools) {
+        this.pools = List.copyOf(pools);
+    }
+
+    public List<HikariDataSource> getPools() {
+        return pools;
+    }
+
+    @Override
+    public void destroy() {
+        for (HikariDataSource pool : pools) {
+            pool.close();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.wirebarley.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * {@link ShardContext} 의 샤드 번호로 샤드별 커넥션 풀을 선택하는 DataSource.
+ * <p>
+ * 트랜잭션 시작 후 첫 쿼리 전에 샤드를 정할 수 있도록 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용합니다.
+ * 하나의 트랜잭션은 하나의 커넥션만 사용하므로, 한 트랜잭션 안에서는 하나의 샤드만 다룰 수 있습니다.
+ * </p>
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.wirebarley.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.orm.jpa.EntityManagerFactoryInfo;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬/테스트 환경에서 샤드 스키마를 준비합니다. (app.sharding.initialize-schema=true)
+ * <p>
+ * ddl-auto 는 기본 샤드(0번)에만 적용되므로 나머지 샤드에는 같은 엔티티 매핑으로 테이블을 만들고,
+ * 샤드 n 의 IDENTITY 시작값을 n * {@link ShardingProperties#ID_RANGE} + 1 로 지정하여 ID 만으로 샤드를 알 수 있게 합니다.
+ * 운영 환경에서는 같은 작업을 마이그레이션으로 수행합니다. (MySQL: ALTER TABLE ... AUTO_INCREMENT = ...)
+ * </p>
+ */
+public class ShardSchemaInitializer implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardSchemaInitializer.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final int shardCount;
+
+    public ShardSchemaInitializer(EntityManagerFactory entityManagerFactory, int shardCount) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.shardCount = shardCount;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        DataSource dataSource = ((EntityManagerFactoryInfo) entityManagerFactory).getDataSource();
+        List<String> tables = this.tableNames(sessionFactory);
+
+        for (int shard = 1; shard < shardCount; shard++) {
+            try (ShardContext.Scope scope = ShardContext.enter(shard)) {
+                sessionFactory.getSchemaManager().exportMappedObjects(true);
+                this.restartIdentities(dataSource, tables, shard * ShardingProperties.ID_RANGE + 1);
+            }
+            log.info("샤드 {} 스키마 준비 완료 (ID 시작값 {})", shard, shard * ShardingProperties.ID_RANGE + 1);
+        }
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    private List<String> tableNames(SessionFactory sessionFactory) {
+        List<String> tables = new ArrayList<>();
+        sessionFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel().forEachEntityDescriptor(descriptor -> {
+            if (descriptor instanceof AbstractEntityPersister persister) {
+                tables.add(persister.getTableName());
+            }
+        });
+        return tables;
+    }
+
+    private void restartIdentities(DataSource dataSource, List<String> tables, long start) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            boolean mysql = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+            for (String table : tables) {
+                // 이미 대역 안의 ID 가 있다면(재시작 등) 그대로 둡니다.
+                try (ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+                    resultSet.next();
+                    if (resultSet.getLong(1) >= start) {
+                        continue;
+                    }
+                }
+                statement.execute(mysql
+                        ? "ALTER TABLE " + table + " AUTO_INCREMENT = " + start
+                        : "ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + start);
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.wirebarley.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 샤드별 커넥션 풀을 구성하고, {@link ShardContext} 의 샤드 번호로 라우팅합니다.
+ * <p>
+ * {@code app.sharding.enabled=true} 일 때만 활성화되며, primary / replica 라우팅(DataSourceConfig)과는 함께 사용할 수 없습니다.
+ * 샤드는 {@code app.sharding.shards} 에 순서대로 지정하며, 0번 샤드가 기본 샤드입니다.
+ * 샤드별 커넥션 풀은 {@link ShardDataSources} 빈으로 등록되어 종료 시 함께 닫힙니다.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+public class ShardingConfig {
+
+    // 계좌번호의 샤드 접두어(S + 두 자리)에 샤드 번호를 넣으므로 최대 100개까지 지원합니다.
+    private static final int MAX_SHARDS = 100;
+
+    @Bean
+    public ShardDataSources shardDataSources(ShardingProperties properties) {
+        List<ShardingProperties.Shard> shards = properties.getShards();
+        if (shards.isEmpty() || shards.size() > MAX_SHARDS) {
+            throw new IllegalStateException("app.sharding.shards 는 1개 이상 " + MAX_SHARDS + "개 이하로 지정해야 합니다.");
+        }
+
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            pools.add(this.shardDataSource(shard, shards.get(shard)));
+        }
+        return new ShardDataSources(pools);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardDataSources shardDataSources) {
+        Map<Object, Object> targets = new HashMap<>();
+        List<HikariDataSource> pools = shardDataSources.getPools();
+        for (int shard = 0; shard < pools.size(); shard++) {
+            targets.put(shard, pools.get(shard));
+        }
+
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(targets.get(ShardContext.DEFAULT_SHARD));
+        // 존재하지 않는 샤드 번호로 기본 샤드에 잘못 쓰지 않도록 합니다.
+        routingDataSource.setLenientFallback(false);
+        routingDataSource.afterPropertiesSet();
+
+        // 트랜잭션 시작 시점이 아니라 첫 쿼리 실행 시점에 커넥션을 얻어야 ShardContext 로 라우팅할 수 있습니다.
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.sharding", name = "initialize-schema", havingValue = "true")
+    public ShardSchemaInitializer shardSchemaInitializer(EntityManagerFactory entityManagerFactory, ShardingProperties properties) {
+        return new ShardSchemaInitializer(entityManagerFactory, properties.getShards().size());
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    private HikariDataSource shardDataSource(int shard, ShardingProperties.Shard properties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .driverClassName(properties.getDriverClassName())
+                .build();
+        dataSource.setPoolName("shard-" + shard + "-pool");
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        return dataSource;
+    }
+}
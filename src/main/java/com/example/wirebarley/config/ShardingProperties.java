@@ -0,0 +1,50 @@
+package com.example.wirebarley.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 샤딩 설정 (app.sharding).
+ * shards 의 순서가 샤드 번호(0부터)이며, 계좌번호의 샤드 접두어(S + 두 자리)와 ID 대역이 이 번호로 정해지므로 한 번 정한 순서는 바꾸지 않습니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.sharding")
+public class ShardingProperties {
+
+    // 샤드별 ID 대역 크기. 샤드 n 의 계좌/사용자/거래 ID 는 n * ID_RANGE + 1 부터 시작하므로 ID 만으로 샤드를 알 수 있습니다.
+    public static final long ID_RANGE = 1_000_000_000_000L;
+
+    private boolean enabled = false;
+
+    // true 이면 시작 시 0번이 아닌 샤드에도 스키마를 만들고 ID 대역을 지정합니다. (로컬/테스트용, 운영은 마이그레이션으로 준비)
+    private boolean initializeSchema = false;
+
+    private List<Shard> shards = new ArrayList<>();
+
+    private Recovery recovery = new Recovery();
+
+    @Getter
+    @Setter
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class Recovery {
+        private long intervalMs = 10_000;  // 미완료 샤드 간 이체 복구 주기
+        private long graceMs = 30_000;     // 진행 중인 이체와 겹치지 않도록, 이 시간 이상 지난 이체만 복구
+        private int batchSize = 100;       // 한 주기에 샤드별로 복구하는 최대 이체 수
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.wirebarley.config;
+
+import com.example.wirebarley.domain.User;
+import com.example.wirebarley.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 사용자(User) 2차 캐시 현황을 보여주는 actuator 엔드포인트. (/actuator/usercache)
+ * DELETE 요청 시 캐시된 사용자를 모두 제거합니다. 운영자 토큰이 있어야 합니다. ({@link com.example.wirebarley.filter.ActuatorWriteAccessFilter})
+ */
+@Component
+@Endpoint(id = "usercache")
+public class UserCacheEndpoint {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserService userService;
+
+    @ReadOperation
+    public Map<String, Object> userCache() {
+        CacheRegionStatistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics()
+                .getDomainDataRegionStatistics(User.CACHE_REGION);
+        long hits = statistics.getHitCount();
+        long misses = statistics.getMissCount();
+        return Map.of(
+                "region", User.CACHE_REGION,
+                "hits", hits,
+                "misses", misses,
+                "puts", statistics.getPutCount(),
+                "hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+    }
+
+    @DeleteOperation
+    public void evictAll() {
+        userService.evictAllFromCache();
+    }
+}
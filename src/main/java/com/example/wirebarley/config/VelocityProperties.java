@@ -0,0 +1,51 @@
+package com.example.wirebarley.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 계좌별 이체 빈도(velocity) 규칙 설정 (app.velocity).
+ * 규칙마다 window-ms 동안 max-count 건까지 허용하며, 넘는 이체는 계좌 락을 잡기 전에 거절합니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.velocity")
+public class VelocityProperties {
+
+    private boolean enabled = true;
+
+    // 이체 횟수 규칙 (기본: 5분에 10건)
+    private Rule transfers = new Rule(10, 300_000L);
+
+    // 새로운 상대방(자주 이체한 상대방 목록에 없는 상대방)에게 이체한 횟수 규칙 (기본: 1시간에 3건)
+    private Rule newCounterparties = new Rule(3, 3_600_000L);
+
+    // 윈도우를 나누는 구간 수. 윈도우 시작 경계는 window-ms / slots 만큼 근사됩니다.
+    private int slots = 60;
+
+    // 메모리에 유지하는 최대 계좌 수. 가득 차면 윈도우 안에 이체가 없는 계좌부터 제거합니다.
+    private int maxAccounts = 100_000;
+
+    // 시작 시 최근 거래 기록으로 카운터를 다시 만들지 여부와, 한 번에 읽는 거래 수 / 샤드별 최대 이체 수
+    private boolean rebuildOnStartup = true;
+    private int rebuildPageSize = 1_000;
+    private int rebuildMaxRows = 1_000_000;
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private int maxCount;
+        private long windowMs;
+
+        public Rule() {
+        }
+
+        public Rule(int maxCount, long windowMs) {
+            this.maxCount = maxCount;
+            this.windowMs = windowMs;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.wirebarley.config;
+
+import com.example.wirebarley.filter.AccountRateLimitInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private AccountRateLimitInterceptor accountRateLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(accountRateLimitInterceptor)
+                .addPathPatterns("/account/**");
+    }
+}
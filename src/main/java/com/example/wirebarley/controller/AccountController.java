@@ -3,8 +3,13 @@ package com.example.wirebarley.controller;
 import com.example.wirebarley.domain.Account;
 import com.example.wirebarley.domain.Transaction;
 import com.example.wirebarley.dto.*;
+import com.example.wirebarley.service.AccountEventService;
 import com.example.wirebarley.service.AccountService;
+import com.example.wirebarley.service.AccountVersionRegistry;
+import com.example.wirebarley.service.BalanceSnapshotService;
+import com.example.wirebarley.service.CounterpartyService;
 import com.example.wirebarley.service.TransactionService;
+import com.example.wirebarley.util.ETagUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -12,26 +17,56 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
 
 @Tag(name = "Accounts", description = "계좌 관련 API")
 @RestController
 @RequestMapping(value = "/account")
 public class AccountController {
 
+    // 변경될 수 있는 응답: 캐시하되 매번 ETag 로 재검증
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    // 오늘 이전 거래만 담긴 beforeId 페이지: 내용이 바뀌지 않으므로 오래 캐시
+    private static final CacheControl SETTLED = CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable();
+
     @Autowired
     private AccountService accountService;
 
     @Autowired
     private TransactionService transactionService;
 
+    @Autowired
+    private AccountVersionRegistry accountVersionRegistry;
+
+    @Autowired
+    private AccountEventService accountEventService;
+
+    @Autowired
+    private BalanceSnapshotService balanceSnapshotService;
+
+    @Autowired
+    private CounterpartyService counterpartyService;
+
     @Operation(summary = "신규 계좌 생성 API", description = "사용자 정보와 초기 비밀번호를 받아 새로운 계좌를 개설합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "계좌 생성 성공", content = @Content(schema = @Schema(implementation = AccountDTO.class))),
@@ -43,6 +78,35 @@ public class AccountController {
         return ResponseEntity.ok(account.toDTO());
     }
 
+    @Operation(summary = "계좌 목록 조회 API", description = "여러 계좌 ID를 받아 계좌 정보를 한 번에 조회합니다. 존재하지 않는 ID는 결과에서 제외됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 의 ETag 이후 변경 없음")
+    })
+    @GetMapping
+    public ResponseEntity<List<AccountDTO>> findAccounts(@RequestParam List<Long> ids,
+                                                         @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                         @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        // 계좌 버전은 메모리에서 확인하므로, 변경이 없으면 계좌와 사용자를 조회하지 않고 304 를 반환합니다.
+        List<Long> sortedIds = ids.stream().distinct().sorted().toList();
+        Map<Long, Long> versions = accountVersionRegistry.versionsOf(sortedIds);
+        String etag = ETagUtil.of("accounts", sortedIds, sortedIds.stream().map(versions::get).toList(), accept);
+        if (ETagUtil.matches(ifNoneMatch, etag)) {
+            return this.notModified(etag, REVALIDATE);
+        }
+
+        List<AccountDTO> dtos = accountService.findAllByIds(ids)
+                .stream()
+                .map(Account::toDTO)
+                .toList();
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(dtos);
+    }
+
     @Operation(summary = "계좌 해지 API", description = "특정 계좌를 해지(삭제 상태로 변경)합니다. 잔액이 남아있는 경우 해지할 수 없습니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "계좌 해지 성공"),
@@ -55,6 +119,18 @@ public class AccountController {
         return ResponseEntity.ok(null);
     }
 
+    @Operation(summary = "휴면 계좌 해제 API", description = "오래 거래가 없어 휴면(DORMANT) 상태로 전환된 계좌를 다시 활성화합니다. 휴면 계좌는 해제 전까지 입출금과 이체를 받을 수 없습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "휴면 해제 성공", content = @Content(schema = @Schema(implementation = AccountDTO.class))),
+            @ApiResponse(responseCode = "400", description = "휴면 상태가 아닌 계좌", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "해당 계좌를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping(value = "/{accountId}/reactivate")
+    public ResponseEntity<AccountDTO> reactivateAccount(@PathVariable Long accountId) throws Throwable {
+        Account account = accountService.reactivateAccount(accountId);
+        return ResponseEntity.ok(account.toDTO());
+    }
+
     @Operation(summary = "입금 API", description = "특정 계좌에 금액을 입금합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "입금 성공", content = @Content(schema = @Schema(implementation = AccountDTO.class))),
@@ -71,8 +147,9 @@ public class AccountController {
     @Operation(summary = "출금 API", description = "특정 계좌에서 금액을 출금합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "출금 성공", content = @Content(schema = @Schema(implementation = AccountDTO.class))),
-            @ApiResponse(responseCode = "400", description = "출금 실패 (잔액 부족 또는 일일 한도 초과)", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
-            @ApiResponse(responseCode = "404", description = "해당 계좌를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            @ApiResponse(responseCode = "400", description = "출금 실패 (잔액 부족 또는 비활성 계좌)", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "해당 계좌를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "422", description = "일일 출금 한도 초과", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping(value = "/{accountId}/withdraw")
     public ResponseEntity<AccountDTO> withdraw(@PathVariable Long accountId, @RequestBody WithdrawRequestDTO requestDTO) throws Throwable {
@@ -85,8 +162,9 @@ public class AccountController {
     @Operation(summary = "계좌 이체 API", description = "계좌에서 다른 계좌로 금액을 이체합니다. 이체 시 1%의 수수료가 발생합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "이체 성공", content = @Content(schema = @Schema(implementation = AccountDTO.class))),
-            @ApiResponse(responseCode = "400", description = "이체 실패 (잔액 부족, 한도 초과, 수취인 계좌 오류 등)", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
-            @ApiResponse(responseCode = "404", description = "송금인 계좌를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            @ApiResponse(responseCode = "400", description = "이체 실패 (잔액 부족 등)", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "송금인 또는 수취인 계좌를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "422", description = "일일 이체 한도 초과", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping(value = "/{accountId}/transfer")
     public ResponseEntity<AccountDTO> transfer(@PathVariable Long accountId, @RequestBody TransferRequestDTO requestDTO) throws Throwable {
@@ -94,20 +172,119 @@ public class AccountController {
         return ResponseEntity.ok(account.toDTO());
     }
 
-    @Operation(summary = "거래 내역 조회", description = "특정 계좌의 입출금 및 이체 내역을 페이징하여 조회합니다.")
+    @Operation(summary = "거래 내역 조회", description = "특정 계좌의 입출금 및 이체 내역을 페이징하여 조회합니다. beforeId 를 지정하면 해당 거래 ID 이전 내역을 size 건 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 의 ETag 이후 변경 없음"),
             @ApiResponse(responseCode = "404", description = "해당 계좌를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping(value = "/{accountId}/transaction")
-    public ResponseEntity<List<TransactionDTO>> transactionHistory(@PathVariable Long accountId, Pageable pageable) {
-        Page<Transaction> page = transactionService.findBy(accountId, pageable);
+    public ResponseEntity<List<TransactionDTO>> transactionHistory(@PathVariable Long accountId,
+                                                                   @RequestParam(required = false) Long beforeId,
+                                                                   Pageable pageable,
+                                                                   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                                   @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        // 1. beforeId 로 조회한 오늘 이전의 페이지는 내용이 바뀌지 않으므로 ETag 만으로 304 를 반환
+        //    (이 ETag 는 TransactionService.isSettledPage 를 통과한 페이지에만 발급됩니다)
+        String settledEtag = beforeId == null ? null
+                : ETagUtil.of("history", accountId, "before", beforeId, pageable.getPageSize(), accept);
+        if (settledEtag != null && ETagUtil.matches(ifNoneMatch, settledEtag)) {
+            return this.notModified(settledEtag, SETTLED);
+        }
 
-        List<TransactionDTO> dtos = page.getContent()
+        // 2. 그 외에는 메모리의 계좌 버전으로 변경 여부를 확인하고, 변경이 없으면 거래 내역을 조회하지 않고 304 를 반환
+        OptionalLong version = accountVersionRegistry.versionOf(accountId);
+        String etag = version.isEmpty() ? null
+                : ETagUtil.of("history", accountId, version.getAsLong(), beforeId, pageable.getPageNumber(),
+                        pageable.getPageSize(), pageable.getSort(), accept);
+        if (etag != null && ETagUtil.matches(ifNoneMatch, etag)) {
+            return this.notModified(etag, REVALIDATE);
+        }
+
+        List<Transaction> transactions = beforeId == null
+                ? transactionService.findBy(accountId, pageable).getContent()
+                : transactionService.findBefore(accountId, beforeId, pageable.getPageSize());
+        List<TransactionDTO> dtos = transactions
                 .stream()
                 .map(Transaction::toDTO)
                 .toList();
 
-        return ResponseEntity.ok(dtos);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT);
+        if (settledEtag != null && transactionService.isSettledPage(accountId, beforeId, transactions)) {
+            response.eTag(settledEtag).cacheControl(SETTLED);
+        } else if (etag != null) {
+            response.eTag(etag).cacheControl(REVALIDATE);
+        }
+        return response.body(dtos);
+    }
+
+    @Operation(summary = "특정 시각 잔액 조회", description = "계좌의 asOf 시점 잔액을 일별 마감 잔액 스냅샷과 그 이후의 거래 기록으로 조회합니다. (예: asOf=2025-08-01T18:00:00+09:00)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = BalanceAsOfDTO.class))),
+            @ApiResponse(responseCode = "400", description = "조회 시각이 현재 이후", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "해당 계좌를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(value = "/{accountId}/balance")
+    public ResponseEntity<BalanceAsOfDTO> balanceAsOf(@PathVariable Long accountId,
+                                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime asOf) throws Throwable {
+        return ResponseEntity.ok(balanceSnapshotService.balanceAsOf(accountId, asOf));
+    }
+
+    @Operation(summary = "전체 계좌 특정 시각 잔액 조회", description = "asOf 이전에 개설된 모든 계좌의 asOf 시점 잔액을 CSV(accountId,accountNumber,balance,transactionId)로 스트리밍합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "조회 시각이 현재 이후", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(value = "/balance", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> balancesAsOf(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime asOf) {
+        // 응답을 쓰기 시작한 뒤에는 상태 코드를 바꿀 수 없으므로 조회 시각은 미리 확인합니다.
+        balanceSnapshotService.validateAsOf(asOf);
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+            balanceSnapshotService.writeBalancesAsOf(asOf, writer);
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv;charset=UTF-8"))
+                .body(body);
+    }
+
+    @Operation(summary = "자주 이체한 상대방 조회", description = "계좌에서 자주, 그리고 최근에 이체한 상대방을 점수가 높은 순서로 최대 limit 명 조회합니다. " +
+            "점수는 이체할 때마다 1 씩 늘고 30일마다 절반으로 줄어듭니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "해당 계좌를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(value = "/{accountId}/counterparties")
+    public ResponseEntity<List<CounterpartyDTO>> counterparties(@PathVariable Long accountId,
+                                                                @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(counterpartyService.findRecent(accountId, limit));
+    }
+
+    @Operation(summary = "거래 이벤트 스트림", description = "계좌에 거래가 기록될 때마다 거래 내역을 Server-Sent Events(event: transaction, id: 거래 ID)로 보냅니다. " +
+            "Last-Event-ID 헤더(또는 after)로 마지막으로 받은 거래 ID 를 보내면 그 이후의 거래부터 보냅니다. " +
+            "전달이 늦어 이벤트를 버린 경우 overflow 이벤트를 보내고 스트림을 종료하므로, 마지막으로 받은 거래 ID 로 다시 연결해야 합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "스트림 시작"),
+            @ApiResponse(responseCode = "404", description = "해당 계좌를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "429", description = "구독자 수 초과", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(value = "/{accountId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@PathVariable Long accountId,
+                             @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+                             @RequestParam(required = false) Long after) throws Throwable {
+        return accountEventService.subscribe(accountId, lastEventId != null ? lastEventId : after);
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    private <T> ResponseEntity<T> notModified(String etag, CacheControl cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT)
+                .build();
     }
 }
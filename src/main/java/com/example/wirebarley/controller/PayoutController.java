@@ -0,0 +1,85 @@
+package com.example.wirebarley.controller;
+
+import com.example.wirebarley.domain.PayoutJob;
+import com.example.wirebarley.domain.PayoutLine;
+import com.example.wirebarley.dto.PayoutJobDTO;
+import com.example.wirebarley.dto.PayoutLineDTO;
+import com.example.wirebarley.dto.PayoutRequestDTO;
+import com.example.wirebarley.service.PayoutService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "Payouts", description = "대량 지급 관련 API")
+@RestController
+@RequestMapping(value = "/account/{accountId}/payout")
+public class PayoutController {
+
+    private static final String TEXT_CSV = "text/csv";
+
+    @Autowired
+    private PayoutService payoutService;
+
+    @Operation(summary = "대량 지급 등록 API", description = "지급 계좌에서 여러 수취인에게 지급하는 작업을 등록합니다. 지급은 백그라운드에서 진행되며 진행 상황은 조회 API 로 확인합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "등록 성공", content = @Content(schema = @Schema(implementation = PayoutJobDTO.class))),
+            @ApiResponse(responseCode = "400", description = "지급 내역이 비어 있거나 너무 많음", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "해당 계좌를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PayoutJobDTO> submitPayout(@PathVariable Long accountId, @RequestBody PayoutRequestDTO requestDTO) throws Throwable {
+        PayoutJob job = payoutService.submit(accountId, requestDTO.getMemo(), requestDTO.getLines());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job.toDTO());
+    }
+
+    @Operation(summary = "대량 지급 등록 API (CSV)", description = "한 줄에 \"수취인 계좌번호,지급 금액\" 형식의 CSV 로 대량 지급 작업을 등록합니다. 빈 줄과 # 으로 시작하는 줄은 건너뜁니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "등록 성공", content = @Content(schema = @Schema(implementation = PayoutJobDTO.class))),
+            @ApiResponse(responseCode = "400", description = "지급 내역이 비어 있거나 너무 많음", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "해당 계좌를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping(consumes = TEXT_CSV)
+    public ResponseEntity<PayoutJobDTO> submitPayoutCsv(@PathVariable Long accountId,
+                                                        @RequestParam(required = false) String memo,
+                                                        @RequestBody String csv) throws Throwable {
+        PayoutJob job = payoutService.submitCsv(accountId, memo, csv);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job.toDTO());
+    }
+
+    @Operation(summary = "대량 지급 진행 상황 조회 API", description = "지급 작업의 상태와 처리 건수, 지급 금액 합계를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = PayoutJobDTO.class))),
+            @ApiResponse(responseCode = "404", description = "해당 지급 작업을 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(value = "/{jobId}")
+    public ResponseEntity<PayoutJobDTO> findPayout(@PathVariable Long accountId, @PathVariable Long jobId) throws Throwable {
+        return ResponseEntity.ok(payoutService.findJob(accountId, jobId).toDTO());
+    }
+
+    @Operation(summary = "대량 지급 실패 내역 조회 API", description = "지급에 실패했거나 결과 확인이 필요한 지급 건을 사유와 함께 순번 순서로 페이징하여 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "해당 지급 작업을 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(value = "/{jobId}/failure")
+    public ResponseEntity<List<PayoutLineDTO>> findPayoutFailures(@PathVariable Long accountId, @PathVariable Long jobId,
+                                                                  Pageable pageable) throws Throwable {
+        List<PayoutLineDTO> dtos = payoutService.findFailures(accountId, jobId, pageable)
+                .stream()
+                .map(PayoutLine::toDTO)
+                .toList();
+        return ResponseEntity.ok(dtos);
+    }
+}
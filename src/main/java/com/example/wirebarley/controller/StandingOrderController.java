@@ -0,0 +1,64 @@
+package com.example.wirebarley.controller;
+
+import com.example.wirebarley.domain.StandingOrder;
+import com.example.wirebarley.dto.CreateStandingOrderRequestDTO;
+import com.example.wirebarley.dto.StandingOrderDTO;
+import com.example.wirebarley.service.StandingOrderService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "StandingOrders", description = "자동이체 관련 API")
+@RestController
+@RequestMapping(value = "/account/{accountId}/standing-order")
+public class StandingOrderController {
+
+    @Autowired
+    private StandingOrderService standingOrderService;
+
+    @Operation(summary = "자동이체 등록 API", description = "매월 지정한 날에 수취인 계좌로 같은 금액을 이체하는 자동이체를 등록합니다. 그 달에 없는 날이면 마지막 날에 이체합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "등록 성공", content = @Content(schema = @Schema(implementation = StandingOrderDTO.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 금액 또는 이체일", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "해당 계좌를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping
+    public ResponseEntity<StandingOrderDTO> createStandingOrder(@PathVariable Long accountId,
+                                                                @RequestBody CreateStandingOrderRequestDTO requestDTO) throws Throwable {
+        StandingOrder order = standingOrderService.create(accountId, requestDTO);
+        return ResponseEntity.ok(order.toDTO());
+    }
+
+    @Operation(summary = "자동이체 목록 조회 API", description = "계좌의 자동이체 목록을 다음 실행일, 마지막 실행 결과(실패 사유)와 함께 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    @GetMapping
+    public ResponseEntity<List<StandingOrderDTO>> findStandingOrders(@PathVariable Long accountId) {
+        List<StandingOrderDTO> dtos = standingOrderService.findAllByAccountId(accountId)
+                .stream()
+                .map(StandingOrder::toDTO)
+                .toList();
+        return ResponseEntity.ok(dtos);
+    }
+
+    @Operation(summary = "자동이체 해지 API", description = "자동이체를 해지합니다. 해지한 자동이체는 더 이상 실행되지 않습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "해지 성공", content = @Content(schema = @Schema(implementation = StandingOrderDTO.class))),
+            @ApiResponse(responseCode = "404", description = "해당 자동이체를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @DeleteMapping(value = "/{orderId}")
+    public ResponseEntity<StandingOrderDTO> cancelStandingOrder(@PathVariable Long accountId, @PathVariable Long orderId) throws Throwable {
+        StandingOrder order = standingOrderService.cancel(accountId, orderId);
+        return ResponseEntity.ok(order.toDTO());
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.wirebarley.controller;
+
+import com.example.wirebarley.domain.Account;
+import com.example.wirebarley.domain.User;
+import com.example.wirebarley.dto.AccountDTO;
+import com.example.wirebarley.dto.UpdateDailyLimitsRequestDTO;
+import com.example.wirebarley.dto.UserAccountsDTO;
+import com.example.wirebarley.dto.UserLimitsDTO;
+import com.example.wirebarley.service.AccountService;
+import com.example.wirebarley.service.UserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Users", description = "사용자 관련 API")
+@RestController
+@RequestMapping(value = "/user")
+public class UserController {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Operation(summary = "사용자 계좌 목록 조회 API", description = "사용자가 보유한 모든 계좌와 잔액 합계를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = UserAccountsDTO.class))),
+            @ApiResponse(responseCode = "404", description = "해당 사용자를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(value = "/{userId}/accounts")
+    public ResponseEntity<UserAccountsDTO> accounts(@PathVariable Long userId) {
+        List<Account> accounts = accountService.findAllByUserId(userId);
+        // 계좌가 있으면 fetch join 으로 함께 조회된 사용자를 그대로 사용하고,
+        // 계좌가 없을 때만 사용자 존재 여부를 확인합니다.
+        User user = accounts.isEmpty() ? userService.findById(userId) : accounts.get(0).getUser();
+
+        List<AccountDTO> dtos = accounts.stream()
+                .map(Account::toDTO)
+                .toList();
+        long totalBalance = accounts.stream()
+                .mapToLong(Account::getBalance)
+                .sum();
+
+        UserAccountsDTO dto = UserAccountsDTO.builder()
+                .userId(user.getId())
+                .username(user.getUsername())
+                .totalBalance(totalBalance)
+                .accounts(dtos)
+                .build();
+        return ResponseEntity.ok(dto);
+    }
+
+    @Operation(summary = "일일 한도 변경 API", description = "사용자의 일일 출금/이체 한도를 변경합니다. 값을 보내지 않은 한도는 그대로 유지됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "변경 성공", content = @Content(schema = @Schema(implementation = UserLimitsDTO.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 한도 (0원 미만)", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "해당 사용자를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PatchMapping(value = "/{userId}/limits")
+    public ResponseEntity<UserLimitsDTO> updateLimits(@PathVariable Long userId, @RequestBody UpdateDailyLimitsRequestDTO requestDTO) {
+        User user = userService.updateDailyLimits(userId, requestDTO.getDailyWithdrawalLimit(), requestDTO.getDailyTransferLimit());
+        UserLimitsDTO dto = UserLimitsDTO.builder()
+                .userId(user.getId())
+                .dailyWithdrawalLimit(user.getDailyWithdrawalLimit())
+                .dailyTransferLimit(user.getDailyTransferLimit())
+                .build();
+        return ResponseEntity.ok(dto);
+    }
+}
\ No newline at end of file
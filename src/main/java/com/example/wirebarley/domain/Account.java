@@ -2,10 +2,7 @@ package com.example.wirebarley.domain;
 
 import com.example.wirebarley.dto.AccountDTO;
 import com.example.wirebarley.enumeration.AccountStatus;
-import com.example.wirebarley.exception.AccountNotActiveException;
-import com.example.wirebarley.exception.BalanceRemainingException;
-import com.example.wirebarley.exception.InsufficientBalanceException;
-import com.example.wirebarley.exception.InvalidAmountException;
+import com.example.wirebarley.enumeration.Rejection;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,6 +13,8 @@ import java.time.ZonedDateTime;
 @Entity
 @Table(name = "account", indexes = {
         @Index(name = "idx__account_number", columnList = "accountNumber"),
+        // 휴면 전환 대상(오래 잔액 변경이 없는 활성 계좌)을 범위 조회합니다. (DormantAccountSweeper)
+        @Index(name = "idx__status__last_balance_changed_at", columnList = "status,lastBalanceChangedAt")
 })
 @Getter
 @Setter
@@ -42,44 +41,114 @@ public class Account extends AbstractDomain {
     @Column(columnDefinition = "timestamp")
     private ZonedDateTime lastBalanceChangedAt;
 
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version; // 낙관적 락 버전
+
     public Account(long id) {
         this.setId(id);
     }
 
 
-    public void deposit(long amount) throws Throwable {
+    public void deposit(long amount, ZonedDateTime now) {
+        this.tryDeposit(amount, now).orElseThrow();
+    }
+
+    public void withdraw(long amount, ZonedDateTime now) {
+        this.tryWithdraw(amount, now).orElseThrow();
+    }
+
+    public void delete() {
+        this.tryDelete().orElseThrow();
+    }
+
+    public void reactivate(ZonedDateTime now) {
+        this.tryReactivate(now).orElseThrow();
+    }
+
+    /**
+     * 입금을 시도합니다. 거절 사유가 있으면 예외 대신 거절 결과를 반환하며, 이 경우 상태는 변경되지 않습니다.
+     * 활성(ACTIVE) 상태가 아닌 계좌(휴면, 해지 등)에는 입금할 수 없습니다.
+     * @param now 잔액 변경 시각. 서비스에서는 BusinessClock 의 현재 시각을 전달합니다.
+     */
+    public Outcome<Void> tryDeposit(long amount, ZonedDateTime now) {
         if (amount <= 0) {
-            throw new InvalidAmountException("입금액은 0보다 커야 합니다.");
+            return Outcome.rejected(Rejection.INVALID_DEPOSIT_AMOUNT);
+        }
+        if (this.status.isNotActive()) {
+            return Outcome.rejected(Rejection.ACCOUNT_NOT_ACTIVE);
         }
 
         this.balance += amount;
-        this.lastBalanceChangedAt = ZonedDateTime.now();
+        this.lastBalanceChangedAt = now;
+        return Outcome.success();
     }
 
-    public void withdraw(long amount) throws Throwable {
+    /**
+     * 출금을 시도합니다. 거절 사유가 있으면 예외 대신 거절 결과를 반환하며, 이 경우 상태는 변경되지 않습니다.
+     * 활성(ACTIVE) 상태가 아닌 계좌(휴면, 해지 등)에서는 출금할 수 없습니다.
+     * @param now 잔액 변경 시각. 서비스에서는 BusinessClock 의 현재 시각을 전달합니다.
+     */
+    public Outcome<Void> tryWithdraw(long amount, ZonedDateTime now) {
         if (amount <= 0) {
-            throw new InvalidAmountException("출금액은 0보다 커야 합니다.");
+            return Outcome.rejected(Rejection.INVALID_WITHDRAW_AMOUNT);
+        }
+        if (this.status.isNotActive()) {
+            return Outcome.rejected(Rejection.ACCOUNT_NOT_ACTIVE);
         }
         if (this.balance < amount) {
-            throw new InsufficientBalanceException("잔액이 부족합니다.");
+            return Outcome.rejected(Rejection.INSUFFICIENT_BALANCE);
         }
 
         this.balance -= amount;
-        this.lastBalanceChangedAt = ZonedDateTime.now();
+        this.lastBalanceChangedAt = now;
+        return Outcome.success();
     }
 
-    public void delete() throws Throwable {
-        this.validateDeletable();
-        this.status = AccountStatus.DELETED;
+    /**
+     * 입금을 받을 수 있는 상태인지 확인합니다. 이체처럼 다른 계좌에서 먼저 출금하는 경우, 출금 전에 수취인 상태를 확인할 때 사용합니다.
+     */
+    public Outcome<Void> checkReceivable() {
+        return this.status.isNotActive() ? Outcome.rejected(Rejection.ACCOUNT_NOT_ACTIVE) : Outcome.success();
+    }
+
+    /**
+     * 실패한 이체의 출금액을 되돌려 받습니다. 고객의 돈을 돌려주는 보상 처리이므로 계좌 상태와 무관하게 반영합니다.
+     * @param now 잔액 변경 시각
+     */
+    public void refund(long amount, ZonedDateTime now) {
+        this.balance += amount;
+        this.lastBalanceChangedAt = now;
+    }
+
+    /**
+     * 휴면(DORMANT) 계좌의 재활성화를 시도합니다. 거절 사유가 있으면 예외 대신 거절 결과를 반환하며, 이 경우 상태는 변경되지 않습니다.
+     * 다시 활성화한 시각을 마지막 잔액 변경 시각으로 기록하여, 휴면 전환 기간이 이 시각부터 새로 시작됩니다.
+     * @param now 활성화 시각. 서비스에서는 BusinessClock 의 현재 시각을 전달합니다.
+     */
+    public Outcome<Void> tryReactivate(ZonedDateTime now) {
+        if (this.status != AccountStatus.DORMANT) {
+            return Outcome.rejected(Rejection.ACCOUNT_NOT_DORMANT);
+        }
+
+        this.status = AccountStatus.ACTIVE;
+        this.lastBalanceChangedAt = now;
+        return Outcome.success();
     }
 
-    private void validateDeletable() throws Throwable {
+    /**
+     * 계좌 삭제를 시도합니다. 거절 사유가 있으면 예외 대신 거절 결과를 반환하며, 이 경우 상태는 변경되지 않습니다.
+     */
+    public Outcome<Void> tryDelete() {
         if (!this.status.isActive()) {
-            throw new AccountNotActiveException("활성 상태의 계좌만 삭제할 수 있습니다.");
+            return Outcome.rejected(Rejection.ACCOUNT_NOT_DELETABLE);
         }
         if (this.balance > 0) {
-            throw new BalanceRemainingException("잔액이 남아있어 삭제할 수 없습니다.");
+            return Outcome.rejected(Rejection.BALANCE_REMAINING);
         }
+
+        this.status = AccountStatus.DELETED;
+        return Outcome.success();
     }
 
     public AccountDTO toDTO() {
@@ -0,0 +1,35 @@
+package com.example.wirebarley.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 계좌의 일별 마감 잔액. 계좌와 같은 샤드에 저장됩니다.
+ * <p>
+ * 그날 거래 기록이 있는 계좌만 저장하므로, 어떤 날짜의 마감 잔액은 그날 이전(포함)의 가장 최근 스냅샷 잔액입니다.
+ * lastTransactionId 는 스냅샷에 반영된 마지막 거래 ID 로, 특정 시각의 잔액을 구할 때 이후 거래 기록을 이 ID 부터 찾습니다.
+ * </p>
+ */
+@Entity
+@Table(name = "balance_snapshot", uniqueConstraints = {
+        @UniqueConstraint(name = "uk__balance_snapshot__account_id__date", columnNames = {"accountId", "date"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class BalanceSnapshot extends AbstractDomain {
+
+    @Column(nullable = false)
+    private Long accountId;
+
+    @Column(nullable = false, length = 10)
+    private String date; // 마감 일자 (yyyyMMdd)
+
+    @Column(nullable = false)
+    private Long balance; // 마감 잔액
+
+    @Column(nullable = false)
+    private Long lastTransactionId; // 그날의 마지막 거래 ID
+}
@@ -0,0 +1,57 @@
+package com.example.wirebarley.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Idempotency-Key 헤더로 들어온 변경 요청과 그 최초 응답을 보관합니다.
+ * responseStatus 가 null 이면 아직 처리 중인 요청입니다.
+ */
+@Entity
+@Table(name = "idempotency_record", indexes = {
+        @Index(name = "idx__expires_at", columnList = "expiresAt")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk__idempotency_key", columnNames = "idempotencyKey")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class IdempotencyRecord extends AbstractDomain {
+
+    @Column(nullable = false, length = 100)
+    private String idempotencyKey; // 클라이언트가 보낸 Idempotency-Key
+
+    @Column(nullable = false, length = 64)
+    private String requestHash; // 요청(메소드, 경로, 본문)의 SHA-256 해시
+
+    @Column
+    private Integer responseStatus; // 최초 응답 상태 코드 (처리 중이면 null)
+
+    @Column(length = 100)
+    private String responseContentType; // 최초 응답 Content-Type (null 이면 JSON)
+
+    @Lob
+    @Column
+    private String responseBody; // 최초 응답 본문 (JSON 이 아닌 바이너리 포맷은 Base64 로 인코딩)
+
+    @Column(nullable = false, columnDefinition = "timestamp")
+    private ZonedDateTime expiresAt; // 만료 시각
+
+    public IdempotencyRecord(String idempotencyKey, String requestHash, ZonedDateTime expiresAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isCompleted() {
+        return this.responseStatus != null;
+    }
+
+    public boolean isExpired(ZonedDateTime now) {
+        return !this.expiresAt.isAfter(now);
+    }
+}
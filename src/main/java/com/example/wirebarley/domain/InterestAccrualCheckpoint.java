@@ -0,0 +1,55 @@
+package com.example.wirebarley.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 일별 이자 지급의 파티션별 진행 위치. 파티션이 담당하는 계좌와 같은 샤드에 저장됩니다.
+ * <p>
+ * 청크마다 잔액/거래 기록과 같은 트랜잭션에서 lastAccountId 를 갱신하므로, 중단 후 다시 실행하면
+ * 마지막으로 커밋된 청크 다음 계좌부터 이어서 지급하며 같은 날짜의 이자를 두 번 지급하지 않습니다.
+ * </p>
+ */
+@Entity
+@Table(name = "interest_accrual_checkpoint", uniqueConstraints = {
+        @UniqueConstraint(name = "uk__interest_accrual_checkpoint__date__partition", columnNames = {"accrualDate", "partitionNo"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class InterestAccrualCheckpoint extends AbstractDomain {
+
+    @Column(nullable = false, length = 10)
+    private String accrualDate; // 이자 지급일 (yyyyMMdd)
+
+    @Column(nullable = false)
+    private int partitionNo; // 파티션 번호
+
+    @Column(nullable = false)
+    private long fromId; // 담당 계좌 ID 시작 (포함)
+
+    @Column(nullable = false)
+    private long toId; // 담당 계좌 ID 끝 (미포함)
+
+    @Column(nullable = false)
+    private long lastAccountId; // 마지막으로 커밋된 청크의 마지막 계좌 ID
+
+    @Column(nullable = false)
+    private long accounts; // 이자를 지급한 계좌 수
+
+    @Column(nullable = false)
+    private long totalInterest; // 지급한 이자 합계
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    public InterestAccrualCheckpoint(String accrualDate, int partitionNo, long fromId, long toId) {
+        this.accrualDate = accrualDate;
+        this.partitionNo = partitionNo;
+        this.fromId = fromId;
+        this.toId = toId;
+        this.lastAccountId = fromId - 1;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.wirebarley.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 작업별 실행 임대(lease). 작업 하나당 로우 하나이며, leaseUntil 이 지나지 않은 동안 owner 노드만 작업을 실행합니다.
+ * 실행 중인 노드는 heartbeat 로 leaseUntil 을 연장하고, 노드가 중단되면 임대가 만료되어 다른 노드가 가져갑니다.
+ * 실행 단위를 지정한 작업은 완료한 실행 단위를 기록하여, 임대를 반납한 뒤 다른 노드가 같은 실행 단위를 다시 실행하지 않게 합니다.
+ */
+@Entity
+@Table(name = "job_lease", uniqueConstraints = {
+        @UniqueConstraint(name = "uk__job_lease__name", columnNames = "name")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class JobLease extends AbstractDomain {
+
+    @Column(nullable = false, length = 100)
+    private String name; // 작업 이름
+
+    @Column(length = 200)
+    private String owner; // 임대한 노드 ID
+
+    @Column(nullable = false, columnDefinition = "timestamp")
+    private ZonedDateTime leaseUntil; // 임대 만료 시각
+
+    @Column(length = 50)
+    private String lastCompletedRunKey; // 마지막으로 완료한 실행 단위 (예: 처리 날짜)
+
+    public JobLease(String name, ZonedDateTime leaseUntil) {
+        this.name = name;
+        this.leaseUntil = leaseUntil;
+    }
+}
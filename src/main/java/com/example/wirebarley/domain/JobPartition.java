@@ -0,0 +1,51 @@
+package com.example.wirebarley.domain;
+
+import com.example.wirebarley.enumeration.JobPartitionStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 여러 노드가 나누어 처리하는 작업의 파티션. 실행 단위(runKey, 예: 지급일)마다 파티션 수만큼 로우가 만들어지며,
+ * 각 노드는 SELECT ... FOR UPDATE SKIP LOCKED 로 대기 중인 파티션을 하나씩 임대하여 처리합니다.
+ */
+@Entity
+@Table(name = "job_partition", uniqueConstraints = {
+        @UniqueConstraint(name = "uk__job_partition__job_run_partition", columnNames = {"jobName", "runKey", "partitionNo"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class JobPartition extends AbstractDomain {
+
+    @Column(nullable = false, length = 100)
+    private String jobName; // 작업 이름
+
+    @Column(nullable = false, length = 50)
+    private String runKey; // 실행 단위 (같은 runKey 의 파티션은 한 번씩만 처리됩니다)
+
+    @Column(nullable = false)
+    private int partitionNo; // 파티션 번호 (0 부터)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobPartitionStatus status = JobPartitionStatus.PENDING;
+
+    @Column(length = 200)
+    private String owner; // 임대한 노드 ID
+
+    @Column(columnDefinition = "timestamp")
+    private ZonedDateTime leaseUntil; // 임대 만료 시각 (RUNNING 상태에서만 의미가 있음)
+
+    @Column(nullable = false)
+    private int attempts; // 임대 횟수
+
+    public JobPartition(String jobName, String runKey, int partitionNo) {
+        this.jobName = jobName;
+        this.runKey = runKey;
+        this.partitionNo = partitionNo;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.wirebarley.domain;
+
+import com.example.wirebarley.enumeration.Rejection;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 도메인 연산의 결과.
+ * <p>
+ * 잔액 부족과 같은 예상된 거절을 예외 대신 값으로 돌려주기 위해 사용합니다.
+ * 호출자는 {@link #isSuccess()} 로 분기하거나, 기존처럼 예외가 필요하면 {@link #orElseThrow()} 를 호출합니다.
+ * 기본 메시지의 거절 결과는 사유별로 하나의 인스턴스만 만들어 재사용합니다.
+ * 여러 건을 한 번에 처리하면서 거절된 건을 건너뛰는 경우(예: {@code AccountService#transferAll})에는 예외를 던지고 잡는 대신 이 결과로 분기합니다.
+ * </p>
+ *
+ * @param <T> 성공 시 값의 타입
+ */
+public final class Outcome<T> {
+
+    private static final Outcome<Void> SUCCESS = new Outcome<>(null, null, null);
+    private static final Map<Rejection, Outcome<?>> REJECTIONS = new EnumMap<>(Rejection.class);
+
+    static {
+        for (Rejection rejection : Rejection.values()) {
+            REJECTIONS.put(rejection, new Outcome<>(null, rejection, null));
+        }
+    }
+
+    private final T value;
+    private final Rejection rejection;
+    private final String message;
+
+    private Outcome(T value, Rejection rejection, String message) {
+        this.value = value;
+        this.rejection = rejection;
+        this.message = message;
+    }
+
+    public static Outcome<Void> success() {
+        return SUCCESS;
+    }
+
+    public static <T> Outcome<T> success(T value) {
+        return new Outcome<>(value, null, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Outcome<T> rejected(Rejection rejection) {
+        return (Outcome<T>) REJECTIONS.get(rejection);
+    }
+
+    /**
+     * 한도 금액처럼 가변 값이 들어간 메시지의 거절 결과를 새로 생성합니다.
+     */
+    public static <T> Outcome<T> rejected(Rejection rejection, String message) {
+        return new Outcome<>(null, rejection, message);
+    }
+
+    public boolean isSuccess() {
+        return rejection == null;
+    }
+
+    public boolean isRejected() {
+        return rejection != null;
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    public Rejection getRejection() {
+        return rejection;
+    }
+
+    public String getMessage() {
+        if (rejection == null) {
+            return null;
+        }
+        return message == null ? rejection.getMessage() : message;
+    }
+
+    /**
+     * 성공이면 값을 반환하고, 거절이면 사유에 해당하는 예외를 던집니다.
+     */
+    public T orElseThrow() {
+        if (rejection != null) {
+            throw message == null ? rejection.exception() : rejection.exception(message);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.wirebarley.domain;
+
+import com.example.wirebarley.dto.PayoutJobDTO;
+import com.example.wirebarley.enumeration.PayoutJobStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 지급 계좌 하나에서 여러 수취인에게 지급하는 대량 지급(급여, 정산 등) 작업.
+ * 지급 건({@link PayoutLine})은 지급 순번(lineNo) 순서로 청크 단위로 처리되며, nextLineNo 는 처리가 끝난 다음 순번(진행 위치)입니다.
+ * 지급 계좌와 같은 샤드에 저장합니다.
+ */
+@Entity
+@Table(name = "payout_job", indexes = {
+        // 중단된 지급 작업을 찾아 이어서 처리합니다. (PayoutService)
+        @Index(name = "idx__status", columnList = "status")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class PayoutJob extends AbstractDomain {
+
+    @Column(nullable = false)
+    private long sourceAccountId; // 지급 계좌 ID
+
+    @Column(length = 100)
+    private String memo; // 거래 기록에 남길 메모
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PayoutJobStatus status = PayoutJobStatus.RUNNING;
+
+    @Column(nullable = false)
+    private int totalLines; // 전체 지급 건수
+
+    @Column(nullable = false)
+    private int nextLineNo = 1; // 다음에 처리할 지급 순번
+
+    @Column(nullable = false)
+    private int paidLines; // 지급 완료 건수
+
+    @Column(nullable = false)
+    private int failedLines; // 지급 실패 건수 (결과 확인이 필요한 건 포함)
+
+    @Column(nullable = false)
+    private long paidAmount; // 지급 금액 합계 (수수료 제외)
+
+    @Column(nullable = false)
+    private long feeAmount; // 수수료 합계
+
+    @Column(columnDefinition = "timestamp")
+    private ZonedDateTime completedAt;
+
+    public PayoutJob(long sourceAccountId, String memo, int totalLines) {
+        this.sourceAccountId = sourceAccountId;
+        this.memo = memo;
+        this.totalLines = totalLines;
+    }
+
+    public void recordPaid(long amount, long fee) {
+        this.paidLines++;
+        this.paidAmount += amount;
+        this.feeAmount += fee;
+    }
+
+    public void recordFailed() {
+        this.failedLines++;
+    }
+
+    public void complete(ZonedDateTime now) {
+        this.status = PayoutJobStatus.COMPLETED;
+        this.completedAt = now;
+    }
+
+    public PayoutJobDTO toDTO() {
+        return PayoutJobDTO.builder()
+                .id(this.getId())
+                .sourceAccountId(this.sourceAccountId)
+                .memo(this.memo)
+                .status(this.status)
+                .totalLines(this.totalLines)
+                .processedLines(this.paidLines + this.failedLines)
+                .paidLines(this.paidLines)
+                .failedLines(this.failedLines)
+                .paidAmount(this.paidAmount)
+                .feeAmount(this.feeAmount)
+                .createdAt(this.getCreatedAt())
+                .completedAt(this.completedAt)
+                .build();
+    }
+}
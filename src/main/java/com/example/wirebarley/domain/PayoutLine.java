@@ -0,0 +1,54 @@
+package com.example.wirebarley.domain;
+
+import com.example.wirebarley.dto.PayoutLineDTO;
+import com.example.wirebarley.enumeration.PayoutLineStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 대량 지급 작업의 지급 건 하나. 지급 건은 수천 건 단위로 만들어지고 청크 단위로 갱신되므로 JDBC 배치로 기록합니다. (PayoutService)
+ */
+@Entity
+@Table(name = "payout_line", uniqueConstraints = {
+        @UniqueConstraint(name = "uk__payout_line__job_line", columnNames = {"jobId", "lineNo"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class PayoutLine extends AbstractDomain {
+
+    @Column(nullable = false)
+    private long jobId; // 지급 작업 ID
+
+    @Column(nullable = false)
+    private int lineNo; // 지급 순번 (1 부터, 요청 순서)
+
+    @Column(length = 20)
+    private String counterpartyAccountNumber; // 수취인 계좌번호
+
+    @Column(nullable = false)
+    private long amount; // 지급 금액 (수수료 별도)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PayoutLineStatus status = PayoutLineStatus.PENDING;
+
+    @Column(length = 200)
+    private String failureReason;
+
+    @Column
+    private Long transactionId; // 지급 계좌의 이체 거래 ID (같은 샤드의 수취인에게 지급한 경우)
+
+    public PayoutLineDTO toDTO() {
+        return PayoutLineDTO.builder()
+                .lineNo(this.lineNo)
+                .counterpartyAccountNumber(this.counterpartyAccountNumber)
+                .amount(this.amount)
+                .status(this.status)
+                .failureReason(this.failureReason)
+                .transactionId(this.transactionId)
+                .build();
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.wirebarley.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 계좌의 자주 이체한 상대방 목록. 계좌와 같은 샤드에 계좌 ID 를 키로 저장됩니다.
+ * <p>
+ * 상대방마다 이체 횟수와 점수를 보관합니다. 점수는 이체할 때마다 1 씩 늘고 {@link #HALF_LIFE_DAYS} 일마다 절반으로 줄어들어,
+ * 자주 그리고 최근에 이체한 상대방일수록 높습니다. 최대 capacity 명만 보관하며, 가득 차면 점수가 가장 낮은 상대방을 지웁니다.
+ * </p>
+ * 목록은 한 줄에 상대방 하나씩 "계좌번호\t이름\t횟수\t점수\t마지막 이체일(epoch day)" 형식의 문자열 하나로 저장합니다.
+ */
+@Entity
+@Table(name = "recent_counterparties")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = RecentCounterparties.CACHE_REGION)
+@Getter
+@NoArgsConstructor
+public class RecentCounterparties extends BaseTimeDomain {
+
+    // 2차 캐시 영역 이름. 크기와 만료 시간은 application.conf 의 caffeine.jcache.recent-counterparties 에서 설정합니다.
+    public static final String CACHE_REGION = "recent-counterparties";
+
+    // 점수가 절반으로 줄어드는 기간(일)
+    public static final double HALF_LIFE_DAYS = 30.0;
+
+    private static final int MAX_NAME_LENGTH = 50;
+
+    @Id
+    private Long accountId;
+
+    @Column(nullable = false, length = 4000)
+    private String entries = "";
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private List<Entry> parsed;
+
+    public RecentCounterparties(long accountId) {
+        this.accountId = accountId;
+    }
+
+    /**
+     * 상대방에게 이체한 것을 기록합니다.
+     *
+     * @param accountNumber 상대방 계좌번호
+     * @param name 상대방 이름 (없으면 null)
+     * @param today 이체일 (epoch day)
+     * @param capacity 보관하는 최대 상대방 수
+     * @return 목록에 없던 상대방이면 true
+     */
+    public boolean record(String accountNumber, String name, long today, int capacity) {
+        List<Entry> current = this.entries();
+        List<Entry> updated = new ArrayList<>(Math.min(current.size() + 1, capacity));
+        Entry hit = null;
+        for (Entry entry : current) {
+            if (entry.accountNumber().equals(accountNumber)) {
+                hit = entry;
+            } else {
+                updated.add(entry);
+            }
+        }
+        int count = hit == null ? 1 : hit.count() + 1;
+        double score = (hit == null ? 0.0 : hit.scoreAt(today)) + 1.0;
+        String sanitizedName = sanitize(name == null && hit != null ? hit.name() : name);
+        updated.add(new Entry(accountNumber, sanitizedName, count, score, today));
+
+        // 가득 차면 방금 이체한 상대방을 제외하고 점수가 가장 낮은 상대방부터 지웁니다.
+        while (updated.size() > capacity) {
+            Entry lowest = updated.subList(0, updated.size() - 1).stream()
+                    .min(Comparator.comparingDouble(entry -> entry.scoreAt(today)))
+                    .orElseThrow();
+            updated.remove(lowest);
+        }
+
+        this.parsed = updated;
+        this.entries = encode(updated);
+        return hit == null;
+    }
+
+    /**
+     * 목록에 있는 상대방인지 여부.
+     */
+    public boolean contains(String accountNumber) {
+        return this.entries().stream().anyMatch(entry -> entry.accountNumber().equals(accountNumber));
+    }
+
+    /**
+     * 점수가 높은 순서로 최대 limit 명의 상대방을 반환합니다. 점수가 같으면 최근에 이체한 상대방이 먼저입니다.
+     *
+     * @param today 기준일 (epoch day)
+     * @param limit 최대 상대방 수
+     */
+    public List<Entry> top(long today, int limit) {
+        return this.entries().stream()
+                .sorted(Comparator.comparingDouble((Entry entry) -> entry.scoreAt(today)).reversed()
+                        .thenComparing(Comparator.comparingLong(Entry::lastTransferEpochDay).reversed()))
+                .limit(limit)
+                .toList();
+    }
+
+    public List<Entry> entries() {
+        if (parsed == null) {
+            parsed = decode(entries);
+        }
+        return parsed;
+    }
+
+    /**
+     * 상대방 하나.
+     *
+     * @param score 마지막 이체일 기준 점수
+     */
+    public record Entry(String accountNumber, String name, int count, double score, long lastTransferEpochDay) {
+
+        /**
+         * today 기준으로 줄어든 점수를 반환합니다.
+         */
+        public double scoreAt(long today) {
+            long elapsed = Math.max(0L, today - lastTransferEpochDay);
+            return score * Math.pow(0.5, elapsed / HALF_LIFE_DAYS);
+        }
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    private static String sanitize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String sanitized = name.replace('\t', ' ').replace('\n', ' ');
+        return sanitized.length() > MAX_NAME_LENGTH ? sanitized.substring(0, MAX_NAME_LENGTH) : sanitized;
+    }
+
+    private static String encode(List<Entry> entries) {
+        StringBuilder builder = new StringBuilder(entries.size() * 48);
+        for (Entry entry : entries) {
+            if (!builder.isEmpty()) {
+                builder.append('\n');
+            }
+            builder.append(entry.accountNumber()).append('\t')
+                    .append(entry.name()).append('\t')
+                    .append(entry.count()).append('\t')
+                    .append(String.format(Locale.ROOT, "%.4f", entry.score())).append('\t')
+                    .append(entry.lastTransferEpochDay());
+        }
+        return builder.toString();
+    }
+
+    private static List<Entry> decode(String encoded) {
+        List<Entry> entries = new ArrayList<>();
+        if (encoded == null || encoded.isEmpty()) {
+            return entries;
+        }
+        for (String line : encoded.split("\n")) {
+            String[] fields = line.split("\t", -1);
+            entries.add(new Entry(fields[0], fields[1], Integer.parseInt(fields[2]), Double.parseDouble(fields[3]),
+                    Long.parseLong(fields[4])));
+        }
+        return entries;
+    }
+}
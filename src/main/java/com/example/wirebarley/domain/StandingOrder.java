@@ -0,0 +1,138 @@
+package com.example.wirebarley.domain;
+
+import com.example.wirebarley.dto.StandingOrderDTO;
+import com.example.wirebarley.enumeration.StandingOrderStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 자동이체(정기 이체) 주문. 매월 지정일(dayOfMonth)에 송금인 계좌에서 수취인 계좌번호로 같은 금액을 이체합니다.
+ * 지정일이 그 달의 마지막 날보다 크면(예: 31일) 그 달의 마지막 날에 실행합니다.
+ * 송금인 계좌와 같은 샤드에 저장합니다.
+ */
+@Entity
+@Table(name = "standing_order", indexes = {
+        // 실행일이 된 주문을 조회합니다. (StandingOrderExecutor)
+        @Index(name = "idx__status__next_run_date", columnList = "status,nextRunDate"),
+        @Index(name = "idx__from_account_id", columnList = "fromAccountId")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class StandingOrder extends AbstractDomain {
+
+    private static final DateTimeFormatter YYYYMMDD = DateTimeFormatter.BASIC_ISO_DATE;
+
+    @Column(nullable = false)
+    private long fromAccountId; // 송금인 계좌 ID
+
+    @Column(nullable = false, length = 20)
+    private String counterpartyAccountNumber; // 수취인 계좌번호
+
+    @Column(nullable = false)
+    private long amount; // 이체 금액 (수수료 별도)
+
+    @Column(nullable = false)
+    private int dayOfMonth; // 매월 이체일 (1 ~ 31)
+
+    @Column(length = 100)
+    private String memo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StandingOrderStatus status = StandingOrderStatus.ACTIVE;
+
+    @Column(nullable = false, length = 8)
+    private String nextRunDate; // 다음 실행일 (yyyyMMdd)
+
+    @Column(length = 8)
+    private String lastRunDate; // 마지막 실행일 (yyyyMMdd)
+
+    @Column(length = 200)
+    private String lastFailureReason; // 마지막 실행의 실패 사유 (성공하면 null)
+
+    @Column(nullable = false)
+    private int consecutiveFailures; // 연속 실패 횟수
+
+    public StandingOrder(long fromAccountId, String counterpartyAccountNumber, long amount, int dayOfMonth, String memo, String today) {
+        this.fromAccountId = fromAccountId;
+        this.counterpartyAccountNumber = counterpartyAccountNumber;
+        this.amount = amount;
+        this.dayOfMonth = dayOfMonth;
+        this.memo = memo;
+        this.nextRunDate = nextRunDateAfter(today, dayOfMonth);
+    }
+
+    public boolean isDue(String runDate) {
+        return status == StandingOrderStatus.ACTIVE && nextRunDate.compareTo(runDate) <= 0;
+    }
+
+    /**
+     * 실행 결과를 기록하고 다음 실행일을 runDate 다음의 이체일로 옮깁니다.
+     * 실패한 이체는 다시 시도하지 않고 다음 이체일에 실행합니다. (장애로 밀린 여러 달도 한 번만 실행)
+     *
+     * @param runDate 실행일 (yyyyMMdd)
+     * @param failureReason 실패 사유. 성공이면 null
+     */
+    public void recordRun(String runDate, String failureReason) {
+        this.advance(runDate);
+        this.recordResult(failureReason);
+    }
+
+    /**
+     * 이체하기 전에 다음 실행일을 옮겨 같은 실행일에 다시 실행되지 않도록 합니다. 결과는 {@link #recordResult} 로 기록합니다.
+     */
+    public void advance(String runDate) {
+        this.lastRunDate = runDate;
+        this.nextRunDate = nextRunDateAfter(runDate, dayOfMonth);
+    }
+
+    public void recordResult(String failureReason) {
+        this.lastFailureReason = failureReason;
+        this.consecutiveFailures = failureReason == null ? 0 : consecutiveFailures + 1;
+    }
+
+    public void cancel() {
+        this.status = StandingOrderStatus.CANCELLED;
+    }
+
+    /**
+     * date 다음 날부터 찾은 첫 이체일을 반환합니다. 이체일이 그 달의 마지막 날보다 크면 마지막 날로 맞춥니다.
+     *
+     * @param date 기준일 (yyyyMMdd, 결과에 포함하지 않음)
+     * @param dayOfMonth 매월 이체일
+     * @return 다음 이체일 (yyyyMMdd)
+     */
+    public static String nextRunDateAfter(String date, int dayOfMonth) {
+        LocalDate after = LocalDate.parse(date, YYYYMMDD);
+        YearMonth month = YearMonth.from(after);
+        LocalDate candidate = month.atDay(Math.min(dayOfMonth, month.lengthOfMonth()));
+        if (!candidate.isAfter(after)) {
+            month = month.plusMonths(1);
+            candidate = month.atDay(Math.min(dayOfMonth, month.lengthOfMonth()));
+        }
+        return candidate.format(YYYYMMDD);
+    }
+
+    public StandingOrderDTO toDTO() {
+        return StandingOrderDTO.builder()
+                .id(this.getId())
+                .fromAccountId(this.fromAccountId)
+                .counterpartyAccountNumber(this.counterpartyAccountNumber)
+                .amount(this.amount)
+                .dayOfMonth(this.dayOfMonth)
+                .memo(this.memo)
+                .status(this.status)
+                .nextRunDate(this.nextRunDate)
+                .lastRunDate(this.lastRunDate)
+                .lastFailureReason(this.lastFailureReason)
+                .consecutiveFailures(this.consecutiveFailures)
+                .build();
+    }
+}
@@ -12,7 +12,11 @@ import java.math.BigDecimal;
 
 @Entity
 @Table(name = "transaction", indexes = {
-        @Index(name = "idx__account_id__type__date", columnList = "accountId,type,date")
+        @Index(name = "idx__account_id__type__date", columnList = "accountId,type,date"),
+        // 계좌별 거래 내역을 ID 순서로 읽는 조회(거래 내역 페이징, 원장 대사)를 정렬 없이 처리합니다.
+        @Index(name = "idx__account_id__id", columnList = "accountId,id"),
+        // 계좌별로 하루 동안 기록된 거래를 찾는 조회(마감 잔액 스냅샷)에 사용합니다.
+        @Index(name = "idx__account_id__created_at", columnList = "accountId,createdAt")
 })
 @Getter
 @Setter
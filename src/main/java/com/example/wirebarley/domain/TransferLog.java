@@ -0,0 +1,72 @@
+package com.example.wirebarley.domain;
+
+import com.example.wirebarley.enumeration.TransferStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 샤드 간 이체의 복구 로그. 송금인 계좌와 같은 샤드에 출금과 같은 트랜잭션으로 저장됩니다.
+ * <p>
+ * DEBITED 상태로 남은 로그는 수취인 샤드 입금 전에 중단된 이체이며, 복구 작업이 입금을 다시 시도하거나(멱등)
+ * 입금이 거절되면 송금인에게 환불(보상)합니다.
+ * </p>
+ */
+@Entity
+@Table(name = "transfer_log", indexes = {
+        @Index(name = "idx__status__updated_at", columnList = "status,updatedAt")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk__transfer_log__transfer_id", columnNames = "transferId")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class TransferLog extends AbstractDomain {
+
+    @Column(nullable = false, length = 36)
+    private String transferId; // 이체 식별자 (수취인 샤드의 TransferReceipt 와 연결)
+
+    @Column(nullable = false)
+    private Long fromAccountId; // 송금인 계좌 ID
+
+    @Column(nullable = false, length = 20)
+    private String fromAccountNumber; // 송금인 계좌번호
+
+    @Column(nullable = false)
+    private String fromUsername; // 송금인 이름
+
+    @Column(nullable = false)
+    private Long toAccountId; // 수취인 계좌 ID
+
+    @Column(nullable = false, length = 20)
+    private String toAccountNumber; // 수취인 계좌번호
+
+    @Column(nullable = false)
+    private String toUsername; // 수취인 이름
+
+    @Column(nullable = false)
+    private Integer toShard; // 수취인 샤드 번호
+
+    @Column(nullable = false)
+    private Long amount; // 수취인에게 입금할 금액 (수수료 제외)
+
+    @Column(nullable = false)
+    private Long grossAmount; // 송금인에게서 출금한 금액 (수수료 포함)
+
+    @Column(nullable = false)
+    private Long withdrawalTransactionId; // 송금인 샤드의 이체 거래 ID
+
+    @Column
+    private Long depositTransactionId; // 수취인 샤드의 입금 거래 ID
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TransferStatus status;
+
+    @Column(nullable = false)
+    private int attempts; // 수취인 샤드 입금 시도 횟수
+
+    @Column(length = 255)
+    private String failureReason; // 마지막 실패 사유
+}
@@ -0,0 +1,35 @@
+package com.example.wirebarley.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 샤드 간 이체의 입금 영수증. 수취인 계좌와 같은 샤드에 입금과 같은 트랜잭션으로 저장됩니다.
+ * transferId 가 유일하므로 같은 이체를 여러 번 입금 시도해도 한 번만 입금됩니다.
+ */
+@Entity
+@Table(name = "transfer_receipt", uniqueConstraints = {
+        @UniqueConstraint(name = "uk__transfer_receipt__transfer_id", columnNames = "transferId")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class TransferReceipt extends AbstractDomain {
+
+    @Column(nullable = false, length = 36)
+    private String transferId;
+
+    @Column(nullable = false)
+    private Long toAccountId;
+
+    @Column(nullable = false)
+    private Long depositTransactionId;
+
+    public TransferReceipt(String transferId, long toAccountId, long depositTransactionId) {
+        this.transferId = transferId;
+        this.toAccountId = toAccountId;
+        this.depositTransactionId = depositTransactionId;
+    }
+}
@@ -3,6 +3,8 @@ package com.example.wirebarley.domain;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -11,10 +13,15 @@ import java.util.List;
 @Table(name = "member", indexes = {
         @Index(name = "idx__phone", columnList = "phone")
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
 @Getter
 @Setter
 public class User extends AbstractDomain {
 
+    // 2차 캐시 영역 이름. 크기와 만료 시간은 application.conf 의 caffeine.jcache.user 에서 설정합니다.
+    public static final String CACHE_REGION = "user";
+
     @Column(nullable = false, length = 50)
     private String username;
 
@@ -0,0 +1,18 @@
+package com.example.wirebarley.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.ZonedDateTime;
+
+@Getter
+@Setter
+@Builder
+public class BalanceAsOfDTO {
+
+    private long accountId;
+    private ZonedDateTime asOf;
+    private long balance;
+    private Long transactionId; // 잔액을 결정한 마지막 거래 ID (그 전까지 거래가 없으면 null)
+}
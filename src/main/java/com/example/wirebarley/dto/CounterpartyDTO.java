@@ -0,0 +1,17 @@
+package com.example.wirebarley.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+public class CounterpartyDTO {
+
+    private String counterpartyAccountNumber;
+    private String counterpartyName;
+    private int transferCount;       // 목록에 기록된 뒤의 이체 횟수
+    private double score;            // 오늘 기준 점수 (이체할 때마다 1 씩 늘고 30일마다 절반으로 줄어듦)
+    private String lastTransferDate; // 마지막 이체일 (yyyyMMdd)
+}
@@ -0,0 +1,19 @@
+package com.example.wirebarley.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 자동이체 등록 API DTO
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateStandingOrderRequestDTO {
+
+    private String counterpartyAccountNumber;
+    private Long amount;
+    private Integer dayOfMonth; // 매월 이체일 (1 ~ 31, 그 달에 없는 날이면 마지막 날)
+    private String memo;
+}
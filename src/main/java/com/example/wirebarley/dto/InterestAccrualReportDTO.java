@@ -0,0 +1,17 @@
+package com.example.wirebarley.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+public class InterestAccrualReportDTO {
+
+    private String accrualDate;   // 이자 지급일 (yyyyMMdd)
+    private int partitions;       // 전체 파티션 수 (모든 샤드)
+    private long accounts;        // 이자를 지급한 계좌 수 (이전 실행에서 지급한 계좌 포함)
+    private long totalInterest;   // 지급한 이자 합계 (이전 실행에서 지급한 이자 포함)
+    private long elapsedMillis;   // 이번 실행 소요 시간
+}
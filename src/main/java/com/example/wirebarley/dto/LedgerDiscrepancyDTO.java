@@ -0,0 +1,18 @@
+package com.example.wirebarley.dto;
+
+import com.example.wirebarley.enumeration.DiscrepancyType;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+public class LedgerDiscrepancyDTO {
+
+    private DiscrepancyType type;
+    private long accountId;
+    private Long transactionId; // 계좌 단위 불일치이면 null
+    private String expected;
+    private String actual;
+}
@@ -0,0 +1,27 @@
+package com.example.wirebarley.dto;
+
+import com.example.wirebarley.enumeration.PayoutJobStatus;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.ZonedDateTime;
+
+@Getter
+@Setter
+@Builder
+public class PayoutJobDTO {
+
+    private long id;
+    private long sourceAccountId;
+    private String memo;
+    private PayoutJobStatus status;
+    private int totalLines;      // 전체 지급 건수
+    private int processedLines;  // 처리한 건수 (지급 + 실패)
+    private int paidLines;
+    private int failedLines;
+    private long paidAmount;     // 지급 금액 합계 (수수료 제외)
+    private long feeAmount;      // 수수료 합계
+    private ZonedDateTime createdAt;
+    private ZonedDateTime completedAt;
+}
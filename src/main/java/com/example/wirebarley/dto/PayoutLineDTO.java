@@ -0,0 +1,19 @@
+package com.example.wirebarley.dto;
+
+import com.example.wirebarley.enumeration.PayoutLineStatus;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+public class PayoutLineDTO {
+
+    private int lineNo;
+    private String counterpartyAccountNumber;
+    private long amount;
+    private PayoutLineStatus status;
+    private String failureReason;
+    private Long transactionId;
+}
@@ -0,0 +1,19 @@
+package com.example.wirebarley.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// 대량 지급 API DTO
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayoutRequestDTO {
+
+    private String memo;
+    private List<TransferRequestDTO> lines; // 수취인 계좌번호와 지급 금액 (memo 는 사용하지 않음)
+}
@@ -0,0 +1,25 @@
+package com.example.wirebarley.dto;
+
+import com.example.wirebarley.enumeration.DiscrepancyType;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@Builder
+public class ReconciliationReportDTO {
+
+    private ZonedDateTime startedAt;
+    private ZonedDateTime finishedAt;
+    private long accounts;                          // 대사한 계좌 수
+    private long transactions;                      // 대사한 거래 수
+    private double accountsPerSecond;               // 처리량
+    private Map<DiscrepancyType, Long> discrepancyCounts;
+    private List<LedgerDiscrepancyDTO> discrepancies; // 최대 max-report-entries 건
+    private String reportFile;                      // 불일치 보고서 파일 경로 (불일치가 없으면 null)
+}
@@ -0,0 +1,24 @@
+package com.example.wirebarley.dto;
+
+import com.example.wirebarley.enumeration.StandingOrderStatus;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+public class StandingOrderDTO {
+
+    private long id;
+    private long fromAccountId;
+    private String counterpartyAccountNumber;
+    private long amount;
+    private int dayOfMonth;
+    private String memo;
+    private StandingOrderStatus status;
+    private String nextRunDate;       // 다음 실행일 (yyyyMMdd)
+    private String lastRunDate;       // 마지막 실행일 (yyyyMMdd)
+    private String lastFailureReason; // 마지막 실행의 실패 사유 (성공하면 null)
+    private int consecutiveFailures;
+}
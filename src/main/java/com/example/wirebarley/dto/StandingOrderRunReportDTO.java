@@ -0,0 +1,20 @@
+package com.example.wirebarley.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+public class StandingOrderRunReportDTO {
+
+    private String runDate;                      // 실행일 (yyyyMMdd)
+    private long due;                            // 실행 대상 주문 수
+    private long succeeded;                      // 이체에 성공한 주문 수
+    private long failed;                         // 이체에 실패한 주문 수
+    private List<StandingOrderDTO> failedOrders; // 실패한 주문과 사유 (max-report-entries 개까지)
+    private long elapsedMillis;                  // 실행 소요 시간
+}
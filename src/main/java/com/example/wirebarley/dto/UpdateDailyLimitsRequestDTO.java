@@ -0,0 +1,17 @@
+package com.example.wirebarley.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 일일 한도 변경 API DTO. 값이 없는(null) 한도는 변경하지 않습니다.
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdateDailyLimitsRequestDTO {
+
+    private Long dailyWithdrawalLimit;
+    private Long dailyTransferLimit;
+}
@@ -0,0 +1,19 @@
+package com.example.wirebarley.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// 사용자별 계좌 목록 조회 API DTO
+@Getter
+@Setter
+@Builder
+public class UserAccountsDTO {
+
+    private long userId;
+    private String username;
+    private long totalBalance; // 보유 계좌 잔액 합계
+    private List<AccountDTO> accounts;
+}
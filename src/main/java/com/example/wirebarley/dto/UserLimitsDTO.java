@@ -0,0 +1,16 @@
+package com.example.wirebarley.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+// 사용자 일일 한도 API DTO
+@Getter
+@Setter
+@Builder
+public class UserLimitsDTO {
+
+    private long userId;
+    private long dailyWithdrawalLimit;
+    private long dailyTransferLimit;
+}
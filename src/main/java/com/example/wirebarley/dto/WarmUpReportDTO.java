@@ -0,0 +1,16 @@
+package com.example.wirebarley.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+public class WarmUpReportDTO {
+
+    private long iterations;    // 끝까지 실행한(롤백된) 작업 묶음 수
+    private long failed;        // 실패한 작업 묶음 수
+    private boolean timedOut;   // 시간 예산(max-duration-ms)을 넘겨 중단했는지 여부
+    private long elapsedMillis; // 워밍업 소요 시간
+}
@@ -0,0 +1,13 @@
+package com.example.wirebarley.enumeration;
+
+/**
+ * 원장 대사에서 발견한 불일치 유형.
+ */
+public enum DiscrepancyType {
+    BALANCE_NOT_LAST_POST_BALANCE, // 계좌 잔액이 마지막 거래의 postBalance 와 다름
+    BALANCE_NOT_LEDGER_SUM,        // 계좌 잔액이 거래 합계(입금 - 출금/이체)와 다름
+    BROKEN_CHAIN,                  // 거래의 prevBalance 가 직전 거래의 postBalance(첫 거래는 0)와 다름
+    AMOUNT_MISMATCH,               // 거래의 postBalance - prevBalance 가 거래 금액과 다름
+    RELATED_MISSING,               // relatedTransactionId 의 거래가 없음
+    RELATED_MISMATCH               // 연결된 거래의 유형/금액/역방향 연결이 맞지 않음
+}
@@ -0,0 +1,7 @@
+package com.example.wirebarley.enumeration;
+
+public enum JobPartitionStatus {
+    PENDING,  // 처리 대기 (실패하여 반납된 파티션 포함)
+    RUNNING,  // 한 노드가 임대하여 처리 중
+    DONE      // 처리 완료
+}
@@ -0,0 +1,7 @@
+package com.example.wirebarley.enumeration;
+
+public enum LockingStrategy {
+    PESSIMISTIC, // SELECT ... FOR UPDATE 로 계좌 로우를 잠근 뒤 변경
+    OPTIMISTIC,  // 락 없이 조회 후 @Version 으로 충돌을 감지하고 재시도
+    AUTO;        // 계좌별 충돌률을 관찰하여 OPTIMISTIC / PESSIMISTIC 을 자동 전환
+}
@@ -0,0 +1,6 @@
+package com.example.wirebarley.enumeration;
+
+public enum PayoutJobStatus {
+    RUNNING,    // 지급 중 (중단되면 다른 노드/다음 주기가 이어서 지급)
+    COMPLETED   // 모든 지급 건 처리 완료
+}
@@ -0,0 +1,9 @@
+package com.example.wirebarley.enumeration;
+
+public enum PayoutLineStatus {
+    PENDING,  // 지급 대기
+    SENDING,  // 다른 샤드의 수취인에게 이체 중
+    PAID,     // 지급 완료
+    FAILED,   // 지급 실패 (사유 기록)
+    UNKNOWN   // 다른 샤드로 이체하던 중 중단되어 결과를 확인해야 함
+}
@@ -0,0 +1,72 @@
+package com.example.wirebarley.enumeration;
+
+import com.example.wirebarley.exception.AccountNotActiveException;
+import com.example.wirebarley.exception.AccountNotFoundException;
+import com.example.wirebarley.exception.BadRequestException;
+import com.example.wirebarley.exception.BalanceRemainingException;
+import com.example.wirebarley.exception.DailyLimitExceededException;
+import com.example.wirebarley.exception.InsufficientBalanceException;
+import com.example.wirebarley.exception.InvalidAmountException;
+import com.example.wirebarley.exception.NotFoundException;
+import com.example.wirebarley.exception.VelocityExceededException;
+
+import java.util.function.Function;
+
+/**
+ * 도메인 연산이 정책에 의해 거절되는 사유.
+ * <p>
+ * 각 사유는 기본 메시지와 대응하는 예외 타입을 가지며, 기본 메시지의 예외는 스택 트레이스 없는 싱글톤으로 재사용합니다.
+ * 메시지에 한도 금액처럼 가변 값이 들어가는 경우에만 {@link #exception(String)} 으로 새 인스턴스를 생성합니다.
+ * </p>
+ */
+public enum Rejection {
+    INVALID_DEPOSIT_AMOUNT("입금액은 0보다 커야 합니다.", InvalidAmountException::new),
+    INVALID_WITHDRAW_AMOUNT("출금액은 0보다 커야 합니다.", InvalidAmountException::new),
+    INSUFFICIENT_BALANCE("잔액이 부족합니다.", InsufficientBalanceException::new),
+    ACCOUNT_NOT_ACTIVE("활성 상태의 계좌만 입출금할 수 있습니다.", AccountNotActiveException::new),
+    ACCOUNT_NOT_DELETABLE("활성 상태의 계좌만 삭제할 수 있습니다.", AccountNotActiveException::new),
+    ACCOUNT_NOT_DORMANT("휴면 상태의 계좌만 다시 활성화할 수 있습니다.", AccountNotActiveException::new),
+    BALANCE_REMAINING("잔액이 남아있어 삭제할 수 없습니다.", BalanceRemainingException::new),
+    ACCOUNT_NOT_FOUND("계좌를 찾을 수 없습니다.", AccountNotFoundException::new),
+    COUNTERPARTY_NOT_FOUND("존재하지 않는 계좌번호입니다.", AccountNotFoundException::new),
+    DAILY_WITHDRAWAL_LIMIT_EXCEEDED("일일 출금 한도를 초과했습니다.", DailyLimitExceededException::new),
+    DAILY_TRANSFER_LIMIT_EXCEEDED("일일 이체 한도를 초과했습니다.", DailyLimitExceededException::new),
+    INVALID_TRANSFER_AMOUNT("이체 금액은 0보다 커야 합니다.", InvalidAmountException::new),
+    INVALID_STANDING_ORDER_DAY("이체일은 1일부터 31일 사이여야 합니다.", message -> new BadRequestException(message, false)),
+    STANDING_ORDER_NOT_FOUND("자동이체를 찾을 수 없습니다.", message -> new NotFoundException(message, false)),
+    EMPTY_PAYOUT("지급 내역이 비어 있습니다.", message -> new BadRequestException(message, false)),
+    TOO_MANY_PAYOUT_LINES("지급 내역이 너무 많습니다.", message -> new BadRequestException(message, false)),
+    PAYOUT_NOT_FOUND("지급 작업을 찾을 수 없습니다.", message -> new NotFoundException(message, false)),
+    SELF_PAYOUT("지급 계좌로는 지급할 수 없습니다.", message -> new BadRequestException(message, false)),
+    INVALID_AS_OF("조회 시각은 현재 시각 이전이어야 합니다.", message -> new BadRequestException(message, false)),
+    TRANSFER_VELOCITY_EXCEEDED("짧은 시간에 이체가 너무 많습니다. 잠시 후 다시 시도해주세요.", VelocityExceededException::new),
+    NEW_COUNTERPARTY_VELOCITY_EXCEEDED("짧은 시간에 새로운 상대방에게 이체가 너무 많습니다. 잠시 후 다시 시도해주세요.", VelocityExceededException::new);
+
+    private final String message;
+    private final Function<String, RuntimeException> factory;
+    private final RuntimeException exception;
+
+    Rejection(String message, Function<String, RuntimeException> factory) {
+        this.message = message;
+        this.factory = factory;
+        this.exception = factory.apply(message);
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * 기본 메시지를 가진 예외를 반환합니다. 스택 트레이스가 없으므로 매번 같은 인스턴스를 재사용합니다.
+     */
+    public RuntimeException exception() {
+        return exception;
+    }
+
+    /**
+     * 지정한 메시지를 가진 예외를 새로 생성합니다.
+     */
+    public RuntimeException exception(String message) {
+        return factory.apply(message);
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.wirebarley.enumeration;
+
+public enum StandingOrderStatus {
+    ACTIVE,     // 지정일마다 실행
+    CANCELLED   // 해지됨 (더 이상 실행하지 않음)
+}
@@ -0,0 +1,14 @@
+package com.example.wirebarley.enumeration;
+
+/**
+ * 샤드 간 이체의 진행 상태.
+ */
+public enum TransferStatus {
+    DEBITED,     // 송금인 샤드에서 출금 완료, 수취인 샤드 입금 대기
+    COMPLETED,   // 수취인 샤드 입금까지 완료
+    COMPENSATED; // 수취인 샤드 입금이 거절되어 송금인에게 환불 완료
+
+    public boolean isPending() {
+        return this == DEBITED;
+    }
+}
@@ -11,10 +11,11 @@ public class AccountNotActiveException extends BadRequestException {
 
     /**
      * 지정된 상세 메시지를 사용하여 새로운 AccountNotActiveException을 생성합니다.
+     * 예상된 거절이므로 스택 트레이스를 남기지 않습니다.
      *
      * @param message 예외에 대한 상세 설명
      */
     public AccountNotActiveException(String message) {
-        super(message);
+        super(message, false);
     }
 }
\ No newline at end of file
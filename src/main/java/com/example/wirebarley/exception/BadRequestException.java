@@ -22,4 +22,15 @@ public class BadRequestException extends RuntimeException {
     public BadRequestException(String message) {
         super(message);
     }
+
+    /**
+     * 스택 트레이스를 남기지 않는 예외를 생성합니다.
+     * 잔액 부족처럼 자주 발생하는 예상된 거절은 스택 트레이스가 필요 없으므로, 생성 비용을 줄이기 위해 사용합니다.
+     *
+     * @param message 예외에 대한 상세 설명
+     * @param writableStackTrace 스택 트레이스 기록 여부
+     */
+    public BadRequestException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.example.wirebarley.exception;
+
+/**
+ * 출금 또는 이체 시, 사용자의 일일 한도를 초과할 때 발생하는 예외.
+ */
+public class DailyLimitExceededException extends UnprocessableEntityException {
+
+    /**
+     * 지정된 상세 메시지를 사용하여 새로운 DailyLimitExceededException을 생성합니다.
+     * 예상된 거절이므로 스택 트레이스를 남기지 않습니다.
+     *
+     * @param message 예외에 대한 상세 설명
+     */
+    public DailyLimitExceededException(String message) {
+        super(message, false);
+    }
+}
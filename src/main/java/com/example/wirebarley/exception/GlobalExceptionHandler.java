@@ -1,7 +1,10 @@
 package com.example.wirebarley.exception;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -12,6 +15,8 @@ import java.util.Map;
 /**
  * 애플리케이션 전역에서 발생하는 예외를 처리하는 클래스.
  * @RestControllerAdvice 어노테이션을 통해 모든 @RestController에서 발생하는 예외를 감지하고 처리합니다.
+ * 400/404/422/429 는 정책에 따른 예상된 거절이므로 로그는 debug 레벨로만 남기고, 상태 코드와 예외 종류별 건수를
+ * http.server.rejections 메트릭으로 집계합니다.
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -19,6 +24,9 @@ public class GlobalExceptionHandler {
     // 로깅을 위한 Logger 인스턴스 생성
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
     /**
      * BadRequestException 및 그 하위 예외들을 처리합니다. (HTTP 400 Bad Request)
      * - AccountNotActiveException
@@ -30,7 +38,8 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(BadRequestException.class)
     public ResponseEntity<Map<String, String>> handleBadRequestException(BadRequestException ex) {
-        log.warn("잘못된 요청 처리: {}", ex.getMessage());
+        this.rejected(HttpStatus.BAD_REQUEST, ex);
+        log.debug("잘못된 요청 처리: {}", ex.getMessage());
         Map<String, String> errorResponse = Map.of("error", ex.getMessage());
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
@@ -43,11 +52,43 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<Map<String, String>> handleNotFoundException(NotFoundException ex) {
-        log.warn("리소스를 찾을 수 없음: {}", ex.getMessage());
+        this.rejected(HttpStatus.NOT_FOUND, ex);
+        log.debug("리소스를 찾을 수 없음: {}", ex.getMessage());
         Map<String, String> errorResponse = Map.of("error", ex.getMessage());
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * UnprocessableEntityException 및 그 하위 예외들을 처리합니다. (HTTP 422 Unprocessable Entity)
+     * - DailyLimitExceededException
+     * - VelocityExceededException
+     * @param ex 발생한 UnprocessableEntityException 또는 그 하위 예외
+     * @return HTTP 422 상태 코드와 에러 메시지를 담은 응답
+     */
+    @ExceptionHandler(UnprocessableEntityException.class)
+    public ResponseEntity<Map<String, String>> handleUnprocessableEntityException(UnprocessableEntityException ex) {
+        this.rejected(HttpStatus.UNPROCESSABLE_ENTITY, ex);
+        log.debug("처리할 수 없는 요청: {}", ex.getMessage());
+        Map<String, String> errorResponse = Map.of("error", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    /**
+     * TooManyRequestsException 을 처리합니다. (HTTP 429 Too Many Requests)
+     * 과도한 요청이 몰리는 상황에서 발생하므로 로그는 debug 레벨로만 남깁니다.
+     * @param ex 발생한 TooManyRequestsException
+     * @return HTTP 429 상태 코드, Retry-After 헤더와 에러 메시지를 담은 응답
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<Map<String, String>> handleTooManyRequestsException(TooManyRequestsException ex) {
+        this.rejected(HttpStatus.TOO_MANY_REQUESTS, ex);
+        log.debug("요청 빈도 초과: {}", ex.getMessage());
+        Map<String, String> errorResponse = Map.of("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     /**
      * 위에서 처리되지 않은 모든 예외를 처리하는 최후의 핸들러입니다. (HTTP 500 Internal Server Error)
      * 예상치 못한 서버 내부의 오류를 처리하기 위해 사용됩니다.
@@ -61,4 +102,16 @@ public class GlobalExceptionHandler {
         Map<String, String> errorResponse = Map.of("error", "서버 내부 오류가 발생했습니다. 관리자에게 문의하세요.");
         return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
     }
-}
\ No newline at end of file
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    private void rejected(HttpStatus status, RuntimeException ex) {
+        if (meterRegistry != null) {
+            meterRegistry.counter("http.server.rejections",
+                    "status", String.valueOf(status.value()),
+                    "exception", ex.getClass().getSimpleName()).increment();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.wirebarley.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 허용된 요청 빈도를 초과했을 때 발생하는 예외.
+ * <p>
+ * 이 예외가 Controller 계층까지 전파되면 HTTP 429 Too Many Requests 상태 코드와 함께
+ * 다시 시도할 수 있을 때까지의 시간(Retry-After)이 반환됩니다.
+ * </p>
+ */
+@Getter
+@ResponseStatus(value = HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * 지정된 상세 메시지와 재시도 대기 시간을 사용하여 새로운 TooManyRequestsException을 생성합니다.
+     *
+     * @param message 예외에 대한 상세 설명
+     * @param retryAfterSeconds 다시 시도할 수 있을 때까지의 시간(초)
+     */
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.wirebarley.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 요청 형식은 올바르지만 비즈니스 정책상 처리할 수 없을 때 발생하는 최상위 예외.
+ * <p>
+ * 이 예외가 Controller 계층까지 전파되면 HTTP 422 Unprocessable Entity 상태 코드가 반환됩니다.
+ * {@link DailyLimitExceededException} 과 같이 한도 등 정책 위반과 관련된 예외들은 이 클래스를 상속받아 사용합니다.
+ * </p>
+ */
+@ResponseStatus(value = HttpStatus.UNPROCESSABLE_ENTITY)
+public class UnprocessableEntityException extends RuntimeException {
+
+    /**
+     * 지정된 상세 메시지를 사용하여 새로운 UnprocessableEntityException을 생성합니다.
+     *
+     * @param message 예외에 대한 상세 설명
+     */
+    public UnprocessableEntityException(String message) {
+        super(message);
+    }
+
+    /**
+     * 스택 트레이스를 남기지 않는 예외를 생성합니다.
+     *
+     * @param message 예외에 대한 상세 설명
+     * @param writableStackTrace 스택 트레이스 기록 여부
+     */
+    protected UnprocessableEntityException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.wirebarley.exception;
+
+/**
+ * 특정 ID에 해당하는 사용자 정보를 찾을 수 없을 때 발생하는 예외.
+ *
+ * @see com.example.wirebarley.service.UserService#findById(long)
+ */
+public class UserNotFoundException extends NotFoundException {
+
+    /**
+     * 기본 메시지("사용자를 찾을 수 없습니다.")를 사용하여 예외를 생성합니다.
+     */
+    public UserNotFoundException() {
+        this("사용자를 찾을 수 없습니다.");
+    }
+
+    /**
+     * 지정된 상세 메시지를 사용하여 새로운 UserNotFoundException을 생성합니다.
+     *
+     * @param message 예외에 대한 상세 설명
+     */
+    public UserNotFoundException(String message) {
+        super(message);
+    }
+}
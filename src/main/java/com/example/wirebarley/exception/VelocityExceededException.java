@@ -0,0 +1,17 @@
+package com.example.wirebarley.exception;
+
+/**
+ * 짧은 시간에 이체가 너무 많아 이체 빈도(velocity) 규칙에 걸렸을 때 발생하는 예외.
+ */
+public class VelocityExceededException extends UnprocessableEntityException {
+
+    /**
+     * 지정된 상세 메시지를 사용하여 새로운 VelocityExceededException을 생성합니다.
+     * 예상된 거절이므로 스택 트레이스를 남기지 않습니다.
+     *
+     * @param message 예외에 대한 상세 설명
+     */
+    public VelocityExceededException(String message) {
+        super(message, false);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.wirebarley.filter;
+
+import com.example.wirebarley.controller.AccountController;
+import com.example.wirebarley.service.AccountRateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * AccountController 의 계좌 단위 API 를 호출하기 전에 계좌별 요청 빈도를 확인합니다.
+ * 초과한 요청은 컨트롤러와 트랜잭션에 도달하기 전에 429 로 거절됩니다.
+ */
+@Component
+public class AccountRateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String ACCOUNT_ID_VARIABLE = "accountId";
+
+    @Autowired
+    private AccountRateLimiter accountRateLimiter;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || handlerMethod.getBeanType() != AccountController.class) {
+            return true;
+        }
+
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String accountId = variables == null ? null : variables.get(ACCOUNT_ID_VARIABLE);
+        if (accountId == null) {
+            return true;
+        }
+
+        try {
+            accountRateLimiter.acquire(Long.parseLong(accountId), handlerMethod.getMethod().getName());
+        } catch (NumberFormatException ex) {
+            // 잘못된 계좌 ID 는 컨트롤러의 타입 변환 오류로 처리되도록 넘깁니다.
+        }
+        return true;
+    }
+}
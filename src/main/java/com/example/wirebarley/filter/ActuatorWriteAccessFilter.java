@@ -0,0 +1,86 @@
+package com.example.wirebarley.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * actuator 의 변경 작업(POST, PUT, DELETE: 캐시 비우기, 원장 대사 시작 등)은 운영자 토큰이 있어야 실행합니다.
+ * <p>
+ * - app.management.admin-token 이 비어 있으면(기본값) HTTP 로는 변경 작업을 실행할 수 없습니다. (403)<br>
+ * - 설정되어 있으면 Authorization: Bearer {토큰} 헤더가 일치해야 합니다. (불일치 시 401)
+ * </p>
+ * 조회(GET)와 health/readiness 확인은 제한하지 않습니다.
+ * management.server.port 로 actuator 를 다른 포트에서 열면 이 필터가 적용되지 않으므로 같은 포트를 사용합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ActuatorWriteAccessFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    @Value("${management.endpoints.web.base-path:/actuator}")
+    private String basePath;
+
+    @Value("${app.management.admin-token:}")
+    private String adminToken;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !WRITE_METHODS.contains(request.getMethod()) || !path.startsWith(basePath);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (adminToken == null || adminToken.isBlank()) {
+            this.writeError(response, HttpStatus.FORBIDDEN, "운영용 변경 작업은 app.management.admin-token 을 설정해야 실행할 수 있습니다.");
+            return;
+        }
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX) || !this.matches(authorization.substring(BEARER_PREFIX.length()))) {
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+            this.writeError(response, HttpStatus.UNAUTHORIZED, "운영자 토큰이 올바르지 않습니다.");
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    // 토큰 비교 시간으로 일치하는 앞부분을 알 수 없도록 길이와 무관하게 전체를 비교합니다.
+    private boolean matches(String token) {
+        return MessageDigest.isEqual(token.trim().getBytes(StandardCharsets.UTF_8), adminToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), Map.of("error", message));
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.wirebarley.filter;
+
+import com.example.wirebarley.config.ConcurrencyLimitProperties;
+import com.example.wirebarley.util.AdaptiveConcurrencyLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 계좌/사용자 API 의 전체 동시 처리 수를 {@link AdaptiveConcurrencyLimiter} 로 제한합니다.
+ * 한도와 대기열이 모두 찬 요청은 503 Service Unavailable 과 Retry-After 헤더로 즉시 거절합니다.
+ * actuator, swagger 등 운영용 경로는 제한하지 않습니다.
+ * <p>
+ * 응답 시간은 컨트롤러 경로 패턴별로 한도 조절에 반영합니다. 304, 멱등 재응답, 429, 비동기(SSE) 시작처럼
+ * 실제 처리를 하지 않은 요청은 권한만 반납하고 응답 시간은 반영하지 않습니다.
+ * </p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    @Autowired
+    private AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+
+    @Autowired
+    private ConcurrencyLimitProperties properties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !properties.isEnabled() || !(path.startsWith("/account") || path.startsWith("/user"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = adaptiveConcurrencyLimiter.acquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            objectMapper.writeValue(response.getWriter(), Map.of("error", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long now = System.nanoTime();
+            String route = this.sampledRoute(request, response);
+            if (route == null) {
+                adaptiveConcurrencyLimiter.releaseWithoutSample();
+            } else {
+                adaptiveConcurrencyLimiter.release(route, now - startedAt, now);
+            }
+        }
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    /**
+     * 한도 조절에 쓸 경로를 반환합니다. 실제 처리를 하지 않은 요청은 응답 시간이 기준을 끌어내리므로 null 을 반환합니다.
+     */
+    private String sampledRoute(HttpServletRequest request, HttpServletResponse response) {
+        int status = response.getStatus();
+        if (request.isAsyncStarted()
+                || status == HttpStatus.NOT_MODIFIED.value()
+                || status == HttpStatus.TOO_MANY_REQUESTS.value()
+                || response.getHeader(IdempotencyFilter.REPLAYED_HEADER) != null) {
+            return null;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? null : request.getMethod() + " " + pattern;
+    }
+}
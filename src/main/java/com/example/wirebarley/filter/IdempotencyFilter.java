@@ -0,0 +1,244 @@
+package com.example.wirebarley.filter;
+
+import com.example.wirebarley.domain.IdempotencyRecord;
+import com.example.wirebarley.service.IdempotencyService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 계좌 변경 API(/account 하위 POST, DELETE)에 Idempotency-Key 헤더가 있으면 같은 요청이 두 번 실행되지 않도록 합니다.
+ * <p>
+ * - 이미 처리된 키: 컨트롤러와 계좌 로우를 거치지 않고 저장된 최초 응답을 그대로 반환합니다. (Idempotent-Replayed: true)<br>
+ * - 같은 키로 다른 요청을 보낸 경우: 422 Unprocessable Entity<br>
+ * - 같은 키의 요청이 아직 처리 중인 경우: 409 Conflict (처리 중 선점은 app.idempotency.lease 가 지나면 재시도가 이어받습니다)<br>
+ * - 처리에 실패한(2xx 가 아닌) 요청은 키를 저장하지 않으므로 같은 키로 다시 시도할 수 있습니다.<br>
+ * - 처리에 성공했지만 응답을 저장하지 못한 요청은 키를 ttl 동안 처리 중으로 남겨, 재시도가 같은 요청을 다시 실행하지 않고 409 를 받습니다.
+ * </p>
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyFilter.class);
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final Set<String> MUTATION_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !MUTATION_METHODS.contains(request.getMethod())
+                || !request.getRequestURI().substring(request.getContextPath().length()).startsWith("/account")
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            this.writeError(response, HttpStatus.BAD_REQUEST, String.format("Idempotency-Key 는 1~%d자여야 합니다.", MAX_KEY_LENGTH));
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String requestHash = this.hash(request, cachedRequest.body);
+
+        // 1. 이미 처리된 키라면 저장된 응답을 그대로 반환
+        if (this.replayIfCompleted(idempotencyKey, requestHash, response)) {
+            return;
+        }
+
+        // 2. 키 선점. 실패했다면 그 사이 처리가 끝났거나 아직 처리 중인 요청
+        Optional<Long> oReservationId = idempotencyService.reserve(idempotencyKey, requestHash);
+        if (oReservationId.isEmpty()) {
+            if (!this.replayIfCompleted(idempotencyKey, requestHash, response)) {
+                this.writeError(response, HttpStatus.CONFLICT, "같은 Idempotency-Key 의 요청이 처리 중입니다.");
+            }
+            return;
+        }
+
+        // 3. 실제 요청 처리 후 성공한 응답만 저장
+        long reservationId = oReservationId.get();
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        boolean succeeded = false;
+        try {
+            filterChain.doFilter(cachedRequest, cachingResponse);
+            int status = cachingResponse.getStatus();
+            succeeded = status >= 200 && status < 300;
+            if (succeeded) {
+                this.complete(reservationId, status, cachingResponse);
+            }
+        } finally {
+            // 요청 자체가 실패한 경우에만 선점을 해제합니다. 성공한 요청을 해제하면 재시도가 같은 요청을 다시 실행합니다.
+            if (!succeeded) {
+                idempotencyService.release(reservationId);
+            }
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    /**
+     * 성공한 응답을 저장합니다. 저장하지 못하면 선점을 ttl 동안 유지하여 재시도가 409 를 받게 합니다.
+     */
+    private void complete(long reservationId, int status, ContentCachingResponseWrapper cachingResponse) {
+        String contentType = cachingResponse.getContentType();
+        byte[] content = cachingResponse.getContentAsByteArray();
+        String body = this.isTextual(contentType)
+                ? new String(content, StandardCharsets.UTF_8)
+                : Base64.getEncoder().encodeToString(content);
+        try {
+            idempotencyService.complete(reservationId, status, contentType, body);
+        } catch (RuntimeException ex) {
+            log.error("Idempotency-Key 응답 저장 실패, 키를 처리 중으로 유지합니다. (기록 ID {})", reservationId, ex);
+            try {
+                idempotencyService.keepReserved(reservationId);
+            } catch (RuntimeException keepEx) {
+                log.error("Idempotency-Key 선점 유지 실패 (기록 ID {})", reservationId, keepEx);
+            }
+        }
+    }
+
+    private boolean replayIfCompleted(String idempotencyKey, String requestHash, HttpServletResponse response) throws IOException {
+        Optional<IdempotencyRecord> oRecord = idempotencyService.findCompleted(idempotencyKey);
+        if (oRecord.isEmpty()) {
+            return false;
+        }
+
+        IdempotencyRecord record = oRecord.get();
+        if (!record.getRequestHash().equals(requestHash)) {
+            this.writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+            return true;
+        }
+
+        response.setStatus(record.getResponseStatus());
+        response.setHeader(REPLAYED_HEADER, "true");
+        String body = record.getResponseBody();
+        if (body == null || body.isEmpty()) {
+            return true;
+        }
+        String contentType = record.getResponseContentType();
+        if (this.isTextual(contentType)) {
+            response.setContentType(contentType == null ? MediaType.APPLICATION_JSON_VALUE : contentType);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write(body);
+        } else {
+            response.setContentType(contentType);
+            response.getOutputStream().write(Base64.getDecoder().decode(body));
+        }
+        return true;
+    }
+
+    // CBOR, Smile 등 바이너리 응답은 문자열 컬럼에 저장할 수 있도록 Base64 로 인코딩합니다.
+    private boolean isTextual(String contentType) {
+        if (contentType == null) {
+            return true;
+        }
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        return mediaType.getType().equals("text")
+                || mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)
+                || mediaType.getSubtype().endsWith("+json");
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), Map.of("error", message));
+    }
+
+    // 메소드, 경로, 본문이 같아야 같은 요청으로 봅니다.
+    private String hash(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "\n").getBytes(StandardCharsets.UTF_8));
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * 해시 계산을 위해 읽은 요청 본문을 컨트롤러에서 다시 읽을 수 있도록 보관하는 래퍼.
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = StreamUtils.copyToByteArray(request.getInputStream());
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return inputStream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return inputStream.read();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(this.getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
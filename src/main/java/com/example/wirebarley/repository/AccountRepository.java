@@ -2,10 +2,16 @@ package com.example.wirebarley.repository;
 
 import com.example.wirebarley.domain.Account;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -20,5 +26,145 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<Account> findById(Long id);
 
+    /**
+     * ID로 계좌를 락 없이 조회합니다. 커밋 시 @Version 으로 다른 트랜잭션과의 충돌 여부를 검증합니다.
+     * @param id 계좌 ID
+     * @return
+     */
+    @Lock(LockModeType.OPTIMISTIC)
+    @Query("SELECT a FROM Account a WHERE a.id = :id")
+    Optional<Account> findForOptimisticUpdateById(long id);
+
     Optional<Account> findByAccountNumber(String accountNumber);
+
+    /**
+     * 계좌를 락 없이 조회합니다.
+     * 소유자(User)는 2차 캐시에서 가져오므로 fetch join 하지 않습니다. 캐시에 없을 때만 member 를 조회합니다.
+     * @param id 계좌 ID
+     * @return
+     */
+    @Query("SELECT a FROM Account a WHERE a.id = :id")
+    Optional<Account> findWithoutLockById(long id);
+
+    /**
+     * 활성 계좌의 잔액을 하나의 UPDATE 문으로 증가시킵니다.
+     * 영속성 컨텍스트를 거치지 않으므로, 호출한 쪽이 이 계좌를 이미 읽어 두었다면 그 로우만 다시 읽어야 합니다.
+     * @param id 계좌 ID
+     * @param amount 증가시킬 금액
+     * @param now 잔액 변경 시각
+     * @return 변경된 로우 수 (계좌가 없거나 활성 상태가 아니면 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Account a " +
+            "SET a.balance = a.balance + :amount, a.lastBalanceChangedAt = :now, a.updatedAt = :now, a.version = a.version + 1 " +
+            "WHERE a.id = :id " +
+            "AND a.status = com.example.wirebarley.enumeration.AccountStatus.ACTIVE")
+    int increaseBalance(long id, long amount, ZonedDateTime now);
+
+    /**
+     * 활성 계좌의 잔액이 충분할 때만 하나의 UPDATE 문으로 잔액을 감소시킵니다.
+     * 영속성 컨텍스트를 거치지 않으므로, 호출한 쪽이 이 계좌를 이미 읽어 두었다면 그 로우만 다시 읽어야 합니다.
+     * @param id 계좌 ID
+     * @param amount 감소시킬 금액
+     * @param now 잔액 변경 시각
+     * @return 변경된 로우 수 (계좌가 없거나, 활성 상태가 아니거나, 잔액이 부족하면 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Account a " +
+            "SET a.balance = a.balance - :amount, a.lastBalanceChangedAt = :now, a.updatedAt = :now, a.version = a.version + 1 " +
+            "WHERE a.id = :id " +
+            "AND a.status = com.example.wirebarley.enumeration.AccountStatus.ACTIVE " +
+            "AND a.balance >= :amount")
+    int decreaseBalance(long id, long amount, ZonedDateTime now);
+
+    /**
+     * 사용자의 계좌 목록을 소유자(User)와 함께 한 번의 쿼리로 조회합니다.
+     * Account.toDTO 가 user 를 참조하므로 fetch join 으로 계좌마다 member 조회가 발생하는 N+1 을 막습니다.
+     * @param userId 사용자 ID
+     * @return 계좌 ID 오름차순 목록
+     */
+    @Query("SELECT a FROM Account a " +
+            "JOIN FETCH a.user u " +
+            "WHERE u.id = :userId " +
+            "ORDER BY a.id ASC")
+    List<Account> findAllWithUserByUserId(long userId);
+
+    /**
+     * 여러 계좌를 소유자(User)와 함께 한 번의 쿼리로 조회합니다.
+     * @param ids 계좌 ID 목록
+     * @return 계좌 ID 오름차순 목록 (존재하지 않는 ID 는 제외됩니다)
+     */
+    @Query("SELECT a FROM Account a " +
+            "JOIN FETCH a.user " +
+            "WHERE a.id IN :ids " +
+            "ORDER BY a.id ASC")
+    List<Account> findAllWithUserByIdIn(Collection<Long> ids);
+
+    /**
+     * 계좌의 버전(@Version)만 조회합니다. 조건부 GET 에서 ETag 를 계산할 때 사용합니다.
+     * @param ids 계좌 ID 목록
+     * @return [계좌 ID, 버전] 목록 (존재하지 않는 ID 는 제외됩니다)
+     */
+    @Query("SELECT a.id, a.version FROM Account a WHERE a.id IN :ids")
+    List<Object[]> findVersionsByIdIn(Collection<Long> ids);
+
+    @Query("SELECT MIN(a.id) FROM Account a")
+    Long findMinId();
+
+    @Query("SELECT MAX(a.id) FROM Account a")
+    Long findMaxId();
+
+    /**
+     * ID 가 [fromId, toId) 인 계좌의 잔액만 조회합니다. (원장 대사용)
+     * @return [계좌 ID, 잔액] 계좌 ID 오름차순 목록
+     */
+    @Query("SELECT a.id, a.balance FROM Account a WHERE a.id >= :fromId AND a.id < :toId ORDER BY a.id ASC")
+    List<Object[]> findBalancesByIdRange(long fromId, long toId);
+
+    /**
+     * 기준 시각 이전부터 잔액 변경이 없는 활성 계좌의 ID 를 오래된 순서로 pageable 크기만큼 조회합니다. (status, lastBalanceChangedAt) 인덱스를 사용합니다.
+     * 잔액 변경 시각은 개설 시 채우고, 그 전에 만든 계좌는 {@link #backfillLastBalanceChangedAt} 으로 채운 뒤 조회합니다.
+     * @param before 기준 시각
+     * @return 휴면 전환 대상 계좌 ID 목록
+     */
+    @Query("SELECT a.id FROM Account a " +
+            "WHERE a.status = com.example.wirebarley.enumeration.AccountStatus.ACTIVE " +
+            "AND a.lastBalanceChangedAt < :before " +
+            "ORDER BY a.lastBalanceChangedAt ASC, a.id ASC")
+    List<Long> findDormantCandidateIds(ZonedDateTime before, Pageable pageable);
+
+    /**
+     * 대상 계좌를 하나의 UPDATE 문으로 휴면(DORMANT) 상태로 변경합니다.
+     * 조회 후 잔액이 변경된 계좌는 조건에서 다시 걸러지므로 변경되지 않습니다.
+     * @param ids 대상 계좌 ID 목록 (findDormantCandidateIds 결과)
+     * @param before 기준 시각
+     * @param now 변경 시각
+     * @return 변경된 로우 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Account a " +
+            "SET a.status = com.example.wirebarley.enumeration.AccountStatus.DORMANT, a.updatedAt = :now, a.version = a.version + 1 " +
+            "WHERE a.id IN :ids " +
+            "AND a.status = com.example.wirebarley.enumeration.AccountStatus.ACTIVE " +
+            "AND a.lastBalanceChangedAt < :before")
+    int markDormant(Collection<Long> ids, ZonedDateTime before, ZonedDateTime now);
+
+    /**
+     * 잔액 변경 시각이 비어 있는 활성 계좌의 ID 를 pageable 크기만큼 조회합니다. 개설 시 잔액 변경 시각을 채우기 전에 만든 계좌입니다.
+     * @return 대상 계좌 ID 목록
+     */
+    @Query("SELECT a.id FROM Account a " +
+            "WHERE a.status = com.example.wirebarley.enumeration.AccountStatus.ACTIVE " +
+            "AND a.lastBalanceChangedAt IS NULL AND a.createdAt IS NOT NULL")
+    List<Long> findIdsWithoutLastBalanceChangedAt(Pageable pageable);
+
+    /**
+     * 잔액 변경 시각이 비어 있는 계좌를 개설 시각으로 채웁니다. 이미 채워진 계좌는 변경하지 않습니다.
+     * @param ids 대상 계좌 ID 목록 (findIdsWithoutLastBalanceChangedAt 결과)
+     * @return 변경된 로우 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Account a SET a.lastBalanceChangedAt = a.createdAt " +
+            "WHERE a.id IN :ids AND a.lastBalanceChangedAt IS NULL")
+    int backfillLastBalanceChangedAt(Collection<Long> ids);
 }
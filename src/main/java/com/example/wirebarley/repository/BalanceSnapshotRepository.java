@@ -0,0 +1,17 @@
+package com.example.wirebarley.repository;
+
+import com.example.wirebarley.domain.BalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshot, Long> {
+
+    // date 이전의 가장 최근 스냅샷 (date 전날까지의 마감 잔액)
+    Optional<BalanceSnapshot> findTopByAccountIdAndDateLessThanOrderByDateDesc(long accountId, String date);
+
+    // date 이후(포함)의 가장 이른 스냅샷. 그 lastTransactionId 까지만 거래 기록을 찾으면 됩니다.
+    Optional<BalanceSnapshot> findTopByAccountIdAndDateGreaterThanEqualOrderByDateAsc(long accountId, String date);
+}
@@ -0,0 +1,34 @@
+package com.example.wirebarley.repository;
+
+import com.example.wirebarley.domain.IdempotencyRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    Optional<IdempotencyRecord> findByIdempotencyKey(String idempotencyKey);
+
+    // 만료된 키의 ID 를 expiresAt 인덱스 순서로 pageable 크기만큼 조회한다.
+    @Query("SELECT r.id FROM IdempotencyRecord r WHERE r.expiresAt <= :now ORDER BY r.expiresAt ASC")
+    List<Long> findExpiredIds(ZonedDateTime now, Pageable pageable);
+
+    // 처리 중(응답 없음)인 선점 기록을 삭제한다. 다른 요청이 이어받은 키의 기록은 ID 가 다르므로 지워지지 않는다.
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.responseStatus IS NULL")
+    int deleteReservationById(long id);
+
+    // 만료된 기록만 삭제한다. 조회한 뒤 처리가 끝나 만료 시각이 늘어났다면 지워지지 않는다.
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.expiresAt <= :now")
+    int deleteExpiredById(long id, ZonedDateTime now);
+}
@@ -0,0 +1,22 @@
+package com.example.wirebarley.repository;
+
+import com.example.wirebarley.domain.InterestAccrualCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface InterestAccrualCheckpointRepository extends JpaRepository<InterestAccrualCheckpoint, Long> {
+
+    List<InterestAccrualCheckpoint> findAllByAccrualDateOrderByPartitionNoAsc(String accrualDate);
+
+    // 청크를 처리하는 동안 같은 파티션을 다른 스레드/인스턴스가 처리하지 못하도록 진행 위치에 쓰기 락을 건다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM InterestAccrualCheckpoint c WHERE c.id = :id")
+    Optional<InterestAccrualCheckpoint> findForUpdateById(long id);
+}
@@ -0,0 +1,46 @@
+package com.example.wirebarley.repository;
+
+import com.example.wirebarley.domain.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, Long> {
+
+    Optional<JobLease> findByName(String name);
+
+    /**
+     * 임대가 만료되었거나 이미 owner 가 임대한 경우에만 임대를 가져옵니다. 조건부 UPDATE 이므로 동시에 시도해도 한 노드만 성공합니다.
+     * @return 임대했으면 1, 다른 노드가 임대 중이면 0
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobLease l SET l.owner = :owner, l.leaseUntil = :leaseUntil, l.updatedAt = :now " +
+            "WHERE l.name = :name AND (l.owner = :owner OR l.owner IS NULL OR l.leaseUntil < :now)")
+    int acquire(String name, String owner, ZonedDateTime leaseUntil, ZonedDateTime now);
+
+    // owner 가 임대 중인 경우에만 임대 만료 시각을 연장한다. (heartbeat)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobLease l SET l.leaseUntil = :leaseUntil, l.updatedAt = :now WHERE l.name = :name AND l.owner = :owner")
+    int renew(String name, String owner, ZonedDateTime leaseUntil, ZonedDateTime now);
+
+    // owner 가 임대 중인 경우에만 임대를 반납한다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobLease l SET l.owner = NULL, l.leaseUntil = :now, l.updatedAt = :now WHERE l.name = :name AND l.owner = :owner")
+    int release(String name, String owner, ZonedDateTime now);
+
+    // owner 가 임대 중인 경우에만 실행 단위를 완료로 기록하고 임대를 반납한다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobLease l SET l.owner = NULL, l.leaseUntil = :now, l.lastCompletedRunKey = :runKey, l.updatedAt = :now " +
+            "WHERE l.name = :name AND l.owner = :owner")
+    int complete(String name, String owner, String runKey, ZonedDateTime now);
+
+    // 기준 시각 이전에 임대가 끝난 로우를 삭제한다. (지급 작업처럼 한 번만 실행하는 작업의 임대 로우 정리)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM JobLease l WHERE l.leaseUntil < :before")
+    int deleteExpiredBefore(ZonedDateTime before);
+}
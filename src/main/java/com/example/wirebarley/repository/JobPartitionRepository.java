@@ -0,0 +1,55 @@
+package com.example.wirebarley.repository;
+
+import com.example.wirebarley.domain.JobPartition;
+import com.example.wirebarley.enumeration.JobPartitionStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JobPartitionRepository extends JpaRepository<JobPartition, Long> {
+
+    List<JobPartition> findAllByJobNameAndRunKeyOrderByPartitionNoAsc(String jobName, String runKey);
+
+    /**
+     * 대기 중이거나 임대가 만료된 파티션 하나를 잠그고 ID 를 조회합니다.
+     * 다른 노드가 잠근 로우는 기다리지 않고 건너뛰므로(SKIP LOCKED) 여러 노드가 동시에 서로 다른 파티션을 가져갑니다.
+     * @return 파티션 ID. 가져갈 파티션이 없으면 null
+     */
+    @Query(value = "SELECT id FROM job_partition " +
+            "WHERE job_name = :jobName AND run_key = :runKey " +
+            "AND (status = 'PENDING' OR (status = 'RUNNING' AND lease_until < :now)) " +
+            "ORDER BY partition_no LIMIT 1 " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Long findClaimableId(String jobName, String runKey, Timestamp now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobPartition p " +
+            "SET p.status = com.example.wirebarley.enumeration.JobPartitionStatus.RUNNING, p.owner = :owner, " +
+            "p.leaseUntil = :leaseUntil, p.attempts = p.attempts + 1, p.updatedAt = :now " +
+            "WHERE p.id = :id")
+    int claim(long id, String owner, ZonedDateTime leaseUntil, ZonedDateTime now);
+
+    // owner 가 처리 중인 파티션들의 임대 만료 시각을 연장한다. (heartbeat)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobPartition p SET p.leaseUntil = :leaseUntil, p.updatedAt = :now " +
+            "WHERE p.id IN :ids AND p.owner = :owner " +
+            "AND p.status = com.example.wirebarley.enumeration.JobPartitionStatus.RUNNING")
+    int renew(Collection<Long> ids, String owner, ZonedDateTime leaseUntil, ZonedDateTime now);
+
+    /**
+     * owner 가 처리 중인 파티션을 status(DONE: 완료, PENDING: 실패하여 반납) 상태로 변경합니다.
+     * @return 변경했으면 1, 임대가 만료되어 다른 노드가 가져간 경우 0
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobPartition p SET p.status = :status, p.owner = NULL, p.leaseUntil = NULL, p.updatedAt = :now " +
+            "WHERE p.id = :id AND p.owner = :owner " +
+            "AND p.status = com.example.wirebarley.enumeration.JobPartitionStatus.RUNNING")
+    int finish(long id, String owner, JobPartitionStatus status, ZonedDateTime now);
+}
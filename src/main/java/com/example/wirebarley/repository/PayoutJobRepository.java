@@ -0,0 +1,24 @@
+package com.example.wirebarley.repository;
+
+import com.example.wirebarley.domain.PayoutJob;
+import com.example.wirebarley.enumeration.PayoutJobStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PayoutJobRepository extends JpaRepository<PayoutJob, Long> {
+
+    @Query("SELECT j.id FROM PayoutJob j WHERE j.status = :status ORDER BY j.id ASC")
+    List<Long> findIdsByStatus(PayoutJobStatus status);
+
+    // 청크를 처리하는 동안 같은 작업을 다른 스레드/인스턴스가 처리하지 못하도록 진행 위치에 쓰기 락을 건다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM PayoutJob j WHERE j.id = :id")
+    Optional<PayoutJob> findForUpdateById(long id);
+}
@@ -0,0 +1,16 @@
+package com.example.wirebarley.repository;
+
+import com.example.wirebarley.domain.PayoutLine;
+import com.example.wirebarley.enumeration.PayoutLineStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PayoutLineRepository extends JpaRepository<PayoutLine, Long> {
+
+    List<PayoutLine> findAllByJobIdAndStatusInOrderByLineNoAsc(long jobId, Collection<PayoutLineStatus> statuses, Pageable pageable);
+}
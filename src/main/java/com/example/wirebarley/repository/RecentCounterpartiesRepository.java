@@ -0,0 +1,19 @@
+package com.example.wirebarley.repository;
+
+import com.example.wirebarley.domain.RecentCounterparties;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RecentCounterpartiesRepository extends JpaRepository<RecentCounterparties, Long> {
+
+    // 갱신용 조회. 2차 캐시의 값은 다른 인스턴스의 갱신을 놓쳤을 수 있으므로 DB 에서 락을 잡고 읽습니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM RecentCounterparties r WHERE r.accountId = :accountId")
+    Optional<RecentCounterparties> findForUpdateByAccountId(long accountId);
+}
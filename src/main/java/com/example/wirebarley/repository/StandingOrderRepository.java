@@ -0,0 +1,28 @@
+package com.example.wirebarley.repository;
+
+import com.example.wirebarley.domain.StandingOrder;
+import com.example.wirebarley.enumeration.StandingOrderStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StandingOrderRepository extends JpaRepository<StandingOrder, Long> {
+
+    List<StandingOrder> findAllByFromAccountIdOrderByIdAsc(long fromAccountId);
+
+    // 실행일이 된 주문을 ID 순으로 afterId 다음부터 조회한다. (idx__status__next_run_date)
+    @Query("SELECT o FROM StandingOrder o WHERE o.status = :status AND o.nextRunDate <= :runDate AND o.id > :afterId ORDER BY o.id ASC")
+    List<StandingOrder> findDue(StandingOrderStatus status, String runDate, long afterId, Pageable pageable);
+
+    // 실행하는 동안 같은 주문을 다른 스레드/인스턴스가 실행하지 못하도록 쓰기 락을 건다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM StandingOrder o WHERE o.id IN :ids ORDER BY o.id ASC")
+    List<StandingOrder> findAllForUpdateByIdIn(Collection<Long> ids);
+}
@@ -2,17 +2,37 @@ package com.example.wirebarley.repository;
 
 import com.example.wirebarley.domain.Transaction;
 import com.example.wirebarley.enumeration.TransactionType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
     Page<Transaction> findByAccountIdOrderByIdDesc(long accountId, Pageable pageable);
 
+    // id 가 beforeId 보다 작은 거래를 최신순으로 조회한다. (키셋 페이징)
+    List<Transaction> findByAccountIdAndIdLessThanOrderByIdDesc(long accountId, long beforeId, Pageable pageable);
+
+    // id 가 afterId 보다 큰 거래를 오래된 순으로 조회한다. (이벤트 스트림 재연결 시 빠진 거래)
+    List<Transaction> findByAccountIdAndIdGreaterThanOrderByIdAsc(long accountId, long afterId, Pageable pageable);
+
+    // 거래 ID 가 (afterId, untilId] 이고 asOf 이전에 기록된 거래를 최신순으로 조회한다. (특정 시각의 잔액)
+    @Query("SELECT t FROM Transaction t " +
+            "WHERE t.account.id = :accountId AND t.id > :afterId AND t.id <= :untilId AND t.createdAt <= :asOf " +
+            "ORDER BY t.id DESC")
+    List<Transaction> findLatestBetween(long accountId, long afterId, long untilId, ZonedDateTime asOf, Pageable pageable);
+
     // 수수료를 제외한 netAmount 를 합산한다.
     @Query("SELECT COALESCE(SUM(t.netAmount), 0L) " + // 결과가 null일 경우 0을 반환
             "FROM Transaction t " +
@@ -20,4 +40,27 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             "AND t.type = :type " +
             "AND t.date = :date ")
     Long sumOfNetAmountBy(long userId, TransactionType type, String date);
+
+    /**
+     * 계좌 ID 가 [fromAccountId, toAccountId) 인 거래를 계좌 ID, 거래 ID 순서로 스트리밍합니다. (원장 대사용)
+     * 엔티티를 만들지 않고 대사에 필요한 컬럼만 fetchSize 단위로 읽으므로 범위 안의 거래 수와 무관하게 메모리 사용량이 일정합니다.
+     * 스트림은 트랜잭션 안에서 사용하고 반드시 닫아야 합니다.
+     * @return [계좌 ID, 거래 ID, 유형, grossAmount, netAmount, prevBalance, postBalance, relatedTransactionId]
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t.account.id, t.id, t.type, t.grossAmount, t.netAmount, t.prevBalance, t.postBalance, t.relatedTransactionId " +
+            "FROM Transaction t " +
+            "WHERE t.account.id >= :fromAccountId AND t.account.id < :toAccountId " +
+            "ORDER BY t.account.id ASC, t.id ASC")
+    Stream<Object[]> streamLedgerByAccountIdRange(long fromAccountId, long toAccountId);
+
+    /**
+     * 연결된 거래(relatedTransactionId)를 확인하기 위해 거래의 유형과 금액, 연결 정보만 조회합니다.
+     * @return [거래 ID, 유형, netAmount, relatedTransactionId] (존재하지 않는 ID 는 제외됩니다)
+     */
+    @Query("SELECT t.id, t.type, t.netAmount, t.relatedTransactionId FROM Transaction t WHERE t.id IN :ids")
+    List<Object[]> findLinksByIdIn(Collection<Long> ids);
 }
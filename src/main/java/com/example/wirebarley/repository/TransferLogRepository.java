@@ -0,0 +1,29 @@
+package com.example.wirebarley.repository;
+
+import com.example.wirebarley.domain.TransferLog;
+import com.example.wirebarley.enumeration.TransferStatus;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TransferLogRepository extends JpaRepository<TransferLog, Long> {
+
+    Optional<TransferLog> findByTransferId(String transferId);
+
+    // 이체를 완료/보상 처리하는 동안 같은 이체를 다른 스레드(복구 작업 등)가 처리하지 못하도록 로그에 쓰기 락을 건다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TransferLog t WHERE t.transferId = :transferId")
+    Optional<TransferLog> findForUpdateByTransferId(String transferId);
+
+    // 마지막 변경 후 before 이상 지난 status 상태의 이체 ID 를 오래된 순서로 pageable 크기만큼 조회한다.
+    @Query("SELECT t.transferId FROM TransferLog t WHERE t.status = :status AND t.updatedAt <= :before ORDER BY t.updatedAt ASC")
+    List<String> findTransferIdsByStatus(TransferStatus status, ZonedDateTime before, Pageable pageable);
+}
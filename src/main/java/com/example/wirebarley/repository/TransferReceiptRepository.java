@@ -0,0 +1,13 @@
+package com.example.wirebarley.repository;
+
+import com.example.wirebarley.domain.TransferReceipt;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TransferReceiptRepository extends JpaRepository<TransferReceipt, Long> {
+
+    Optional<TransferReceipt> findByTransferId(String transferId);
+}
@@ -2,6 +2,7 @@ package com.example.wirebarley.repository;
 
 import com.example.wirebarley.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,4 +10,21 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByPhone(String phone);
+
+    /**
+     * 일일 출금 한도를 member 테이블에서 직접 조회합니다.
+     * 2차 캐시는 인스턴스마다 따로 있어 다른 인스턴스에서 변경한 한도가 만료 전까지 남으므로, 출금 시에는 캐시를 거치지 않습니다.
+     * @param id 사용자 ID
+     * @return 일일 출금 한도
+     */
+    @Query("SELECT u.dailyWithdrawalLimit FROM User u WHERE u.id = :id")
+    long findDailyWithdrawalLimitById(long id);
+
+    /**
+     * 일일 이체 한도를 member 테이블에서 직접 조회합니다. (캐시를 거치지 않는 이유는 {@link #findDailyWithdrawalLimitById(long)} 참고)
+     * @param id 사용자 ID
+     * @return 일일 이체 한도
+     */
+    @Query("SELECT u.dailyTransferLimit FROM User u WHERE u.id = :id")
+    long findDailyTransferLimitById(long id);
 }
@@ -0,0 +1,449 @@
+package com.example.wirebarley.service;
+
+import com.example.wirebarley.dto.TransactionDTO;
+import com.example.wirebarley.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 계좌의 거래 기록이 커밋되면 해당 계좌를 구독 중인 구독자에게 거래를 전달하는 인스턴스 내부 이벤트 버스.
+ * <p>
+ * 발행은 구독자별 버퍼에 넣기만 하고 바로 반환하며, 전달은 dispatch-threads 개의 스레드가 구독자 단위로 나누어 처리합니다.
+ * 구독자 하나가 한 번에 보내는 이벤트는 최대 {@link #DRAIN_BATCH} 건이므로 느린 구독자가 다른 구독자의 전달을 막지 않습니다.
+ * 버퍼가 가득 차면 가장 오래된 이벤트를 버리고, 다음 전달 때 {@link Sink#overflow} 로 알린 뒤 구독을 종료합니다.
+ * 구독자는 마지막으로 받은 거래 ID 부터 다시 구독하여 빠진 거래를 DB 에서 받습니다.
+ * </p>
+ * <p>
+ * 전송(SseEmitter.send)은 블로킹이므로, 응답을 읽지 않는 클라이언트에게 보내는 스레드는 소켓 쓰기 타임아웃까지 묶입니다.
+ * watchdog 스레드가 send-timeout-ms 를 넘긴 전송을 찾아 그 구독을 종료하고, 묶인 스레드만큼 전달 스레드를 임시로 늘려
+ * (최대 max-stalled 개) 다른 구독자의 전달이 멈추지 않게 합니다. 묶였던 전송이 끝나면 {@link Sink#failed} 로 스트림을 닫습니다.
+ * heartbeat 도 공용 스케줄러 스레드가 아닌 watchdog 스레드에서 요청합니다.
+ * </p>
+ * 이 인스턴스에서 커밋된 거래만 전달하므로, 여러 인스턴스로 운영할 때 다른 인스턴스의 거래는 재연결 시 DB 에서 받습니다.
+ */
+@Service
+public class AccountEventBus {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountEventBus.class);
+
+    // 구독자 하나가 한 번의 전달에서 보내는 최대 이벤트 수
+    static final int DRAIN_BATCH = 32;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    // 구독자별로 전달을 기다리는 최대 이벤트 수. 넘치면 가장 오래된 이벤트를 버립니다.
+    @Value("${app.events.buffer-size:256}")
+    private int bufferSize;
+
+    // 이벤트를 구독자에게 보내는 스레드 수
+    @Value("${app.events.dispatch-threads:2}")
+    private int dispatchThreads;
+
+    // 이 인스턴스의 최대 구독자 수
+    @Value("${app.events.max-subscribers:10000}")
+    private int maxSubscribers;
+
+    // 구독자 하나에게 이벤트 하나를 보내는 최대 시간. 넘기면 구독을 종료합니다.
+    @Value("${app.events.send-timeout-ms:5000}")
+    private long sendTimeoutMillis;
+
+    // 전송이 멈춘 구독자 때문에 임시로 늘리는 최대 전달 스레드 수
+    @Value("${app.events.max-stalled:16}")
+    private int maxStalled;
+
+    @Value("${app.events.heartbeat-ms:15000}")
+    private long heartbeatMillis;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private ThreadPoolExecutor dispatcher;
+
+    private ScheduledExecutorService watchdog;
+
+    // 전송이 멈춘 채 전달 스레드를 잡고 있는 구독자 수 (그만큼 전달 스레드를 늘림)
+    private int stalledSends;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadSequence = new AtomicInteger();
+        dispatcher = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "account-event-" + threadSequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "account-event-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long checkInterval = Math.max(100L, sendTimeoutMillis / 2);
+        watchdog.scheduleWithFixedDelay(this::closeStalled, checkInterval, checkInterval, TimeUnit.MILLISECONDS);
+        watchdog.scheduleWithFixedDelay(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        if (meterRegistry != null) {
+            meterRegistry.gauge("account.events.subscribers", subscriberCount);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        watchdog.shutdownNow();
+        dispatcher.shutdown();
+        dispatcher.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 거래를 발행합니다. 트랜잭션 밖이라면 바로 발행하며, 롤백되면 발행하지 않습니다.
+     *
+     * @param accountId 거래가 기록된 계좌 ID
+     * @param transaction 거래 기록
+     */
+    public void publishAfterCommit(long accountId, TransactionDTO transaction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.publish(accountId, transaction);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    publish(accountId, transaction);
+                }
+            }
+        });
+    }
+
+    /**
+     * 구독자의 버퍼에 거래를 넣습니다. 전달을 기다리지 않습니다.
+     */
+    public void publish(long accountId, TransactionDTO transaction) {
+        Set<Subscriber> accountSubscribers = subscribers.get(accountId);
+        if (accountSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : accountSubscribers) {
+            if (subscriber.offer(transaction)) {
+                this.schedule(subscriber);
+            }
+        }
+    }
+
+    /**
+     * 계좌를 구독합니다. 구독자는 {@link #start} 를 호출하기 전까지 이벤트를 버퍼에 모으기만 합니다.
+     *
+     * @param accountId 계좌 ID
+     * @param sink 이벤트를 받을 대상
+     * @return 구독자
+     * @throws TooManyRequestsException 최대 구독자 수를 넘은 경우
+     */
+    public Subscriber subscribe(long accountId, Sink sink) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new TooManyRequestsException("구독자가 많아 이벤트를 구독할 수 없습니다. 잠시 후 다시 시도해주세요.", 5L);
+        }
+        Subscriber subscriber = new Subscriber(accountId, sink, bufferSize);
+        subscribers.computeIfAbsent(accountId, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        return subscriber;
+    }
+
+    /**
+     * 구독자에게 이벤트 전달을 시작합니다. 거래 ID 가 after 이하인 이벤트는 이미 받은 것으로 보고 보내지 않습니다.
+     *
+     * @param subscriber 구독자
+     * @param after 구독자가 이미 받은 마지막 거래 ID
+     */
+    public void start(Subscriber subscriber, long after) {
+        subscriber.start(after);
+        this.schedule(subscriber);
+    }
+
+    /**
+     * 구독을 종료합니다. 여러 번 호출해도 됩니다.
+     */
+    public void unsubscribe(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.accountId, (key, accountSubscribers) -> {
+            accountSubscribers.remove(subscriber);
+            return accountSubscribers.isEmpty() ? null : accountSubscribers;
+        });
+    }
+
+    /**
+     * 전달 중인 모든 구독자에게 heartbeat 를 보냅니다. 프록시가 유휴 연결을 끊지 않게 하고, 끊어진 연결을 정리합니다.
+     * watchdog 스레드에서 heartbeat-ms 주기로 호출됩니다.
+     */
+    public void heartbeat() {
+        for (Set<Subscriber> accountSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : accountSubscribers) {
+                if (subscriber.requestHeartbeat()) {
+                    this.schedule(subscriber);
+                }
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    /**
+     * send-timeout-ms 를 넘긴 전송을 찾아 구독을 종료하고, 묶인 전달 스레드 대신 일할 스레드를 하나 늘립니다.
+     * 전송 중인 스레드는 깨울 수 없으므로 스트림은 그 전송이 끝난 뒤 전달 스레드에서 닫습니다.
+     */
+    private void closeStalled() {
+        long deadline = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        for (Set<Subscriber> accountSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : accountSubscribers) {
+                if (subscriber.sendState.get() != Subscriber.SENDING || subscriber.sendingSince - deadline > 0
+                        || !subscriber.sendState.compareAndSet(Subscriber.SENDING, Subscriber.STALLED)) {
+                    continue;
+                }
+                log.debug("계좌 {} 이벤트 전송이 {}ms 를 넘어 구독을 종료합니다.", subscriber.accountId, sendTimeoutMillis);
+                this.unsubscribe(subscriber);
+                this.resizeDispatcher(1);
+                if (meterRegistry != null) {
+                    meterRegistry.counter("account.events.stalled").increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * 전송이 멈춘 구독자 수만큼 전달 스레드 수를 조절합니다. (최대 dispatch-threads + max-stalled)
+     */
+    private synchronized void resizeDispatcher(int delta) {
+        stalledSends += delta;
+        int size = dispatchThreads + Math.min(stalledSends, maxStalled);
+        if (size > dispatcher.getMaximumPoolSize()) {
+            dispatcher.setMaximumPoolSize(size);
+            dispatcher.setCorePoolSize(size);
+        } else if (size < dispatcher.getCorePoolSize()) {
+            dispatcher.setCorePoolSize(size);
+            dispatcher.setMaximumPoolSize(size);
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.closed.get() || !subscriber.scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        dispatcher.execute(() -> this.drain(subscriber));
+    }
+
+    /**
+     * 구독자의 버퍼에서 최대 DRAIN_BATCH 건을 보냅니다. 남은 이벤트가 있으면 다시 차례를 기다립니다.
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            this.deliver(subscriber);
+        } finally {
+            if (!subscriber.sendState.compareAndSet(Subscriber.SENDING, Subscriber.IDLE)
+                    && subscriber.sendState.compareAndSet(Subscriber.STALLED, Subscriber.IDLE)) {
+                // watchdog 이 구독을 종료한 뒤 멈춰 있던 전송이 끝났으므로 늘렸던 스레드를 되돌리고 스트림을 닫습니다.
+                this.resizeDispatcher(-1);
+                subscriber.sink.failed(new TimeoutException("이벤트 전송이 " + sendTimeoutMillis + "ms 를 넘었습니다."));
+            }
+        }
+    }
+
+    private void deliver(Subscriber subscriber) {
+        try {
+            for (int sent = 0; sent < DRAIN_BATCH && !subscriber.closed.get(); ) {
+                Subscriber.Next next = subscriber.poll();
+                if (next.dropped() > 0) {
+                    // 버린 이벤트 이후의 이벤트를 보내면 구독자의 재연결 위치가 버린 이벤트를 건너뛰므로 여기서 종료합니다.
+                    this.unsubscribe(subscriber);
+                    if (meterRegistry != null) {
+                        meterRegistry.counter("account.events.dropped").increment(next.dropped());
+                    }
+                    subscriber.sink.overflow(subscriber.lastDeliveredId, next.dropped());
+                    return;
+                }
+                if (next.transaction() == null) {
+                    if (next.heartbeat()) {
+                        subscriber.beginSend();
+                        subscriber.sink.heartbeat();
+                        subscriber.endSend();
+                    }
+                    break;
+                }
+                long transactionId = next.transaction().getId();
+                if (transactionId <= subscriber.after) {
+                    continue;
+                }
+                subscriber.beginSend();
+                subscriber.sink.send(next.transaction());
+                if (!subscriber.endSend()) {
+                    return;
+                }
+                subscriber.lastDeliveredId = Math.max(subscriber.lastDeliveredId, transactionId);
+                sent++;
+            }
+        } catch (Exception ex) {
+            if (subscriber.sendState.get() == Subscriber.STALLED) {
+                // 멈춘 전송이 결국 실패한 경우. 스트림은 drain 에서 닫습니다.
+                return;
+            }
+            log.debug("계좌 {} 이벤트 전달 실패로 구독을 종료합니다: {}", subscriber.accountId, ex.getMessage());
+            this.unsubscribe(subscriber);
+            subscriber.sink.failed(ex);
+            return;
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+        if (subscriber.hasPending()) {
+            this.schedule(subscriber);
+        }
+    }
+
+    /**
+     * 구독자에게 이벤트를 보내는 대상. 한 구독자의 메소드는 동시에 호출되지 않습니다.
+     */
+    public interface Sink {
+
+        void send(TransactionDTO transaction) throws Exception;
+
+        void heartbeat() throws Exception;
+
+        /**
+         * 버퍼가 넘쳐 이벤트를 버렸을 때 호출됩니다. 호출 전에 구독은 이미 종료되어 있습니다.
+         *
+         * @param lastDeliveredId 마지막으로 보낸 거래 ID (보낸 거래가 없으면 구독 시작 위치)
+         * @param dropped 버린 이벤트 수
+         */
+        void overflow(long lastDeliveredId, long dropped);
+
+        /**
+         * 전달 중 예외가 발생했거나 전송이 send-timeout-ms 를 넘었을 때(TimeoutException) 호출됩니다. 호출 전에 구독은 이미 종료되어 있습니다.
+         */
+        void failed(Exception ex);
+    }
+
+    /**
+     * 계좌 하나의 구독자. 버퍼는 구독자 객체로 동기화하고, 전달은 scheduled 로 한 번에 한 스레드만 처리합니다.
+     */
+    public static final class Subscriber {
+
+        private final long accountId;
+        private final Sink sink;
+        private final int capacity;
+        private final ArrayDeque<TransactionDTO> buffer;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        // 전송 상태. 전달 스레드가 IDLE ↔ SENDING 으로, watchdog 이 SENDING → STALLED 로 바꿉니다.
+        private static final int IDLE = 0;
+        private static final int SENDING = 1;
+        private static final int STALLED = 2;
+        private final AtomicInteger sendState = new AtomicInteger(IDLE);
+
+        // 진행 중인 전송을 시작한 시각(System.nanoTime). watchdog 이 sendState 가 SENDING 일 때 읽습니다.
+        private volatile long sendingSince;
+
+        private boolean started;
+        private boolean heartbeatPending;
+        private long dropped;
+
+        // 전달 스레드에서만 읽고 쓰며, scheduled 로 스레드 간 가시성이 보장됩니다.
+        private long after;
+        private long lastDeliveredId;
+
+        private Subscriber(long accountId, Sink sink, int capacity) {
+            this.accountId = accountId;
+            this.sink = sink;
+            this.capacity = capacity;
+            this.buffer = new ArrayDeque<>(Math.min(capacity, 16));
+        }
+
+        public long getAccountId() {
+            return accountId;
+        }
+
+        /**
+         * @return 전달을 시작한 구독자이면 true (전달 스레드에 차례를 요청해야 함)
+         */
+        private synchronized boolean offer(TransactionDTO transaction) {
+            if (closed.get()) {
+                return false;
+            }
+            if (buffer.size() >= capacity) {
+                buffer.pollFirst();
+                dropped++;
+            }
+            buffer.addLast(transaction);
+            return started;
+        }
+
+        private void beginSend() {
+            sendingSince = System.nanoTime();
+            sendState.set(SENDING);
+        }
+
+        /**
+         * @return 전송이 제시간에 끝났으면 true, watchdog 이 멈춘 전송으로 처리했으면 false
+         */
+        private boolean endSend() {
+            return sendState.compareAndSet(SENDING, IDLE);
+        }
+
+        private synchronized void start(long after) {
+            this.after = after;
+            this.lastDeliveredId = after;
+            this.started = true;
+        }
+
+        private synchronized boolean requestHeartbeat() {
+            if (!started) {
+                return false;
+            }
+            heartbeatPending = true;
+            return true;
+        }
+
+        private synchronized Next poll() {
+            long droppedNow = dropped;
+            dropped = 0;
+            boolean heartbeat = heartbeatPending;
+            heartbeatPending = false;
+            return new Next(buffer.pollFirst(), droppedNow, heartbeat);
+        }
+
+        private synchronized boolean hasPending() {
+            return !closed.get() && (!buffer.isEmpty() || dropped > 0 || heartbeatPending);
+        }
+
+        private record Next(TransactionDTO transaction, long dropped, boolean heartbeat) {
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.wirebarley.service;
+
+import com.example.wirebarley.domain.Transaction;
+import com.example.wirebarley.dto.TransactionDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계좌의 거래를 Server-Sent Events 로 보내는 클래스.
+ * <p>
+ * 이벤트 id 는 거래 ID 입니다. 클라이언트가 Last-Event-ID(또는 after)로 마지막으로 받은 거래 ID 를 보내면
+ * 그 이후의 거래를 DB 에서 먼저 보내고, 이후에는 {@link AccountEventBus} 로 커밋된 거래를 보냅니다.
+ * 같은 거래가 두 번 전달될 수 있으므로 클라이언트는 거래 ID 로 중복을 걸러야 합니다.
+ * </p>
+ * 다음 경우에는 스트림을 종료하며, 클라이언트는 마지막으로 받은 거래 ID 로 다시 연결합니다.
+ * <ul>
+ *     <li>재연결 시 보낼 거래가 replay-limit 건을 넘는 경우 (replay-limit 건을 보낸 뒤 종료)</li>
+ *     <li>전달이 늦어 버퍼가 넘친 경우 (overflow 이벤트를 보낸 뒤 종료)</li>
+ * </ul>
+ */
+@Service
+public class AccountEventService {
+
+    static final String TRANSACTION_EVENT = "transaction";
+
+    static final String OVERFLOW_EVENT = "overflow";
+
+    @Autowired
+    private AccountEventBus accountEventBus;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    // 스트림을 유지하는 최대 시간. 지나면 종료하고 클라이언트가 다시 연결합니다.
+    @Value("${app.events.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    // 재연결 시 한 번에 보내는 최대 거래 수
+    @Value("${app.events.replay-limit:500}")
+    private int replayLimit;
+
+    /**
+     * 계좌의 거래 이벤트 스트림을 엽니다.
+     *
+     * @param accountId 계좌 ID
+     * @param after 클라이언트가 마지막으로 받은 거래 ID. 없으면 지금 이후의 거래만 보냅니다.
+     * @return 이벤트 스트림
+     */
+    public SseEmitter subscribe(long accountId, Long after) throws Throwable {
+        accountService.findById(accountId);
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        // 재연결 전에 발생한 거래를 놓치지 않도록 DB 를 조회하기 전에 구독하고, 조회가 끝난 뒤 전달을 시작합니다.
+        AccountEventBus.Subscriber subscriber = accountEventBus.subscribe(accountId, new EmitterSink(emitter));
+        emitter.onCompletion(() -> accountEventBus.unsubscribe(subscriber));
+        emitter.onTimeout(() -> accountEventBus.unsubscribe(subscriber));
+        emitter.onError(ex -> accountEventBus.unsubscribe(subscriber));
+
+        try {
+            long cursor = after == null ? 0L : after;
+            if (after != null) {
+                List<Transaction> missed = transactionService.findAfter(accountId, after, replayLimit);
+                for (Transaction transaction : missed) {
+                    this.send(emitter, transaction.toDTO());
+                    cursor = transaction.getId();
+                }
+                if (missed.size() >= replayLimit) {
+                    accountEventBus.unsubscribe(subscriber);
+                    emitter.complete();
+                    return emitter;
+                }
+            }
+            accountEventBus.start(subscriber, cursor);
+        } catch (IOException | RuntimeException ex) {
+            accountEventBus.unsubscribe(subscriber);
+            throw ex;
+        }
+        return emitter;
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    private void send(SseEmitter emitter, TransactionDTO transaction) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(String.valueOf(transaction.getId()))
+                .name(TRANSACTION_EVENT)
+                .data(transaction, MediaType.APPLICATION_JSON));
+    }
+
+    private class EmitterSink implements AccountEventBus.Sink {
+
+        private final SseEmitter emitter;
+
+        private EmitterSink(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void send(TransactionDTO transaction) throws IOException {
+            AccountEventService.this.send(emitter, transaction);
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+
+        @Override
+        public void overflow(long lastDeliveredId, long dropped) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(OVERFLOW_EVENT)
+                        .data(Map.of("resumeAfter", lastDeliveredId, "dropped", dropped), MediaType.APPLICATION_JSON));
+                emitter.complete();
+            } catch (IOException ex) {
+                emitter.completeWithError(ex);
+            }
+        }
+
+        @Override
+        public void failed(Exception ex) {
+            emitter.completeWithError(ex);
+        }
+    }
+}
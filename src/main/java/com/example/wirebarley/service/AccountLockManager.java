@@ -0,0 +1,232 @@
+package com.example.wirebarley.service;
+
+import com.example.wirebarley.enumeration.LockingStrategy;
+import jakarta.persistence.LockModeType;
+import lombok.Getter;
+import lombok.Setter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 잔액 변경 작업의 락 전략을 결정하고, 트랜잭션 실행과 낙관적 락 충돌 재시도를 담당하는 클래스.
+ * <p>
+ * - PESSIMISTIC: 항상 SELECT ... FOR UPDATE 로 조회합니다.<br>
+ * - OPTIMISTIC: 락 없이 조회하고 커밋 시 @Version 충돌이 나면 새 트랜잭션으로 재시도합니다.<br>
+ * - AUTO: 계좌별 최근 충돌률이 임계치를 넘으면 해당 계좌만 PESSIMISTIC 으로 전환합니다.
+ * </p>
+ * 재시도 횟수를 모두 소진하면 마지막 시도는 PESSIMISTIC 으로 실행하여 경합이 심해도 작업이 끝나도록 보장합니다.
+ * 이미 진행 중인 트랜잭션 안에서 호출되면 재시도할 수 없으므로 PESSIMISTIC 으로 한 번만 실행합니다.
+ */
+@Service
+public class AccountLockManager {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountLockManager.class);
+
+    // 충돌 통계를 보관할 최대 계좌 수 (LRU 로 오래된 계좌부터 제거)
+    private static final int MAX_TRACKED_ACCOUNTS = 10_000;
+
+    @Autowired(required = false)
+    private PlatformTransactionManager transactionManager;
+
+    @Getter
+    @Setter
+    @Value("${app.account.locking.strategy:PESSIMISTIC}")
+    private volatile LockingStrategy strategy = LockingStrategy.PESSIMISTIC;
+
+    @Getter
+    @Setter
+    @Value("${app.account.locking.max-retries:3}")
+    private int maxRetries = 3;
+
+    @Value("${app.account.locking.auto.conflict-threshold:0.2}")
+    private double conflictThreshold = 0.2;
+
+    @Value("${app.account.locking.auto.min-samples:20}")
+    private int minSamples = 20;
+
+    // 전체 낙관적 락 충돌 횟수
+    private final LongAdder conflictCount = new LongAdder();
+
+    private final Map<Long, ConflictStats> conflictStats = Collections.synchronizedMap(
+            new LinkedHashMap<Long, ConflictStats>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, ConflictStats> eldest) {
+                    return size() > MAX_TRACKED_ACCOUNTS;
+                }
+            });
+
+    /**
+     * 잔액 변경 작업 하나를 락 전략에 맞게 실행합니다.
+     *
+     * @param accountId 락 전략을 결정할 기준 계좌 ID (이체의 경우 송금인 계좌)
+     * @param operation 전달받은 LockModeType 으로 계좌를 조회하여 변경하는 작업
+     * @return 작업 결과
+     * @throws Throwable 작업 중 발생한 비즈니스 예외, 또는 재시도 후에도 해소되지 않은 충돌
+     */
+    public <T> T execute(long accountId, AccountOperation<T> operation) throws Throwable {
+        if (transactionManager == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return operation.run(LockModeType.PESSIMISTIC_WRITE);
+        }
+
+        for (int attempt = 0; ; attempt++) {
+            LockModeType lockMode = attempt < maxRetries ? this.lockModeFor(accountId) : LockModeType.PESSIMISTIC_WRITE;
+            try {
+                T result = this.runInTransaction(() -> operation.run(lockMode));
+                this.record(accountId, false);
+                return result;
+            } catch (OptimisticLockingFailureException ex) {
+                conflictCount.increment();
+                this.record(accountId, true);
+                if (attempt >= maxRetries) {
+                    throw ex;
+                }
+                log.debug("계좌 {} 낙관적 락 충돌, 재시도 {}/{}", accountId, attempt + 1, maxRetries);
+                this.backoff(attempt);
+            }
+        }
+    }
+
+    /**
+     * 락 전략과 무관한 작업(조건부 UPDATE 처럼 그 자체로 원자적인 작업)을 트랜잭션 안에서 한 번 실행합니다.
+     * 이미 진행 중인 트랜잭션이 있으면 그 트랜잭션에 참여합니다.
+     *
+     * @param operation 실행할 작업
+     * @return 작업 결과
+     * @throws Throwable 작업 중 발생한 예외 (체크 예외도 롤백됩니다)
+     */
+    public <T> T executeInTransaction(TransactionalOperation<T> operation) throws Throwable {
+        if (transactionManager == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return operation.run();
+        }
+        return this.runInTransaction(operation);
+    }
+
+    /**
+     * 현재 전략과 계좌의 충돌 이력으로 조회 시 사용할 락 모드를 결정합니다.
+     */
+    public LockModeType lockModeFor(long accountId) {
+        return switch (strategy) {
+            case PESSIMISTIC -> LockModeType.PESSIMISTIC_WRITE;
+            case OPTIMISTIC -> LockModeType.OPTIMISTIC;
+            case AUTO -> this.isContended(accountId) ? LockModeType.PESSIMISTIC_WRITE : LockModeType.OPTIMISTIC;
+        };
+    }
+
+    /**
+     * 계좌의 최근 충돌률이 임계치를 넘었는지 여부를 반환합니다.
+     */
+    public boolean isContended(long accountId) {
+        ConflictStats stats = conflictStats.get(accountId);
+        return stats != null && stats.conflictRate(minSamples) >= conflictThreshold;
+    }
+
+    /**
+     * 애플리케이션 시작 후 발생한 낙관적 락 충돌 횟수를 반환합니다.
+     */
+    public long getConflictCount() {
+        return conflictCount.sum();
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    private <T> T runInTransaction(TransactionalOperation<T> operation) throws Throwable {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        try {
+            return template.execute(status -> {
+                try {
+                    return operation.run();
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    // 체크 예외도 롤백되도록 감싸서 던진 뒤 밖에서 원래 예외로 복원합니다.
+                    throw new OperationFailure(ex);
+                }
+            });
+        } catch (OperationFailure ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private void record(long accountId, boolean conflicted) {
+        if (strategy != LockingStrategy.AUTO) {
+            return;
+        }
+        conflictStats.computeIfAbsent(accountId, id -> new ConflictStats()).record(conflicted);
+    }
+
+    // 동시에 충돌한 요청들이 같은 시점에 재시도하지 않도록 지터를 포함한 지수 백오프를 적용합니다.
+    private void backoff(int attempt) {
+        long maxDelayMillis = 1L << Math.min(attempt + 1, 6);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxDelayMillis + 1));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 전달받은 락 모드로 계좌를 조회하여 변경하는 작업.
+     */
+    @FunctionalInterface
+    public interface AccountOperation<T> {
+        T run(LockModeType lockMode) throws Throwable;
+    }
+
+    /**
+     * 트랜잭션 안에서 실행할 작업.
+     */
+    @FunctionalInterface
+    public interface TransactionalOperation<T> {
+        T run() throws Throwable;
+    }
+
+    /**
+     * 계좌별 시도/충돌 횟수. 일정 횟수마다 절반으로 줄여 최근 경향이 더 크게 반영되도록 합니다.
+     */
+    private static class ConflictStats {
+
+        private static final int DECAY_WINDOW = 200;
+
+        private int attempts;
+        private int conflicts;
+
+        synchronized void record(boolean conflicted) {
+            attempts++;
+            if (conflicted) {
+                conflicts++;
+            }
+            if (attempts >= DECAY_WINDOW) {
+                attempts /= 2;
+                conflicts /= 2;
+            }
+        }
+
+        synchronized double conflictRate(int minSamples) {
+            if (attempts < minSamples) {
+                return 0.0;
+            }
+            return (double) conflicts / attempts;
+        }
+    }
+
+    private static class OperationFailure extends RuntimeException {
+        OperationFailure(Throwable cause) {
+            super(cause);
+        }
+    }
+}
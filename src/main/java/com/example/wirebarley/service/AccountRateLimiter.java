@@ -0,0 +1,114 @@
+package com.example.wirebarley.service;
+
+import com.example.wirebarley.config.RateLimitProperties;
+import com.example.wirebarley.exception.TooManyRequestsException;
+import com.example.wirebarley.util.TokenBucket;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계좌 x 엔드포인트 단위로 요청 빈도를 제한하는 서비스 클래스.
+ * <p>
+ * 한 계좌로 몰리는 요청이 계좌 로우 락 앞에 줄을 서서 Tomcat 스레드와 커넥션을 붙잡지 않도록,
+ * 트랜잭션을 시작하기 전에 락 없는 토큰 버킷으로 초과 요청을 걸러냅니다.
+ * 버킷은 최대 maxBuckets 개까지만 유지하며, 가득 찬(오래 사용되지 않은) 버킷부터 제거합니다.
+ * </p>
+ */
+@Service
+public class AccountRateLimiter {
+
+    @Autowired
+    private RateLimitProperties properties;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private final Map<BucketKey, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * 요청 1건을 허용할지 확인합니다.
+     *
+     * @param accountId 계좌 ID
+     * @param endpoint 엔드포인트 이름 (AccountController 메소드 이름)
+     * @throws TooManyRequestsException 허용된 빈도를 초과한 경우
+     */
+    public void acquire(long accountId, String endpoint) {
+        RateLimitProperties.Limit limit = properties.getEndpoints().get(endpoint);
+        if (!properties.isEnabled() || limit == null) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        BucketKey key = new BucketKey(accountId, endpoint);
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= properties.getMaxBuckets()) {
+                this.evictFullBuckets(now);
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now));
+        }
+
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos > 0) {
+            if (meterRegistry != null) {
+                meterRegistry.counter("account.rate_limit.rejected", "endpoint", endpoint).increment();
+            }
+            long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            throw new TooManyRequestsException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+    }
+
+    /**
+     * 현재 추적 중인 버킷 중 거절 횟수가 많은 계좌를 반환합니다.
+     *
+     * @param limit 최대 개수
+     * @return "계좌ID:엔드포인트" → 거절 횟수 (거절 횟수 내림차순)
+     */
+    public Map<String, Long> topRejected(int limit) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        buckets.entrySet().stream()
+                .filter(entry -> entry.getValue().getRejectedCount() > 0)
+                .sorted(Comparator.comparingLong((Map.Entry<BucketKey, TokenBucket> entry) -> entry.getValue().getRejectedCount()).reversed())
+                .limit(limit)
+                .forEach(entry -> result.put(entry.getKey().accountId() + ":" + entry.getKey().endpoint(), entry.getValue().getRejectedCount()));
+        return result;
+    }
+
+    public int getBucketCount() {
+        return buckets.size();
+    }
+
+    /**
+     * 주기적으로 가득 찬 버킷을 제거합니다. 가득 찬 버킷은 새로 만든 버킷과 같으므로 제한 결과에 영향이 없습니다.
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.sweep-interval-ms:60000}")
+    public void sweep() {
+        this.evictFullBuckets(System.nanoTime());
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    private void evictFullBuckets(long now) {
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+        // 모두 사용 중인 버킷이라면 상한을 지키기 위해 임의의 버킷을 제거합니다. (해당 계좌는 잠시 제한이 느슨해질 수 있음)
+        Iterator<BucketKey> iterator = buckets.keySet().iterator();
+        while (buckets.size() >= properties.getMaxBuckets() && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record BucketKey(long accountId, String endpoint) {
+    }
+}
@@ -1,41 +1,92 @@
 package com.example.wirebarley.service;
 
+import com.example.wirebarley.config.ShardContext;
 import com.example.wirebarley.domain.Account;
+import com.example.wirebarley.domain.Outcome;
 import com.example.wirebarley.domain.Transaction;
 import com.example.wirebarley.domain.User;
 import com.example.wirebarley.dto.CreateAccountRequestDTO;
 import com.example.wirebarley.dto.TransferRequestDTO;
 import com.example.wirebarley.enumeration.AccountStatus;
+import com.example.wirebarley.enumeration.Rejection;
 import com.example.wirebarley.enumeration.TransactionType;
-import com.example.wirebarley.exception.AccountNotFoundException;
+import com.example.wirebarley.exception.BadRequestException;
+import com.example.wirebarley.exception.NotFoundException;
+import com.example.wirebarley.exception.UnprocessableEntityException;
 import com.example.wirebarley.repository.AccountRepository;
-import com.example.wirebarley.util.DateUtil;
+import com.example.wirebarley.repository.UserRepository;
+import com.example.wirebarley.util.BusinessClock;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
  * 계좌 관련 비즈니스 로직을 처리하는 서비스 클래스.
  * 계좌 생성, 조회, 삭제, 입출금, 이체 등의 기능을 담당합니다.
+ * 잔액을 변경하는 입금/출금/이체는 {@link AccountLockManager} 가 정한 락 전략과 트랜잭션 안에서 실행됩니다.
+ * 샤딩을 사용하면 각 작업은 계좌 ID 로 계산한 샤드에서 실행되며, 수취인이 다른 샤드에 있는 이체는 {@link CrossShardTransferService} 가 처리합니다.
  */
 @Service
 public class AccountService {
 
+    // 이체 수수료율 (1%, 소수점 버림)
+    static final BigDecimal TRANSFER_FEE_RATE = new BigDecimal("0.01");
+
     @Autowired
     private UserService userService;
 
     @Autowired
     private AccountRepository accountRepository;
 
+    @Autowired
+    private UserRepository userRepository;
+
     @Autowired
     private TransactionService transactionService;
 
+    @Autowired
+    private AccountLockManager accountLockManager;
+
+    @Autowired
+    private BusinessClock businessClock;
+
+    @Autowired
+    private AccountVersionRegistry accountVersionRegistry;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private CrossShardTransferService crossShardTransferService;
+
+    @Autowired
+    private VelocityService velocityService;
+
+    @Autowired
+    private CounterpartyService counterpartyService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    // true 이면 입금/출금을 계좌 조회 없이 조건부 UPDATE 한 번으로 처리합니다. (운영 설정과 같이 기본값은 true)
+    @Value("${app.account.conditional-update.enabled:true}")
+    private boolean conditionalUpdateEnabled;
+
     /**
      * 계좌 ID로 계좌 정보를 조회합니다. 결과는 Optional로 반환됩니다.
      * 계좌 존재 여부를 확인하고 싶을 때 예외 없이 안전하게 사용합니다.
@@ -45,7 +96,9 @@ public class AccountService {
      */
     @Transactional
     public Optional<Account> oFindById(Long accountId) {
-        return accountRepository.findById(accountId);
+        try (ShardContext.Scope scope = ShardContext.enter(shardRouter.shardOfId(accountId))) {
+            return accountRepository.findById(accountId);
+        }
     }
 
     /**
@@ -58,31 +111,71 @@ public class AccountService {
      */
     @Transactional
     public Account findById(long accountId) throws Throwable {
-        return this.oFindById(accountId).orElseThrow(AccountNotFoundException::new);
+        return this.oFindById(accountId).orElseThrow(Rejection.ACCOUNT_NOT_FOUND::exception);
+    }
+
+    /**
+     * 사용자의 모든 계좌를 소유자 정보와 함께 조회합니다.
+     * 계좌와 사용자를 한 번의 fetch join 쿼리로 가져오므로 계좌 수와 무관하게 쿼리 수가 일정합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 계좌 ID 오름차순 목록. 계좌가 없거나 존재하지 않는 사용자라면 빈 목록을 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<Account> findAllByUserId(long userId) {
+        try (ShardContext.Scope scope = ShardContext.enter(shardRouter.shardOfId(userId))) {
+            return accountRepository.findAllWithUserByUserId(userId);
+        }
+    }
+
+    /**
+     * 여러 계좌를 소유자 정보와 함께 한 번의 쿼리로 조회합니다. 락을 걸지 않는 조회 전용 메소드입니다.
+     * 계좌가 여러 샤드에 나뉘어 있으면 샤드마다 한 번씩 조회합니다.
+     *
+     * @param accountIds 조회할 계좌 ID 목록
+     * @return 계좌 ID 오름차순 목록. 존재하지 않는 ID 는 결과에서 제외됩니다.
+     */
+    @Transactional(readOnly = true)
+    public List<Account> findAllByIds(Collection<Long> accountIds) {
+        if (accountIds == null || accountIds.isEmpty()) {
+            return List.of();
+        }
+        return shardRouter.gather(shardRouter.groupByShard(accountIds), accountRepository::findAllWithUserByIdIn)
+                .stream()
+                .sorted(Comparator.comparing(Account::getId))
+                .toList();
     }
 
     /**
      * 새로운 계좌를 생성합니다.
      * 요청 정보(DTO)를 바탕으로 사용자를 찾거나 새로 생성한 후, 해당 사용자에게 새 계좌를 할당합니다.
+     * 샤딩을 사용하면 전화번호로 정한 사용자의 샤드에 저장하고, 계좌번호 앞에 샤드 접두어(S + 샤드 번호 두 자리)를 넣습니다.
      *
      * @param requestDTO 계좌 생성을 위한 사용자 정보 및 패스워드가 담긴 DTO
      * @return 생성되고 데이터베이스에 저장된 Account 엔티티
      */
     @Transactional
     public Account createAccount(CreateAccountRequestDTO requestDTO) {
-        // DTO 정보로 사용자를 찾거나 새로 생성합니다.
-        User user = userService.findOrCreateUser(requestDTO);
-        // 충돌 가능성이 매우 낮은 고유한 계좌번호를 생성합니다.
-        String accountNumber = this.generateAccountNumber();
-
-        Account account = new Account();
-        account.setUser(user);
-        account.setBalance(0L); // 초기 잔액은 0원
-        account.setAccountNumber(accountNumber);
-        account.setPassword(requestDTO.getPassword());
-        account.setStatus(AccountStatus.ACTIVE); // 기본 상태는 활성
-
-        return accountRepository.save(account);
+        int shard = shardRouter.shardOfPhone(requestDTO.getPhone());
+        try (ShardContext.Scope scope = ShardContext.enter(shard)) {
+            // DTO 정보로 사용자를 찾거나 새로 생성합니다.
+            User user = userService.findOrCreateUser(requestDTO);
+            // 충돌 가능성이 매우 낮은 고유한 계좌번호를 생성합니다.
+            String accountNumber = this.generateAccountNumber(shardRouter.accountNumberPrefix(shard));
+
+            Account account = new Account();
+            account.setUser(user);
+            account.setBalance(0L); // 초기 잔액은 0원
+            account.setAccountNumber(accountNumber);
+            account.setPassword(requestDTO.getPassword());
+            account.setStatus(AccountStatus.ACTIVE); // 기본 상태는 활성
+            account.setLastBalanceChangedAt(businessClock.now()); // 휴면 기간은 개설 시각부터 계산
+
+            Account saved = accountRepository.save(account);
+            // 자주 이체한 상대방 목록 로우를 미리 만들어 두어, 이체할 때 바로 로우 락을 잡을 수 있게 합니다.
+            counterpartyService.createFor(saved.getId());
+            return saved;
+        }
     }
 
     /**
@@ -95,10 +188,32 @@ public class AccountService {
      */
     @Transactional
     public void deleteAccount(long accountId) throws Throwable {
-        Account account = this.findById(accountId);
-        // 도메인 로직에 삭제를 위임. 잔액이 남아있거나 비활성 상태면 예외 발생.
-        account.delete();
-        accountRepository.save(account);
+        try (ShardContext.Scope scope = ShardContext.enter(shardRouter.shardOfId(accountId))) {
+            Account account = this.findById(accountId);
+            // 도메인 로직에 삭제를 위임. 잔액이 남아있거나 비활성 상태면 예외 발생.
+            account.delete();
+            accountRepository.save(account);
+            accountVersionRegistry.invalidateAfterCommit(accountId);
+        }
+    }
+
+    /**
+     * 휴면(DORMANT) 계좌를 다시 활성화합니다. 본인 확인을 마친 고객의 요청으로 호출합니다.
+     * 활성화 시각부터 휴면 전환 기간을 다시 계산하므로, 바로 다시 휴면으로 전환되지 않습니다.
+     *
+     * @param accountId 활성화할 계좌의 ID
+     * @return 활성화된 Account 엔티티
+     * @throws Throwable 휴면 상태가 아닌 계좌이면 AccountNotActiveException
+     */
+    @Transactional
+    public Account reactivateAccount(long accountId) throws Throwable {
+        try (ShardContext.Scope scope = ShardContext.enter(shardRouter.shardOfId(accountId))) {
+            Account account = this.findById(accountId);
+            account.reactivate(businessClock.now());
+            accountRepository.save(account);
+            accountVersionRegistry.invalidateAfterCommit(accountId);
+            return account;
+        }
     }
 
     /**
@@ -109,11 +224,20 @@ public class AccountService {
      * @return 입금 처리 후의 Account 엔티티
      * @throws Throwable 도메인 객체의 입금 로직(0원 이하 입금 시도 등)에서 예외 발생 시
      */
-    @Transactional
     public Account deposit(long accountId, long amount) throws Throwable {
-        Account account = this.findById(accountId);
+        try (ShardContext.Scope scope = ShardContext.enter(shardRouter.shardOfId(accountId))) {
+            if (conditionalUpdateEnabled) {
+                return accountLockManager.executeInTransaction(() -> this.conditionalDeposit(accountId, amount));
+            }
+            return accountLockManager.execute(accountId, lockMode -> this.deposit(accountId, amount, lockMode));
+        }
+    }
+
+    private Account deposit(long accountId, long amount, LockModeType lockMode) throws Throwable {
+        Account account = this.findForUpdate(accountId, lockMode);
         long prevBalance = account.getBalance(); // 거래 전 잔액 기록
-        account.deposit(amount); // 도메인 객체에 입금을 위임
+        account.deposit(amount, businessClock.now()); // 도메인 객체에 입금을 위임
+        accountVersionRegistry.invalidateAfterCommit(accountId);
 
         // 입금 거래 내역 생성
         transactionService.createTransaction(account, TransactionType.DEPOSIT, amount, prevBalance);
@@ -129,23 +253,31 @@ public class AccountService {
      * @return 출금 처리 후의 Account 엔티티
      * @throws Throwable 잔액 부족, 한도 초과 등 출금 로직에서 예외 발생 시
      */
-    @Transactional
     public Account withdraw(Long accountId, Long amount) throws Throwable {
-        Account account = this.findById(accountId);
+        try (ShardContext.Scope scope = ShardContext.enter(shardRouter.shardOfId(accountId))) {
+            if (conditionalUpdateEnabled) {
+                return accountLockManager.executeInTransaction(() -> this.conditionalWithdraw(accountId, amount));
+            }
+            return accountLockManager.execute(accountId, lockMode -> this.withdraw(accountId, amount, lockMode));
+        }
+    }
+
+    private Account withdraw(long accountId, long amount, LockModeType lockMode) throws Throwable {
+        Account account = this.findForUpdate(accountId, lockMode);
         long prevBalance = account.getBalance();
 
-        User user = account.getUser();
-        long userId = user.getId();
-        long dailyWithdrawalLimit = user.getDailyWithdrawalLimit();
+        long userId = account.getUser().getId();
+        long dailyWithdrawalLimit = userRepository.findDailyWithdrawalLimitById(userId);
 
         // 일일 출금 한도를 초과하는지 확인
         long todayRemainingWithdrawalLimit = this.getTodayRemainingWithdrawalLimit(userId, dailyWithdrawalLimit, amount);
         if (todayRemainingWithdrawalLimit < 0) {
             String message = String.format("일일 출금 한도 %d원을 초과했습니다.", dailyWithdrawalLimit);
-            throw new Exception(message);
+            throw Rejection.DAILY_WITHDRAWAL_LIMIT_EXCEEDED.exception(message);
         }
 
-        account.withdraw(amount); // 도메인 객체에 출금을 위임
+        account.withdraw(amount, businessClock.now()); // 도메인 객체에 출금을 위임
+        accountVersionRegistry.invalidateAfterCommit(accountId);
         // 출금 거래 내역 생성
         transactionService.createTransaction(account, TransactionType.WITHDRAW, amount, prevBalance);
         return account;
@@ -154,71 +286,167 @@ public class AccountService {
     /**
      * 특정 계좌에서 다른 계좌로 금액을 이체합니다.
      * 이체 한도 확인, 수수료(1%) 계산, 양쪽 계좌의 입출금 처리, 거래 기록 2건 생성을 모두 처리합니다.
+     * 수취인 계좌가 다른 샤드에 있으면 출금과 입금을 각 샤드에서 나누어 처리합니다. ({@link CrossShardTransferService})
+     * 이체 빈도 규칙({@link VelocityService})은 계좌 락을 잡기 전에 메모리에서 확인합니다.
      *
      * @param accountId 송금인 계좌 ID
      * @param requestDTO 수취인 계좌번호와 이체 금액이 담긴 DTO
      * @return 이체 처리 후의 송금인 Account 엔티티
-     * @throws Throwable 한도 초과, 잔액 부족, 수취인 계좌 없음 등 이체 로직에서 예외 발생 시
+     * @throws Throwable 한도 초과, 잔액 부족, 수취인 계좌 없음, 이체 빈도 초과 등 이체 로직에서 예외 발생 시
      */
-    @Transactional
     public Account transfer (Long accountId, TransferRequestDTO requestDTO) throws Throwable {
-        Account fromAccount = this.findById(accountId);
-        User user = fromAccount.getUser();
-        long userId = user.getId();
+        velocityService.check(accountId, requestDTO.getCounterpartyAccountNumber());
+        return this.transfer(accountId, requestDTO, true);
+    }
+
+    /**
+     * 자동이체, 대량 지급처럼 시스템이 실행하는 이체 한 건을 처리합니다.
+     * 한도/수수료 규칙은 {@link #transfer(Long, TransferRequestDTO)} 와 같지만, 사용자의 이체 빈도 규칙은 확인하지 않고 카운터에도 기록하지 않습니다.
+     *
+     * @param accountId 송금인 계좌 ID
+     * @param requestDTO 수취인 계좌번호와 이체 금액이 담긴 DTO
+     * @return 이체 처리 후의 송금인 Account 엔티티
+     * @throws Throwable 한도 초과, 잔액 부족, 수취인 계좌 없음 등 이체 로직에서 예외 발생 시
+     */
+    public Account systemTransfer(long accountId, TransferRequestDTO requestDTO) throws Throwable {
+        return this.transfer(accountId, requestDTO, false);
+    }
+
+    /**
+     * 한 송금인 계좌에서 여러 건을 이체합니다. (자동이체, 대량 지급 등)
+     * 같은 샤드의 수취인에게 보내는 이체는 송금인 계좌를 한 번만 잠그고 하나의 트랜잭션에서 순서대로 처리하며,
+     * 각 이체는 {@link #transfer(Long, TransferRequestDTO)} 와 같은 한도/수수료 규칙을 따르며, 시스템 이체이므로 이체 빈도 카운터에는 기록하지 않습니다.
+     * 거절된 이체(잔액 부족, 한도 초과, 수취인 없음 등)는 예외 대신 거절 결과({@link Outcome})로 받아 건너뛰고 나머지를 계속 처리합니다.
+     * 다른 샤드의 수취인에게 보내는 이체는 한 트랜잭션으로 처리할 수 없으므로 그 뒤에 한 건씩 처리합니다.
+     *
+     * @param accountId 송금인 계좌 ID
+     * @param requests 이체 요청 목록
+     * @return 요청과 같은 순서의 거절 사유 목록 (성공한 이체는 null)
+     * @throws Throwable 송금인 계좌가 없거나, 거절이 아닌 오류로 트랜잭션이 실패한 경우
+     */
+    public List<String> transferAll(long accountId, List<TransferRequestDTO> requests) throws Throwable {
+        int shard = shardRouter.shardOfId(accountId);
+        String[] rejections = new String[requests.size()];
+        List<Integer> sameShard = new ArrayList<>();
+        List<Integer> crossShard = new ArrayList<>();
+        for (int index = 0; index < requests.size(); index++) {
+            boolean local = shard == shardRouter.shardOfAccountNumber(requests.get(index).getCounterpartyAccountNumber());
+            (local ? sameShard : crossShard).add(index);
+        }
+
+        if (!sameShard.isEmpty()) {
+            try (ShardContext.Scope scope = ShardContext.enter(shard)) {
+                accountLockManager.execute(accountId, lockMode -> {
+                    // 낙관적 락 충돌로 재시도하면 이전 시도의 결과는 롤백되었으므로 지웁니다.
+                    Arrays.fill(rejections, null);
+                    Account fromAccount = this.findForUpdate(accountId, lockMode);
+                    for (int index : sameShard) {
+                        Outcome<Void> outcome = this.tryTransfer(fromAccount, requests.get(index), false);
+                        if (outcome.isRejected()) {
+                            rejections[index] = outcome.getMessage();
+                        }
+                    }
+                    return fromAccount;
+                });
+            }
+        }
+        for (int index : crossShard) {
+            try {
+                crossShardTransferService.transfer(accountId, requests.get(index), false);
+            } catch (BadRequestException | NotFoundException | UnprocessableEntityException ex) {
+                rejections[index] = ex.getMessage();
+            }
+        }
+        return Arrays.asList(rejections);
+    }
+
+    /**
+     * 수취인 계좌가 있는 샤드에 따라 이체 한 건을 처리합니다.
+     *
+     * @param userInitiated 사용자가 직접 요청한 이체이면 true. false 이면 자주 이체한 상대방 목록과 이체 빈도 카운터에 기록하지 않습니다.
+     */
+    private Account transfer(long accountId, TransferRequestDTO requestDTO, boolean userInitiated) throws Throwable {
+        int shard = shardRouter.shardOfId(accountId);
+        if (shard != shardRouter.shardOfAccountNumber(requestDTO.getCounterpartyAccountNumber())) {
+            return crossShardTransferService.transfer(accountId, requestDTO, userInitiated);
+        }
+        try (ShardContext.Scope scope = ShardContext.enter(shard)) {
+            return accountLockManager.execute(accountId, lockMode -> {
+                Account fromAccount = this.findForUpdate(accountId, lockMode);
+                this.tryTransfer(fromAccount, requestDTO, userInitiated).orElseThrow();
+                return fromAccount;
+            });
+        }
+    }
+
+    /**
+     * 잠근(또는 버전으로 검증할) 송금인 계좌에서 이체를 시도합니다.
+     * 거절 사유가 있으면 잔액을 변경하기 전에 예외 대신 거절 결과를 반환합니다.
+     *
+     * @param userInitiated 사용자가 직접 요청한 이체이면 true. false 이면 자주 이체한 상대방 목록과 이체 빈도 카운터에 기록하지 않습니다.
+     */
+    private Outcome<Void> tryTransfer(Account fromAccount, TransferRequestDTO requestDTO, boolean userInitiated) {
+        long userId = fromAccount.getUser().getId();
         long requestedAmount = requestDTO.getAmount();
 
-        long dailyTransferLimit = user.getDailyTransferLimit();
+        long dailyTransferLimit = userRepository.findDailyTransferLimitById(userId);
 
         // 일일 이체 한도를 초과하는지 확인
         long todayRemainingTransferLimit = this.getTodayRemainingTransferLimit(userId, dailyTransferLimit, requestedAmount);
         if (todayRemainingTransferLimit < 0) {
             String message = String.format("일일 이체 한도 %d원을 초과했습니다.", dailyTransferLimit);
-            throw new Exception(message);
+            return Outcome.rejected(Rejection.DAILY_TRANSFER_LIMIT_EXCEEDED, message);
         }
 
         // 수취인 계좌를 조회
         String counterpartyAccountNumber = requestDTO.getCounterpartyAccountNumber();
         Optional<Account> oTargetAccount = accountRepository.findByAccountNumber(counterpartyAccountNumber);
         if (oTargetAccount.isEmpty()) {
-            throw new Exception("존재하지 않는 계좌번호입니다.");
+            return Outcome.rejected(Rejection.COUNTERPARTY_NOT_FOUND);
         }
         Account toAccount = oTargetAccount.get();
 
+        // 휴면/해지된 수취인 계좌에는 입금할 수 없으므로 출금 전에 확인
+        Outcome<Void> receivable = toAccount.checkReceivable();
+        if (receivable.isRejected()) {
+            return receivable;
+        }
+
         // 이체 수수료(1%, 소수점 버림)를 계산
-        final BigDecimal feeRate = new BigDecimal("0.01");
-        long feeAmount = new BigDecimal(requestedAmount)
-                .multiply(feeRate)
-                .setScale(0, RoundingMode.DOWN)
-                .longValue();
+        final BigDecimal feeRate = TRANSFER_FEE_RATE;
+        long feeAmount = transferFeeOf(requestedAmount);
 
         long grossAmount = requestedAmount + feeAmount; // 수수료를 포함한 총 출금액
 
         // 1. 송금인 계좌에서 총 출금액(이체액+수수료)만큼 출금
-        long fromAccountPrevBalance = fromAccount.getBalance();
-        fromAccount.withdraw(grossAmount);
+        ZonedDateTime now = businessClock.now();
+        String yyyymmdd = businessClock.todayText();
 
-        ZonedDateTime now = DateUtil.now();
-        String yyyymmdd = DateUtil.yyyymmdd(now);
+        long fromAccountPrevBalance = fromAccount.getBalance();
+        Outcome<Void> withdrawn = fromAccount.tryWithdraw(grossAmount, now);
+        if (withdrawn.isRejected()) {
+            return withdrawn;
+        }
 
         // 2. 송금인의 '이체' 거래 기록 생성
         Transaction withdrawalTx = transactionService.createTransferTransaction(fromAccount,
                 TransactionType.TRANSFER, grossAmount, requestedAmount, feeRate, feeAmount,
-                fromAccountPrevBalance, toAccount, yyyymmdd);
+                fromAccountPrevBalance, toAccount, yyyymmdd, userInitiated);
 
         // 3. 수취인 계좌에 순수 이체액만큼 입금
         long toAccountPrevBalance = toAccount.getBalance();
-        toAccount.deposit(requestedAmount);
+        toAccount.deposit(requestedAmount, now);
+        accountVersionRegistry.invalidateAfterCommit(fromAccount.getId(), toAccount.getId());
 
         // 4. 수취인의 '입금' 거래 기록 생성
         Transaction depositTx = transactionService.createTransferTransaction(toAccount,
                 TransactionType.DEPOSIT, requestedAmount, requestedAmount, BigDecimal.ZERO, 0L,
-                toAccountPrevBalance, fromAccount, yyyymmdd);
+                toAccountPrevBalance, fromAccount, yyyymmdd, false);
 
         // 5. 두 거래 기록을 서로 연결
         withdrawalTx.setRelatedTransactionId(depositTx.getId());
         depositTx.setRelatedTransactionId(withdrawalTx.getId());
-
-        return fromAccount;
+        return Outcome.success();
     }
 
     /**
@@ -245,10 +473,123 @@ public class AccountService {
         return this.getTodayRemainingBalance(userId, dailyWithdrawalLimit, amount, TransactionType.WITHDRAW);
     }
 
+    /**
+     * 이체 금액에 대한 수수료(1%, 소수점 버림)를 계산합니다.
+     */
+    static long transferFeeOf(long amount) {
+        return new BigDecimal(amount)
+                .multiply(TRANSFER_FEE_RATE)
+                .setScale(0, RoundingMode.DOWN)
+                .longValue();
+    }
+
     // =============================================
     // ================== private ==================
     // =============================================
 
+    /**
+     * 조건부 UPDATE 로 입금합니다.
+     * 계좌를 먼저 잠그고 조회하는 대신 UPDATE 한 번으로 잔액을 변경하고, 변경된 계좌를 다시 읽어 거래 기록을 남깁니다.
+     * @param accountId 입금할 계좌의 ID
+     * @param amount 입금할 금액
+     * @return 입금 처리 후의 Account 엔티티
+     * @throws Throwable 0원 이하 입금, 계좌 없음, 비활성 계좌인 경우
+     */
+    private Account conditionalDeposit(long accountId, long amount) throws Throwable {
+        if (amount <= 0) {
+            throw Rejection.INVALID_DEPOSIT_AMOUNT.exception();
+        }
+        if (accountRepository.increaseBalance(accountId, amount, businessClock.now()) == 0) {
+            throw this.balanceUpdateRejection(accountId);
+        }
+        accountVersionRegistry.invalidateAfterCommit(accountId);
+
+        Account account = this.reload(accountId);
+        long postBalance = account.getBalance();
+        transactionService.createTransaction(accountId, TransactionType.DEPOSIT, amount, postBalance - amount, postBalance);
+        return account;
+    }
+
+    /**
+     * 조건부 UPDATE 로 출금합니다.
+     * 잔액이 충분할 때만 잔액을 감소시키며, 이 UPDATE 가 잡은 로우 락을 유지한 채 일일 한도를 확인합니다.
+     * 한도를 초과하면 예외가 발생하여 잔액 변경도 함께 롤백됩니다.
+     * @param accountId 출금할 계좌의 ID
+     * @param amount 출금할 금액
+     * @return 출금 처리 후의 Account 엔티티
+     * @throws Throwable 0원 이하 출금, 계좌 없음, 비활성 계좌, 잔액 부족, 한도 초과인 경우
+     */
+    private Account conditionalWithdraw(long accountId, long amount) throws Throwable {
+        if (amount <= 0) {
+            throw Rejection.INVALID_WITHDRAW_AMOUNT.exception();
+        }
+        if (accountRepository.decreaseBalance(accountId, amount, businessClock.now()) == 0) {
+            throw this.balanceUpdateRejection(accountId);
+        }
+        accountVersionRegistry.invalidateAfterCommit(accountId);
+
+        Account account = this.reload(accountId);
+        long userId = account.getUser().getId();
+        long dailyWithdrawalLimit = userRepository.findDailyWithdrawalLimitById(userId);
+
+        // 일일 출금 한도를 초과하는지 확인
+        long todayRemainingWithdrawalLimit = this.getTodayRemainingWithdrawalLimit(userId, dailyWithdrawalLimit, amount);
+        if (todayRemainingWithdrawalLimit < 0) {
+            String message = String.format("일일 출금 한도 %d원을 초과했습니다.", dailyWithdrawalLimit);
+            throw Rejection.DAILY_WITHDRAWAL_LIMIT_EXCEEDED.exception(message);
+        }
+
+        long postBalance = account.getBalance();
+        transactionService.createTransaction(accountId, TransactionType.WITHDRAW, amount, postBalance + amount, postBalance);
+        return account;
+    }
+
+    /**
+     * 조건부 UPDATE 로 변경한 계좌를 읽습니다.
+     * 같은 트랜잭션에서 이미 읽어 둔 계좌라면 UPDATE 결과가 반영되지 않은 상태이므로 이 로우만 다시 읽고,
+     * 그렇지 않으면 처음 사용할 때 조회합니다. 영속성 컨텍스트의 다른 엔티티는 그대로 둡니다.
+     * @param accountId 계좌 ID
+     * @return UPDATE 결과가 반영된 Account 엔티티
+     */
+    private Account reload(long accountId) {
+        Account account = entityManager.getReference(Account.class, accountId);
+        if (Hibernate.isInitialized(account)) {
+            entityManager.refresh(account);
+        }
+        return account;
+    }
+
+    /**
+     * 조건부 UPDATE 가 아무 로우도 변경하지 못한 이유를 확인하여 알맞은 예외를 반환합니다.
+     * @param accountId 계좌 ID
+     * @return 계좌 없음, 비활성 계좌, 잔액 부족 중 하나에 해당하는 예외
+     */
+    private RuntimeException balanceUpdateRejection(long accountId) {
+        Optional<Account> oAccount = accountRepository.findWithoutLockById(accountId);
+        if (oAccount.isEmpty()) {
+            return Rejection.ACCOUNT_NOT_FOUND.exception();
+        }
+        Account account = oAccount.get();
+        if (account.getStatus().isNotActive()) {
+            return Rejection.ACCOUNT_NOT_ACTIVE.exception();
+        }
+        return Rejection.INSUFFICIENT_BALANCE.exception();
+    }
+
+    /**
+     * 잔액 변경을 위해 계좌를 조회합니다.
+     * PESSIMISTIC_WRITE 이면 SELECT ... FOR UPDATE 로, 그 외에는 락 없이 조회하고 커밋 시 버전으로 충돌을 검증합니다.
+     * @param accountId 계좌 ID
+     * @param lockMode AccountLockManager 가 결정한 락 모드
+     * @return 조회된 Account 엔티티
+     */
+    private Account findForUpdate(long accountId, LockModeType lockMode) {
+        Optional<Account> oAccount = lockMode == LockModeType.PESSIMISTIC_WRITE
+                ? accountRepository.findById(accountId)
+                : accountRepository.findForOptimisticUpdateById(accountId);
+        return oAccount.orElseThrow(Rejection.ACCOUNT_NOT_FOUND::exception);
+    }
+
     /**
      * 특정 거래 유형에 대한 오늘의 남은 한도를 계산하는 내부 메소드.
      * @param userId 사용자 ID
@@ -258,8 +599,7 @@ public class AccountService {
      * @return 남은 한도 금액
      */
     private long getTodayRemainingBalance(Long userId, Long limit, Long amount, TransactionType type) {
-        ZonedDateTime now = DateUtil.now();
-        String yyyymmdd = DateUtil.yyyymmdd(now);
+        String yyyymmdd = businessClock.todayText();
         // 오늘 해당 유형으로 거래한 총액을 조회
         long sumOfNetAmount = transactionService.sumOfNetAmountBy(userId, type, yyyymmdd);
         // (일일 한도) - (오늘 이미 쓴 돈 + 지금 쓰려는 돈)
@@ -269,16 +609,17 @@ public class AccountService {
     /**
      * 고유한 16자리 계좌번호를 생성합니다.
      * UUID를 기반으로 하여 충돌 확률이 매우 낮습니다.
+     * @param prefix 계좌번호 앞에 붙일 샤드 번호 (샤딩을 사용하지 않으면 빈 문자열)
      * @return 생성된 16자리 영문 대문자+숫자 조합의 계좌번호
      */
-    private String generateAccountNumber() {
+    private String generateAccountNumber(String prefix) {
         // 1. UUID 생성 (예: 550e8400-e29b-41d4-a716-446655440000)
         String uuid = UUID.randomUUID().toString();
 
         // 2. 하이픈 제거 (예: 550e8400e29b41d4a716446655440000)
         String noHyphenUuid = uuid.replaceAll("-", "");
 
-        // 3. 원하는 길이만큼 잘라내서 반환 (예: 앞 16자리)
-        return noHyphenUuid.substring(0, 16).toUpperCase();
+        // 3. 원하는 길이만큼 잘라내서 반환 (예: 앞 16자리, 샤드 번호가 있으면 샤드 접두어 3자리 + 13자리)
+        return prefix + noHyphenUuid.substring(0, 16 - prefix.length()).toUpperCase();
     }
 }
\ No newline at end of file
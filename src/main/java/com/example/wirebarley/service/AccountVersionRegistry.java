@@ -0,0 +1,135 @@
+package com.example.wirebarley.service;
+
+import com.example.wirebarley.repository.AccountRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계좌별 최신 버전(@Version)을 메모리에 보관하여, 조건부 GET(If-None-Match)을 DB 조회 없이 판단할 수 있게 합니다.
+ * <p>
+ * 이 인스턴스에서 잔액이 변경되면 커밋 직후 해당 계좌의 버전을 지우고, 다음 조회 시 버전만 PK 로 다시 읽습니다.
+ * 다른 인스턴스에서 변경된 경우를 위해 항목은 ttl 동안만 신뢰하며, 최대 maxEntries 개까지만 보관합니다.
+ * </p>
+ */
+@Service
+public class AccountVersionRegistry {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Value("${app.etag.version-ttl-ms:1000}")
+    private long ttlMillis;
+
+    @Value("${app.etag.max-entries:100000}")
+    private int maxEntries;
+
+    private final Map<Long, VersionEntry> versions = new ConcurrentHashMap<>();
+
+    /**
+     * 계좌의 현재 버전을 반환합니다.
+     *
+     * @param accountId 계좌 ID
+     * @return 계좌 버전. 계좌가 없으면 빈 값
+     */
+    public OptionalLong versionOf(long accountId) {
+        Long version = this.versionsOf(List.of(accountId)).get(accountId);
+        return version == null ? OptionalLong.empty() : OptionalLong.of(version);
+    }
+
+    /**
+     * 여러 계좌의 현재 버전을 반환합니다. 메모리에 없거나 오래된 항목만 한 번의 쿼리로 읽습니다.
+     *
+     * @param accountIds 계좌 ID 목록
+     * @return 계좌 ID → 버전. 존재하지 않는 계좌는 제외됩니다.
+     */
+    public Map<Long, Long> versionsOf(Collection<Long> accountIds) {
+        long now = System.nanoTime();
+        long ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        Map<Long, Long> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long accountId : accountIds) {
+            VersionEntry entry = versions.get(accountId);
+            if (entry != null && now - entry.loadedAtNanos() < ttlNanos) {
+                result.put(accountId, entry.version());
+            } else {
+                missing.add(accountId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        if (versions.size() + missing.size() > maxEntries) {
+            this.evictExpired(now, ttlNanos);
+        }
+        for (Object[] row : shardRouter.gather(shardRouter.groupByShard(missing), accountRepository::findVersionsByIdIn)) {
+            long accountId = (Long) row[0];
+            long version = (Long) row[1];
+            versions.put(accountId, new VersionEntry(version, now));
+            result.put(accountId, version);
+        }
+        return result;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 계좌들의 버전을 지웁니다. 트랜잭션 밖이라면 바로 지웁니다.
+     * 커밋 전에 조회된 이전 버전이 남지 않도록 커밋 이후에 지웁니다.
+     *
+     * @param accountIds 잔액 등이 변경된 계좌 ID
+     */
+    public void invalidateAfterCommit(long... accountIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.invalidate(accountIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                invalidate(accountIds);
+            }
+        });
+    }
+
+    public int size() {
+        return versions.size();
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    private void invalidate(long... accountIds) {
+        for (long accountId : accountIds) {
+            versions.remove(accountId);
+        }
+    }
+
+    private void evictExpired(long now, long ttlNanos) {
+        versions.values().removeIf(entry -> now - entry.loadedAtNanos() >= ttlNanos);
+        // 모두 유효한 항목이라면 상한을 지키기 위해 임의의 항목을 제거합니다. (해당 계좌는 다음 조회 시 버전을 다시 읽음)
+        Iterator<Long> iterator = versions.keySet().iterator();
+        while (versions.size() >= maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record VersionEntry(long version, long loadedAtNanos) {
+    }
+}
@@ -0,0 +1,340 @@
+package com.example.wirebarley.service;
+
+import com.example.wirebarley.config.ShardContext;
+import com.example.wirebarley.domain.BalanceSnapshot;
+import com.example.wirebarley.domain.Transaction;
+import com.example.wirebarley.dto.BalanceAsOfDTO;
+import com.example.wirebarley.enumeration.Rejection;
+import com.example.wirebarley.repository.BalanceSnapshotRepository;
+import com.example.wirebarley.repository.TransactionRepository;
+import com.example.wirebarley.util.BusinessClock;
+import com.example.wirebarley.util.DateUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일별 마감 잔액 스냅샷을 만들고, 스냅샷으로 특정 시각의 잔액을 조회하는 클래스.
+ * <p>
+ * 특정 시각(asOf)의 잔액은 asOf 전날까지의 가장 최근 스냅샷 잔액에, 그 이후 asOf 까지 기록된 마지막 거래의 postBalance 를 반영한 값입니다.
+ * 스냅샷도 조회와 같은 기록 시각(created_at) 기준으로 그날 기록된 마지막 거래를 고릅니다.
+ * 거래 기록의 date 는 이체 취소처럼 나중에 기록되면서 원래 거래의 날짜를 물려받을 수 있어 시각 조회의 기준으로 쓰지 않습니다.
+ * 거래 기록은 스냅샷의 lastTransactionId 다음부터, asOf 당일 또는 이후의 첫 스냅샷의 lastTransactionId 까지만 (account_id, id) 인덱스로 찾으므로
+ * 계좌의 전체 거래 수와 무관하게 하루 분량 이내의 거래만 읽습니다.
+ * </p>
+ * 스냅샷이 없거나 늦게 만들어진 날짜가 있어도 찾는 거래 구간이 길어질 뿐 결과는 거래 원장과 같습니다.
+ */
+@Service
+public class BalanceSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceSnapshotService.class);
+
+    private static final String SELECT_ACCOUNTS_SQL = "SELECT id, account_number FROM account " +
+            "WHERE id > ? AND created_at <= ? ORDER BY id LIMIT ?";
+
+    private static final String SELECT_ACCOUNT_IDS_SQL = "SELECT id FROM account WHERE id > ? ORDER BY id LIMIT ?";
+
+    // 계좌별 [그날 0시, 다음날 0시) 에 기록된 마지막 거래
+    private static final String SELECT_CLOSING_SQL = "SELECT t.account_id, t.id, t.post_balance FROM transaction t " +
+            "JOIN (SELECT MAX(id) AS id FROM transaction " +
+            "WHERE account_id BETWEEN ? AND ? AND created_at >= ? AND created_at < ? GROUP BY account_id) m " +
+            "ON t.id = m.id";
+
+    private static final String DELETE_SNAPSHOT_SQL = "DELETE FROM balance_snapshot WHERE date = ? AND account_id BETWEEN ? AND ?";
+
+    private static final String INSERT_SNAPSHOT_SQL = "INSERT INTO balance_snapshot " +
+            "(account_id, date, balance, last_transaction_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    // 계좌별 date 이전의 가장 최근 스냅샷
+    private static final String SELECT_OPENING_SNAPSHOT_SQL = "SELECT s.account_id, s.balance, s.last_transaction_id FROM balance_snapshot s " +
+            "JOIN (SELECT account_id, MAX(date) AS date FROM balance_snapshot WHERE account_id BETWEEN ? AND ? AND date < ? GROUP BY account_id) m " +
+            "ON s.account_id = m.account_id AND s.date = m.date";
+
+    // 계좌별 date 이후(포함) 첫 스냅샷의 마지막 거래 ID (거래 ID 는 날짜순으로 증가하므로 MIN)
+    private static final String SELECT_UPPER_BOUND_SQL = "SELECT account_id, MIN(last_transaction_id) FROM balance_snapshot " +
+            "WHERE account_id BETWEEN ? AND ? AND date >= ? GROUP BY account_id";
+
+    @Autowired
+    private BalanceSnapshotRepository balanceSnapshotRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private BusinessClock businessClock;
+
+    @Autowired
+    private JobScheduler jobScheduler;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    // true 이면 매일 cron 시각에 전날의 마감 잔액 스냅샷을 만듭니다.
+    @Value("${app.balance-snapshot.enabled:false}")
+    private boolean enabled;
+
+    // 한 트랜잭션(한 쿼리)에서 처리하는 계좌 수
+    @Value("${app.balance-snapshot.chunk-size:500}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${app.balance-snapshot.cron:0 10 0 * * *}", zone = "Asia/Seoul")
+    public void scheduledSnapshot() {
+        if (!enabled) {
+            return;
+        }
+        String yesterday = DateUtil.yyyymmdd(businessClock.now().minusDays(1));
+        // 샤드 하나를 파티션 하나로 나누어 여러 인스턴스가 서로 다른 샤드를 처리합니다. (같은 날짜 같은 샤드는 한 번만 처리)
+        jobScheduler.runPartitioned("balance-snapshot", yesterday, shardRouter.shardCount(), shard -> this.snapshot(shard, yesterday));
+    }
+
+    /**
+     * 모든 샤드에서 date 의 마감 잔액 스냅샷을 만듭니다. 같은 날짜로 다시 실행하면 스냅샷을 다시 만듭니다.
+     *
+     * @param date 마감 일자 (yyyyMMdd)
+     * @return 스냅샷을 만든 계좌 수
+     */
+    public long snapshot(String date) {
+        long snapshots = 0L;
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            snapshots += this.snapshot(shard, date);
+        }
+        return snapshots;
+    }
+
+    /**
+     * 한 샤드에서 date 에 기록된(created_at) 거래가 있는 계좌의 마감 잔액 스냅샷을 만듭니다.
+     * 계좌 ID 순서로 chunk-size 개씩 나누어 청크마다 트랜잭션을 커밋합니다.
+     *
+     * @param shard 샤드 번호
+     * @param date 마감 일자 (yyyyMMdd). 오늘 이전이어야 합니다.
+     * @return 스냅샷을 만든 계좌 수
+     */
+    public long snapshot(int shard, String date) {
+        // 오늘 이후의 스냅샷은 마감 전 잔액이므로 만들지 않습니다. (이후 거래가 조회 구간에서 빠짐)
+        if (date.compareTo(businessClock.todayText()) >= 0) {
+            throw new IllegalArgumentException("마감된 날짜의 스냅샷만 만들 수 있습니다: " + date);
+        }
+        long startedAt = System.nanoTime();
+        long snapshots = 0L;
+        long lastAccountId = 0L;
+        while (true) {
+            long afterId = lastAccountId;
+            long[] result = shardRouter.inNewTransaction(shard, false, () -> this.snapshotChunk(afterId, date));
+            if (result == null) {
+                break;
+            }
+            lastAccountId = result[0];
+            snapshots += result[1];
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        if (meterRegistry != null) {
+            meterRegistry.counter("balance.snapshot.created").increment(snapshots);
+            meterRegistry.timer("balance.snapshot.duration").record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+        log.info("샤드 {} {} 마감 잔액 스냅샷 완료: {}건 ({}ms)", shard, date, snapshots, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        return snapshots;
+    }
+
+    /**
+     * 계좌의 asOf 시점 잔액을 조회합니다.
+     *
+     * @param accountId 계좌 ID
+     * @param asOf 조회 시각 (현재 이전)
+     * @return asOf 시점의 잔액과 그 잔액을 결정한 거래 ID
+     */
+    @Transactional(readOnly = true)
+    public BalanceAsOfDTO balanceAsOf(long accountId, ZonedDateTime asOf) throws Throwable {
+        this.validateAsOf(asOf);
+        accountService.findById(accountId);
+        String asOfDate = DateUtil.yyyymmdd(asOf.withZoneSameInstant(DateUtil.getZoneId()));
+
+        try (ShardContext.Scope scope = ShardContext.enter(shardRouter.shardOfId(accountId))) {
+            Optional<BalanceSnapshot> opening = balanceSnapshotRepository.findTopByAccountIdAndDateLessThanOrderByDateDesc(accountId, asOfDate);
+            long afterId = opening.map(BalanceSnapshot::getLastTransactionId).orElse(0L);
+            long untilId = balanceSnapshotRepository.findTopByAccountIdAndDateGreaterThanEqualOrderByDateAsc(accountId, asOfDate)
+                    .map(BalanceSnapshot::getLastTransactionId)
+                    .orElse(Long.MAX_VALUE);
+
+            List<Transaction> latest = transactionRepository.findLatestBetween(accountId, afterId, untilId, asOf, PageRequest.of(0, 1));
+            BalanceAsOfDTO.BalanceAsOfDTOBuilder builder = BalanceAsOfDTO.builder().accountId(accountId).asOf(asOf);
+            if (!latest.isEmpty()) {
+                return builder.balance(latest.get(0).getPostBalance()).transactionId(latest.get(0).getId()).build();
+            }
+            return opening.map(snapshot -> builder.balance(snapshot.getBalance()).transactionId(snapshot.getLastTransactionId()).build())
+                    .orElseGet(() -> builder.balance(0L).build());
+        }
+    }
+
+    /**
+     * asOf 이전에 개설된 모든 계좌의 asOf 시점 잔액을 CSV(accountId,accountNumber,balance,transactionId)로 씁니다.
+     * 샤드별로 계좌 ID 순서로 chunk-size 개씩 읽고, 청크마다 스냅샷 쿼리 두 번과 거래 기록 쿼리 한 번으로 잔액을 구해 바로 씁니다.
+     *
+     * @param asOf 조회 시각 (현재 이전)
+     * @param writer 결과를 쓸 대상. 청크마다 flush 합니다.
+     * @return 쓴 계좌 수
+     */
+    public long writeBalancesAsOf(ZonedDateTime asOf, Writer writer) throws IOException {
+        this.validateAsOf(asOf);
+        String asOfDate = DateUtil.yyyymmdd(asOf.withZoneSameInstant(DateUtil.getZoneId()));
+        Timestamp asOfTimestamp = Timestamp.from(asOf.toInstant());
+
+        writer.write("accountId,accountNumber,balance,transactionId\n");
+        long written = 0L;
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            long lastAccountId = 0L;
+            while (true) {
+                long afterId = lastAccountId;
+                List<BalanceRow> rows = shardRouter.inNewTransaction(shard, true,
+                        () -> this.balancesChunk(afterId, asOfDate, asOfTimestamp));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                StringBuilder chunk = new StringBuilder(rows.size() * 48);
+                for (BalanceRow row : rows) {
+                    chunk.append(row.accountId()).append(',')
+                            .append(row.accountNumber()).append(',')
+                            .append(row.balance()).append(',')
+                            .append(row.transactionId() == null ? "" : row.transactionId()).append('\n');
+                }
+                writer.write(chunk.toString());
+                writer.flush();
+                written += rows.size();
+                lastAccountId = rows.get(rows.size() - 1).accountId();
+            }
+        }
+        return written;
+    }
+
+    /**
+     * 조회 시각이 현재 이전인지 확인합니다. 스트리밍 응답을 시작하기 전에 확인할 때 사용합니다.
+     */
+    public void validateAsOf(ZonedDateTime asOf) {
+        if (asOf == null || asOf.isAfter(businessClock.now())) {
+            throw Rejection.INVALID_AS_OF.exception();
+        }
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    /**
+     * afterId 다음 계좌부터 chunk-size 개 계좌의 date 마감 잔액 스냅샷을 다시 만듭니다. 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @return [청크의 마지막 계좌 ID, 스냅샷 수]. 남은 계좌가 없으면 null
+     */
+    private long[] snapshotChunk(long afterId, String date) {
+        List<Long> accountIds = jdbcTemplate.queryForList(SELECT_ACCOUNT_IDS_SQL, Long.class, afterId, chunkSize);
+        if (accountIds.isEmpty()) {
+            return null;
+        }
+        long fromId = accountIds.get(0);
+        long toId = accountIds.get(accountIds.size() - 1);
+
+        ZonedDateTime startOfDay = LocalDate.parse(date, DateTimeFormatter.BASIC_ISO_DATE).atStartOfDay(DateUtil.getZoneId());
+        List<long[]> closings = jdbcTemplate.query(SELECT_CLOSING_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3)}, fromId, toId,
+                Timestamp.from(startOfDay.toInstant()), Timestamp.from(startOfDay.plusDays(1).toInstant()));
+        jdbcTemplate.update(DELETE_SNAPSHOT_SQL, date, fromId, toId);
+        Timestamp now = Timestamp.from(businessClock.now().toInstant());
+        jdbcTemplate.batchUpdate(INSERT_SNAPSHOT_SQL, closings, closings.size(), (ps, closing) -> {
+            ps.setLong(1, closing[0]);
+            ps.setString(2, date);
+            ps.setLong(3, closing[2]);
+            ps.setLong(4, closing[1]);
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+        return new long[]{toId, closings.size()};
+    }
+
+    /**
+     * afterId 다음 계좌부터 chunk-size 개 계좌의 asOf 시점 잔액을 구합니다. 트랜잭션 안에서 호출해야 합니다.
+     * 계좌마다 (전날까지의 마지막 스냅샷 거래 ID, asOf 당일 이후 첫 스냅샷 거래 ID] 구간을 OR 로 묶어 거래 기록을 한 번에 찾습니다.
+     */
+    private List<BalanceRow> balancesChunk(long afterId, String asOfDate, Timestamp asOf) {
+        List<Object[]> accounts = jdbcTemplate.query(SELECT_ACCOUNTS_SQL,
+                (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getString(2)}, afterId, asOf, chunkSize);
+        if (accounts.isEmpty()) {
+            return List.of();
+        }
+        long fromId = (Long) accounts.get(0)[0];
+        long toId = (Long) accounts.get(accounts.size() - 1)[0];
+
+        Map<Long, long[]> openings = new HashMap<>();
+        jdbcTemplate.query(SELECT_OPENING_SNAPSHOT_SQL, rs -> {
+            openings.put(rs.getLong(1), new long[]{rs.getLong(2), rs.getLong(3)});
+        }, fromId, toId, asOfDate);
+        Map<Long, Long> upperBounds = new HashMap<>();
+        jdbcTemplate.query(SELECT_UPPER_BOUND_SQL, rs -> {
+            upperBounds.put(rs.getLong(1), rs.getLong(2));
+        }, fromId, toId, asOfDate);
+
+        List<Object> params = new ArrayList<>(accounts.size() * 3 + 1);
+        for (Object[] account : accounts) {
+            long accountId = (Long) account[0];
+            long[] opening = openings.get(accountId);
+            params.add(accountId);
+            params.add(opening == null ? 0L : opening[1]);
+            params.add(upperBounds.getOrDefault(accountId, Long.MAX_VALUE));
+        }
+        params.add(asOf);
+        String ranges = String.join(" OR ", Collections.nCopies(accounts.size(), "(account_id = ? AND id > ? AND id <= ?)"));
+        Map<Long, long[]> latest = new HashMap<>();
+        jdbcTemplate.query("SELECT t.account_id, t.id, t.post_balance FROM transaction t " +
+                        "JOIN (SELECT MAX(id) AS id FROM transaction WHERE (" + ranges + ") AND created_at <= ? GROUP BY account_id) m " +
+                        "ON t.id = m.id",
+                rs -> {
+                    latest.put(rs.getLong(1), new long[]{rs.getLong(2), rs.getLong(3)});
+                }, params.toArray());
+
+        List<BalanceRow> rows = new ArrayList<>(accounts.size());
+        for (Object[] account : accounts) {
+            long accountId = (Long) account[0];
+            long[] transaction = latest.get(accountId);
+            long[] opening = openings.get(accountId);
+            if (transaction != null) {
+                rows.add(new BalanceRow(accountId, (String) account[1], transaction[1], transaction[0]));
+            } else if (opening != null) {
+                rows.add(new BalanceRow(accountId, (String) account[1], opening[0], opening[1]));
+            } else {
+                rows.add(new BalanceRow(accountId, (String) account[1], 0L, null));
+            }
+        }
+        return rows;
+    }
+
+    private record BalanceRow(long accountId, String accountNumber, long balance, Long transactionId) {
+    }
+}
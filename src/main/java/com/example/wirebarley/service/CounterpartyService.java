@@ -0,0 +1,162 @@
+package com.example.wirebarley.service;
+
+import com.example.wirebarley.config.ShardContext;
+import com.example.wirebarley.domain.RecentCounterparties;
+import com.example.wirebarley.dto.CounterpartyDTO;
+import com.example.wirebarley.enumeration.Rejection;
+import com.example.wirebarley.repository.AccountRepository;
+import com.example.wirebarley.repository.RecentCounterpartiesRepository;
+import com.example.wirebarley.util.BusinessClock;
+import com.example.wirebarley.util.DateUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 계좌별 자주 이체한 상대방 목록을 관리하는 클래스.
+ * <p>
+ * 이체할 때마다 송금 계좌의 목록 한 줄을 갱신하므로, 조회 시 거래 내역을 집계하지 않고 한 줄만 읽습니다.
+ * 조회는 Hibernate 2차 캐시(recent-counterparties 영역)에서 읽어 대부분 DB 를 읽지 않으며, 다른 인스턴스의 갱신은 캐시가 만료된 뒤에 반영됩니다.
+ * 갱신은 다른 인스턴스의 갱신을 덮어쓰지 않도록 DB 에서 락을 잡고 읽습니다.
+ * 이 로우 락은 이체 트랜잭션이 끝날 때까지 유지되므로, 낙관적 락 전략에서도 같은 계좌에서 나가는 이체는 여기서 순서대로 실행됩니다.
+ 락을 잡을 로우는 계좌 개설 트랜잭션에서 함께 만들어, 이체가 별도 트랜잭션(커넥션)을 열지 않고 바깥 트랜잭션과 함께 커밋/롤백되게 합니다.
+ * </p>
+ * 사용자가 직접 요청한 이체만 목록에 반영합니다. 자동이체, 대량 지급, 이체 취소는 반영하지 않습니다.
+ */
+@Service
+public class CounterpartyService {
+
+    private static final String INSERT_SQL = "INSERT INTO recent_counterparties (account_id, entries, created_at, updated_at) " +
+            "VALUES (?, '', ?, ?)";
+
+    @Autowired
+    private RecentCounterpartiesRepository recentCounterpartiesRepository;
+
+    // AccountService 가 TransactionService 를 통해 이 클래스를 사용하므로 순환 참조를 피하기 위해 리포지토리를 직접 사용합니다.
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BusinessClock businessClock;
+
+    // 계좌별로 보관하는 최대 상대방 수. 목록은 4000 자 컬럼 하나에 저장되므로 40 을 넘기지 않습니다.
+    @Value("${app.counterparties.capacity:20}")
+    private int capacity;
+
+    @Value("${app.counterparties.default-limit:10}")
+    private int defaultLimit;
+
+    /**
+     * 송금 계좌의 목록에 상대방을 기록합니다.
+     * 이체 트랜잭션 안에서 호출되며, 목록 로우 락으로 같은 계좌의 갱신은 순서대로 실행됩니다.
+     *
+     * @param accountId 송금 계좌 ID
+     * @param accountNumber 상대방 계좌번호
+     * @param name 상대방 이름 (없으면 null)
+     * @return 목록에 없던 상대방이면 true
+     */
+    @Transactional
+    public boolean record(long accountId, String accountNumber, String name) {
+        // 없는 로우를 FOR UPDATE 로 읽으면 갭 락이 걸려 다른 트랜잭션의 INSERT 와 교착되므로, 로우를 먼저 만든 뒤 락을 잡습니다.
+        // 로우는 계좌 개설 시 만들며, 그 전에 개설된 계좌만 처음 이체할 때 같은 트랜잭션에서 만듭니다.
+        if (!recentCounterpartiesRepository.existsById(accountId)) {
+            this.insertIfAbsent(accountId);
+        }
+        RecentCounterparties counterparties = recentCounterpartiesRepository.findForUpdateByAccountId(accountId)
+                .orElseThrow();
+        boolean added = counterparties.record(accountNumber, name, this.today(), Math.max(1, capacity));
+        recentCounterpartiesRepository.save(counterparties);
+        return added;
+    }
+
+    /**
+     * 개설한 계좌의 빈 목록 로우를 만듭니다. 계좌 개설 트랜잭션 안에서 호출되어 개설이 롤백되면 함께 롤백됩니다.
+     *
+     * @param accountId 개설한 계좌 ID
+     */
+    @Transactional
+    public void createFor(long accountId) {
+        Timestamp now = Timestamp.from(businessClock.now().toInstant());
+        jdbcTemplate.update(INSERT_SQL, accountId, now, now);
+    }
+
+    /**
+     * 상대방이 계좌의 자주 이체한 상대방 목록에 있는지 확인합니다. 2차 캐시에서 읽습니다.
+     *
+     * @param accountId 계좌 ID
+     * @param accountNumber 상대방 계좌번호
+     */
+    @Transactional(readOnly = true)
+    public boolean isRecent(long accountId, String accountNumber) {
+        try (ShardContext.Scope scope = ShardContext.enter(shardRouter.shardOfId(accountId))) {
+            return recentCounterpartiesRepository.findById(accountId)
+                    .map(counterparties -> counterparties.contains(accountNumber))
+                    .orElse(false);
+        }
+    }
+
+    /**
+     * 계좌의 자주 이체한 상대방을 점수가 높은 순서로 최대 limit 명 조회합니다.
+     *
+     * @param accountId 계좌 ID
+     * @param limit 최대 상대방 수 (null 이면 기본값)
+     */
+    @Transactional(readOnly = true)
+    public List<CounterpartyDTO> findRecent(long accountId, Integer limit) {
+        try (ShardContext.Scope scope = ShardContext.enter(shardRouter.shardOfId(accountId))) {
+            if (!accountRepository.existsById(accountId)) {
+                throw Rejection.ACCOUNT_NOT_FOUND.exception();
+            }
+            int size = limit == null ? defaultLimit : Math.max(0, Math.min(limit, capacity));
+            long today = this.today();
+            return recentCounterpartiesRepository.findById(accountId)
+                    .map(counterparties -> counterparties.top(today, size))
+                    .orElse(List.of())
+                    .stream()
+                    .map(entry -> CounterpartyDTO.builder()
+                            .counterpartyAccountNumber(entry.accountNumber())
+                            .counterpartyName(entry.name())
+                            .transferCount(entry.count())
+                            .score(entry.scoreAt(today))
+                            .lastTransferDate(DateUtil.yyyymmdd(
+                                    LocalDate.ofEpochDay(entry.lastTransferEpochDay()).atStartOfDay(DateUtil.getZoneId())))
+                            .build())
+                    .toList();
+        }
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    /**
+     * 계좌의 빈 목록 로우를 현재 트랜잭션에서 만듭니다. 동시에 처음 이체한 다른 트랜잭션이 먼저 만들었으면 그 로우를 사용합니다.
+     * merge 는 그 사이 커밋된 로우를 빈 목록으로 덮어쓸 수 있으므로 INSERT 만 실행합니다.
+     * 중복 키로 실패한 INSERT 는 그 문장만 취소되므로 트랜잭션은 이어서 진행할 수 있습니다.
+     */
+    private void insertIfAbsent(long accountId) {
+        Timestamp now = Timestamp.from(businessClock.now().toInstant());
+        try {
+            jdbcTemplate.update(INSERT_SQL, accountId, now, now);
+        } catch (DataIntegrityViolationException ignored) {
+            // 다른 트랜잭션이 먼저 만든 경우
+        }
+    }
+
+    private long today() {
+        return businessClock.now().toLocalDate().toEpochDay();
+    }
+}
@@ -0,0 +1,364 @@
+package com.example.wirebarley.service;
+
+import com.example.wirebarley.config.ShardContext;
+import com.example.wirebarley.config.ShardingProperties;
+import com.example.wirebarley.domain.Account;
+import com.example.wirebarley.domain.Transaction;
+import com.example.wirebarley.domain.TransferLog;
+import com.example.wirebarley.domain.TransferReceipt;
+import com.example.wirebarley.domain.User;
+import com.example.wirebarley.dto.TransferRequestDTO;
+import com.example.wirebarley.enumeration.Rejection;
+import com.example.wirebarley.enumeration.TransactionType;
+import com.example.wirebarley.enumeration.TransferStatus;
+import com.example.wirebarley.exception.BadRequestException;
+import com.example.wirebarley.exception.NotFoundException;
+import com.example.wirebarley.exception.UnprocessableEntityException;
+import com.example.wirebarley.repository.AccountRepository;
+import com.example.wirebarley.repository.TransactionRepository;
+import com.example.wirebarley.repository.TransferLogRepository;
+import com.example.wirebarley.repository.TransferReceiptRepository;
+import com.example.wirebarley.repository.UserRepository;
+import com.example.wirebarley.util.BusinessClock;
+import jakarta.persistence.LockModeType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 송금인과 수취인 계좌가 서로 다른 샤드에 있는 이체를 처리하는 서비스 클래스.
+ * <p>
+ * 두 샤드를 하나의 트랜잭션으로 묶을 수 없으므로 이체를 샤드별 트랜잭션 두 단계로 나눕니다.<br>
+ * 1. 송금인 샤드: 한도 확인, 출금, 이체 거래 기록과 복구 로그(TransferLog, DEBITED)를 한 트랜잭션으로 저장<br>
+ * 2. 수취인 샤드: 입금, 입금 거래 기록과 영수증(TransferReceipt)을 한 트랜잭션으로 저장<br>
+ * 3. 송금인 샤드: 복구 로그를 COMPLETED 로 변경하고 두 거래 기록을 연결
+ * </p>
+ * 2단계가 거절되면(수취인 계좌 해지 등) 송금인에게 환불하는 보상 거래를 기록하고 COMPENSATED 로 변경합니다.
+ * 장애로 2, 3단계가 끝나지 않은 이체는 DEBITED 로 남으며, 주기적인 복구 작업이 같은 단계를 다시 실행합니다.
+ * 입금은 영수증의 transferId 유일 제약으로 한 번만 반영되므로 몇 번을 다시 실행해도 안전합니다.
+ */
+@Service
+public class CrossShardTransferService {
+
+    private static final Logger log = LoggerFactory.getLogger(CrossShardTransferService.class);
+
+    private static final int MAX_FAILURE_REASON_LENGTH = 255;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransferLogRepository transferLogRepository;
+
+    @Autowired
+    private TransferReceiptRepository transferReceiptRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountLockManager accountLockManager;
+
+    @Autowired
+    private AccountVersionRegistry accountVersionRegistry;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private BusinessClock businessClock;
+
+    @Autowired
+    private ShardingProperties shardingProperties;
+
+    @Autowired
+    private JobScheduler jobScheduler;
+
+    /**
+     * 다른 샤드의 계좌로 이체합니다.
+     *
+     * @param accountId 송금인 계좌 ID
+     * @param requestDTO 수취인 계좌번호와 이체 금액이 담긴 DTO
+     * @param userInitiated 사용자가 직접 요청한 이체이면 true. 자동이체/대량 지급이면 false 이며 자주 이체한 상대방 목록과 이체 빈도 카운터에 기록하지 않습니다.
+     * @return 출금 처리 후의 송금인 Account 엔티티. 수취인 샤드 장애로 입금이 지연되어도 이체는 복구 작업으로 완료됩니다.
+     * @throws Throwable 한도 초과, 잔액 부족, 수취인 계좌 없음, 수취인 입금 거절(환불 후) 등
+     */
+    public Account transfer(long accountId, TransferRequestDTO requestDTO, boolean userInitiated) throws Throwable {
+        int fromShard = shardRouter.shardOfId(accountId);
+        int toShard = shardRouter.shardOfAccountNumber(requestDTO.getCounterpartyAccountNumber());
+
+        // 1. 수취인 샤드에서 수취인 계좌를 확인합니다. 없는 계좌로는 출금하지 않습니다.
+        Counterparty counterparty = shardRouter.inNewTransaction(toShard, true,
+                () -> accountRepository.findByAccountNumber(requestDTO.getCounterpartyAccountNumber())
+                        .map(account -> new Counterparty(account.getId(), account.getAccountNumber(), account.getUser().getUsername())))
+                .orElseThrow(Rejection.COUNTERPARTY_NOT_FOUND::exception);
+
+        // 2. 송금인 샤드에서 출금하고 복구 로그를 남깁니다.
+        Debit debit;
+        try (ShardContext.Scope scope = ShardContext.enter(fromShard)) {
+            debit = accountLockManager.execute(accountId,
+                    lockMode -> this.debit(accountId, requestDTO.getAmount(), counterparty, toShard, userInitiated, lockMode));
+        }
+
+        // 3. 수취인 샤드에 입금하고 복구 로그를 완료 처리합니다.
+        Settlement settlement = this.settle(fromShard, debit.transferId());
+        if (settlement.rejection() != null) {
+            throw settlement.rejection();
+        }
+        return debit.account();
+    }
+
+    /**
+     * 샤드에 남아있는 미완료(DEBITED) 이체를 다시 처리합니다.
+     *
+     * @param shard 송금인 샤드 번호
+     * @param grace 마지막 변경 후 이 시간 이상 지난 이체만 처리합니다. (진행 중인 이체와 겹치지 않도록)
+     * @return 처리한 이체 수
+     */
+    public int recover(int shard, Duration grace) {
+        ZonedDateTime before = businessClock.now().minus(grace);
+        PageRequest page = PageRequest.of(0, shardingProperties.getRecovery().getBatchSize());
+        List<String> transferIds = shardRouter.inNewTransaction(shard, true,
+                () -> transferLogRepository.findTransferIdsByStatus(TransferStatus.DEBITED, before, page));
+
+        for (String transferId : transferIds) {
+            Settlement settlement = this.settle(shard, transferId);
+            log.info("샤드 간 이체 {} 복구 결과: {}", transferId, settlement.status());
+        }
+        return transferIds.size();
+    }
+
+    /**
+     * 모든 샤드의 미완료 이체를 주기적으로 복구합니다. 샤딩을 사용하지 않으면 아무것도 하지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${app.sharding.recovery.interval-ms:10000}")
+    public void recoverPending() {
+        if (!shardRouter.isEnabled()) {
+            return;
+        }
+        Duration grace = Duration.ofMillis(shardingProperties.getRecovery().getGraceMs());
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            int recoverShard = shard;
+            try {
+                // 샤드별로 임대를 나누어 여러 인스턴스가 서로 다른 샤드를 복구합니다.
+                jobScheduler.runExclusively("transfer-recovery-" + shard, () -> this.recover(recoverShard, grace));
+            } catch (RuntimeException ex) {
+                log.warn("샤드 {} 의 미완료 이체 복구 실패: {}", shard, ex.getMessage());
+            }
+        }
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    /**
+     * 송금인 샤드 트랜잭션: 한도 확인, 출금, 이체 거래 기록, 복구 로그 저장.
+     */
+    private Debit debit(long accountId, long amount, Counterparty counterparty, int toShard, boolean userInitiated, LockModeType lockMode) {
+        Optional<Account> oAccount = lockMode == LockModeType.PESSIMISTIC_WRITE
+                ? accountRepository.findById(accountId)
+                : accountRepository.findForOptimisticUpdateById(accountId);
+        Account fromAccount = oAccount.orElseThrow(Rejection.ACCOUNT_NOT_FOUND::exception);
+        User user = fromAccount.getUser();
+        long userId = user.getId();
+
+        // 일일 이체 한도를 초과하는지 확인 (사용자의 모든 계좌는 같은 샤드에 있으므로 이 샤드에서 합계를 구할 수 있음)
+        String yyyymmdd = businessClock.todayText();
+        long dailyTransferLimit = userRepository.findDailyTransferLimitById(userId);
+        long sumOfNetAmount = transactionService.sumOfNetAmountBy(userId, TransactionType.TRANSFER, yyyymmdd);
+        if (dailyTransferLimit - (amount + sumOfNetAmount) < 0) {
+            String message = String.format("일일 이체 한도 %d원을 초과했습니다.", dailyTransferLimit);
+            throw Rejection.DAILY_TRANSFER_LIMIT_EXCEEDED.exception(message);
+        }
+
+        long feeAmount = AccountService.transferFeeOf(amount);
+        long grossAmount = amount + feeAmount;
+        long prevBalance = fromAccount.getBalance();
+        fromAccount.withdraw(grossAmount, businessClock.now());
+        accountVersionRegistry.invalidateAfterCommit(accountId);
+
+        Transaction withdrawalTx = transactionService.createTransferTransaction(fromAccount,
+                TransactionType.TRANSFER, grossAmount, amount, AccountService.TRANSFER_FEE_RATE, feeAmount,
+                prevBalance, counterparty.username(), counterparty.accountNumber(), yyyymmdd, userInitiated);
+
+        TransferLog transferLog = new TransferLog();
+        transferLog.setTransferId(UUID.randomUUID().toString());
+        transferLog.setFromAccountId(accountId);
+        transferLog.setFromAccountNumber(fromAccount.getAccountNumber());
+        transferLog.setFromUsername(user.getUsername());
+        transferLog.setToAccountId(counterparty.accountId());
+        transferLog.setToAccountNumber(counterparty.accountNumber());
+        transferLog.setToUsername(counterparty.username());
+        transferLog.setToShard(toShard);
+        transferLog.setAmount(amount);
+        transferLog.setGrossAmount(grossAmount);
+        transferLog.setWithdrawalTransactionId(withdrawalTx.getId());
+        transferLog.setStatus(TransferStatus.DEBITED);
+        transferLogRepository.save(transferLog);
+
+        return new Debit(fromAccount, transferLog.getTransferId());
+    }
+
+    /**
+     * 이체의 수취인 입금과 완료 처리를 실행합니다. 입금이 거절되면 보상하고, 장애가 나면 DEBITED 로 남겨 다음 복구 때 다시 실행합니다.
+     */
+    private Settlement settle(int fromShard, String transferId) {
+        TransferLog transferLog = shardRouter.inNewTransaction(fromShard, true,
+                () -> transferLogRepository.findByTransferId(transferId)).orElseThrow();
+        if (!transferLog.getStatus().isPending()) {
+            return new Settlement(transferLog.getStatus(), null);
+        }
+
+        long depositTransactionId;
+        try {
+            depositTransactionId = this.credit(transferLog);
+        } catch (RuntimeException ex) {
+            if (this.isRejection(ex)) {
+                this.compensate(fromShard, transferId, ex.getMessage());
+                return new Settlement(TransferStatus.COMPENSATED, ex);
+            }
+            log.warn("샤드 간 이체 {} 수취인 샤드 {} 입금 실패, 복구 작업에서 다시 시도합니다: {}",
+                    transferId, transferLog.getToShard(), ex.getMessage());
+            this.recordFailure(fromShard, transferId, ex);
+            return new Settlement(TransferStatus.DEBITED, null);
+        }
+
+        try {
+            this.complete(fromShard, transferId, depositTransactionId);
+        } catch (RuntimeException ex) {
+            // 입금은 끝났으므로 복구 작업이 영수증을 확인하고 완료 처리합니다.
+            log.warn("샤드 간 이체 {} 완료 처리 실패, 복구 작업에서 다시 시도합니다: {}", transferId, ex.getMessage());
+            return new Settlement(TransferStatus.DEBITED, null);
+        }
+        return new Settlement(TransferStatus.COMPLETED, null);
+    }
+
+    /**
+     * 수취인 샤드 트랜잭션: 입금, 입금 거래 기록, 영수증 저장. 영수증이 이미 있으면 입금하지 않고 기존 입금 거래 ID 를 반환합니다.
+     */
+    private long credit(TransferLog transferLog) {
+        return shardRouter.inNewTransaction(transferLog.getToShard(), false, () -> {
+            // 계좌 락을 먼저 잡아 같은 이체의 입금이 동시에 진행되지 않도록 한 뒤 영수증을 확인합니다.
+            Account toAccount = accountRepository.findById(transferLog.getToAccountId())
+                    .orElseThrow(Rejection.COUNTERPARTY_NOT_FOUND::exception);
+            Optional<TransferReceipt> oReceipt = transferReceiptRepository.findByTransferId(transferLog.getTransferId());
+            if (oReceipt.isPresent()) {
+                return oReceipt.get().getDepositTransactionId();
+            }
+            // 출금 후 수취인 계좌가 해지/휴면 전환되었으면 입금이 거절(ACCOUNT_NOT_ACTIVE)되어 보상 처리됩니다.
+            long prevBalance = toAccount.getBalance();
+            toAccount.deposit(transferLog.getAmount(), businessClock.now());
+            accountVersionRegistry.invalidateAfterCommit(toAccount.getId());
+
+            Transaction depositTx = transactionService.createTransferTransaction(toAccount,
+                    TransactionType.DEPOSIT, transferLog.getAmount(), transferLog.getAmount(), BigDecimal.ZERO, 0L,
+                    prevBalance, transferLog.getFromUsername(), transferLog.getFromAccountNumber(), businessClock.todayText(), false);
+            depositTx.setRelatedTransactionId(transferLog.getWithdrawalTransactionId());
+
+            transferReceiptRepository.save(new TransferReceipt(transferLog.getTransferId(), toAccount.getId(), depositTx.getId()));
+            return depositTx.getId();
+        });
+    }
+
+    /**
+     * 송금인 샤드 트랜잭션: 복구 로그를 COMPLETED 로 변경하고 이체 거래 기록에 입금 거래 ID 를 연결합니다.
+     */
+    private void complete(int fromShard, String transferId, long depositTransactionId) {
+        shardRouter.inNewTransaction(fromShard, false, () -> {
+            TransferLog transferLog = transferLogRepository.findForUpdateByTransferId(transferId).orElseThrow();
+            if (!transferLog.getStatus().isPending()) {
+                return null;
+            }
+            transferLog.setStatus(TransferStatus.COMPLETED);
+            transferLog.setDepositTransactionId(depositTransactionId);
+            transferLog.setAttempts(transferLog.getAttempts() + 1);
+            transferLog.setFailureReason(null);
+            transactionRepository.findById(transferLog.getWithdrawalTransactionId())
+                    .ifPresent(withdrawalTx -> withdrawalTx.setRelatedTransactionId(depositTransactionId));
+            return null;
+        });
+    }
+
+    /**
+     * 송금인 샤드 트랜잭션: 출금한 금액(수수료 포함)을 환불하고, 원래 이체와 같은 날짜로 금액이 음수인 취소 거래를 기록합니다.
+     * 취소 거래의 netAmount 가 음수이므로 그날의 이체 한도 사용액도 원래대로 돌아갑니다.
+     * 취소 거래는 사용자의 이체가 아니므로 자주 이체한 상대방 목록과 이체 빈도 카운터에는 기록하지 않습니다.
+     */
+    private void compensate(int fromShard, String transferId, String reason) {
+        shardRouter.inNewTransaction(fromShard, false, () -> {
+            TransferLog transferLog = transferLogRepository.findForUpdateByTransferId(transferId).orElseThrow();
+            if (!transferLog.getStatus().isPending()) {
+                return null;
+            }
+            Account fromAccount = accountRepository.findById(transferLog.getFromAccountId())
+                    .orElseThrow(Rejection.ACCOUNT_NOT_FOUND::exception);
+            Transaction withdrawalTx = transactionRepository.findById(transferLog.getWithdrawalTransactionId()).orElseThrow();
+
+            long grossAmount = transferLog.getGrossAmount();
+            long prevBalance = fromAccount.getBalance();
+            fromAccount.refund(grossAmount, businessClock.now());
+            accountVersionRegistry.invalidateAfterCommit(fromAccount.getId());
+
+            Transaction reversalTx = transactionService.createTransferTransaction(fromAccount,
+                    TransactionType.TRANSFER, -grossAmount, -transferLog.getAmount(), withdrawalTx.getFeeRate(),
+                    -withdrawalTx.getFee(), prevBalance, transferLog.getToUsername(), transferLog.getToAccountNumber(),
+                    withdrawalTx.getDate(), false);
+            reversalTx.setRelatedTransactionId(withdrawalTx.getId());
+            reversalTx.setMemo("이체 취소: " + reason);
+
+            transferLog.setStatus(TransferStatus.COMPENSATED);
+            transferLog.setAttempts(transferLog.getAttempts() + 1);
+            transferLog.setFailureReason(this.truncate(reason));
+            return null;
+        });
+    }
+
+    private void recordFailure(int fromShard, String transferId, RuntimeException failure) {
+        try {
+            shardRouter.inNewTransaction(fromShard, false, () -> {
+                transferLogRepository.findByTransferId(transferId).ifPresent(transferLog -> {
+                    transferLog.setAttempts(transferLog.getAttempts() + 1);
+                    transferLog.setFailureReason(this.truncate(String.valueOf(failure.getMessage())));
+                });
+                return null;
+            });
+        } catch (RuntimeException ex) {
+            log.warn("샤드 간 이체 {} 실패 기록 저장 실패: {}", transferId, ex.getMessage());
+        }
+    }
+
+    // 정책에 의한 거절(입금 불가)인지, 다시 시도하면 성공할 수 있는 장애인지 구분합니다.
+    private boolean isRejection(RuntimeException ex) {
+        return ex instanceof BadRequestException || ex instanceof NotFoundException || ex instanceof UnprocessableEntityException;
+    }
+
+    private String truncate(String reason) {
+        return reason.length() <= MAX_FAILURE_REASON_LENGTH ? reason : reason.substring(0, MAX_FAILURE_REASON_LENGTH);
+    }
+
+    private record Counterparty(long accountId, String accountNumber, String username) {
+    }
+
+    private record Debit(Account account, String transferId) {
+    }
+
+    private record Settlement(TransferStatus status, RuntimeException rejection) {
+    }
+}
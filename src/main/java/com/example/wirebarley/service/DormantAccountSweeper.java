@@ -0,0 +1,170 @@
+package com.example.wirebarley.service;
+
+import com.example.wirebarley.repository.AccountRepository;
+import com.example.wirebarley.util.BusinessClock;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 일정 기간 잔액 변경이 없는 활성 계좌를 휴면(DORMANT) 상태로 전환하는 클래스.
+ * <p>
+ * 계좌 엔티티를 읽지 않고, (status, lastBalanceChangedAt) 인덱스로 대상 ID 를 chunk-size 개씩 조회한 뒤
+ * UPDATE 한 번으로 전환합니다. 청크마다 트랜잭션을 커밋하므로 한 번에 잠그는 로우는 chunk-size 개를 넘지 않습니다.
+ * </p>
+ * 잔액 변경 시각이 비어 있는 예전 계좌는 전환 전에 개설 시각으로 채웁니다.
+ * 휴면 계좌는 입출금(조건부 UPDATE)이 거절되지만 계좌/거래 내역 조회는 상태와 무관하게 동작합니다.
+ */
+@Service
+public class DormantAccountSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(DormantAccountSweeper.class);
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private AccountVersionRegistry accountVersionRegistry;
+
+    @Autowired
+    private BusinessClock businessClock;
+
+    @Autowired
+    private JobScheduler jobScheduler;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    // true 이면 cron 에 맞춰 휴면 전환을 실행합니다.
+    @Value("${app.dormant.enabled:false}")
+    private boolean enabled;
+
+    // 마지막 잔액 변경 후 이 기간(일)이 지난 계좌를 휴면으로 전환합니다.
+    @Value("${app.dormant.inactive-days:365}")
+    private int inactiveDays;
+
+    // 한 트랜잭션에서 전환하는 계좌 수
+    @Value("${app.dormant.chunk-size:500}")
+    private int chunkSize;
+
+    // 한 번 실행할 때 샤드별로 처리하는 최대 청크 수. 남은 계좌는 다음 실행에서 처리합니다.
+    @Value("${app.dormant.max-chunks:1000}")
+    private int maxChunks;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Scheduled(cron = "${app.dormant.cron:0 0 3 * * *}", zone = "Asia/Seoul")
+    public void scheduledSweep() {
+        if (!enabled) {
+            return;
+        }
+        // 샤드 하나를 파티션 하나로 나누어 여러 인스턴스가 서로 다른 샤드를 처리합니다. (같은 날 같은 샤드는 한 번만 처리)
+        jobScheduler.runPartitioned("dormant-sweep", businessClock.todayText(), shardRouter.shardCount(), this::sweep);
+    }
+
+    /**
+     * 모든 샤드에서 휴면 전환 대상 계좌를 전환합니다. 이미 실행 중이면 0 을 반환합니다.
+     *
+     * @return 휴면으로 전환한 계좌 수
+     */
+    public long sweep() {
+        if (!running.compareAndSet(false, true)) {
+            return 0L;
+        }
+        try {
+            long swept = 0L;
+            for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+                swept += this.sweep(shard);
+            }
+            return swept;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 한 샤드에서 휴면 전환 대상 계좌를 최대 max-chunks 개 청크만큼 전환합니다.
+     *
+     * @param shard 샤드 번호
+     * @return 휴면으로 전환한 계좌 수
+     */
+    public long sweep(int shard) {
+        long startedAt = System.nanoTime();
+        ZonedDateTime now = businessClock.now();
+        ZonedDateTime before = now.minusDays(inactiveDays);
+
+        this.backfill(shard);
+
+        long swept = 0L;
+        int chunks = 0;
+        while (chunks < maxChunks) {
+            int[] result = shardRouter.inNewTransaction(shard, false, () -> this.sweepChunk(before, now));
+            swept += result[1];
+            chunks++;
+            if (result[0] < chunkSize) {
+                break;
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        if (meterRegistry != null) {
+            meterRegistry.counter("account.dormant.swept").increment(swept);
+            meterRegistry.counter("account.dormant.chunks").increment(chunks);
+            meterRegistry.timer("account.dormant.sweep.duration").record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+        log.info("샤드 {} 휴면 계좌 전환 완료: {}건 (기준 {}, 청크 {}개, {}ms)", shard, swept, before, chunks,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        return swept;
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    /**
+     * 잔액 변경 시각 없이 개설된 활성 계좌를 chunk-size 개씩 개설 시각으로 채웁니다.
+     * 대상 조회가 잔액 변경 시각의 범위 조건만 쓰도록, 휴면 전환 전에 비어 있는 값을 없앱니다. 채울 계좌가 없으면 조회 한 번으로 끝납니다.
+     */
+    private void backfill(int shard) {
+        long backfilled = 0L;
+        int filled;
+        do {
+            filled = shardRouter.inNewTransaction(shard, false, () -> {
+                List<Long> ids = accountRepository.findIdsWithoutLastBalanceChangedAt(PageRequest.of(0, chunkSize));
+                return ids.isEmpty() ? 0 : accountRepository.backfillLastBalanceChangedAt(ids);
+            });
+            backfilled += filled;
+        } while (filled > 0);
+        if (backfilled > 0) {
+            log.info("샤드 {} 잔액 변경 시각 보정: {}건", shard, backfilled);
+        }
+    }
+
+    /**
+     * 대상 계좌를 chunk-size 개 조회하여 휴면으로 전환합니다. 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @return [조회한 대상 수, 전환한 계좌 수]
+     */
+    private int[] sweepChunk(ZonedDateTime before, ZonedDateTime now) {
+        List<Long> ids = accountRepository.findDormantCandidateIds(before, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return new int[]{0, 0};
+        }
+        int updated = accountRepository.markDormant(ids, before, now);
+        accountVersionRegistry.invalidateAfterCommit(ids.stream().mapToLong(Long::longValue).toArray());
+        return new int[]{ids.size(), updated};
+    }
+}
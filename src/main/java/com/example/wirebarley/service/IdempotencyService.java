@@ -0,0 +1,186 @@
+package com.example.wirebarley.service;
+
+import com.example.wirebarley.domain.IdempotencyRecord;
+import com.example.wirebarley.repository.IdempotencyRecordRepository;
+import com.example.wirebarley.util.DateUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key 로 들어온 변경 요청의 중복 실행을 막는 서비스 클래스.
+ * <p>
+ * 키는 unique 제약이 걸린 테이블에 저장되어 여러 인스턴스 사이에서도 한 번만 처리되며,
+ * 처리가 끝난 응답은 최근 키 캐시에도 보관하여 재시도 요청은 DB 조회 없이 바로 응답합니다.
+ * 처리 중인 키는 lease 동안만 선점되므로, 처리 도중 프로세스가 중단되어도 lease 가 지나면 재시도가 키를 이어받습니다.
+ * 만료된 키는 주기적으로 정해진 개수만큼씩 삭제합니다.
+ * </p>
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Value("${app.idempotency.ttl:PT24H}")
+    private Duration ttl;
+
+    // 처리 중인 키를 선점하는 기간. 가장 오래 걸리는 요청보다 길어야 합니다.
+    @Value("${app.idempotency.lease:PT1M}")
+    private Duration lease;
+
+    @Value("${app.idempotency.sweep.batch-size:500}")
+    private int sweepBatchSize;
+
+    @Value("${app.idempotency.sweep.max-batches:20}")
+    private int sweepMaxBatches;
+
+    private final Map<String, IdempotencyRecord> recentRecords;
+
+    public IdempotencyService(@Value("${app.idempotency.cache-size:10000}") int cacheSize) {
+        this.recentRecords = Collections.synchronizedMap(new LinkedHashMap<String, IdempotencyRecord>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotencyRecord> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * 처리가 끝난(응답이 저장된) 키를 조회합니다. 최근 키 캐시를 먼저 확인하고, 없으면 DB 를 조회합니다.
+     *
+     * @param idempotencyKey Idempotency-Key
+     * @return 저장된 최초 응답. 처리 중이거나 만료되었거나 처음 보는 키면 비어있는 Optional
+     */
+    @Transactional // 방금 저장된 응답을 놓치지 않도록 replica 가 아닌 primary 에서 조회합니다.
+    public Optional<IdempotencyRecord> findCompleted(String idempotencyKey) {
+        ZonedDateTime now = DateUtil.now();
+        IdempotencyRecord cached = recentRecords.get(idempotencyKey);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return Optional.of(cached);
+            }
+            recentRecords.remove(idempotencyKey);
+        }
+
+        Optional<IdempotencyRecord> oRecord = idempotencyRecordRepository.findByIdempotencyKey(idempotencyKey)
+                .filter(IdempotencyRecord::isCompleted)
+                .filter(record -> !record.isExpired(now));
+        oRecord.ifPresent(record -> recentRecords.put(idempotencyKey, record));
+        return oRecord;
+    }
+
+    /**
+     * 키를 lease 동안 처리 중 상태로 선점합니다. unique 제약으로 같은 키는 하나의 요청만 선점할 수 있습니다.
+     * 만료된 키(처리가 끝나고 ttl 이 지났거나, 처리 중에 lease 가 지난 키)가 남아있다면 삭제하고 한 번 더 시도합니다.
+     *
+     * @param idempotencyKey Idempotency-Key
+     * @param requestHash 요청 해시
+     * @return 선점한 기록의 ID. 다른 요청이 이미 선점했거나 처리한 키면 비어있는 Optional
+     */
+    public Optional<Long> reserve(String idempotencyKey, String requestHash) {
+        ZonedDateTime now = DateUtil.now();
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                IdempotencyRecord record = idempotencyRecordRepository.saveAndFlush(
+                        new IdempotencyRecord(idempotencyKey, requestHash, now.plus(lease)));
+                return Optional.of(record.getId());
+            } catch (DataIntegrityViolationException ex) {
+                Optional<IdempotencyRecord> oExisting = idempotencyRecordRepository.findByIdempotencyKey(idempotencyKey);
+                if (oExisting.isPresent() && !oExisting.get().isExpired(now)) {
+                    return Optional.empty();
+                }
+                // 그 사이 처리가 끝나 만료 시각이 늘어난 기록은 지우지 않습니다.
+                oExisting.ifPresent(existing -> idempotencyRecordRepository.deleteExpiredById(existing.getId(), now));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 선점한 키에 최초 응답을 저장하고 ttl 동안 보관합니다.
+     * 처리가 lease 보다 오래 걸려 다른 요청이 키를 이어받았다면 그 요청의 기록은 건드리지 않습니다.
+     *
+     * @param reservationId reserve 가 반환한 기록 ID
+     * @param responseStatus 응답 상태 코드
+     * @param responseContentType 응답 Content-Type
+     * @param responseBody 응답 본문
+     */
+    @Transactional
+    public void complete(long reservationId, int responseStatus, String responseContentType, String responseBody) {
+        Optional<IdempotencyRecord> oRecord = idempotencyRecordRepository.findById(reservationId);
+        if (oRecord.isEmpty()) {
+            log.warn("lease 가 지나 다른 요청이 이어받은 Idempotency-Key 의 응답은 저장하지 않습니다. (기록 ID {})", reservationId);
+            return;
+        }
+        IdempotencyRecord record = oRecord.get();
+        record.setResponseStatus(responseStatus);
+        record.setResponseContentType(responseContentType);
+        record.setResponseBody(responseBody);
+        record.setExpiresAt(DateUtil.now().plus(ttl));
+        recentRecords.put(record.getIdempotencyKey(), record);
+    }
+
+    /**
+     * 요청은 성공했지만 응답을 저장하지 못한 경우, 선점을 ttl 동안 유지합니다.
+     * 응답이 없으므로 재시도는 저장된 응답 대신 409 를 받고, 같은 요청이 다시 실행되지 않습니다.
+     *
+     * @param reservationId reserve 가 반환한 기록 ID
+     */
+    @Transactional
+    public void keepReserved(long reservationId) {
+        idempotencyRecordRepository.findById(reservationId)
+                .ifPresent(record -> record.setExpiresAt(DateUtil.now().plus(ttl)));
+    }
+
+    /**
+     * 요청이 실패한 경우 선점을 해제하여 클라이언트가 같은 키로 다시 시도할 수 있게 합니다.
+     *
+     * @param reservationId reserve 가 반환한 기록 ID
+     */
+    @Transactional
+    public void release(long reservationId) {
+        idempotencyRecordRepository.deleteReservationById(reservationId);
+    }
+
+    /**
+     * 만료된 키를 batch-size 개씩, 한 번 실행에 최대 max-batches 번까지만 삭제합니다.
+     * 남은 키는 다음 주기에 이어서 삭제되므로 한 번의 실행이 오래 걸리거나 큰 락을 잡지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.sweep.interval-ms:60000}")
+    public void sweepExpired() {
+        ZonedDateTime now = DateUtil.now();
+        synchronized (recentRecords) {
+            recentRecords.values().removeIf(record -> record.isExpired(now));
+        }
+
+        int deleted = 0;
+        for (int batch = 0; batch < sweepMaxBatches; batch++) {
+            List<Long> ids = idempotencyRecordRepository.findExpiredIds(now, PageRequest.of(0, sweepBatchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            idempotencyRecordRepository.deleteAllByIdInBatch(ids);
+            deleted += ids.size();
+        }
+        if (deleted > 0) {
+            log.info("만료된 Idempotency-Key {}건 삭제", deleted);
+        }
+    }
+}
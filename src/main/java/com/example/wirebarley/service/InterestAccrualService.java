@@ -0,0 +1,420 @@
+package com.example.wirebarley.service;
+
+import com.example.wirebarley.domain.InterestAccrualCheckpoint;
+import com.example.wirebarley.dto.InterestAccrualReportDTO;
+import com.example.wirebarley.dto.TransactionDTO;
+import com.example.wirebarley.enumeration.TransactionType;
+import com.example.wirebarley.repository.AccountRepository;
+import com.example.wirebarley.repository.InterestAccrualCheckpointRepository;
+import com.example.wirebarley.util.BusinessClock;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 모든 활성(ACTIVE) 계좌에 일별 이자를 지급하는 배치 서비스 클래스.
+ * <p>
+ * 계좌마다 AccountService.deposit 을 호출하면 계좌마다 트랜잭션/락/거래 기록 INSERT 가 따로 발생하므로,
+ * 샤드별 계좌 ID 공간을 파티션으로 나누어 병렬로 처리하고 각 파티션은 계좌 ID 순서(keyset)로 chunk-size 개씩 처리합니다.
+ * 청크 하나는 트랜잭션 하나이며, 계좌 잔액 UPDATE 와 입금(DEPOSIT) 거래 INSERT 를 각각 JDBC 배치 한 번으로 실행하고
+ * 같은 트랜잭션에서 파티션의 진행 위치({@link InterestAccrualCheckpoint})를 갱신합니다. 기록한 입금 거래는 커밋 후 계좌 이벤트로 발행합니다.
+ * </p>
+ * 이자는 연이율을 백만분의 1 단위 정수로 바꾸어 계산하며, 1원 미만은 버립니다. 이자가 0원인 계좌는 기록하지 않습니다.
+ * 이자 지급은 고객의 거래가 아니므로 마지막 잔액 변경 시각(lastBalanceChangedAt)은 바꾸지 않습니다. (이자만 쌓이는 계좌도 휴면 전환 대상)
+ */
+@Service
+public class InterestAccrualService {
+
+    private static final Logger log = LoggerFactory.getLogger(InterestAccrualService.class);
+
+    // 연이율 고정소수점 단위 (0.02 → 20,000)
+    static final long RATE_SCALE = 1_000_000L;
+
+    static final long DAYS_PER_YEAR = 365L;
+
+    static final String MEMO = "이자";
+
+    // 청크의 계좌를 잠그고 읽습니다. 진행 위치에 락을 먼저 잡으므로 같은 파티션의 청크가 동시에 실행되지 않습니다.
+    private static final String SELECT_CHUNK_SQL = "SELECT id, balance FROM account " +
+            "WHERE status = 'ACTIVE' AND id > ? AND id < ? " +
+            "ORDER BY id LIMIT ? FOR UPDATE";
+
+    private static final String UPDATE_BALANCE_SQL = "UPDATE account " +
+            "SET balance = balance + ?, updated_at = ?, version = version + 1 " +
+            "WHERE id = ?";
+
+    private static final String INSERT_LEDGER_SQL = "INSERT INTO transaction " +
+            "(account_id, type, gross_amount, net_amount, prev_balance, post_balance, fee, fee_rate, memo, date, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private InterestAccrualCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private AccountVersionRegistry accountVersionRegistry;
+
+    @Autowired
+    private BusinessClock businessClock;
+
+    @Autowired
+    private JobScheduler jobScheduler;
+
+    @Autowired
+    private AccountEventBus accountEventBus;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    // true 이면 cron 에 맞춰 당일 이자를 지급합니다.
+    @Value("${app.interest.enabled:false}")
+    private boolean enabled;
+
+    // 연이율 (소수점 아래 6자리까지)
+    @Value("${app.interest.annual-rate:0.02}")
+    private BigDecimal annualRate;
+
+    // 한 트랜잭션에서 처리하는 계좌 수
+    @Value("${app.interest.chunk-size:500}")
+    private int chunkSize;
+
+    // 샤드별 파티션 수(= 동시에 처리하는 파티션 수). 0 이면 CPU 코어 수
+    @Value("${app.interest.parallelism:0}")
+    private int parallelism;
+
+    private long annualRateMicros;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final ExecutorService launcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "interest-accrual");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    void init() {
+        // 소수점 아래 6자리를 넘는 연이율은 고정소수점으로 표현할 수 없으므로 시작 시 실패합니다.
+        annualRateMicros = annualRate.movePointRight(6).longValueExact();
+        if (parallelism <= 0) {
+            parallelism = Runtime.getRuntime().availableProcessors();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        launcher.shutdownNow();
+    }
+
+    /**
+     * cron 에 맞춰 백그라운드 스레드에서 당일 이자 지급을 시작합니다. 스케줄러 스레드에서는 시작만 하고 바로 반환합니다.
+     */
+    @Scheduled(cron = "${app.interest.cron:0 30 0 * * *}", zone = "Asia/Seoul")
+    public void scheduledAccrue() {
+        if (!enabled || running.get()) {
+            return;
+        }
+        // 여러 인스턴스 중 임대를 가져온 인스턴스 하나만 실행하고, 완료한 지급일은 다른 인스턴스가 다시 실행하지 않습니다.
+        // 중단되면 다음 실행이 진행 위치부터 이어서 지급합니다.
+        String accrualDate = businessClock.todayText();
+        CompletableFuture.runAsync(() -> jobScheduler.runExclusively("interest-accrual", accrualDate, () -> this.accrue(accrualDate)), launcher)
+                .exceptionally(ex -> {
+                    log.error("이자 지급 실패: {}", accrualDate, ex);
+                    return null;
+                });
+    }
+
+    /**
+     * 지급일의 이자를 지급합니다. 같은 지급일로 다시 실행하면 완료되지 않은 파티션만 이어서 처리합니다.
+     * 이미 실행 중이면 IllegalStateException 이 발생합니다.
+     *
+     * @param accrualDate 이자 지급일 (yyyyMMdd). 거래 기록의 date 로 저장됩니다.
+     * @return 지급일의 누적 지급 결과
+     */
+    public InterestAccrualReportDTO accrue(String accrualDate) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이자 지급이 이미 실행 중입니다.");
+        }
+        long startedAt = System.nanoTime();
+        try {
+            // 1. 샤드별 파티션을 나누고(이미 나눈 지급일이면 그대로 사용) 완료되지 않은 파티션만 모읍니다.
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            ExecutorService executor = this.newExecutor();
+            try {
+                for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+                    for (InterestAccrualCheckpoint checkpoint : this.partitionsOf(shard, accrualDate)) {
+                        if (!checkpoint.isCompleted()) {
+                            int partitionShard = shard;
+                            long checkpointId = checkpoint.getId();
+                            futures.add(CompletableFuture.runAsync(() -> this.accruePartition(partitionShard, checkpointId), executor));
+                        }
+                    }
+                }
+                // 2. 파티션을 병렬로 처리합니다.
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            } catch (CompletionException ex) {
+                throw ex.getCause() instanceof RuntimeException runtimeException
+                        ? runtimeException
+                        : new IllegalStateException(ex.getCause());
+            } finally {
+                executor.shutdown();
+            }
+
+            // 3. 지급일의 누적 결과를 집계합니다.
+            InterestAccrualReportDTO report = this.reportOf(accrualDate, System.nanoTime() - startedAt);
+            if (meterRegistry != null) {
+                meterRegistry.timer("interest.accrual.duration").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+            log.info("이자 지급 완료: {} 파티션 {}개, 계좌 {}건, 이자 합계 {}원, {}ms", accrualDate, report.getPartitions(),
+                    report.getAccounts(), report.getTotalInterest(), report.getElapsedMillis());
+            return report;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 잔액에 대한 하루 이자를 계산합니다. (잔액 * 연이율 / 365, 1원 미만 버림)
+     * 잔액을 (RATE_SCALE * 365) 로 나눈 몫과 나머지로 나누어 곱하므로 잔액이 커도 long 범위를 넘지 않습니다.
+     *
+     * @param balance 잔액
+     * @param annualRateMicros 백만분의 1 단위 연이율
+     * @return 하루 이자
+     */
+    static long dailyInterestOf(long balance, long annualRateMicros) {
+        if (balance <= 0) {
+            return 0L;
+        }
+        long divisor = RATE_SCALE * DAYS_PER_YEAR;
+        return (balance / divisor) * annualRateMicros + (balance % divisor) * annualRateMicros / divisor;
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    /**
+     * 샤드의 지급일 파티션 목록을 반환합니다. 처음 실행하는 지급일이면 현재 계좌 ID 범위를 parallelism 개로 나누어 저장합니다.
+     * 마지막 파티션은 끝이 열려 있어, 나눈 뒤에 개설된 계좌도 지급 대상에 포함됩니다.
+     */
+    private List<InterestAccrualCheckpoint> partitionsOf(int shard, String accrualDate) {
+        List<InterestAccrualCheckpoint> partitions = shardRouter.inNewTransaction(shard, true,
+                () -> checkpointRepository.findAllByAccrualDateOrderByPartitionNoAsc(accrualDate));
+        if (!partitions.isEmpty()) {
+            return partitions;
+        }
+
+        try {
+            return shardRouter.inNewTransaction(shard, false, () -> {
+                Long minId = accountRepository.findMinId();
+                Long maxId = accountRepository.findMaxId();
+                List<InterestAccrualCheckpoint> planned = new ArrayList<>();
+                if (minId == null) {
+                    planned.add(new InterestAccrualCheckpoint(accrualDate, 0, 0L, Long.MAX_VALUE));
+                } else {
+                    long step = Math.max(1L, (maxId - minId + parallelism) / parallelism);
+                    for (int partitionNo = 0; partitionNo < parallelism; partitionNo++) {
+                        long fromId = minId + partitionNo * step;
+                        boolean last = partitionNo == parallelism - 1 || fromId + step > maxId;
+                        planned.add(new InterestAccrualCheckpoint(accrualDate, partitionNo, fromId, last ? Long.MAX_VALUE : fromId + step));
+                        if (last) {
+                            break;
+                        }
+                    }
+                }
+                return checkpointRepository.saveAll(planned);
+            });
+        } catch (DataIntegrityViolationException ex) {
+            // 다른 인스턴스가 먼저 파티션을 나눈 경우 그 파티션을 사용합니다.
+            return shardRouter.inNewTransaction(shard, true,
+                    () -> checkpointRepository.findAllByAccrualDateOrderByPartitionNoAsc(accrualDate));
+        }
+    }
+
+    /**
+     * 파티션이 완료될 때까지 청크를 하나씩(트랜잭션 하나씩) 처리합니다.
+     */
+    private void accruePartition(int shard, long checkpointId) {
+        boolean completed = false;
+        while (!completed) {
+            completed = shardRouter.inNewTransaction(shard, false, () -> this.accrueChunk(checkpointId));
+        }
+    }
+
+    /**
+     * 파티션의 다음 청크에 이자를 지급하고 진행 위치를 갱신합니다. 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @return 파티션이 완료되었으면 true
+     */
+    private boolean accrueChunk(long checkpointId) {
+        InterestAccrualCheckpoint checkpoint = checkpointRepository.findForUpdateById(checkpointId).orElseThrow();
+        if (checkpoint.isCompleted()) {
+            return true;
+        }
+
+        List<long[]> accounts = jdbcTemplate.query(SELECT_CHUNK_SQL, (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)},
+                checkpoint.getLastAccountId(), checkpoint.getToId(), chunkSize);
+
+        // [계좌 ID, 지급 전 잔액, 이자]
+        List<long[]> credits = new ArrayList<>(accounts.size());
+        long chunkInterest = 0L;
+        for (long[] account : accounts) {
+            long interest = dailyInterestOf(account[1], annualRateMicros);
+            if (interest > 0) {
+                credits.add(new long[]{account[0], account[1], interest});
+                chunkInterest += interest;
+            }
+        }
+
+        if (!credits.isEmpty()) {
+            Timestamp now = Timestamp.from(businessClock.now().toInstant());
+            String accrualDate = checkpoint.getAccrualDate();
+            jdbcTemplate.batchUpdate(UPDATE_BALANCE_SQL, credits, credits.size(), (ps, credit) -> {
+                ps.setLong(1, credit[2]);
+                ps.setTimestamp(2, now);
+                ps.setLong(3, credit[0]);
+            });
+            List<Long> transactionIds = this.insertLedger(credits, (ps, credit) -> {
+                ps.setLong(1, credit[0]);
+                ps.setString(2, TransactionType.DEPOSIT.name());
+                ps.setLong(3, credit[2]);
+                ps.setLong(4, credit[2]);
+                ps.setLong(5, credit[1]);
+                ps.setLong(6, credit[1] + credit[2]);
+                ps.setBigDecimal(7, BigDecimal.ZERO);
+                ps.setString(8, MEMO);
+                ps.setString(9, accrualDate);
+                ps.setTimestamp(10, now);
+                ps.setTimestamp(11, now);
+            });
+            accountVersionRegistry.invalidateAfterCommit(credits.stream().mapToLong(credit -> credit[0]).toArray());
+            this.publishAfterCommit(credits, transactionIds);
+        }
+
+        if (!accounts.isEmpty()) {
+            checkpoint.setLastAccountId(accounts.get(accounts.size() - 1)[0]);
+        }
+        checkpoint.setAccounts(checkpoint.getAccounts() + credits.size());
+        checkpoint.setTotalInterest(checkpoint.getTotalInterest() + chunkInterest);
+        checkpoint.setCompleted(accounts.size() < chunkSize);
+
+        if (meterRegistry != null) {
+            meterRegistry.counter("interest.accrual.accounts").increment(credits.size());
+            meterRegistry.counter("interest.accrual.amount").increment(chunkInterest);
+        }
+        return checkpoint.isCompleted();
+    }
+
+    /**
+     * 배치로 기록한 이자 입금 거래를 커밋된 뒤 각 계좌의 이벤트 구독자에게 발행합니다.
+     *
+     * @param credits [계좌 ID, 지급 전 잔액, 이자] 목록
+     * @param transactionIds credits 순서대로 생성된 거래 ID
+     */
+    private void publishAfterCommit(List<long[]> credits, List<Long> transactionIds) {
+        String feeRate = BigDecimal.ZERO.toString();
+        for (int index = 0; index < credits.size(); index++) {
+            long[] credit = credits.get(index);
+            accountEventBus.publishAfterCommit(credit[0], TransactionDTO.builder()
+                    .id(transactionIds.get(index))
+                    .type(TransactionType.DEPOSIT)
+                    .netAmount(credit[2])
+                    .prevBalance(credit[1])
+                    .postBalance(credit[1] + credit[2])
+                    .fee(0L)
+                    .feeRate(feeRate)
+                    .memo(MEMO)
+                    .build());
+        }
+    }
+
+    /**
+     * 거래 기록을 배치 INSERT 하고, 생성된 거래 ID 를 rows 순서대로 반환합니다.
+     */
+    private <T> List<Long> insertLedger(List<T> rows, ParameterizedPreparedStatementSetter<T> setter) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_LEDGER_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int index) throws SQLException {
+                        setter.setValues(ps, rows.get(index));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                }, keyHolder);
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != rows.size()) {
+            throw new IllegalStateException("생성된 거래 ID 수(" + keys.size() + ")가 기록한 거래 수(" + rows.size() + ")와 다릅니다.");
+        }
+        // 키 컬럼 이름은 드라이버마다 다르므로(ID, GENERATED_KEY 등) 첫 번째 값을 사용합니다.
+        return keys.stream().map(key -> ((Number) key.values().iterator().next()).longValue()).toList();
+    }
+
+    private InterestAccrualReportDTO reportOf(String accrualDate, long elapsedNanos) {
+        int partitions = 0;
+        long accounts = 0L;
+        long totalInterest = 0L;
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            for (InterestAccrualCheckpoint checkpoint : shardRouter.inNewTransaction(shard, true,
+                    () -> checkpointRepository.findAllByAccrualDateOrderByPartitionNoAsc(accrualDate))) {
+                partitions++;
+                accounts += checkpoint.getAccounts();
+                totalInterest += checkpoint.getTotalInterest();
+            }
+        }
+        return InterestAccrualReportDTO.builder()
+                .accrualDate(accrualDate)
+                .partitions(partitions)
+                .accounts(accounts)
+                .totalInterest(totalInterest)
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .build();
+    }
+
+    private ExecutorService newExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "interest-accrual-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
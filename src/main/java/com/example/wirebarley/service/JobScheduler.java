@@ -0,0 +1,316 @@
+package com.example.wirebarley.service;
+
+import com.example.wirebarley.config.ShardContext;
+import com.example.wirebarley.domain.JobLease;
+import com.example.wirebarley.domain.JobPartition;
+import com.example.wirebarley.enumeration.JobPartitionStatus;
+import com.example.wirebarley.repository.JobLeaseRepository;
+import com.example.wirebarley.repository.JobPartitionRepository;
+import com.example.wirebarley.util.BusinessClock;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 여러 애플리케이션 인스턴스(노드)에서 백그라운드 작업이 중복 실행되지 않도록 DB 임대(lease)로 조정하는 클래스.
+ * <p>
+ * - {@link #runExclusively}: 작업별 임대 로우({@link JobLease})를 조건부 UPDATE 로 가져온 노드 하나만 작업을 실행합니다.
+ *   실행 단위(runKey)를 지정하면 완료한 실행 단위는 다시 실행하지 않습니다.<br>
+ * - {@link #runPartitioned}: 실행 단위별 파티션 로우({@link JobPartition})를 SELECT ... FOR UPDATE SKIP LOCKED 로 하나씩 가져가
+ *   여러 노드가 큰 작업을 나누어 처리합니다. 각 파티션은 한 번만 완료됩니다.
+ * </p>
+ * 실행 중인 임대는 heartbeat 스레드가 lease-duration 의 1/3 주기로 연장하며, 노드가 중단되면 임대가 만료되어 다른 노드가 이어받습니다.
+ * 임대 로우는 기본 샤드에 저장합니다.
+ */
+@Service
+public class JobScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(JobScheduler.class);
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Autowired
+    private JobPartitionRepository jobPartitionRepository;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private BusinessClock businessClock;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    // 임대 유효 시간. heartbeat 가 멈춘 노드의 작업은 이 시간이 지나면 다른 노드가 가져갑니다.
+    @Value("${app.jobs.lease-duration-ms:60000}")
+    private long leaseDurationMs;
+
+    // 임대가 끝난 뒤 이 기간(일)이 지난 임대 로우는 삭제합니다.
+    @Value("${app.jobs.lease-retention-days:7}")
+    private int leaseRetentionDays;
+
+    // 노드 식별자. 비어 있으면 pid@host 와 임의 값으로 만듭니다.
+    @Value("${app.jobs.node-id:}")
+    private String nodeId;
+
+    // 이 노드가 실행 중인 작업 이름 / 파티션 ID (heartbeat 대상)
+    private final Set<String> heldLeases = ConcurrentHashMap.newKeySet();
+    private final Set<Long> heldPartitions = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-lease-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    void init() {
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+        }
+        long interval = Math.max(1L, leaseDurationMs / 3);
+        heartbeat.scheduleWithFixedDelay(this::renewLeases, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 다른 노드가 실행 중이 아닐 때만 작업을 실행합니다. 작업이 끝나면(예외 포함) 임대를 반납합니다.
+     *
+     * @param jobName 작업 이름
+     * @param job 실행할 작업
+     * @return 이 노드에서 실행했으면 true, 다른 노드가 실행 중이면 false
+     */
+    public boolean runExclusively(String jobName, Runnable job) {
+        return this.runExclusively(jobName, null, job);
+    }
+
+    /**
+     * 다른 노드가 실행 중이 아니고, 실행 단위(runKey)를 아직 완료하지 않았을 때만 작업을 실행합니다.
+     * 작업이 성공하면 실행 단위를 완료로 기록하며 임대를 반납하므로, 반납 후 다른 노드가 같은 실행 단위를 다시 실행하지 않습니다.
+     * 실패하면 기록 없이 임대만 반납하여 다음 실행(또는 다른 노드)이 다시 실행합니다.
+     *
+     * @param jobName 작업 이름
+     * @param runKey 실행 단위 (예: 처리 날짜). null 이면 완료 여부와 관계없이 실행합니다.
+     * @param job 실행할 작업
+     * @return 이 노드에서 실행했으면 true, 다른 노드가 실행 중이거나 이미 완료한 실행 단위이면 false
+     */
+    public boolean runExclusively(String jobName, String runKey, Runnable job) {
+        // 같은 노드의 다른 스레드가 실행 중이거나, 다른 노드가 임대 중이면 실행하지 않습니다.
+        if (!heldLeases.add(jobName)) {
+            this.count("skipped", jobName);
+            return false;
+        }
+        if (!this.acquire(jobName)) {
+            heldLeases.remove(jobName);
+            this.count("skipped", jobName);
+            return false;
+        }
+        boolean completed = false;
+        try {
+            if (runKey != null && this.isCompleted(jobName, runKey)) {
+                this.count("skipped", jobName);
+                return false;
+            }
+            job.run();
+            completed = true;
+            this.count("completed", jobName);
+            return true;
+        } catch (RuntimeException ex) {
+            this.count("failed", jobName);
+            throw ex;
+        } finally {
+            heldLeases.remove(jobName);
+            ZonedDateTime now = businessClock.now();
+            if (completed && runKey != null) {
+                this.inDefaultShard(() -> jobLeaseRepository.complete(jobName, nodeId, runKey, now));
+            } else {
+                this.inDefaultShard(() -> jobLeaseRepository.release(jobName, nodeId, now));
+            }
+        }
+    }
+
+    /**
+     * 임대가 끝난 지 lease-retention-days 가 지난 임대 로우를 삭제합니다.
+     * 지급 작업처럼 작업 이름에 ID 가 들어가는 임대는 한 번 쓰고 남으므로 주기적으로 정리합니다.
+     * 매일 실행하는 작업의 로우는 보관 기간 안에 다시 갱신되므로 삭제되지 않습니다.
+     */
+    @Scheduled(cron = "${app.jobs.lease-cleanup-cron:0 0 5 * * *}", zone = "Asia/Seoul")
+    public void purgeExpiredLeases() {
+        ZonedDateTime before = businessClock.now().minusDays(leaseRetentionDays);
+        int deleted = this.inDefaultShard(() -> jobLeaseRepository.deleteExpiredBefore(before));
+        if (deleted > 0) {
+            log.info("만료된 작업 임대 {}건 삭제 (기준 {})", deleted, before);
+        }
+    }
+
+    /**
+     * 실행 단위(runKey)의 파티션을 가져갈 수 없을 때까지 하나씩 가져가 처리합니다.
+     * 다른 노드도 같은 작업을 실행하면 남은 파티션을 나누어 처리합니다.
+     * 처리에 실패한 파티션은 대기 상태로 반납하여 다음 실행(또는 다른 노드)이 다시 처리하고, 예외는 다시 던집니다.
+     *
+     * @param jobName 작업 이름
+     * @param runKey 실행 단위 (예: 처리 날짜)
+     * @param partitions 파티션 수. 처음 실행하는 실행 단위이면 이 수만큼 파티션 로우를 만듭니다.
+     * @param work 파티션 번호를 받아 처리하는 작업
+     * @return 이 노드가 완료한 파티션 수
+     */
+    public int runPartitioned(String jobName, String runKey, int partitions, IntConsumer work) {
+        this.createPartitions(jobName, runKey, partitions);
+
+        int completed = 0;
+        JobPartition partition;
+        while ((partition = this.claim(jobName, runKey)) != null) {
+            long partitionId = partition.getId();
+            heldPartitions.add(partitionId);
+            try {
+                work.accept(partition.getPartitionNo());
+                this.finish(partitionId, JobPartitionStatus.DONE);
+                this.count("completed", jobName);
+                completed++;
+            } catch (RuntimeException ex) {
+                this.finish(partitionId, JobPartitionStatus.PENDING);
+                this.count("failed", jobName);
+                throw ex;
+            } finally {
+                heldPartitions.remove(partitionId);
+            }
+        }
+        return completed;
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    private boolean acquire(String jobName) {
+        ZonedDateTime now = businessClock.now();
+        ZonedDateTime leaseUntil = now.plus(Duration.ofMillis(leaseDurationMs));
+        if (this.inDefaultShard(() -> jobLeaseRepository.acquire(jobName, nodeId, leaseUntil, now)) == 1) {
+            return true;
+        }
+        // 처음 실행하는 작업이면 임대 로우를 만들고 다시 시도합니다. (동시에 만들면 한 노드만 성공)
+        try {
+            this.inDefaultShard(() -> jobLeaseRepository.findByName(jobName)
+                    .orElseGet(() -> jobLeaseRepository.saveAndFlush(new JobLease(jobName, now))));
+        } catch (DataIntegrityViolationException ignored) {
+            // 다른 노드가 먼저 만든 경우
+        }
+        return this.inDefaultShard(() -> jobLeaseRepository.acquire(jobName, nodeId, leaseUntil, now)) == 1;
+    }
+
+    private boolean isCompleted(String jobName, String runKey) {
+        return this.inDefaultShard(() -> jobLeaseRepository.findByName(jobName)
+                .map(lease -> runKey.equals(lease.getLastCompletedRunKey()))
+                .orElse(false));
+    }
+
+    private void createPartitions(String jobName, String runKey, int partitions) {
+        try {
+            this.inDefaultShard(() -> {
+                Set<Integer> existing = new HashSet<>();
+                jobPartitionRepository.findAllByJobNameAndRunKeyOrderByPartitionNoAsc(jobName, runKey)
+                        .forEach(partition -> existing.add(partition.getPartitionNo()));
+                List<JobPartition> missing = new ArrayList<>();
+                for (int partitionNo = 0; partitionNo < partitions; partitionNo++) {
+                    if (!existing.contains(partitionNo)) {
+                        missing.add(new JobPartition(jobName, runKey, partitionNo));
+                    }
+                }
+                return jobPartitionRepository.saveAllAndFlush(missing);
+            });
+        } catch (DataIntegrityViolationException ignored) {
+            // 다른 노드가 먼저 만든 경우
+        }
+    }
+
+    /**
+     * 대기 중이거나 임대가 만료된 파티션 하나를 잠그고 RUNNING 으로 변경합니다. (트랜잭션 하나)
+     *
+     * @return 가져온 파티션. 없으면 null
+     */
+    private JobPartition claim(String jobName, String runKey) {
+        return this.inDefaultShard(() -> {
+            ZonedDateTime now = businessClock.now();
+            Long id = jobPartitionRepository.findClaimableId(jobName, runKey, Timestamp.from(now.toInstant()));
+            if (id == null) {
+                return null;
+            }
+            jobPartitionRepository.claim(id, nodeId, now.plus(Duration.ofMillis(leaseDurationMs)), now);
+            return jobPartitionRepository.findById(id).orElse(null);
+        });
+    }
+
+    private void finish(long partitionId, JobPartitionStatus status) {
+        int updated = this.inDefaultShard(() -> jobPartitionRepository.finish(partitionId, nodeId, status, businessClock.now()));
+        if (updated == 0) {
+            log.warn("파티션 {} 의 임대가 만료되어 다른 노드가 가져갔습니다. (상태 {} 반영 안 됨)", partitionId, status);
+        }
+    }
+
+    /**
+     * 이 노드가 실행 중인 작업/파티션의 임대를 연장합니다. 연장에 실패한 임대는 다른 노드가 가져간 것입니다.
+     */
+    private void renewLeases() {
+        if (heldLeases.isEmpty() && heldPartitions.isEmpty()) {
+            return;
+        }
+        try {
+            ZonedDateTime now = businessClock.now();
+            ZonedDateTime leaseUntil = now.plus(Duration.ofMillis(leaseDurationMs));
+            for (String jobName : heldLeases) {
+                if (this.inDefaultShard(() -> jobLeaseRepository.renew(jobName, nodeId, leaseUntil, now)) == 0) {
+                    log.warn("작업 {} 의 임대를 연장하지 못했습니다. 다른 노드가 임대를 가져갔을 수 있습니다.", jobName);
+                }
+            }
+            List<Long> partitionIds = List.copyOf(heldPartitions);
+            if (!partitionIds.isEmpty()) {
+                this.inDefaultShard(() -> jobPartitionRepository.renew(partitionIds, nodeId, leaseUntil, now));
+            }
+        } catch (RuntimeException ex) {
+            // 다음 주기에 다시 시도합니다. 임대가 만료되기 전에 연장되지 못하면 다른 노드가 이어받습니다.
+            log.warn("작업 임대 연장 실패", ex);
+        }
+    }
+
+    private <T> T inDefaultShard(Supplier<T> operation) {
+        return shardRouter.inNewTransaction(ShardContext.DEFAULT_SHARD, false, operation);
+    }
+
+    private void count(String result, String jobName) {
+        if (meterRegistry != null) {
+            meterRegistry.counter("job.runs", "job", jobName, "result", result).increment();
+        }
+    }
+}
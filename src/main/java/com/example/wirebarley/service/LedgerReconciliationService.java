@@ -0,0 +1,544 @@
+package com.example.wirebarley.service;
+
+import com.example.wirebarley.dto.LedgerDiscrepancyDTO;
+import com.example.wirebarley.dto.ReconciliationReportDTO;
+import com.example.wirebarley.enumeration.DiscrepancyType;
+import com.example.wirebarley.enumeration.TransactionType;
+import com.example.wirebarley.repository.AccountRepository;
+import com.example.wirebarley.repository.TransactionRepository;
+import com.example.wirebarley.util.BusinessClock;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 계좌 잔액과 거래 원장(Transaction)이 일치하는지 대사하는 서비스 클래스.
+ * <p>
+ * 계좌 ID 공간을 range-size 크기의 구간으로 나누어 ForkJoinPool 에서 병렬로 처리합니다. 각 구간은 읽기 전용 트랜잭션 하나에서
+ * 계좌 잔액을 읽고, 거래를 계좌 ID / 거래 ID 순서로 스트리밍하며 계좌마다 다음을 확인합니다.<br>
+ * - 거래의 prevBalance 가 직전 거래의 postBalance(첫 거래는 0)와 같은지, postBalance - prevBalance 가 거래 금액과 같은지<br>
+ * - 계좌 잔액이 마지막 거래의 postBalance, 그리고 거래 합계(입금 - 출금/이체)와 같은지<br>
+ * - relatedTransactionId 로 연결된 거래가 존재하고 유형/금액/역방향 연결이 맞는지 (다른 구간/샤드의 거래는 ID 로 모아서 조회)
+ * </p>
+ * 대사 중에도 잔액은 계속 변경되므로, 계좌 단위 불일치는 해당 계좌만 다시 대사하여 남은 것만 보고합니다.
+ * 진행률과 처리량은 {@link #progress()} 와 ledger.reconciliation.* 메트릭으로 확인합니다.
+ */
+@Service
+public class LedgerReconciliationService {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerReconciliationService.class);
+
+    // 연결 거래를 한 번에 조회하는 최대 ID 수
+    private static final int LINK_BATCH_SIZE = 1000;
+
+    private static final DateTimeFormatter REPORT_FILE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private BusinessClock businessClock;
+
+    @Autowired
+    private JobScheduler jobScheduler;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    // true 이면 cron 에 맞춰 대사를 실행합니다. (actuator 로는 설정과 무관하게 실행할 수 있음)
+    @Value("${app.reconciliation.enabled:false}")
+    private boolean enabled;
+
+    // 동시에 대사하는 구간 수. 구간마다 커넥션을 하나씩 사용하므로 커넥션 풀 크기보다 충분히 작게 설정합니다.
+    @Value("${app.reconciliation.parallelism:4}")
+    private int parallelism;
+
+    // 한 트랜잭션에서 대사하는 계좌 ID 구간 크기
+    @Value("${app.reconciliation.range-size:1000}")
+    private long rangeSize;
+
+    @Value("${app.reconciliation.report-dir:reconciliation-reports}")
+    private String reportDir;
+
+    // 결과(ReconciliationReportDTO)에 담는 최대 불일치 건수. 보고서 파일에는 모두 기록합니다.
+    @Value("${app.reconciliation.max-report-entries:1000}")
+    private int maxReportEntries;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final ExecutorService launcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ledger-reconciliation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 현재(또는 마지막) 실행의 진행 상황
+    private final LongAdder accountsDone = new LongAdder();
+    private final LongAdder transactionsDone = new LongAdder();
+    private volatile long totalAccounts;
+    private volatile long startedAtNanos;
+    private volatile long finishedAtNanos;
+    private volatile ReconciliationReportDTO lastReport;
+
+    @PostConstruct
+    void registerMetrics() {
+        if (meterRegistry == null) {
+            return;
+        }
+        Gauge.builder("ledger.reconciliation.progress", this, LedgerReconciliationService::progressRatio)
+                .description("진행 중인 원장 대사의 진행률 (0~1)")
+                .register(meterRegistry);
+        Gauge.builder("ledger.reconciliation.throughput", this, LedgerReconciliationService::accountsPerSecond)
+                .description("원장 대사 처리량 (계좌/초)")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        launcher.shutdownNow();
+    }
+
+    /**
+     * 전체 계좌를 대사합니다. 이미 실행 중이면 IllegalStateException 이 발생합니다.
+     *
+     * @return 대사 결과. 불일치가 있으면 보고서 파일 경로를 포함합니다.
+     */
+    public ReconciliationReportDTO reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("원장 대사가 이미 실행 중입니다.");
+        }
+        try {
+            return this.run();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 백그라운드 스레드에서 대사를 시작합니다.
+     *
+     * @return 시작했으면 true, 이미 실행 중이면 false
+     */
+    public boolean reconcileAsync() {
+        if (running.get()) {
+            return false;
+        }
+        CompletableFuture.runAsync(this::reconcile, launcher).exceptionally(ex -> {
+            log.error("원장 대사 실패", ex);
+            return null;
+        });
+        return true;
+    }
+
+    /**
+     * cron 에 맞춰 백그라운드 스레드에서 대사를 시작합니다.
+     * 대사는 몇 시간이 걸릴 수 있으므로 스케줄러 스레드에서는 시작만 하고 바로 반환합니다. (다른 주기 작업이 밀리지 않도록)
+     */
+    @Scheduled(cron = "${app.reconciliation.cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void scheduledReconcile() {
+        if (!enabled || running.get()) {
+            return;
+        }
+        // 여러 인스턴스 중 임대를 가져온 인스턴스 하나만 실행하고, 그날 완료한 대사는 다른 인스턴스가 다시 실행하지 않습니다.
+        String runDate = businessClock.todayText();
+        CompletableFuture.runAsync(() -> jobScheduler.runExclusively("ledger-reconciliation", runDate, this::reconcile), launcher)
+                .exceptionally(ex -> {
+                    log.error("원장 대사 실패", ex);
+                    return null;
+                });
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * 현재(또는 마지막) 실행의 진행 상황과 처리량, 마지막 결과 요약을 반환합니다.
+     */
+    public Map<String, Object> progress() {
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("running", running.get());
+        progress.put("accounts", accountsDone.sum());
+        progress.put("totalAccounts", totalAccounts);
+        progress.put("transactions", transactionsDone.sum());
+        progress.put("progress", this.progressRatio());
+        progress.put("accountsPerSecond", this.accountsPerSecond());
+        ReconciliationReportDTO report = lastReport;
+        if (report != null) {
+            progress.put("lastFinishedAt", report.getFinishedAt());
+            progress.put("lastDiscrepancies", report.getDiscrepancyCounts());
+            progress.put("lastReportFile", report.getReportFile());
+        }
+        return progress;
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    private ReconciliationReportDTO run() {
+        ZonedDateTime startedAt = businessClock.now();
+        accountsDone.reset();
+        transactionsDone.reset();
+        startedAtNanos = System.nanoTime();
+        finishedAtNanos = 0L;
+
+        // 1. 샤드마다 계좌 ID 범위를 구해 구간 작업을 만듭니다.
+        List<RangeTask> tasks = new ArrayList<>();
+        long total = 0L;
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            Long[] bounds = shardRouter.inNewTransaction(shard, true,
+                    () -> new Long[]{accountRepository.findMinId(), accountRepository.findMaxId(), accountRepository.count()});
+            if (bounds[0] != null) {
+                tasks.add(new RangeTask(shard, bounds[0], bounds[1] + 1));
+                total += bounds[2];
+            }
+        }
+        totalAccounts = total;
+
+        // 2. 구간을 병렬로 대사합니다.
+        List<LedgerDiscrepancyDTO> found = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.submit(() -> ForkJoinTask.invokeAll(tasks).forEach(task -> found.addAll(task.join()))).get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("원장 대사가 중단되었습니다.", ex);
+        } catch (ExecutionException ex) {
+            throw ex.getCause() instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new IllegalStateException(ex.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        // 3. 대사 중 변경된 계좌의 오탐을 제거하고 보고서를 남깁니다.
+        List<LedgerDiscrepancyDTO> confirmed = this.recheck(found);
+        finishedAtNanos = System.nanoTime();
+
+        Map<DiscrepancyType, Long> counts = new EnumMap<>(DiscrepancyType.class);
+        confirmed.forEach(discrepancy -> counts.merge(discrepancy.getType(), 1L, Long::sum));
+        ReconciliationReportDTO report = ReconciliationReportDTO.builder()
+                .startedAt(startedAt)
+                .finishedAt(businessClock.now())
+                .accounts(accountsDone.sum())
+                .transactions(transactionsDone.sum())
+                .accountsPerSecond(this.accountsPerSecond())
+                .discrepancyCounts(counts)
+                .discrepancies(confirmed.stream().limit(maxReportEntries).toList())
+                .reportFile(this.writeReport(startedAt, confirmed))
+                .build();
+        lastReport = report;
+
+        if (meterRegistry != null) {
+            meterRegistry.timer("ledger.reconciliation.duration").record(finishedAtNanos - startedAtNanos, TimeUnit.NANOSECONDS);
+            counts.forEach((type, count) ->
+                    meterRegistry.counter("ledger.reconciliation.discrepancies", "type", type.name()).increment(count));
+        }
+        log.info("원장 대사 완료: 계좌 {}건, 거래 {}건, 불일치 {}, {} 계좌/초",
+                report.getAccounts(), report.getTransactions(), counts, String.format("%.1f", report.getAccountsPerSecond()));
+        return report;
+    }
+
+    /**
+     * 한 구간을 대사합니다. 잔액/거래는 하나의 읽기 전용 트랜잭션에서 읽고, 연결 거래는 트랜잭션을 닫은 뒤 ID 로 모아서 확인합니다.
+     */
+    private List<LedgerDiscrepancyDTO> reconcileRange(int shard, long fromId, long toId) {
+        List<LedgerDiscrepancyDTO> discrepancies = new ArrayList<>();
+        List<Link> links = new ArrayList<>();
+        ScanCount count = shardRouter.inNewTransaction(shard, true, () -> this.scan(fromId, toId, discrepancies, links));
+        discrepancies.addAll(this.verifyLinks(links));
+
+        accountsDone.add(count.accounts());
+        transactionsDone.add(count.transactions());
+        if (meterRegistry != null) {
+            meterRegistry.counter("ledger.reconciliation.accounts").increment(count.accounts());
+            meterRegistry.counter("ledger.reconciliation.transactions").increment(count.transactions());
+        }
+        return discrepancies;
+    }
+
+    /**
+     * 계좌 ID 가 [fromId, toId) 인 계좌의 잔액과 거래를 대사합니다. 트랜잭션 안에서 호출해야 합니다.
+     */
+    private ScanCount scan(long fromId, long toId, List<LedgerDiscrepancyDTO> discrepancies, List<Link> links) {
+        Map<Long, Long> balances = new LinkedHashMap<>();
+        for (Object[] row : accountRepository.findBalancesByIdRange(fromId, toId)) {
+            balances.put((Long) row[0], (Long) row[1]);
+        }
+        long accounts = balances.size();
+
+        long transactions = 0L;
+        AccountLedger ledger = null;
+        try (Stream<Object[]> rows = transactionRepository.streamLedgerByAccountIdRange(fromId, toId)) {
+            Iterator<Object[]> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                LedgerEntry entry = LedgerEntry.of(iterator.next());
+                if (ledger == null || ledger.accountId != entry.accountId()) {
+                    if (ledger != null) {
+                        ledger.finish(balances.remove(ledger.accountId), discrepancies);
+                    }
+                    ledger = new AccountLedger(entry.accountId());
+                }
+                ledger.add(entry, discrepancies);
+                if (entry.relatedTransactionId() != null) {
+                    links.add(new Link(entry.accountId(), entry.transactionId(), entry.type(), entry.netAmount(), entry.relatedTransactionId()));
+                }
+                transactions++;
+            }
+        }
+        if (ledger != null) {
+            ledger.finish(balances.remove(ledger.accountId), discrepancies);
+        }
+        // 거래가 없는 계좌는 잔액이 0 이어야 합니다.
+        balances.forEach((accountId, balance) -> new AccountLedger(accountId).finish(balance, discrepancies));
+        return new ScanCount(accounts, transactions);
+    }
+
+    /**
+     * relatedTransactionId 로 연결된 거래를 LINK_BATCH_SIZE 개씩 모아 조회하고 서로 맞는지 확인합니다.
+     */
+    private List<LedgerDiscrepancyDTO> verifyLinks(List<Link> links) {
+        List<LedgerDiscrepancyDTO> discrepancies = new ArrayList<>();
+        for (int from = 0; from < links.size(); from += LINK_BATCH_SIZE) {
+            List<Link> batch = links.subList(from, Math.min(from + LINK_BATCH_SIZE, links.size()));
+            List<Long> relatedIds = batch.stream().map(Link::relatedTransactionId).distinct().toList();
+
+            Map<Long, LinkTarget> targets = new HashMap<>();
+            for (Object[] row : shardRouter.gather(shardRouter.groupByShard(relatedIds), transactionRepository::findLinksByIdIn)) {
+                LinkTarget target = new LinkTarget((TransactionType) row[1], (Long) row[2], (Long) row[3]);
+                targets.put((Long) row[0], target);
+            }
+
+            for (Link link : batch) {
+                LinkTarget target = targets.get(link.relatedTransactionId());
+                if (target == null) {
+                    discrepancies.add(discrepancy(DiscrepancyType.RELATED_MISSING, link.accountId(), link.transactionId(),
+                            "transaction " + link.relatedTransactionId(), "missing"));
+                } else if (!this.isConsistent(link, target)) {
+                    discrepancies.add(discrepancy(DiscrepancyType.RELATED_MISMATCH, link.accountId(), link.transactionId(),
+                            link.type() + " " + link.netAmount() + " <-> " + link.transactionId(),
+                            target.type() + " " + target.netAmount() + " -> " + target.relatedTransactionId()));
+                }
+            }
+        }
+        return discrepancies;
+    }
+
+    private boolean isConsistent(Link link, LinkTarget target) {
+        return switch (link.type()) {
+            // 송금: 상대 거래는 같은 금액의 입금이고 이 거래를 가리켜야 합니다.
+            // 이체 취소(음수 금액): 취소한 원래 이체 거래를 가리킵니다.
+            case TRANSFER -> link.netAmount() >= 0
+                    ? target.type() == TransactionType.DEPOSIT && target.netAmount() == link.netAmount()
+                    && Objects.equals(target.relatedTransactionId(), link.transactionId())
+                    : target.type() == TransactionType.TRANSFER && target.netAmount() == -link.netAmount();
+            // 입금: 상대 거래는 같은 금액의 이체입니다. 샤드 간 이체의 완료 처리 전이라면 이체 거래는 아직 입금을 가리키지 않습니다.
+            case DEPOSIT -> target.type() == TransactionType.TRANSFER && target.netAmount() == link.netAmount()
+                    && (target.relatedTransactionId() == null || target.relatedTransactionId() == link.transactionId());
+            case WITHDRAW -> false;
+        };
+    }
+
+    /**
+     * 계좌 단위 불일치가 발견된 계좌만 다시 대사합니다. 대사 중 잔액이 변경된 계좌는 다시 대사하면 일치합니다.
+     */
+    private List<LedgerDiscrepancyDTO> recheck(List<LedgerDiscrepancyDTO> found) {
+        List<LedgerDiscrepancyDTO> confirmed = new ArrayList<>();
+        Set<Long> suspects = new TreeSet<>();
+        for (LedgerDiscrepancyDTO discrepancy : found) {
+            if (discrepancy.getType() == DiscrepancyType.RELATED_MISSING || discrepancy.getType() == DiscrepancyType.RELATED_MISMATCH) {
+                confirmed.add(discrepancy);
+            } else {
+                suspects.add(discrepancy.getAccountId());
+            }
+        }
+        for (long accountId : suspects) {
+            shardRouter.inNewTransaction(shardRouter.shardOfId(accountId), true,
+                    () -> this.scan(accountId, accountId + 1, confirmed, new ArrayList<>()));
+        }
+        return confirmed;
+    }
+
+    private String writeReport(ZonedDateTime startedAt, List<LedgerDiscrepancyDTO> discrepancies) {
+        if (discrepancies.isEmpty()) {
+            return null;
+        }
+        Path file = Path.of(reportDir, "ledger-reconciliation-" + startedAt.format(REPORT_FILE_FORMAT) + ".csv");
+        try {
+            Files.createDirectories(file.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+                writer.write("type,accountId,transactionId,expected,actual");
+                writer.newLine();
+                for (LedgerDiscrepancyDTO discrepancy : discrepancies) {
+                    writer.write(String.join(",", discrepancy.getType().name(), String.valueOf(discrepancy.getAccountId()),
+                            Objects.toString(discrepancy.getTransactionId(), ""), discrepancy.getExpected(), discrepancy.getActual()));
+                    writer.newLine();
+                }
+            }
+            return file.toAbsolutePath().toString();
+        } catch (IOException ex) {
+            log.error("원장 대사 보고서 저장 실패: {}", file, ex);
+            return null;
+        }
+    }
+
+    private double progressRatio() {
+        long total = totalAccounts;
+        return total == 0 ? 0.0 : Math.min(1.0, (double) accountsDone.sum() / total);
+    }
+
+    private double accountsPerSecond() {
+        long started = startedAtNanos;
+        if (started == 0L) {
+            return 0.0;
+        }
+        long finished = finishedAtNanos;
+        long elapsedNanos = (finished == 0L ? System.nanoTime() : finished) - started;
+        return elapsedNanos <= 0 ? 0.0 : accountsDone.sum() * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    private static LedgerDiscrepancyDTO discrepancy(DiscrepancyType type, long accountId, Long transactionId, Object expected, Object actual) {
+        return LedgerDiscrepancyDTO.builder()
+                .type(type)
+                .accountId(accountId)
+                .transactionId(transactionId)
+                .expected(String.valueOf(expected))
+                .actual(String.valueOf(actual))
+                .build();
+    }
+
+    /**
+     * 계좌 ID 구간을 range-size 이하가 될 때까지 반으로 나누어 병렬로 대사합니다.
+     */
+    private class RangeTask extends RecursiveTask<List<LedgerDiscrepancyDTO>> {
+
+        private final int shard;
+        private final long fromId;
+        private final long toId;
+
+        RangeTask(int shard, long fromId, long toId) {
+            this.shard = shard;
+            this.fromId = fromId;
+            this.toId = toId;
+        }
+
+        @Override
+        protected List<LedgerDiscrepancyDTO> compute() {
+            if (toId - fromId <= rangeSize) {
+                return reconcileRange(shard, fromId, toId);
+            }
+            long middle = fromId + (toId - fromId) / 2;
+            RangeTask left = new RangeTask(shard, fromId, middle);
+            RangeTask right = new RangeTask(shard, middle, toId);
+            invokeAll(left, right);
+
+            List<LedgerDiscrepancyDTO> discrepancies = new ArrayList<>(left.join());
+            discrepancies.addAll(right.join());
+            return discrepancies;
+        }
+    }
+
+    /**
+     * 한 계좌의 거래를 순서대로 받아 잔액 흐름을 확인합니다. 계좌는 잔액 0 으로 개설되므로 첫 거래의 prevBalance 는 0 입니다.
+     */
+    private static final class AccountLedger {
+
+        private final long accountId;
+        private long expectedPrevBalance = 0L;
+        private long ledgerSum = 0L;
+        private long lastPostBalance = 0L;
+
+        private AccountLedger(long accountId) {
+            this.accountId = accountId;
+        }
+
+        private void add(LedgerEntry entry, List<LedgerDiscrepancyDTO> discrepancies) {
+            if (entry.prevBalance() != expectedPrevBalance) {
+                discrepancies.add(discrepancy(DiscrepancyType.BROKEN_CHAIN, accountId, entry.transactionId(),
+                        expectedPrevBalance, entry.prevBalance()));
+            }
+            // 입금은 netAmount 만큼 늘고, 출금/이체는 수수료를 포함한 grossAmount 만큼 줄어듭니다. (이체 취소는 grossAmount 가 음수)
+            long delta = entry.type() == TransactionType.DEPOSIT ? entry.netAmount() : -entry.grossAmount();
+            if (entry.postBalance() - entry.prevBalance() != delta) {
+                discrepancies.add(discrepancy(DiscrepancyType.AMOUNT_MISMATCH, accountId, entry.transactionId(),
+                        delta, entry.postBalance() - entry.prevBalance()));
+            }
+            ledgerSum += delta;
+            expectedPrevBalance = entry.postBalance();
+            lastPostBalance = entry.postBalance();
+        }
+
+        private void finish(Long balance, List<LedgerDiscrepancyDTO> discrepancies) {
+            // 계좌를 읽은 뒤 생성된 계좌의 거래는 다음 대사에서 확인합니다.
+            if (balance == null) {
+                return;
+            }
+            if (balance != lastPostBalance) {
+                discrepancies.add(discrepancy(DiscrepancyType.BALANCE_NOT_LAST_POST_BALANCE, accountId, null, lastPostBalance, balance));
+            }
+            if (balance != ledgerSum) {
+                discrepancies.add(discrepancy(DiscrepancyType.BALANCE_NOT_LEDGER_SUM, accountId, null, ledgerSum, balance));
+            }
+        }
+    }
+
+    private record LedgerEntry(long accountId, long transactionId, TransactionType type, long grossAmount, long netAmount,
+                               long prevBalance, long postBalance, Long relatedTransactionId) {
+
+        private static LedgerEntry of(Object[] row) {
+            return new LedgerEntry((Long) row[0], (Long) row[1], (TransactionType) row[2], (Long) row[3], (Long) row[4],
+                    (Long) row[5], (Long) row[6], (Long) row[7]);
+        }
+    }
+
+    private record Link(long accountId, long transactionId, TransactionType type, long netAmount, long relatedTransactionId) {
+    }
+
+    private record LinkTarget(TransactionType type, long netAmount, Long relatedTransactionId) {
+    }
+
+    private record ScanCount(long accounts, long transactions) {
+    }
+}
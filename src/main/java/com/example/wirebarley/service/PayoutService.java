@@ -0,0 +1,698 @@
+package com.example.wirebarley.service;
+
+import com.example.wirebarley.domain.PayoutJob;
+import com.example.wirebarley.domain.PayoutLine;
+import com.example.wirebarley.dto.TransactionDTO;
+import com.example.wirebarley.dto.TransferRequestDTO;
+import com.example.wirebarley.enumeration.AccountStatus;
+import com.example.wirebarley.enumeration.PayoutJobStatus;
+import com.example.wirebarley.enumeration.PayoutLineStatus;
+import com.example.wirebarley.enumeration.Rejection;
+import com.example.wirebarley.enumeration.TransactionType;
+import com.example.wirebarley.exception.BadRequestException;
+import com.example.wirebarley.exception.NotFoundException;
+import com.example.wirebarley.exception.UnprocessableEntityException;
+import com.example.wirebarley.repository.PayoutJobRepository;
+import com.example.wirebarley.repository.PayoutLineRepository;
+import com.example.wirebarley.util.BusinessClock;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * 지급 계좌 하나에서 수천 명의 수취인에게 지급하는 대량 지급(급여, 정산 등) 서비스 클래스.
+ * <p>
+ * 지급 건마다 {@link AccountService#transfer} 를 호출하면 같은 지급 계좌를 매번 다시 잠그고, 일일 이체 한도 합계를 다시 조회하고,
+ * 수취인을 한 건씩 조회합니다. 대신 지급 건을 순번 순서로 chunk-size 개씩 나누어 청크 하나를 트랜잭션 하나로 처리합니다.
+ * </p>
+ * <p>
+ * - 지급 계좌는 청크마다 한 번 잠그고, 잔액은 청크가 끝날 때 한 번 차감합니다. 일일 이체 한도 합계도 청크마다 한 번만 조회합니다.<br>
+ * - 수취인은 계좌번호 IN 조회 한 번으로 잠그고, 잔액 UPDATE 와 이체/입금 거래 기록 INSERT 는 JDBC 배치로 실행합니다.<br>
+ * - 거래 기록은 {@link AccountService#transfer} 와 같은 형식(수수료 1%, 이체 + 입금 2건, 서로 연결)입니다.
+ * </p>
+ * <p>
+ * 지급할 수 없는 건(수취인 없음, 잔액 부족, 한도 초과 등)은 사유와 함께 실패로 기록하고 나머지를 계속 지급합니다.
+ * 작업의 진행 위치는 청크와 같은 트랜잭션에서 옮기므로, 중단되면 주기적으로 실행되는 재개 작업이 다음 청크부터 이어서 지급합니다.
+ * 수취인이 다른 샤드에 있는 건은 한 트랜잭션으로 묶을 수 없으므로 청크가 커밋된 뒤 한 건씩 샤드 간 이체로 지급합니다.
+ * 대량 지급은 사용자의 이체 빈도 규칙({@link VelocityService})을 확인하지 않고 카운터에도 기록하지 않습니다.
+ * </p>
+ */
+@Service
+public class PayoutService {
+
+    private static final Logger log = LoggerFactory.getLogger(PayoutService.class);
+
+    private static final String INSERT_LINE_SQL = "INSERT INTO payout_line " +
+            "(job_id, line_no, counterparty_account_number, amount, status, failure_reason, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_LINES_SQL = "SELECT id, line_no, counterparty_account_number, amount, status " +
+            "FROM payout_line WHERE job_id = ? AND line_no >= ? ORDER BY line_no LIMIT ?";
+
+    private static final String UPDATE_LINE_SQL = "UPDATE payout_line " +
+            "SET status = ?, failure_reason = ?, transaction_id = ?, updated_at = ? WHERE id = ?";
+
+    private static final String SELECT_SOURCE_SQL = "SELECT account_number, balance, status, user_id FROM account WHERE id = ? FOR UPDATE";
+
+    private static final String SELECT_MEMBER_SQL = "SELECT username, daily_transfer_limit FROM member WHERE id = ?";
+
+    private static final String UPDATE_BALANCE_SQL = "UPDATE account " +
+            "SET balance = ?, last_balance_changed_at = ?, updated_at = ?, version = version + 1 WHERE id = ?";
+
+    private static final String INSERT_LEDGER_SQL = "INSERT INTO transaction " +
+            "(account_id, type, gross_amount, net_amount, prev_balance, post_balance, fee, fee_rate, memo, " +
+            "counterparty_name, counterparty_account_number, related_transaction_id, date, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String LINK_LEDGER_SQL = "UPDATE transaction SET related_transaction_id = ? WHERE id = ?";
+
+    private static final String INTERRUPTED_REASON = "다른 샤드로 이체하던 중 중단되어 결과를 확인해야 합니다.";
+
+    @Autowired
+    private PayoutJobRepository payoutJobRepository;
+
+    @Autowired
+    private PayoutLineRepository payoutLineRepository;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private AccountVersionRegistry accountVersionRegistry;
+
+    @Autowired
+    private AccountEventBus accountEventBus;
+
+    @Autowired
+    private BusinessClock businessClock;
+
+    @Autowired
+    private JobScheduler jobScheduler;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    // 한 트랜잭션에서 처리하는 지급 건수. 처리하는 동안 수취인 계좌 로우 락을 잡으므로 너무 크게 잡지 않습니다.
+    @Value("${app.payout.chunk-size:200}")
+    private int chunkSize;
+
+    // 작업 하나에 등록할 수 있는 최대 지급 건수
+    @Value("${app.payout.max-lines:10000}")
+    private int maxLines;
+
+    // 동시에 처리하는 지급 작업 수
+    @Value("${app.payout.workers:2}")
+    private int workers;
+
+    private ExecutorService executor;
+
+    // 이 노드에서 처리 대기 중이거나 처리 중인 작업 ID (재개 작업이 같은 작업을 중복으로 넣지 않도록)
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "payout-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 대량 지급 작업을 등록하고 백그라운드에서 지급을 시작합니다.
+     * 계좌번호가 없거나 금액이 0원 이하인 지급 건은 등록할 때 실패로 기록합니다.
+     *
+     * @param accountId 지급 계좌 ID
+     * @param memo 거래 기록에 남길 메모
+     * @param lines 수취인 계좌번호와 지급 금액 (요청 순서가 지급 순번)
+     * @return 등록된 지급 작업
+     * @throws Throwable 지급 내역이 비어 있거나 너무 많은 경우, 지급 계좌가 없는 경우
+     */
+    public PayoutJob submit(long accountId, String memo, List<TransferRequestDTO> lines) throws Throwable {
+        if (lines == null || lines.isEmpty()) {
+            throw Rejection.EMPTY_PAYOUT.exception();
+        }
+        if (lines.size() > maxLines) {
+            throw Rejection.TOO_MANY_PAYOUT_LINES.exception(String.format("지급 내역은 최대 %d건까지 등록할 수 있습니다.", maxLines));
+        }
+        int shard = shardRouter.shardOfId(accountId);
+        accountService.findById(accountId);
+
+        PayoutJob job = shardRouter.inNewTransaction(shard, false, () -> this.createJob(accountId, memo, lines));
+        this.start(shard, job.getId());
+        return job;
+    }
+
+    /**
+     * CSV 로 대량 지급 작업을 등록합니다. 한 줄에 "수취인 계좌번호,지급 금액" 하나이며, 빈 줄과 # 으로 시작하는 줄은 건너뜁니다.
+     * 금액을 읽을 수 없는 줄은 실패로 기록합니다.
+     */
+    public PayoutJob submitCsv(long accountId, String memo, String csv) throws Throwable {
+        List<TransferRequestDTO> lines = new ArrayList<>();
+        for (String row : (csv == null ? "" : csv).split("\\R")) {
+            String trimmed = row.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            String[] columns = trimmed.split(",", -1);
+            Long amount = null;
+            if (columns.length >= 2) {
+                try {
+                    amount = Long.parseLong(columns[1].trim());
+                } catch (NumberFormatException ignored) {
+                    // 금액을 읽을 수 없는 줄은 실패로 기록합니다.
+                }
+            }
+            lines.add(new TransferRequestDTO(columns[0].trim(), amount));
+        }
+        return this.submit(accountId, memo, lines);
+    }
+
+    /**
+     * 지급 작업의 진행 상황을 조회합니다.
+     *
+     * @param accountId 지급 계좌 ID
+     * @param jobId 지급 작업 ID
+     * @return 지급 작업
+     * @throws Throwable 계좌에 해당 작업이 없는 경우
+     */
+    public PayoutJob findJob(long accountId, long jobId) throws Throwable {
+        return shardRouter.inNewTransaction(shardRouter.shardOfId(accountId), true, () -> payoutJobRepository.findById(jobId))
+                .filter(job -> job.getSourceAccountId() == accountId)
+                .orElseThrow(Rejection.PAYOUT_NOT_FOUND::exception);
+    }
+
+    /**
+     * 지급에 실패했거나 결과를 확인해야 하는 지급 건을 순번 순서로 조회합니다.
+     */
+    public List<PayoutLine> findFailures(long accountId, long jobId, Pageable pageable) throws Throwable {
+        this.findJob(accountId, jobId);
+        return shardRouter.inNewTransaction(shardRouter.shardOfId(accountId), true, () -> payoutLineRepository
+                .findAllByJobIdAndStatusInOrderByLineNoAsc(jobId, List.of(PayoutLineStatus.FAILED, PayoutLineStatus.UNKNOWN), pageable));
+    }
+
+    /**
+     * 완료되지 않은 지급 작업을 이어서 처리합니다. 노드가 중단되어 멈춘 작업은 임대가 만료된 뒤 다른 노드가 가져갑니다.
+     */
+    @Scheduled(fixedDelayString = "${app.payout.resume-interval-ms:30000}")
+    public void resumeUnfinished() {
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            int jobShard = shard;
+            try {
+                shardRouter.inNewTransaction(shard, true, () -> payoutJobRepository.findIdsByStatus(PayoutJobStatus.RUNNING))
+                        .forEach(jobId -> this.start(jobShard, jobId));
+            } catch (RuntimeException ex) {
+                log.warn("샤드 {} 의 지급 작업 재개 실패: {}", shard, ex.getMessage());
+            }
+        }
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    private PayoutJob createJob(long accountId, String memo, List<TransferRequestDTO> lines) {
+        PayoutJob job = new PayoutJob(accountId, memo, lines.size());
+        // 등록할 때 실패한 건은 진행 위치와 무관하게 처리가 끝난 건입니다.
+        List<String> reasons = lines.stream().map(this::invalidReasonOf).toList();
+        reasons.stream().filter(reason -> reason != null).forEach(reason -> job.recordFailed());
+        payoutJobRepository.saveAndFlush(job);
+
+        Timestamp now = Timestamp.from(businessClock.now().toInstant());
+        List<Integer> lineNos = new ArrayList<>(lines.size());
+        for (int lineNo = 1; lineNo <= lines.size(); lineNo++) {
+            lineNos.add(lineNo);
+        }
+        jdbcTemplate.batchUpdate(INSERT_LINE_SQL, lineNos, 1000, (ps, lineNo) -> {
+            TransferRequestDTO line = lines.get(lineNo - 1);
+            String reason = reasons.get(lineNo - 1);
+            ps.setLong(1, job.getId());
+            ps.setInt(2, lineNo);
+            ps.setString(3, line.getCounterpartyAccountNumber());
+            ps.setLong(4, line.getAmount() == null ? 0L : line.getAmount());
+            ps.setString(5, (reason == null ? PayoutLineStatus.PENDING : PayoutLineStatus.FAILED).name());
+            ps.setString(6, reason);
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+        return job;
+    }
+
+    private String invalidReasonOf(TransferRequestDTO line) {
+        String accountNumber = line.getCounterpartyAccountNumber();
+        if (accountNumber == null || accountNumber.isBlank() || accountNumber.length() > 20) {
+            return Rejection.COUNTERPARTY_NOT_FOUND.getMessage();
+        }
+        if (line.getAmount() == null || line.getAmount() <= 0) {
+            return Rejection.INVALID_TRANSFER_AMOUNT.getMessage();
+        }
+        return null;
+    }
+
+    private void start(int shard, long jobId) {
+        if (!queued.add(jobId)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                // 여러 노드가 같은 작업을 동시에 처리하지 않도록 작업별 임대를 가져온 노드만 처리합니다.
+                jobScheduler.runExclusively("payout-" + jobId, () -> this.process(shard, jobId));
+            } catch (RuntimeException ex) {
+                log.warn("지급 작업 {} 처리 실패, 다음 재개 주기에 이어서 처리합니다.", jobId, ex);
+            } finally {
+                queued.remove(jobId);
+            }
+        });
+    }
+
+    private void process(int shard, long jobId) {
+        long startedAt = System.nanoTime();
+        // 이전 실행에서 다른 샤드로 이체하던 중 중단된 건은 결과를 알 수 없으므로 다시 이체하지 않습니다.
+        shardRouter.inNewTransaction(shard, false, () -> this.markInterrupted(jobId));
+
+        Chunk chunk;
+        do {
+            chunk = shardRouter.inNewTransaction(shard, false, () -> this.payChunk(jobId));
+            for (Line line : chunk.remoteLines()) {
+                this.payRemote(shard, jobId, chunk.sourceAccountId(), chunk.memo(), line);
+            }
+        } while (!chunk.last());
+
+        PayoutJob job = shardRouter.inNewTransaction(shard, false, () -> {
+            PayoutJob found = payoutJobRepository.findForUpdateById(jobId).orElseThrow();
+            if (found.getStatus() != PayoutJobStatus.COMPLETED) {
+                found.complete(businessClock.now());
+            }
+            return found;
+        });
+        if (meterRegistry != null) {
+            meterRegistry.timer("payout.job.duration").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        log.info("지급 작업 {} 완료: 전체 {}건, 지급 {}건 ({}원, 수수료 {}원), 실패 {}건", jobId, job.getTotalLines(),
+                job.getPaidLines(), job.getPaidAmount(), job.getFeeAmount(), job.getFailedLines());
+    }
+
+    private int markInterrupted(long jobId) {
+        PayoutJob job = payoutJobRepository.findForUpdateById(jobId).orElseThrow();
+        List<PayoutLine> interrupted = payoutLineRepository.findAllByJobIdAndStatusInOrderByLineNoAsc(
+                jobId, List.of(PayoutLineStatus.SENDING), Pageable.unpaged());
+        for (PayoutLine line : interrupted) {
+            line.setStatus(PayoutLineStatus.UNKNOWN);
+            line.setFailureReason(INTERRUPTED_REASON);
+            job.recordFailed();
+        }
+        if (!interrupted.isEmpty()) {
+            log.warn("지급 작업 {} 의 다른 샤드 이체 {}건이 중단되어 결과 확인이 필요합니다.", jobId, interrupted.size());
+        }
+        return interrupted.size();
+    }
+
+    /**
+     * 진행 위치부터 chunk-size 개의 지급 건을 처리하고 진행 위치를 옮깁니다. 트랜잭션 안에서 호출해야 합니다.
+     * 같은 샤드의 수취인에게는 이 트랜잭션에서 지급하고, 다른 샤드의 수취인에게 보낼 건은 SENDING 으로 바꾸어 반환합니다.
+     */
+    private Chunk payChunk(long jobId) {
+        PayoutJob job = payoutJobRepository.findForUpdateById(jobId).orElseThrow();
+        if (job.getStatus() == PayoutJobStatus.COMPLETED) {
+            return new Chunk(job.getSourceAccountId(), job.getMemo(), List.of(), true);
+        }
+        List<Line> lines = jdbcTemplate.query(SELECT_LINES_SQL, (rs, rowNum) -> new Line(rs.getLong(1), rs.getInt(2),
+                rs.getString(3), rs.getLong(4), PayoutLineStatus.valueOf(rs.getString(5))), jobId, job.getNextLineNo(), chunkSize);
+        boolean last = lines.size() < chunkSize;
+        if (lines.isEmpty()) {
+            return new Chunk(job.getSourceAccountId(), job.getMemo(), List.of(), true);
+        }
+
+        long sourceId = job.getSourceAccountId();
+        int sourceShard = shardRouter.shardOfId(sourceId);
+        List<Line> pending = lines.stream().filter(line -> line.status() == PayoutLineStatus.PENDING).toList();
+        List<Line> localLines = new ArrayList<>();
+        List<Line> remoteLines = new ArrayList<>();
+        for (Line line : pending) {
+            boolean local = sourceShard == shardRouter.shardOfAccountNumber(line.counterpartyAccountNumber());
+            (local ? localLines : remoteLines).add(line);
+        }
+
+        // 1. 지급 계좌를 한 번 잠그고, 오늘 남은 이체 한도를 한 번 계산합니다.
+        Party source = jdbcTemplate.queryForObject(SELECT_SOURCE_SQL, (rs, rowNum) -> new Party(sourceId, rs.getString(1),
+                rs.getLong(2), AccountStatus.valueOf(rs.getString(3)) == AccountStatus.ACTIVE, rs.getLong(4)), sourceId);
+        Map<String, Object> member = jdbcTemplate.queryForMap(SELECT_MEMBER_SQL, source.userId);
+        source.username = (String) member.get("username");
+        long dailyTransferLimit = ((Number) member.get("daily_transfer_limit")).longValue();
+        long remainingLimit = accountService.getTodayRemainingTransferLimit(source.userId, dailyTransferLimit, 0L);
+
+        // 2. 수취인을 IN 조회 한 번으로 잠급니다. (ID 순서로 잠가 교착 상태를 줄입니다)
+        Map<String, Party> recipients = this.lockRecipients(localLines, source);
+
+        // 3. 지급 건을 순서대로 메모리에서 처리합니다.
+        List<Payment> payments = new ArrayList<>();
+        Map<Long, String> failures = new HashMap<>();
+        for (Line line : localLines) {
+            Party recipient = recipients.get(line.counterpartyAccountNumber());
+            long fee = AccountService.transferFeeOf(line.amount());
+            long gross = line.amount() + fee;
+            String reason = null;
+            if (recipient == null) {
+                reason = Rejection.COUNTERPARTY_NOT_FOUND.getMessage();
+            } else if (recipient.id == source.id) {
+                reason = Rejection.SELF_PAYOUT.getMessage();
+            } else if (!source.active || !recipient.active) {
+                reason = Rejection.ACCOUNT_NOT_ACTIVE.getMessage();
+            } else if (line.amount() > remainingLimit) {
+                reason = String.format("일일 이체 한도 %d원을 초과했습니다.", dailyTransferLimit);
+            } else if (source.balance < gross) {
+                reason = Rejection.INSUFFICIENT_BALANCE.getMessage();
+            }
+            if (reason != null) {
+                failures.put(line.id(), reason);
+                job.recordFailed();
+                continue;
+            }
+
+            long sourcePrev = source.balance;
+            source.balance -= gross;
+            long recipientPrev = recipient.balance;
+            recipient.balance += line.amount();
+            remainingLimit -= line.amount();
+            payments.add(new Payment(line, recipient, fee, sourcePrev, recipientPrev));
+            job.recordPaid(line.amount(), fee);
+        }
+
+        // 4. 잔액 변경과 거래 기록을 배치로 기록합니다.
+        Timestamp now = Timestamp.from(businessClock.now().toInstant());
+        Map<Long, Long> transactionIds = payments.isEmpty()
+                ? Map.of()
+                : this.writePayments(source, recipients, payments, job.getMemo(), now);
+
+        // 5. 지급 건의 결과와 작업의 진행 위치를 같은 트랜잭션에서 기록합니다.
+        List<Object[]> updates = new ArrayList<>(pending.size());
+        for (Payment payment : payments) {
+            updates.add(new Object[]{PayoutLineStatus.PAID.name(), null, transactionIds.get(payment.line().id()), now, payment.line().id()});
+        }
+        failures.forEach((lineId, reason) -> updates.add(new Object[]{PayoutLineStatus.FAILED.name(), reason, null, now, lineId}));
+        for (Line line : remoteLines) {
+            updates.add(new Object[]{PayoutLineStatus.SENDING.name(), null, null, now, line.id()});
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_LINE_SQL, updates,
+                    new int[]{Types.VARCHAR, Types.VARCHAR, Types.BIGINT, Types.TIMESTAMP, Types.BIGINT});
+        }
+        job.setNextLineNo(lines.get(lines.size() - 1).lineNo() + 1);
+
+        if (meterRegistry != null) {
+            meterRegistry.counter("payout.lines", "result", "paid").increment(payments.size());
+            meterRegistry.counter("payout.lines", "result", "failed").increment(failures.size());
+        }
+        return new Chunk(sourceId, job.getMemo(), remoteLines, last);
+    }
+
+    private Map<String, Party> lockRecipients(List<Line> lines, Party source) {
+        Set<String> accountNumbers = new LinkedHashSet<>();
+        lines.forEach(line -> accountNumbers.add(line.counterpartyAccountNumber()));
+        Map<String, Party> recipients = new HashMap<>();
+        if (accountNumbers.isEmpty()) {
+            return recipients;
+        }
+
+        String placeholders = String.join(",", Collections.nCopies(accountNumbers.size(), "?"));
+        List<Party> found = jdbcTemplate.query("SELECT id, account_number, balance, status, user_id FROM account " +
+                        "WHERE account_number IN (" + placeholders + ") ORDER BY id FOR UPDATE",
+                (rs, rowNum) -> new Party(rs.getLong(1), rs.getString(2), rs.getLong(3),
+                        AccountStatus.valueOf(rs.getString(4)) == AccountStatus.ACTIVE, rs.getLong(5)),
+                accountNumbers.toArray());
+        if (found.isEmpty()) {
+            return recipients;
+        }
+
+        Set<Long> userIds = new LinkedHashSet<>();
+        found.forEach(party -> userIds.add(party.userId));
+        Map<Long, String> usernames = new HashMap<>();
+        jdbcTemplate.query("SELECT id, username FROM member WHERE id IN (" + String.join(",", Collections.nCopies(userIds.size(), "?")) + ")",
+                rs -> {
+                    usernames.put(rs.getLong(1), rs.getString(2));
+                }, userIds.toArray());
+        for (Party party : found) {
+            party.username = usernames.get(party.userId);
+            recipients.put(party.accountNumber, party);
+        }
+        return recipients;
+    }
+
+    /**
+     * 잔액 UPDATE, 이체/입금 거래 기록 INSERT, 거래 기록 연결을 각각 배치 한 번으로 실행합니다.
+     *
+     * @return 지급 건 ID 별 지급 계좌의 이체 거래 ID
+     */
+    private Map<Long, Long> writePayments(Party source, Map<String, Party> recipients, List<Payment> payments, String memo, Timestamp now) {
+        String date = businessClock.todayText();
+
+        // 지급 계좌와 수취인의 최종 잔액 (지급 계좌는 청크마다 한 번 차감)
+        Map<Long, Party> touched = new HashMap<>();
+        touched.put(source.id, source);
+        payments.forEach(payment -> touched.put(payment.recipient().id, payment.recipient()));
+        List<Party> accounts = new ArrayList<>(touched.values());
+        jdbcTemplate.batchUpdate(UPDATE_BALANCE_SQL, accounts, accounts.size(), (ps, account) -> {
+            ps.setLong(1, account.balance);
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, now);
+            ps.setLong(4, account.id);
+        });
+
+        // 지급 계좌의 이체 거래 기록. 배치 INSERT 가 생성한 ID 를 지급 건 순서대로 받습니다.
+        List<Long> withdrawalIds = this.insertLedger(payments, (ps, payment) -> {
+            long gross = payment.line().amount() + payment.fee();
+            ps.setLong(1, source.id);
+            ps.setString(2, TransactionType.TRANSFER.name());
+            ps.setLong(3, gross);
+            ps.setLong(4, payment.line().amount());
+            ps.setLong(5, payment.sourcePrev());
+            ps.setLong(6, payment.sourcePrev() - gross);
+            ps.setLong(7, payment.fee());
+            ps.setBigDecimal(8, AccountService.TRANSFER_FEE_RATE);
+            ps.setString(9, memo);
+            ps.setString(10, payment.recipient().username);
+            ps.setString(11, payment.recipient().accountNumber);
+            ps.setNull(12, Types.BIGINT);
+            ps.setString(13, date);
+            ps.setTimestamp(14, now);
+            ps.setTimestamp(15, now);
+        });
+
+        // 수취인의 입금 거래 기록. 이체 거래 ID 를 함께 기록하고, 만들어진 입금 거래 ID 를 이체 거래에 연결합니다.
+        List<Integer> indexes = IntStream.range(0, payments.size()).boxed().toList();
+        List<Long> depositIds = this.insertLedger(indexes, (ps, index) -> {
+            Payment payment = payments.get(index);
+            long amount = payment.line().amount();
+            ps.setLong(1, payment.recipient().id);
+            ps.setString(2, TransactionType.DEPOSIT.name());
+            ps.setLong(3, amount);
+            ps.setLong(4, amount);
+            ps.setLong(5, payment.recipientPrev());
+            ps.setLong(6, payment.recipientPrev() + amount);
+            ps.setLong(7, 0L);
+            ps.setBigDecimal(8, BigDecimal.ZERO);
+            ps.setString(9, memo);
+            ps.setString(10, source.username);
+            ps.setString(11, source.accountNumber);
+            ps.setLong(12, withdrawalIds.get(index));
+            ps.setString(13, date);
+            ps.setTimestamp(14, now);
+            ps.setTimestamp(15, now);
+        });
+        List<Object[]> links = new ArrayList<>(payments.size());
+        for (int index = 0; index < payments.size(); index++) {
+            links.add(new Object[]{depositIds.get(index), withdrawalIds.get(index)});
+        }
+        jdbcTemplate.batchUpdate(LINK_LEDGER_SQL, links, new int[]{Types.BIGINT, Types.BIGINT});
+
+        accountVersionRegistry.invalidateAfterCommit(touched.keySet().stream().mapToLong(Long::longValue).toArray());
+        this.publishAfterCommit(source, payments, memo, withdrawalIds, links);
+
+        Map<Long, Long> transactionIds = new HashMap<>();
+        for (int index = 0; index < payments.size(); index++) {
+            transactionIds.put(payments.get(index).line().id(), withdrawalIds.get(index));
+        }
+        return transactionIds;
+    }
+
+    /**
+     * 배치로 기록한 이체/입금 거래를 커밋된 뒤 지급 계좌와 수취인의 이벤트 구독자에게 발행합니다.
+     *
+     * @param links [입금 거래 ID, 이체 거래 ID] 목록
+     */
+    private void publishAfterCommit(Party source, List<Payment> payments, String memo, List<Long> withdrawalIds, List<Object[]> links) {
+        Map<Long, Long> depositIds = new HashMap<>();
+        links.forEach(link -> depositIds.put((Long) link[1], (Long) link[0]));
+        String feeRate = AccountService.TRANSFER_FEE_RATE.toString();
+        for (int index = 0; index < payments.size(); index++) {
+            Payment payment = payments.get(index);
+            long amount = payment.line().amount();
+            long gross = amount + payment.fee();
+            long withdrawalId = withdrawalIds.get(index);
+            Long depositId = depositIds.get(withdrawalId);
+            accountEventBus.publishAfterCommit(source.id, TransactionDTO.builder()
+                    .id(withdrawalId)
+                    .type(TransactionType.TRANSFER)
+                    .netAmount(amount)
+                    .prevBalance(payment.sourcePrev())
+                    .postBalance(payment.sourcePrev() - gross)
+                    .fee(payment.fee())
+                    .feeRate(feeRate)
+                    .relatedTransactionId(depositId)
+                    .memo(memo)
+                    .counterpartyName(payment.recipient().username)
+                    .counterpartyAccountNumber(payment.recipient().accountNumber)
+                    .build());
+            if (depositId != null) {
+                accountEventBus.publishAfterCommit(payment.recipient().id, TransactionDTO.builder()
+                        .id(depositId)
+                        .type(TransactionType.DEPOSIT)
+                        .netAmount(amount)
+                        .prevBalance(payment.recipientPrev())
+                        .postBalance(payment.recipientPrev() + amount)
+                        .fee(0L)
+                        .feeRate(BigDecimal.ZERO.toString())
+                        .relatedTransactionId(withdrawalId)
+                        .memo(memo)
+                        .counterpartyName(source.username)
+                        .counterpartyAccountNumber(source.accountNumber)
+                        .build());
+            }
+        }
+    }
+
+    /**
+     * 다른 샤드의 수취인에게 샤드 간 이체로 지급하고 결과를 기록합니다. 수수료와 한도는 {@link AccountService#systemTransfer} 가 적용합니다.
+     */
+    private void payRemote(int shard, long jobId, long sourceId, String memo, Line line) {
+        String reason = null;
+        boolean uncertain = false;
+        try {
+            accountService.systemTransfer(sourceId, new TransferRequestDTO(line.counterpartyAccountNumber(), line.amount(), memo));
+        } catch (BadRequestException | NotFoundException | UnprocessableEntityException ex) {
+            reason = ex.getMessage();
+        } catch (Throwable ex) {
+            // 출금 후 입금이 끝나지 않은 이체는 샤드 간 이체 복구가 마무리하므로 결과 확인이 필요한 건으로 남깁니다.
+            log.warn("지급 작업 {} 의 {}번 지급 실패", jobId, line.lineNo(), ex);
+            reason = INTERRUPTED_REASON;
+            uncertain = true;
+        }
+
+        String failureReason = reason;
+        PayoutLineStatus status = reason == null ? PayoutLineStatus.PAID : uncertain ? PayoutLineStatus.UNKNOWN : PayoutLineStatus.FAILED;
+        shardRouter.inNewTransaction(shard, false, () -> {
+            PayoutJob job = payoutJobRepository.findForUpdateById(jobId).orElseThrow();
+            PayoutLine payoutLine = payoutLineRepository.findById(line.id()).orElseThrow();
+            payoutLine.setStatus(status);
+            payoutLine.setFailureReason(failureReason);
+            if (status == PayoutLineStatus.PAID) {
+                job.recordPaid(line.amount(), AccountService.transferFeeOf(line.amount()));
+            } else {
+                job.recordFailed();
+            }
+            return job;
+        });
+        if (meterRegistry != null) {
+            meterRegistry.counter("payout.lines", "result", failureReason == null ? "paid" : "failed").increment();
+        }
+    }
+
+    /**
+     * 거래 기록을 배치 INSERT 하고, 생성된 거래 ID 를 rows 순서대로 반환합니다.
+     */
+    private <T> List<Long> insertLedger(List<T> rows, ParameterizedPreparedStatementSetter<T> setter) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_LEDGER_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int index) throws SQLException {
+                        setter.setValues(ps, rows.get(index));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                }, keyHolder);
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != rows.size()) {
+            throw new IllegalStateException("생성된 거래 ID 수(" + keys.size() + ")가 기록한 거래 수(" + rows.size() + ")와 다릅니다.");
+        }
+        // 키 컬럼 이름은 드라이버마다 다르므로(ID, GENERATED_KEY 등) 첫 번째 값을 사용합니다.
+        return keys.stream().map(key -> ((Number) key.values().iterator().next()).longValue()).toList();
+    }
+        return args;
+    }
+
+    private record Line(long id, int lineNo, String counterpartyAccountNumber, long amount, PayoutLineStatus status) {
+    }
+
+    private record Payment(Line line, Party recipient, long fee, long sourcePrev, long recipientPrev) {
+    }
+
+    private record Chunk(long sourceAccountId, String memo, List<Line> remoteLines, boolean last) {
+    }
+
+    /**
+     * 청크 처리 중 잠근 계좌. 같은 계좌에 여러 번 지급하면 같은 객체의 잔액을 차례로 변경합니다.
+     */
+    private static final class Party {
+        private final long id;
+        private final String accountNumber;
+        private long balance;
+        private final boolean active;
+        private final long userId;
+        private String username;
+
+        private Party(long id, String accountNumber, long balance, boolean active, long userId) {
+            this.id = id;
+            this.accountNumber = accountNumber;
+            this.balance = balance;
+            this.active = active;
+            this.userId = userId;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.wirebarley.service;
+
+import com.example.wirebarley.config.ShardContext;
+import com.example.wirebarley.config.ShardingProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 계좌/사용자가 저장된 샤드를 계산하고, 샤드를 지정하여 작업을 실행하는 클래스.
+ * <p>
+ * - 사용자: 전화번호 해시로 샤드를 정하며, 사용자의 모든 계좌와 거래 내역은 같은 샤드에 저장됩니다. (일일 한도 계산이 샤드 안에서 끝남)<br>
+ * - 계좌/사용자/거래 ID: 샤드 n 은 n * ID_RANGE + 1 부터 발급하므로 ID 를 ID_RANGE 로 나눈 몫이 샤드 번호입니다.<br>
+ * - 계좌번호: 샤드 접두어 'S' 뒤의 두 자리가 샤드 번호입니다. 접두어가 없는 계좌번호(샤딩 이전에 발급된 16자리 16진수)는 기본 샤드에 있습니다.
+ * </p>
+ * 샤딩을 사용하지 않으면 모든 값이 기본 샤드(0)로 계산되므로 호출하는 쪽은 샤딩 여부와 무관하게 같은 코드를 사용합니다.
+ */
+@Service
+public class ShardRouter {
+
+    /**
+     * 샤드 번호 앞에 붙이는 문자. 16진수 문자가 아니므로 샤딩 이전에 발급된 계좌번호와 겹치지 않습니다.
+     */
+    public static final char SHARD_PREFIX = 'S';
+
+    @Autowired(required = false)
+    private ShardingProperties properties;
+
+    @Autowired(required = false)
+    private PlatformTransactionManager transactionManager;
+
+    public boolean isEnabled() {
+        return properties != null && properties.isEnabled();
+    }
+
+    public int shardCount() {
+        return this.isEnabled() ? properties.getShards().size() : 1;
+    }
+
+    public int shardOfId(long id) {
+        return this.isEnabled() ? (int) (id / ShardingProperties.ID_RANGE) : ShardContext.DEFAULT_SHARD;
+    }
+
+    /**
+     * 계좌번호의 샤드 접두어로 샤드를 계산합니다.
+     * 접두어가 없거나(샤딩 이전에 발급된 계좌번호) 없는 샤드 번호를 가리키는 계좌번호는 기본 샤드로 계산하므로,
+     * 기본 샤드에서 조회하여 찾지 못하면 일반적인 "계좌 없음"으로 처리됩니다.
+     */
+    public int shardOfAccountNumber(String accountNumber) {
+        if (!this.isEnabled() || accountNumber == null || accountNumber.length() < 3
+                || accountNumber.charAt(0) != SHARD_PREFIX
+                || !Character.isDigit(accountNumber.charAt(1)) || !Character.isDigit(accountNumber.charAt(2))) {
+            return ShardContext.DEFAULT_SHARD;
+        }
+        int shard = Integer.parseInt(accountNumber.substring(1, 3));
+        return shard < this.shardCount() ? shard : ShardContext.DEFAULT_SHARD;
+    }
+
+    /**
+     * 신규 사용자를 저장할 샤드를 전화번호로 계산합니다. 같은 전화번호는 항상 같은 샤드로 계산됩니다.
+     */
+    public int shardOfPhone(String phone) {
+        return this.isEnabled() ? Math.floorMod(phone.hashCode(), this.shardCount()) : ShardContext.DEFAULT_SHARD;
+    }
+
+    /**
+     * 계좌번호 앞에 붙일 샤드 접두어와 샤드 번호 (예: S01). 샤딩을 사용하지 않으면 빈 문자열입니다.
+     */
+    public String accountNumberPrefix(int shard) {
+        return this.isEnabled() ? SHARD_PREFIX + String.format("%02d", shard) : "";
+    }
+
+    /**
+     * ID 목록을 샤드별로 나눕니다.
+     *
+     * @return 샤드 번호 오름차순 → 해당 샤드의 ID 목록
+     */
+    public Map<Integer, List<Long>> groupByShard(Collection<Long> ids) {
+        Map<Integer, List<Long>> result = new TreeMap<>();
+        for (Long id : ids) {
+            result.computeIfAbsent(this.shardOfId(id), shard -> new ArrayList<>()).add(id);
+        }
+        return result;
+    }
+
+    /**
+     * 샤드별 ID 목록으로 조회한 결과를 모읍니다.
+     * 샤드가 하나뿐이면 현재 트랜잭션 안에서 조회하고, 여러 샤드라면 샤드마다 별도의 읽기 전용 트랜잭션(커넥션)으로 조회합니다.
+     *
+     * @param idsByShard {@link #groupByShard} 결과
+     * @param query 한 샤드의 ID 목록으로 조회하는 작업
+     * @return 샤드 번호 순서로 이어붙인 조회 결과
+     */
+    public <T> List<T> gather(Map<Integer, List<Long>> idsByShard, Function<List<Long>, List<T>> query) {
+        if (idsByShard.size() == 1) {
+            Map.Entry<Integer, List<Long>> entry = idsByShard.entrySet().iterator().next();
+            try (ShardContext.Scope scope = ShardContext.enter(entry.getKey())) {
+                return query.apply(entry.getValue());
+            }
+        }
+
+        List<T> result = new ArrayList<>();
+        idsByShard.forEach((shard, ids) -> result.addAll(this.inNewTransaction(shard, true, () -> query.apply(ids))));
+        return result;
+    }
+
+    /**
+     * 지정한 샤드에서 새 트랜잭션으로 작업을 실행합니다.
+     * 진행 중인 트랜잭션은 다른 샤드의 커넥션을 잡고 있을 수 있으므로 항상 새 트랜잭션(새 커넥션)을 사용합니다.
+     *
+     * @param shard 샤드 번호
+     * @param readOnly 읽기 전용 여부
+     * @param operation 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T inNewTransaction(int shard, boolean readOnly, Supplier<T> operation) {
+        try (ShardContext.Scope scope = ShardContext.enter(shard)) {
+            if (transactionManager == null) {
+                return operation.get();
+            }
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            template.setReadOnly(readOnly);
+            return template.execute(status -> operation.get());
+        }
+    }
+}
@@ -0,0 +1,414 @@
+package com.example.wirebarley.service;
+
+import com.example.wirebarley.config.ShardContext;
+import com.example.wirebarley.domain.StandingOrder;
+import com.example.wirebarley.dto.StandingOrderDTO;
+import com.example.wirebarley.dto.StandingOrderRunReportDTO;
+import com.example.wirebarley.dto.TransferRequestDTO;
+import com.example.wirebarley.enumeration.StandingOrderStatus;
+import com.example.wirebarley.exception.BadRequestException;
+import com.example.wirebarley.exception.NotFoundException;
+import com.example.wirebarley.exception.UnprocessableEntityException;
+import com.example.wirebarley.repository.StandingOrderRepository;
+import com.example.wirebarley.util.BusinessClock;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 실행일이 된 자동이체를 실행하는 클래스.
+ * <p>
+ * 샤드별로 실행일이 된 주문을 모아 송금인 계좌별로 묶고, 묶음 하나를 트랜잭션 하나에서 실행합니다.
+ * 송금인 계좌는 한 번만 잠그며 각 이체는 {@link AccountService#transferAll} 로 일반 이체와 같은 한도/수수료 규칙을 따릅니다.
+ * 주문의 다음 실행일도 같은 트랜잭션에서 옮기므로, 실행 도중 중단되어도 이체와 주문 상태가 어긋나지 않습니다.
+ * </p>
+ * <p>
+ * 묶음은 크기가 제한된 작업 스레드 풀(workers)에서 동시에 실행되며, 자정에 몰리지 않도록 시작 시각을 window-ms 구간에 고르게 나눕니다.
+ * 풀의 대기열이 가득 차면 호출 스레드가 직접 실행하여 속도를 늦춥니다. 시작 시각을 기다리는 동안 호출 스레드가 멈추므로,
+ * cron 실행은 스케줄러 스레드가 아닌 전용 스레드(launcher)에서 진행합니다.
+ * 수취인이 다른 샤드에 있는 주문은 한 트랜잭션으로 묶을 수 없으므로, 다음 실행일을 먼저 옮긴 뒤 한 건씩 이체합니다. (최대 한 번 실행)
+ * 자동이체는 시스템 이체이므로 사용자의 이체 빈도 규칙({@link VelocityService})은 확인하지 않고 카운터에도 기록하지 않습니다.
+ * </p>
+ * 실패한 주문은 사유를 주문에 기록하고, 실행이 끝나면 사유별 건수를 한 번에 로그로 남기고 보고서로 반환합니다.
+ */
+@Service
+public class StandingOrderExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(StandingOrderExecutor.class);
+
+    // 수취인 계좌 동시 변경(낙관적 락 충돌)이나 교착 상태로 실패하면 묶음을 다시 실행하는 횟수
+    private static final int MAX_GROUP_ATTEMPTS = 3;
+
+    @Autowired
+    private StandingOrderRepository standingOrderRepository;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountLockManager accountLockManager;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private BusinessClock businessClock;
+
+    @Autowired
+    private JobScheduler jobScheduler;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    // true 이면 cron 에 맞춰 실행일이 된 자동이체를 실행합니다.
+    @Value("${app.standing-order.enabled:false}")
+    private boolean enabled;
+
+    // 동시에 실행하는 송금인 계좌 묶음 수 (묶음마다 커넥션 하나를 사용)
+    @Value("${app.standing-order.workers:8}")
+    private int workers;
+
+    // 샤드별로 묶음의 시작 시각을 나누어 배치하는 구간 (0 이면 바로 실행)
+    @Value("${app.standing-order.window-ms:600000}")
+    private long windowMs;
+
+    // 실행일이 된 주문을 한 번에 조회하는 개수
+    @Value("${app.standing-order.page-size:1000}")
+    private int pageSize;
+
+    // 보고서에 담는 실패 주문 최대 개수
+    @Value("${app.standing-order.max-report-entries:1000}")
+    private int maxReportEntries;
+
+    private ThreadPoolExecutor pool;
+
+    private final ExecutorService launcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "standing-order-launcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadNo = new AtomicInteger();
+        pool = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(workers),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "standing-order-" + threadNo.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        launcher.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    /**
+     * cron 에 맞춰 전용 스레드에서 당일 자동이체 실행을 시작합니다.
+     * 실행은 window-ms 동안 이어지므로 스케줄러 스레드에서는 시작만 하고 바로 반환합니다. (다른 주기 작업이 밀리지 않도록)
+     */
+    @Scheduled(cron = "${app.standing-order.cron:0 0 1 * * *}", zone = "Asia/Seoul")
+    public void scheduledExecute() {
+        if (!enabled) {
+            return;
+        }
+        // 샤드 하나를 파티션 하나로 나누어 여러 인스턴스가 서로 다른 샤드를 처리합니다. (같은 날 같은 샤드는 한 번만 처리)
+        String today = businessClock.todayText();
+        CompletableFuture.runAsync(() -> jobScheduler.runPartitioned("standing-order", today, shardRouter.shardCount(),
+                        shard -> this.execute(shard, today)), launcher)
+                .exceptionally(ex -> {
+                    log.error("자동이체 실행 실패: {}", today, ex);
+                    return null;
+                });
+    }
+
+    /**
+     * 모든 샤드에서 runDate 까지 실행일이 된 자동이체를 실행합니다.
+     *
+     * @param runDate 실행일 (yyyyMMdd)
+     * @return 모든 샤드의 실행 결과
+     */
+    public StandingOrderRunReportDTO execute(String runDate) {
+        long startedAt = System.nanoTime();
+        long due = 0L;
+        long succeeded = 0L;
+        long failed = 0L;
+        List<StandingOrderDTO> failedOrders = new ArrayList<>();
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            StandingOrderRunReportDTO report = this.execute(shard, runDate);
+            due += report.getDue();
+            succeeded += report.getSucceeded();
+            failed += report.getFailed();
+            failedOrders.addAll(report.getFailedOrders());
+        }
+        return StandingOrderRunReportDTO.builder()
+                .runDate(runDate)
+                .due(due)
+                .succeeded(succeeded)
+                .failed(failed)
+                .failedOrders(failedOrders.size() > maxReportEntries ? failedOrders.subList(0, maxReportEntries) : failedOrders)
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+                .build();
+    }
+
+    /**
+     * 한 샤드에서 runDate 까지 실행일이 된 자동이체를 송금인 계좌별로 묶어 실행합니다.
+     *
+     * @param shard 샤드 번호
+     * @param runDate 실행일 (yyyyMMdd)
+     * @return 샤드의 실행 결과
+     */
+    public StandingOrderRunReportDTO execute(int shard, String runDate) {
+        long startedAt = System.nanoTime();
+        Map<Long, List<StandingOrder>> groups = this.collectDue(shard, runDate);
+        long due = groups.values().stream().mapToLong(List::size).sum();
+
+        // 묶음의 시작 시각을 window-ms 구간에 고르게 배치합니다.
+        List<Future<List<StandingOrderDTO>>> futures = new ArrayList<>(groups.size());
+        long windowStart = System.currentTimeMillis();
+        int index = 0;
+        for (Map.Entry<Long, List<StandingOrder>> group : groups.entrySet()) {
+            this.awaitSlot(windowStart + windowMs * index++ / groups.size());
+            long accountId = group.getKey();
+            List<StandingOrder> orders = group.getValue();
+            futures.add(pool.submit(() -> this.executeGroup(shard, runDate, accountId, orders)));
+        }
+
+        List<StandingOrderDTO> failedOrders = new ArrayList<>();
+        for (Future<List<StandingOrderDTO>> future : futures) {
+            try {
+                failedOrders.addAll(future.get());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("자동이체 실행이 중단되었습니다.", ex);
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException("자동이체 실행 실패", ex.getCause());
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        long failed = failedOrders.size();
+        if (meterRegistry != null) {
+            meterRegistry.counter("standing.order.executed", "result", "succeeded").increment(due - failed);
+            meterRegistry.counter("standing.order.executed", "result", "failed").increment(failed);
+            meterRegistry.timer("standing.order.run.duration").record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+        log.info("샤드 {} 자동이체 실행 완료: 대상 {}건, 성공 {}건, 실패 {}건 (실행일 {}, 계좌 {}개, {}ms)",
+                shard, due, due - failed, failed, runDate, groups.size(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        if (failed > 0) {
+            Map<String, Long> reasons = failedOrders.stream()
+                    .collect(Collectors.groupingBy(StandingOrderDTO::getLastFailureReason, TreeMap::new, Collectors.counting()));
+            log.warn("샤드 {} 자동이체 실패 {}건 (실행일 {}): {}", shard, failed, runDate, reasons);
+        }
+
+        return StandingOrderRunReportDTO.builder()
+                .runDate(runDate)
+                .due(due)
+                .succeeded(due - failed)
+                .failed(failed)
+                .failedOrders(failedOrders.size() > maxReportEntries ? failedOrders.subList(0, maxReportEntries) : failedOrders)
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .build();
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    /**
+     * 실행일이 된 주문을 ID 순으로 page-size 개씩 조회하여 송금인 계좌별로 묶습니다.
+     */
+    private Map<Long, List<StandingOrder>> collectDue(int shard, String runDate) {
+        Map<Long, List<StandingOrder>> groups = new LinkedHashMap<>();
+        long afterId = 0L;
+        while (true) {
+            long from = afterId;
+            List<StandingOrder> page = shardRouter.inNewTransaction(shard, true, () -> standingOrderRepository.findDue(
+                    StandingOrderStatus.ACTIVE, runDate, from, PageRequest.of(0, pageSize)));
+            for (StandingOrder order : page) {
+                groups.computeIfAbsent(order.getFromAccountId(), id -> new ArrayList<>()).add(order);
+            }
+            if (page.size() < pageSize) {
+                return groups;
+            }
+            afterId = page.get(page.size() - 1).getId();
+        }
+    }
+
+    /**
+     * 송금인 계좌 하나의 주문을 실행하고 실패한 주문을 반환합니다.
+     * 같은 샤드의 수취인에게 보내는 주문은 하나의 트랜잭션에서, 다른 샤드의 수취인에게 보내는 주문은 한 건씩 실행합니다.
+     */
+    private List<StandingOrderDTO> executeGroup(int shard, String runDate, long accountId, List<StandingOrder> orders) {
+        List<Long> localIds = new ArrayList<>();
+        List<Long> remoteIds = new ArrayList<>();
+        for (StandingOrder order : orders) {
+            boolean local = shard == shardRouter.shardOfAccountNumber(order.getCounterpartyAccountNumber());
+            (local ? localIds : remoteIds).add(order.getId());
+        }
+
+        List<StandingOrderDTO> failed = new ArrayList<>();
+        if (!localIds.isEmpty()) {
+            failed.addAll(this.executeLocal(shard, runDate, accountId, localIds, orders));
+        }
+        for (long orderId : remoteIds) {
+            StandingOrderDTO result = this.executeRemote(shard, runDate, accountId, orderId);
+            if (result != null) {
+                failed.add(result);
+            }
+        }
+        return failed;
+    }
+
+    private List<StandingOrderDTO> executeLocal(int shard, String runDate, long accountId, List<Long> orderIds, List<StandingOrder> orders) {
+        for (int attempt = 1; ; attempt++) {
+            try (ShardContext.Scope scope = ShardContext.enter(shard)) {
+                return accountLockManager.executeInTransaction(() -> this.executeLocalInTransaction(runDate, accountId, orderIds));
+            } catch (ConcurrencyFailureException ex) {
+                if (attempt < MAX_GROUP_ATTEMPTS) {
+                    log.debug("계좌 {} 자동이체 묶음 락 충돌, 재시도 {}/{}", accountId, attempt, MAX_GROUP_ATTEMPTS);
+                    continue;
+                }
+                return this.unprocessed(orderIds, orders, ex);
+            } catch (Throwable ex) {
+                return this.unprocessed(orderIds, orders, ex);
+            }
+        }
+    }
+
+    /**
+     * 주문을 잠그고 송금인 계좌를 한 번 잠근 상태에서 순서대로 이체한 뒤, 결과와 다음 실행일을 같은 트랜잭션에서 기록합니다.
+     * 다른 스레드/인스턴스가 이미 실행했거나 해지한 주문은 건너뜁니다.
+     */
+    private List<StandingOrderDTO> executeLocalInTransaction(String runDate, long accountId, List<Long> orderIds) throws Throwable {
+        List<StandingOrder> orders = standingOrderRepository.findAllForUpdateByIdIn(orderIds)
+                .stream()
+                .filter(order -> order.isDue(runDate))
+                .toList();
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+
+        List<TransferRequestDTO> requests = orders.stream()
+                .map(order -> new TransferRequestDTO(order.getCounterpartyAccountNumber(), order.getAmount(), order.getMemo()))
+                .toList();
+        List<String> rejections;
+        try {
+            rejections = accountService.transferAll(accountId, requests);
+        } catch (BadRequestException | NotFoundException | UnprocessableEntityException ex) {
+            // 송금인 계좌가 없는 경우처럼 묶음 전체가 거절된 경우
+            rejections = Collections.nCopies(orders.size(), ex.getMessage());
+        }
+
+        List<StandingOrderDTO> failed = new ArrayList<>();
+        for (int index = 0; index < orders.size(); index++) {
+            StandingOrder order = orders.get(index);
+            String rejection = rejections.get(index);
+            order.recordRun(runDate, rejection);
+            if (rejection != null) {
+                failed.add(order.toDTO());
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 수취인이 다른 샤드에 있는 주문 하나를 실행합니다. 다음 실행일을 먼저 옮겨 커밋한 뒤 이체하므로 중복 실행되지 않습니다.
+     *
+     * @return 실패한 주문. 성공했거나 이미 실행된 주문이면 null
+     */
+    private StandingOrderDTO executeRemote(int shard, String runDate, long accountId, long orderId) {
+        StandingOrder claimed = shardRouter.inNewTransaction(shard, false, () -> {
+            for (StandingOrder order : standingOrderRepository.findAllForUpdateByIdIn(List.of(orderId))) {
+                if (order.isDue(runDate)) {
+                    order.advance(runDate);
+                    return order;
+                }
+            }
+            return null;
+        });
+        if (claimed == null) {
+            return null;
+        }
+
+        String failureReason = null;
+        try {
+            accountService.systemTransfer(accountId, new TransferRequestDTO(claimed.getCounterpartyAccountNumber(), claimed.getAmount(), claimed.getMemo()));
+        } catch (BadRequestException | NotFoundException | UnprocessableEntityException ex) {
+            failureReason = ex.getMessage();
+        } catch (Throwable ex) {
+            // 출금 후 입금이 끝나지 않은 이체는 샤드 간 이체 복구가 마무리합니다.
+            log.warn("자동이체 {} 실행 실패", orderId, ex);
+            failureReason = "처리 중 오류가 발생했습니다.";
+        }
+
+        String reason = failureReason;
+        shardRouter.inNewTransaction(shard, false, () -> {
+            standingOrderRepository.findAllForUpdateByIdIn(List.of(orderId)).forEach(order -> order.recordResult(reason));
+            return null;
+        });
+        if (reason == null) {
+            return null;
+        }
+        claimed.recordResult(reason);
+        return claimed.toDTO();
+    }
+
+    /**
+     * 묶음 트랜잭션이 거절이 아닌 오류로 실패한 경우. 주문은 실행되지 않았으므로 실행일을 옮기지 않고 다음 실행에서 다시 처리합니다.
+     */
+    private List<StandingOrderDTO> unprocessed(List<Long> orderIds, List<StandingOrder> orders, Throwable ex) {
+        log.warn("자동이체 {} 실행 실패, 다음 실행에서 다시 처리합니다.", orderIds, ex);
+        return orders.stream()
+                .filter(order -> orderIds.contains(order.getId()))
+                .map(order -> {
+                    StandingOrderDTO dto = order.toDTO();
+                    dto.setLastFailureReason("처리 중 오류가 발생했습니다.");
+                    return dto;
+                })
+                .toList();
+    }
+
+    /**
+     * 묶음의 시작 시각까지 호출 스레드에서 기다립니다. 공용 스케줄러 스레드에서 호출하지 않습니다.
+     */
+    private void awaitSlot(long startAt) {
+        long delay = startAt - System.currentTimeMillis();
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
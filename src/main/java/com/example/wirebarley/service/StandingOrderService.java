@@ -0,0 +1,98 @@
+package com.example.wirebarley.service;
+
+import com.example.wirebarley.config.ShardContext;
+import com.example.wirebarley.domain.StandingOrder;
+import com.example.wirebarley.dto.CreateStandingOrderRequestDTO;
+import com.example.wirebarley.enumeration.Rejection;
+import com.example.wirebarley.repository.StandingOrderRepository;
+import com.example.wirebarley.util.BusinessClock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 자동이체(정기 이체) 주문의 등록, 조회, 해지를 처리하는 서비스 클래스.
+ * 주문은 송금인 계좌와 같은 샤드에 저장되며, 실행은 {@link StandingOrderExecutor} 가 담당합니다.
+ */
+@Service
+public class StandingOrderService {
+
+    @Autowired
+    private StandingOrderRepository standingOrderRepository;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private BusinessClock businessClock;
+
+    /**
+     * 자동이체를 등록합니다. 첫 실행일은 오늘 다음 날부터 찾은 첫 이체일입니다.
+     * 수취인 계좌는 실행할 때 확인하며, 없으면 그 실행은 실패로 기록됩니다.
+     *
+     * @param accountId 송금인 계좌 ID
+     * @param requestDTO 수취인 계좌번호, 금액, 매월 이체일
+     * @return 저장된 StandingOrder 엔티티
+     * @throws Throwable 금액이나 이체일이 잘못되었거나 송금인 계좌가 없는 경우
+     */
+    @Transactional
+    public StandingOrder create(long accountId, CreateStandingOrderRequestDTO requestDTO) throws Throwable {
+        Long amount = requestDTO.getAmount();
+        if (amount == null || amount <= 0) {
+            throw Rejection.INVALID_TRANSFER_AMOUNT.exception();
+        }
+        Integer dayOfMonth = requestDTO.getDayOfMonth();
+        if (dayOfMonth == null || dayOfMonth < 1 || dayOfMonth > 31) {
+            throw Rejection.INVALID_STANDING_ORDER_DAY.exception();
+        }
+        if (requestDTO.getCounterpartyAccountNumber() == null || requestDTO.getCounterpartyAccountNumber().isBlank()) {
+            throw Rejection.COUNTERPARTY_NOT_FOUND.exception();
+        }
+
+        try (ShardContext.Scope scope = ShardContext.enter(shardRouter.shardOfId(accountId))) {
+            accountService.findById(accountId);
+            StandingOrder order = new StandingOrder(accountId, requestDTO.getCounterpartyAccountNumber(), amount, dayOfMonth,
+                    requestDTO.getMemo(), businessClock.todayText());
+            return standingOrderRepository.save(order);
+        }
+    }
+
+    /**
+     * 계좌의 자동이체 목록(해지된 주문 포함)을 조회합니다. 마지막 실행의 실패 사유도 함께 확인할 수 있습니다.
+     *
+     * @param accountId 송금인 계좌 ID
+     * @return 주문 ID 오름차순 목록
+     */
+    @Transactional(readOnly = true)
+    public List<StandingOrder> findAllByAccountId(long accountId) {
+        try (ShardContext.Scope scope = ShardContext.enter(shardRouter.shardOfId(accountId))) {
+            return standingOrderRepository.findAllByFromAccountIdOrderByIdAsc(accountId);
+        }
+    }
+
+    /**
+     * 자동이체를 해지합니다. 실행 중인 주문이면 실행이 끝난 뒤 해지됩니다. (같은 로우 락)
+     *
+     * @param accountId 송금인 계좌 ID
+     * @param orderId 해지할 주문 ID
+     * @return 해지된 StandingOrder 엔티티
+     * @throws Throwable 계좌에 해당 주문이 없는 경우
+     */
+    @Transactional
+    public StandingOrder cancel(long accountId, long orderId) throws Throwable {
+        try (ShardContext.Scope scope = ShardContext.enter(shardRouter.shardOfId(accountId))) {
+            StandingOrder order = standingOrderRepository.findAllForUpdateByIdIn(List.of(orderId))
+                    .stream()
+                    .filter(found -> found.getFromAccountId() == accountId)
+                    .findFirst()
+                    .orElseThrow(Rejection.STANDING_ORDER_NOT_FOUND::exception);
+            order.cancel();
+            return order;
+        }
+    }
+}
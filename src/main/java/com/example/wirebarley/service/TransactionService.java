@@ -1,18 +1,20 @@
 package com.example.wirebarley.service;
 
+import com.example.wirebarley.config.ShardContext;
 import com.example.wirebarley.domain.Account;
 import com.example.wirebarley.domain.Transaction;
 import com.example.wirebarley.enumeration.TransactionType;
 import com.example.wirebarley.repository.TransactionRepository;
-import com.example.wirebarley.util.DateUtil;
+import com.example.wirebarley.util.BusinessClock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.ZonedDateTime;
+import java.util.List;
 
 @Service
 public class TransactionService {
@@ -20,17 +22,113 @@ public class TransactionService {
     @Autowired
     private TransactionRepository transactionRepository;
 
-    @Transactional
+    @Autowired
+    private BusinessClock businessClock;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private AccountEventBus accountEventBus;
+
+    @Autowired
+    private CounterpartyService counterpartyService;
+
+    @Autowired
+    private VelocityService velocityService;
+
+    /**
+     * 계좌의 거래 내역을 최신순으로 페이징하여 조회합니다. 조회 전용 트랜잭션이므로 replica 로 라우팅됩니다.
+     */
+    @Transactional(readOnly = true)
     public Page<Transaction> findBy(long accountId, Pageable pageable) {
-        return transactionRepository.findByAccountIdOrderByIdDesc(accountId, pageable);
+        try (ShardContext.Scope scope = ShardContext.enter(shardRouter.shardOfId(accountId))) {
+            return transactionRepository.findByAccountIdOrderByIdDesc(accountId, pageable);
+        }
+    }
+
+    /**
+     * 거래 ID beforeId 보다 이전의 거래 내역을 최신순으로 최대 size 건 조회합니다.
+     * 페이지 번호 대신 기준 ID 로 조회하므로 새 거래가 추가되어도 같은 요청은 같은 결과를 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<Transaction> findBefore(long accountId, long beforeId, int size) {
+        try (ShardContext.Scope scope = ShardContext.enter(shardRouter.shardOfId(accountId))) {
+            return transactionRepository.findByAccountIdAndIdLessThanOrderByIdDesc(accountId, beforeId, PageRequest.of(0, size));
+        }
+    }
+
+    /**
+     * 거래 ID afterId 이후의 거래 내역을 오래된 순으로 최대 size 건 조회합니다. 이벤트 스트림에 다시 연결할 때 빠진 거래를 보내는 데 사용합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<Transaction> findAfter(long accountId, long afterId, int size) {
+        try (ShardContext.Scope scope = ShardContext.enter(shardRouter.shardOfId(accountId))) {
+            return transactionRepository.findByAccountIdAndIdGreaterThanOrderByIdAsc(accountId, afterId, PageRequest.of(0, size));
+        }
+    }
+
+    /**
+     * {@link #findBefore} 로 조회한 페이지가 더 이상 바뀌지 않는지 확인합니다.
+     * 기준 거래(beforeId)가 이 계좌의 오늘 이전 거래이고, 페이지의 거래도 모두 오늘 이전이면 이후 추가되는 거래는 모두 기준 거래보다 ID 가 크므로
+     * 같은 요청은 항상 같은 결과를 반환합니다.
+     *
+     * @param accountId 계좌 ID
+     * @param beforeId 기준 거래 ID
+     * @param transactions findBefore 로 조회한 거래 목록
+     * @return 바뀌지 않는 페이지이면 true. 비어있으면 false
+     */
+    @Transactional(readOnly = true)
+    public boolean isSettledPage(long accountId, long beforeId, List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return false;
+        }
+        String today = businessClock.todayText();
+        if (!transactions.stream().allMatch(transaction -> transaction.getDate().compareTo(today) < 0)) {
+            return false;
+        }
+        try (ShardContext.Scope scope = ShardContext.enter(shardRouter.shardOfId(accountId))) {
+            return transactionRepository.findById(beforeId)
+                    .filter(anchor -> anchor.getAccount().getId() == accountId)
+                    .filter(anchor -> anchor.getDate().compareTo(today) < 0)
+                    .isPresent();
+        }
     }
 
     @Transactional
     public void createTransaction(Account account, TransactionType type, Long amount, Long prevBalance) {
         // 이체용 메서드를 호출하되, 이체 관련 정보는 모두 null로 전달
-        ZonedDateTime now = DateUtil.now();
-        String yyyymmdd = DateUtil.yyyymmdd(now);
-        createTransferTransaction(account, type, amount, amount, BigDecimal.ZERO, 0L, prevBalance, null, yyyymmdd);
+        String yyyymmdd = businessClock.todayText();
+        createTransferTransaction(account, type, amount, amount, BigDecimal.ZERO, 0L, prevBalance, null, null, yyyymmdd, false);
+    }
+
+    /**
+     * 엔티티를 조회하지 않고 잔액을 변경한 경우(조건부 UPDATE) 입출금 거래 기록을 생성합니다.
+     *
+     * @param accountId 계좌 ID
+     * @param type 거래 유형 (입금/출금)
+     * @param amount 거래 금액
+     * @param prevBalance 거래 전 잔액
+     * @param postBalance 거래 후 잔액
+     * @return 저장된 거래 기록
+     */
+    @Transactional
+    public Transaction createTransaction(long accountId, TransactionType type, long amount, long prevBalance, long postBalance) {
+        String yyyymmdd = businessClock.todayText();
+
+        Transaction transaction = Transaction.builder()
+                .accountId(accountId)
+                .type(type)
+                .grossAmount(amount)
+                .netAmount(amount)
+                .fee(0L)
+                .feeRate(BigDecimal.ZERO)
+                .prevBalance(prevBalance)
+                .postBalance(postBalance)
+                .date(yyyymmdd)
+                .build();
+
+        return this.save(accountId, transaction);
     }
 
     /**
@@ -44,12 +142,33 @@ public class TransactionService {
      * @param prevBalance 이체 전 금액
      * @param counterparty 수취인
      * @param yyyymmdd 이체날짜(yyyyMMdd)
+     * @param userInitiated 사용자가 직접 요청한 이체이면 true.
+     *                      false(자동이체, 대량 지급, 이체 취소)이면 자주 이체한 상대방 목록과 이체 빈도 카운터에 반영하지 않습니다.
      * @return
      */
     @Transactional
     public Transaction createTransferTransaction(Account account, TransactionType type, Long grossAmount, Long netAmount,
                                                  BigDecimal feeRate, Long feeAmount, Long prevBalance,
-                                                 Account counterparty, String yyyymmdd) {
+                                                 Account counterparty, String yyyymmdd, boolean userInitiated) {
+        // 이체 거래인 경우 (상대방 정보가 있을 때) 상대방 정보를 추가
+        String counterpartyName = counterparty == null ? null : counterparty.getUser().getUsername();
+        String counterpartyAccountNumber = counterparty == null ? null : counterparty.getAccountNumber();
+        return this.createTransferTransaction(account, type, grossAmount, netAmount, feeRate, feeAmount, prevBalance,
+                counterpartyName, counterpartyAccountNumber, yyyymmdd, userInitiated);
+    }
+
+    /**
+     * 상대방 계좌가 다른 샤드에 있어 엔티티로 조회할 수 없는 경우, 상대방의 이름과 계좌번호로 이체 거래 기록을 생성합니다.
+     *
+     * @param counterpartyName 상대방 이름 (없으면 null)
+     * @param counterpartyAccountNumber 상대방 계좌번호 (없으면 null)
+     * @see #createTransferTransaction(Account, TransactionType, Long, Long, BigDecimal, Long, Long, Account, String, boolean)
+     */
+    @Transactional
+    public Transaction createTransferTransaction(Account account, TransactionType type, Long grossAmount, Long netAmount,
+                                                 BigDecimal feeRate, Long feeAmount, Long prevBalance,
+                                                 String counterpartyName, String counterpartyAccountNumber, String yyyymmdd,
+                                                 boolean userInitiated) {
 
         Long postBalance = account.getBalance(); // 상태 변경이 끝난 후의 잔액을 가져옴
 
@@ -64,19 +183,42 @@ public class TransactionService {
                 .postBalance(postBalance)
                 .date(yyyymmdd);
 
-        // 이체 거래인 경우 (상대방 정보가 있을 때) 상대방 정보를 추가
-        if (counterparty != null) {
-            builder.counterpartyName(counterparty.getUser().getUsername())
-                    .counterpartyAccountNumber(counterparty.getAccountNumber());
-        }
+        Transaction transaction = builder
+                .counterpartyName(counterpartyName)
+                .counterpartyAccountNumber(counterpartyAccountNumber)
+                .build();
 
-        Transaction transaction = builder.build();
+        // 사용자가 요청한 이체이면 송금 계좌의 자주 이체한 상대방 목록과 이체 빈도 카운터를 갱신
+        if (userInitiated && type == TransactionType.TRANSFER && counterpartyAccountNumber != null) {
+            boolean newCounterparty = counterpartyService.record(account.getId(), counterpartyAccountNumber, counterpartyName);
+            velocityService.recordAfterCommit(account.getId(), newCounterparty);
+        }
 
-        return transactionRepository.save(transaction);
+        return this.save(account.getId(), transaction);
     }
 
-    @Transactional
+    /**
+     * 사용자의 특정 일자, 특정 유형의 거래 금액(netAmount) 합계를 조회합니다.
+     * 출금/이체 중에 호출되면 바깥의 쓰기 트랜잭션에 참여하므로 primary 에서 일관된 값을 읽습니다.
+     */
+    @Transactional(readOnly = true)
     public long sumOfNetAmountBy(long userId, TransactionType type, String date) {
         return transactionRepository.sumOfNetAmountBy(userId, type, date);
     }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    /**
+     * 거래 기록을 저장하고, 커밋된 뒤 계좌의 이벤트 구독자에게 발행합니다.
+     */
+    private Transaction save(long accountId, Transaction transaction) {
+        Transaction saved = transactionRepository.save(transaction);
+        // 구독자는 거래 ID 를 재연결 위치로 사용하므로 ID 가 발급된 거래만 발행합니다.
+        if (saved != null && saved.getId() != null) {
+            accountEventBus.publishAfterCommit(accountId, saved.toDTO());
+        }
+        return saved;
+    }
 }
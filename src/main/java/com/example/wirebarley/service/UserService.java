@@ -1,11 +1,17 @@
 package com.example.wirebarley.service;
 
+import com.example.wirebarley.config.ShardContext;
 import com.example.wirebarley.domain.User;
 import com.example.wirebarley.dto.CreateAccountRequestDTO;
+import com.example.wirebarley.exception.InvalidAmountException;
+import com.example.wirebarley.exception.UserNotFoundException;
 import com.example.wirebarley.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Optional;
 
@@ -15,6 +21,26 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    /**
+     * 사용자 ID로 사용자 정보를 조회합니다.
+     *
+     * @param userId 조회할 사용자의 ID
+     * @return 조회된 User 엔티티
+     * @throws UserNotFoundException 사용자가 존재하지 않을 경우
+     */
+    @Transactional(readOnly = true)
+    public User findById(long userId) {
+        try (ShardContext.Scope scope = ShardContext.enter(shardRouter.shardOfId(userId))) {
+            return userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
+        }
+    }
+
     @Transactional
     public User findOrCreateUser(CreateAccountRequestDTO requestDTO) {
         final String phone = requestDTO.getPhone();
@@ -30,4 +56,68 @@ public class UserService {
             return userRepository.save(newUser);
         });
     }
-}
+
+    /**
+     * 사용자의 일일 출금/이체 한도를 변경합니다.
+     * 엔티티 변경은 커밋 시 2차 캐시에도 반영되지만, 다른 경로로 캐시된 값이 남지 않도록 커밋 후 명시적으로 캐시에서 제거합니다.
+     * 캐시 제거는 이 인스턴스에만 적용되므로, 출금/이체는 한도를 캐시가 아닌 member 테이블에서 읽어 모든 인스턴스에 바로 적용됩니다.
+     *
+     * @param userId 사용자 ID
+     * @param dailyWithdrawalLimit 변경할 일일 출금 한도 (null 이면 변경하지 않음)
+     * @param dailyTransferLimit 변경할 일일 이체 한도 (null 이면 변경하지 않음)
+     * @return 변경된 User 엔티티
+     * @throws InvalidAmountException 한도가 0원 미만인 경우
+     * @throws UserNotFoundException 사용자가 존재하지 않을 경우
+     */
+    @Transactional
+    public User updateDailyLimits(long userId, Long dailyWithdrawalLimit, Long dailyTransferLimit) {
+        if ((dailyWithdrawalLimit != null && dailyWithdrawalLimit < 0) || (dailyTransferLimit != null && dailyTransferLimit < 0)) {
+            throw new InvalidAmountException("한도는 0원 이상이어야 합니다.");
+        }
+        User user;
+        try (ShardContext.Scope scope = ShardContext.enter(shardRouter.shardOfId(userId))) {
+            user = userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
+        }
+        if (dailyWithdrawalLimit != null) {
+            user.setDailyWithdrawalLimit(dailyWithdrawalLimit);
+        }
+        if (dailyTransferLimit != null) {
+            user.setDailyTransferLimit(dailyTransferLimit);
+        }
+        this.evictAfterCommit(userId);
+        return user;
+    }
+
+    /**
+     * 2차 캐시에서 사용자를 제거합니다. 다음 조회 시 member 테이블에서 다시 읽습니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void evictFromCache(long userId) {
+        entityManagerFactory.getCache().evict(User.class, userId);
+    }
+
+    /**
+     * 2차 캐시에서 모든 사용자를 제거합니다. DB 에서 한도를 일괄 변경한 뒤 호출합니다.
+     */
+    public void evictAllFromCache() {
+        entityManagerFactory.getCache().evict(User.class);
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    private void evictAfterCommit(long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.evictFromCache(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evictFromCache(userId);
+            }
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,311 @@
+package com.example.wirebarley.service;
+
+import com.example.wirebarley.config.VelocityProperties;
+import com.example.wirebarley.domain.RecentCounterparties;
+import com.example.wirebarley.enumeration.Rejection;
+import com.example.wirebarley.enumeration.TransactionType;
+import com.example.wirebarley.repository.RecentCounterpartiesRepository;
+import com.example.wirebarley.util.SlidingWindowCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 계좌별 이체 빈도(velocity) 규칙을 메모리에서 확인하는 클래스.
+ * <p>
+ * "5분에 10건 넘는 이체", "1시간에 3명 넘는 새로운 상대방" 같은 규칙을 거래 기록 집계 쿼리 없이 확인하도록,
+ * 계좌마다 규칙별 {@link SlidingWindowCounter}(락 없는 링 버퍼)를 두고 이체가 커밋될 때마다 1 씩 기록합니다.
+ * 확인은 계좌 락과 트랜잭션 전에 실행하므로 거절되는 이체는 락을 기다리지 않습니다.
+ * 새로운 상대방은 자주 이체한 상대방 목록({@link RecentCounterparties})에 없던 상대방이며,
+ * 새로운 상대방 규칙이 한도에 닿은 계좌만 확인할 때 그 목록(2차 캐시)을 읽습니다.
+ * </p>
+ * <ul>
+ *     <li>기록은 커밋된 이체만 반영하므로, 같은 계좌의 동시 이체는 확인 시점에 따라 한도를 조금 넘을 수 있습니다.</li>
+ *     <li>최근 이체가 없는 계좌의 카운터는 주기적으로 제거하고, max-accounts 를 넘으면 사용 중인 카운터도 제거합니다. (해당 계좌는 잠시 규칙이 느슨해질 수 있음)</li>
+ *     <li>카운터는 인스턴스마다 따로 유지되며, 시작 시 가장 긴 윈도우 동안의 거래 기록으로 다시 만듭니다.</li>
+ *     <li>사용자가 직접 요청한 이체만 확인하고 기록합니다. 자동이체, 대량 지급, 이체 취소는 규칙을 확인하지 않고 카운터에도 기록하지 않습니다.
+ *     (시작 시 복원은 거래 기록에서 시스템 이체를 구분할 수 없어 이체 취소만 제외합니다)</li>
+ * </ul>
+ */
+@Service
+public class VelocityService implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(VelocityService.class);
+
+    private static final String SELECT_RECENT_SQL =
+            "SELECT id, account_id, type, net_amount, counterparty_account_number, created_at FROM transaction " +
+            "WHERE id < ? ORDER BY id DESC LIMIT ?";
+
+    @Autowired
+    private VelocityProperties properties;
+
+    @Autowired
+    private CounterpartyService counterpartyService;
+
+    @Autowired
+    private RecentCounterpartiesRepository recentCounterpartiesRepository;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private final Map<Long, AccountVelocity> accounts = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registerMetrics() {
+        if (meterRegistry != null) {
+            Gauge.builder("account.velocity.accounts", accounts, Map::size)
+                    .description("이체 빈도 카운터를 유지 중인 계좌 수")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 이체가 빈도 규칙을 넘는지 확인합니다. 계좌 락을 잡기 전에 호출합니다.
+     *
+     * @param accountId 송금 계좌 ID
+     * @param counterpartyAccountNumber 수취인 계좌번호
+     * @throws com.example.wirebarley.exception.VelocityExceededException 규칙을 넘는 경우
+     */
+    public void check(long accountId, String counterpartyAccountNumber) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        AccountVelocity velocity = accounts.get(accountId);
+        if (velocity == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (velocity.transfers.count(now) >= properties.getTransfers().getMaxCount()) {
+            this.rejected("transfers");
+            throw Rejection.TRANSFER_VELOCITY_EXCEEDED.exception();
+        }
+        if (velocity.newCounterparties.count(now) >= properties.getNewCounterparties().getMaxCount()
+                && !counterpartyService.isRecent(accountId, counterpartyAccountNumber)) {
+            this.rejected("new-counterparties");
+            throw Rejection.NEW_COUNTERPARTY_VELOCITY_EXCEEDED.exception();
+        }
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 커밋되면 이체 1건을 기록합니다. 트랜잭션이 없으면 바로 기록합니다.
+     *
+     * @param accountId 송금 계좌 ID
+     * @param newCounterparty 자주 이체한 상대방 목록에 없던 상대방이면 true
+     */
+    public void recordAfterCommit(long accountId, boolean newCounterparty) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.record(accountId, newCounterparty, System.currentTimeMillis());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(accountId, newCounterparty, System.currentTimeMillis());
+            }
+        });
+    }
+
+    /**
+     * 시각 atMillis 에 이체 1건을 기록합니다.
+     */
+    public void record(long accountId, boolean newCounterparty, long atMillis) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        AccountVelocity velocity = accounts.get(accountId);
+        if (velocity == null) {
+            if (accounts.size() >= properties.getMaxAccounts()) {
+                this.evictIdle(atMillis);
+            }
+            velocity = accounts.computeIfAbsent(accountId, id -> new AccountVelocity(properties));
+        }
+        velocity.transfers.increment(atMillis);
+        if (newCounterparty) {
+            velocity.newCounterparties.increment(atMillis);
+        }
+    }
+
+    public int getAccountCount() {
+        return accounts.size();
+    }
+
+    /**
+     * 주기적으로 윈도우 안에 이체가 없는 계좌의 카운터를 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.velocity.sweep-interval-ms:60000}")
+    public void sweep() {
+        this.evictIdle(System.currentTimeMillis());
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (properties.isEnabled() && properties.isRebuildOnStartup()) {
+            this.rebuild();
+        }
+    }
+
+    /**
+     * 카운터를 비우고, 샤드마다 가장 긴 윈도우 동안의 이체 기록으로 다시 만듭니다.
+     * 거래 기록을 ID 역순(기본 키)으로 읽어 윈도우보다 오래된 기록이 나오면 멈춥니다.
+     * 이체 당시 새로운 상대방이었는지는 거래 기록에 없으므로, 상대방 목록의 이체 횟수가 윈도우 안의 이체 횟수와 같으면
+     * (또는 목록에서 밀려났으면) 윈도우 안의 첫 이체를 새로운 상대방으로 봅니다.
+     *
+     * @return 다시 기록한 이체 수
+     */
+    public long rebuild() {
+        long startedAt = System.currentTimeMillis();
+        long since = startedAt - Math.max(properties.getTransfers().getWindowMs(), properties.getNewCounterparties().getWindowMs());
+        accounts.clear();
+
+        long rebuilt = 0L;
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            List<TransferRow> rows = this.recentTransfers(shard, since);
+            Map<Long, Map<String, Integer>> listed = this.listedCounts(shard, rows);
+
+            // (계좌, 상대방) 별 윈도우 안의 이체 횟수
+            Map<Long, Map<String, Integer>> occurrences = new HashMap<>();
+            for (TransferRow row : rows) {
+                occurrences.computeIfAbsent(row.accountId(), id -> new HashMap<>())
+                        .merge(row.counterpartyAccountNumber(), 1, Integer::sum);
+            }
+
+            Map<Long, Map<String, Boolean>> seen = new HashMap<>();
+            for (TransferRow row : rows) {
+                boolean first = seen.computeIfAbsent(row.accountId(), id -> new HashMap<>())
+                        .putIfAbsent(row.counterpartyAccountNumber(), Boolean.TRUE) == null;
+                Integer listedCount = listed.getOrDefault(row.accountId(), Map.of()).get(row.counterpartyAccountNumber());
+                boolean newCounterparty = first && (listedCount == null
+                        || listedCount <= occurrences.get(row.accountId()).get(row.counterpartyAccountNumber()));
+                this.record(row.accountId(), newCounterparty, row.createdAtMillis());
+                rebuilt++;
+            }
+        }
+        log.info("이체 빈도 카운터 복원: 이체 {}건, 계좌 {}개, {}ms", rebuilt, accounts.size(), System.currentTimeMillis() - startedAt);
+        return rebuilt;
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    private void rejected(String rule) {
+        if (meterRegistry != null) {
+            meterRegistry.counter("account.velocity.rejected", "rule", rule).increment();
+        }
+    }
+
+    private void evictIdle(long nowMillis) {
+        accounts.values().removeIf(velocity -> velocity.isIdle(nowMillis));
+        // 모두 사용 중이라면 상한을 지키기 위해 임의의 계좌를 제거합니다.
+        Iterator<Long> iterator = accounts.keySet().iterator();
+        while (accounts.size() >= properties.getMaxAccounts() && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * 샤드의 since 이후 이체(TRANSFER) 기록을 오래된 순서로 반환합니다.
+     */
+    private List<TransferRow> recentTransfers(int shard, long since) {
+        List<TransferRow> rows = new ArrayList<>();
+        long beforeId = Long.MAX_VALUE;
+        boolean done = false;
+        while (!done) {
+            long cursor = beforeId;
+            List<LedgerRow> page = shardRouter.inNewTransaction(shard, true, () -> jdbcTemplate.query(SELECT_RECENT_SQL,
+                    (rs, rowNum) -> new LedgerRow(rs.getLong("id"), rs.getLong("account_id"), rs.getString("type"),
+                            rs.getLong("net_amount"), rs.getString("counterparty_account_number"), rs.getTimestamp("created_at").getTime()),
+                    cursor, properties.getRebuildPageSize()));
+            for (LedgerRow row : page) {
+                if (row.createdAtMillis() < since) {
+                    done = true;
+                    break;
+                }
+                // 이체 취소 기록(금액이 음수)은 이체가 아니므로 제외합니다.
+                if (TransactionType.TRANSFER.name().equals(row.type()) && row.netAmount() > 0 && row.counterpartyAccountNumber() != null) {
+                    rows.add(new TransferRow(row.accountId(), row.counterpartyAccountNumber(), row.createdAtMillis()));
+                }
+            }
+            if (rows.size() >= properties.getRebuildMaxRows()) {
+                log.warn("샤드 {} 이체 빈도 카운터 복원: 최근 이체가 {}건을 넘어 이후 기록은 복원하지 않습니다.", shard, properties.getRebuildMaxRows());
+                done = true;
+            }
+            if (page.size() < properties.getRebuildPageSize()) {
+                done = true;
+            } else {
+                beforeId = page.get(page.size() - 1).id();
+            }
+        }
+        Collections.reverse(rows);
+        return rows;
+    }
+
+    /**
+     * 이체 기록이 있는 계좌들의 자주 이체한 상대방 목록에서 상대방별 이체 횟수를 읽습니다.
+     */
+    private Map<Long, Map<String, Integer>> listedCounts(int shard, List<TransferRow> rows) {
+        List<Long> accountIds = rows.stream().map(TransferRow::accountId).distinct().toList();
+        Map<Long, Map<String, Integer>> listed = new HashMap<>();
+        int chunkSize = properties.getRebuildPageSize();
+        for (int from = 0; from < accountIds.size(); from += chunkSize) {
+            List<Long> chunk = accountIds.subList(from, Math.min(from + chunkSize, accountIds.size()));
+            List<RecentCounterparties> counterparties = shardRouter.inNewTransaction(shard, true,
+                    () -> recentCounterpartiesRepository.findAllById(chunk));
+            for (RecentCounterparties recent : counterparties) {
+                Map<String, Integer> counts = new HashMap<>();
+                recent.entries().forEach(entry -> counts.put(entry.accountNumber(), entry.count()));
+                listed.put(recent.getAccountId(), counts);
+            }
+        }
+        return listed;
+    }
+
+    private record LedgerRow(long id, long accountId, String type, long netAmount, String counterpartyAccountNumber, long createdAtMillis) {
+    }
+
+    private record TransferRow(long accountId, String counterpartyAccountNumber, long createdAtMillis) {
+    }
+
+    /**
+     * 계좌 하나의 규칙별 카운터.
+     */
+    private static class AccountVelocity {
+
+        private final SlidingWindowCounter transfers;
+        private final SlidingWindowCounter newCounterparties;
+
+        private AccountVelocity(VelocityProperties properties) {
+            this.transfers = new SlidingWindowCounter(properties.getTransfers().getWindowMs(), properties.getSlots());
+            this.newCounterparties = new SlidingWindowCounter(properties.getNewCounterparties().getWindowMs(), properties.getSlots());
+        }
+
+        private boolean isIdle(long nowMillis) {
+            return transfers.isIdle(nowMillis) && newCounterparties.isIdle(nowMillis);
+        }
+    }
+}
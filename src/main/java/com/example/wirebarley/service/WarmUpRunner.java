@@ -0,0 +1,202 @@
+package com.example.wirebarley.service;
+
+import com.example.wirebarley.domain.Account;
+import com.example.wirebarley.domain.Transaction;
+import com.example.wirebarley.dto.CreateAccountRequestDTO;
+import com.example.wirebarley.dto.TransactionDTO;
+import com.example.wirebarley.dto.TransferRequestDTO;
+import com.example.wirebarley.dto.WarmUpReportDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 애플리케이션 시작 직후 트래픽을 받기 전에 입금/출금/이체/거래 내역 조회를 반복 실행하여 워밍업하는 클래스.
+ * <p>
+ * 배포 직후에는 JIT 컴파일 전의 코드, 비어 있는 Hibernate 쿼리 계획 캐시와 커넥션별 prepared statement 캐시,
+ * 아직 열리지 않은 커넥션 때문에 응답 시간이 튑니다. 워밍업은 실제 요청과 같은 서비스 메소드를 threads 개의 스레드에서
+ * 동시에 실행하여 커넥션을 열고 각 커넥션의 캐시와 JIT 컴파일을 미리 준비합니다.
+ * </p>
+ * 작업 묶음 하나(임시 사용자와 계좌 2개 생성, 입금, 출금, 이체, 거래 내역 조회와 JSON 직렬화)는 트랜잭션 하나에서 실행한 뒤 롤백하므로
+ * 자주 이체한 상대방 목록을 포함해 DB 에 남지 않고, 거래 이벤트, 계좌 버전 갱신, 이체 빈도 카운터처럼 커밋 후에 실행되는 작업도 일어나지 않습니다.
+ * <p>
+ * ApplicationRunner 로 실행되므로 워밍업이 끝나거나 시간 예산(max-duration-ms)을 넘길 때까지 readiness 는
+ * REFUSING_TRAFFIC(/actuator/health/readiness 가 OUT_OF_SERVICE)으로 유지되고, 끝난 뒤 Spring Boot 가 ACCEPTING_TRAFFIC 으로 바꿉니다.
+ * </p>
+ */
+@Service
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmUpRunner.class);
+
+    static final String PHONE_PREFIX = "warm-up-";
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationAvailability applicationAvailability;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    // true 이면 애플리케이션 시작 시 워밍업합니다.
+    @Value("${app.warm-up.enabled:false}")
+    private boolean enabled;
+
+    // 동시에 실행하는 스레드 수. 다른 시작 작업과 스케줄러가 커넥션을 얻을 수 있도록 풀 크기보다 작게 설정합니다.
+    @Value("${app.warm-up.threads:4}")
+    private int threads;
+
+    // 스레드별 작업 묶음 실행 횟수
+    @Value("${app.warm-up.iterations:200}")
+    private int iterations;
+
+    // 워밍업 시간 예산. 넘기면 실행 중인 작업 묶음까지만 끝내고 트래픽을 받습니다.
+    @Value("${app.warm-up.max-duration-ms:60000}")
+    private long maxDurationMillis;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        this.warmUp();
+    }
+
+    /**
+     * 워밍업을 실행하고, 끝나거나 시간 예산을 넘길 때까지 readiness 를 REFUSING_TRAFFIC 으로 유지합니다.
+     * 끝나면 호출 전의 readiness 로 되돌립니다. (시작 시에는 Spring Boot 가 이후 ACCEPTING_TRAFFIC 으로 바꿉니다.)
+     *
+     * @return 워밍업 결과
+     */
+    public WarmUpReportDTO warmUp() {
+        ReadinessState previous = applicationAvailability.getReadinessState();
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+
+        long startedAt = System.nanoTime();
+        AtomicBoolean stop = new AtomicBoolean();
+        LongAdder completed = new LongAdder();
+        LongAdder failed = new LongAdder();
+        boolean timedOut = false;
+
+        AtomicInteger threadSequence = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "warm-up-" + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (int worker = 0; worker < threads; worker++) {
+                int workerNo = worker;
+                pool.execute(() -> {
+                    for (int iteration = 0; iteration < iterations && !stop.get(); iteration++) {
+                        try {
+                            this.runRolledBack(workerNo, iteration);
+                            completed.increment();
+                        } catch (Exception ex) {
+                            failed.increment();
+                            log.debug("워밍업 작업 실패 (스레드 {}, {}회)", workerNo, iteration, ex);
+                        }
+                    }
+                });
+            }
+            pool.shutdown();
+            // 시간 예산을 넘기면 실행 중인 작업 묶음은 그대로 끝내고(롤백) 새 작업 묶음은 시작하지 않습니다.
+            timedOut = !pool.awaitTermination(maxDurationMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            timedOut = true;
+        } finally {
+            stop.set(true);
+            AvailabilityChangeEvent.publish(eventPublisher, this, previous);
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        if (meterRegistry != null) {
+            meterRegistry.timer("warmup.duration").record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+        WarmUpReportDTO report = WarmUpReportDTO.builder()
+                .iterations(completed.sum())
+                .failed(failed.sum())
+                .timedOut(timedOut)
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .build();
+        log.info("워밍업 {}: {}회 실행, {}회 실패, {}ms", timedOut ? "시간 초과" : "완료",
+                report.getIterations(), report.getFailed(), report.getElapsedMillis());
+        return report;
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    /**
+     * 작업 묶음 하나를 트랜잭션 하나에서 실행한 뒤 롤백합니다.
+     * 서비스 메소드는 진행 중인 트랜잭션에 참여하므로(비관적 락으로 실행) 모두 함께 롤백됩니다.
+     */
+    private void runRolledBack(int worker, int iteration) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            try {
+                this.workload(worker, iteration);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+    }
+
+    private void workload(int worker, int iteration) throws Throwable {
+        // 전화번호로 사용자의 샤드가 정해지므로 작업 묶음마다 다른 번호를 사용하여 여러 샤드를 고르게 워밍업합니다.
+        CreateAccountRequestDTO request = new CreateAccountRequestDTO("warm-up", null, PHONE_PREFIX + worker + "-" + iteration, "warm-up");
+        Account from = accountService.createAccount(request);
+        Account to = accountService.createAccount(request);
+
+        accountService.deposit(from.getId(), 100_000L);
+        accountService.withdraw(from.getId(), 1_000L);
+        accountService.transfer(from.getId(), new TransferRequestDTO(to.getAccountNumber(), 10_000L));
+
+        List<TransactionDTO> history = transactionService.findBy(from.getId(), PageRequest.of(0, 20))
+                .map(Transaction::toDTO)
+                .getContent();
+        transactionService.findBefore(from.getId(), Long.MAX_VALUE, 20);
+        objectMapper.writeValueAsBytes(history);
+        objectMapper.writeValueAsBytes(accountService.findById(from.getId()).toDTO());
+    }
+}
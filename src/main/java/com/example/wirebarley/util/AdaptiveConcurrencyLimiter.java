@@ -0,0 +1,225 @@
+package com.example.wirebarley.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+
+/**
+ * 응답 시간과 커넥션 풀 대기 상태를 보고 동시 처리 한도를 스스로 조절하는 AIMD 방식의 동시성 제한기.
+ * <p>
+ * - 응답 시간이 경로(route)별 기준 x latencyTolerance 를 넘거나, 커넥션을 기다리는 스레드가 있으면 한도를 10% 줄입니다.<br>
+ * - 그렇지 않고 한도의 절반 이상을 사용 중이면 한도만큼의 요청이 끝날 때마다 한도를 1씩 늘립니다.<br>
+ * - 한도가 찼을 때는 maxQueue 개까지만 maxQueueWait 동안 대기시키고, 그 외의 요청은 즉시 거절합니다.
+ * </p>
+ * <p>
+ * 기준 응답 시간은 경로별 최근 64건 응답 시간의 하위 10% 값입니다. 경로마다 하는 일이 다르므로 가벼운 경로의 응답 시간이
+ * 무거운 경로의 기준을 끌어내리지 않고, 최근 값만 쓰므로 한 번 빨랐던 응답이 기준을 계속 붙잡지 않습니다.
+ * </p>
+ * DB 가 느려질 때 모든 스레드가 getConnection 에서 막히기 전에 유입량을 줄여, 처리 중인 요청의 응답 시간을 일정하게 유지합니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double DECREASE_RATIO = 0.9;
+    private static final long DECREASE_COOLDOWN_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int BASELINE_SAMPLES = 64;       // 경로별로 보관하는 최근 응답 시간 수
+    private static final double BASELINE_PERCENTILE = 0.1; // 기준 응답 시간으로 쓰는 백분위
+    private static final int MAX_ROUTES = 256;             // 기준을 따로 유지하는 최대 경로 수
+    private static final String DEFAULT_ROUTE = "";
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueue;
+    private final long maxQueueWaitNanos;
+    private final double latencyTolerance;
+    private final IntSupplier poolWaiters;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final Map<String, RttWindow> baselines = new HashMap<>();
+
+    private double limit;
+    private int inflight;
+    private int waiting;
+    private long lastDecreaseNanos;
+
+    /**
+     * @param initialLimit 시작 한도
+     * @param minLimit 한도 하한
+     * @param maxLimit 한도 상한
+     * @param maxQueue 최대 대기 요청 수
+     * @param maxQueueWaitNanos 최대 대기 시간
+     * @param latencyTolerance 기준 응답 시간 대비 허용 배수
+     * @param poolWaiters 커넥션 풀에서 커넥션을 기다리는 스레드 수
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int maxQueue, long maxQueueWaitNanos,
+                                      double latencyTolerance, IntSupplier poolWaiters) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueue = maxQueue;
+        this.maxQueueWaitNanos = maxQueueWaitNanos;
+        this.latencyTolerance = latencyTolerance;
+        this.poolWaiters = poolWaiters;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.lastDecreaseNanos = System.nanoTime() - DECREASE_COOLDOWN_NANOS;
+    }
+
+    /**
+     * 처리 권한을 얻습니다. 한도가 찼다면 대기열에서 잠시 기다립니다.
+     *
+     * @return 처리 권한을 얻었으면 true, 대기열이 가득 찼거나 대기 시간이 지나면 false
+     */
+    public boolean acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            if (inflight < (int) limit) {
+                inflight++;
+                return true;
+            }
+            if (waiting >= maxQueue) {
+                rejectedCount.increment();
+                return false;
+            }
+
+            waiting++;
+            try {
+                long remainingNanos = maxQueueWaitNanos;
+                while (inflight >= (int) limit) {
+                    if (remainingNanos <= 0) {
+                        rejectedCount.increment();
+                        return false;
+                    }
+                    remainingNanos = available.awaitNanos(remainingNanos);
+                }
+                inflight++;
+                return true;
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 처리가 끝난 요청의 권한을 반납하고, 응답 시간으로 한도를 조절합니다. 모든 요청을 같은 경로로 봅니다.
+     *
+     * @param rttNanos 요청 처리 시간
+     * @param nowNanos 현재 시각 (System.nanoTime)
+     */
+    public void release(long rttNanos, long nowNanos) {
+        this.release(DEFAULT_ROUTE, rttNanos, nowNanos);
+    }
+
+    /**
+     * 처리가 끝난 요청의 권한을 반납하고, 경로별 기준 응답 시간과 비교하여 한도를 조절합니다.
+     *
+     * @param route 요청 경로 (예: "POST /account/{accountId}/transfer")
+     * @param rttNanos 요청 처리 시간
+     * @param nowNanos 현재 시각 (System.nanoTime)
+     */
+    public void release(String route, long rttNanos, long nowNanos) {
+        boolean poolSaturated = poolWaiters.getAsInt() > 0;
+        lock.lock();
+        try {
+            this.updateLimit(route, rttNanos, nowNanos, poolSaturated);
+            this.releasePermit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 실제 처리를 하지 않은 요청(304, 재응답, 429, 비동기 시작 등)의 권한을 반납합니다. 응답 시간은 한도 조절에 쓰지 않습니다.
+     */
+    public void releaseWithoutSample() {
+        lock.lock();
+        try {
+            this.releasePermit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInflight() {
+        lock.lock();
+        try {
+            return inflight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    private void releasePermit() {
+        inflight--;
+        if (inflight < (int) limit) {
+            available.signal();
+        }
+    }
+
+    private void updateLimit(String route, long rttNanos, long nowNanos, boolean poolSaturated) {
+        RttWindow window = baselines.get(route);
+        if (window == null) {
+            // 경로 수가 비정상적으로 많으면 새 경로는 기본 경로의 기준을 함께 사용합니다.
+            String key = baselines.size() < MAX_ROUTES ? route : DEFAULT_ROUTE;
+            window = baselines.computeIfAbsent(key, k -> new RttWindow());
+        }
+        long baselineRttNanos = window.record(rttNanos);
+
+        boolean congested = poolSaturated || rttNanos > baselineRttNanos * latencyTolerance;
+        if (congested) {
+            if (nowNanos - lastDecreaseNanos >= DECREASE_COOLDOWN_NANOS) {
+                limit = Math.max(minLimit, limit * DECREASE_RATIO);
+                lastDecreaseNanos = nowNanos;
+            }
+        } else if (inflight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    /**
+     * 경로 하나의 최근 응답 시간 링 버퍼. 락 안에서만 사용합니다.
+     */
+    private static final class RttWindow {
+
+        private final long[] samples = new long[BASELINE_SAMPLES];
+        private final long[] sorted = new long[BASELINE_SAMPLES];
+        private int count;
+        private int next;
+
+        /**
+         * 응답 시간을 기록하고, 기록한 값을 포함한 최근 응답 시간의 하위 10% 값을 반환합니다.
+         */
+        private long record(long rttNanos) {
+            samples[next] = rttNanos;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+
+            System.arraycopy(samples, 0, sorted, 0, count);
+            Arrays.sort(sorted, 0, count);
+            return sorted[(int) (BASELINE_PERCENTILE * (count - 1))];
+        }
+    }
+}
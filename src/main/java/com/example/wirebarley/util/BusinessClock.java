@@ -0,0 +1,89 @@
+package com.example.wirebarley.util;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.ZonedDateTime;
+
+/**
+ * 영업일 기준 시계.
+ * <p>
+ * 현재 시각은 항상 Asia/Seoul 기준으로 제공하며, 오늘 날짜는 정수 yyyyMMdd 값과 문자열로 미리 계산해 둡니다.
+ * 거래 기록과 한도 확인마다 날짜를 포맷팅하지 않도록, 날짜는 자정에 실행되는 스케줄에서만 갱신됩니다.
+ * 스케줄이 늦게 실행되는 경우를 대비하여 조회 시 캐시된 날짜의 범위를 벗어났는지도 확인합니다.
+ * </p>
+ * 테스트에서는 {@link #setClock(Clock)} 으로 고정된 시계를 주입하여 날짜 경계 상황을 재현할 수 있습니다.
+ */
+@Component
+public class BusinessClock {
+
+    private volatile Clock clock = Clock.system(DateUtil.getZoneId());
+    private volatile BusinessDay today;
+
+    public BusinessClock() {
+        this.refresh();
+    }
+
+    /**
+     * 현재 시각(Asia/Seoul)을 반환합니다.
+     */
+    public ZonedDateTime now() {
+        return ZonedDateTime.now(clock);
+    }
+
+    /**
+     * 오늘 날짜를 정수 yyyyMMdd 값으로 반환합니다.
+     */
+    public int today() {
+        return this.currentDay().key();
+    }
+
+    /**
+     * 오늘 날짜를 yyyyMMdd 문자열로 반환합니다. 거래 기록의 date 컬럼과 같은 형식입니다.
+     */
+    public String todayText() {
+        return this.currentDay().text();
+    }
+
+    /**
+     * 자정(Asia/Seoul)마다 오늘 날짜를 갱신합니다.
+     */
+    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
+    public void tick() {
+        this.refresh();
+    }
+
+    /**
+     * 시계를 교체하고 오늘 날짜를 다시 계산합니다. 테스트에서 날짜 경계 상황을 재현할 때 사용합니다.
+     */
+    public void setClock(Clock clock) {
+        this.clock = clock.withZone(DateUtil.getZoneId());
+        this.refresh();
+    }
+
+    // =============================================
+    // ================== private ==================
+    // =============================================
+
+    private BusinessDay currentDay() {
+        BusinessDay day = this.today;
+        long millis = clock.millis();
+        if (millis < day.startMillis() || millis >= day.endMillis()) {
+            day = this.refresh();
+        }
+        return day;
+    }
+
+    private BusinessDay refresh() {
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        ZonedDateTime startOfDay = now.toLocalDate().atStartOfDay(DateUtil.getZoneId());
+        BusinessDay day = new BusinessDay(DateUtil.dayKey(now), DateUtil.yyyymmdd(now),
+                startOfDay.toInstant().toEpochMilli(), startOfDay.plusDays(1).toInstant().toEpochMilli());
+        this.today = day;
+        return day;
+    }
+
+    private record BusinessDay(int key, String text, long startMillis, long endMillis) {
+    }
+}
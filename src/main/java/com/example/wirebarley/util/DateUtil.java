@@ -6,8 +6,9 @@ import java.time.format.DateTimeFormatter;
 
 public class DateUtil {
 
-    private static ZoneId defaultZoneId = ZoneId.of("Asia/Seoul");
-    private static String formatYYYYMMDD = "yyyyMMdd";
+    private static final ZoneId defaultZoneId = ZoneId.of("Asia/Seoul");
+    // DateTimeFormatter 는 불변이며 스레드 안전하므로 한 번만 생성하여 재사용합니다.
+    private static final DateTimeFormatter formatYYYYMMDD = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     public static ZoneId getZoneId() {
         return defaultZoneId;
@@ -18,6 +19,13 @@ public class DateUtil {
     }
 
     public static String yyyymmdd(ZonedDateTime dateTime) {
-        return dateTime.format(DateTimeFormatter.ofPattern(formatYYYYMMDD));
+        return dateTime.format(formatYYYYMMDD);
+    }
+
+    /**
+     * 날짜를 정수 yyyyMMdd 값(예: 20250801)으로 변환합니다. 문자열 포맷팅 없이 계산합니다.
+     */
+    public static int dayKey(ZonedDateTime dateTime) {
+        return dateTime.getYear() * 10000 + dateTime.getMonthValue() * 100 + dateTime.getDayOfMonth();
     }
 }
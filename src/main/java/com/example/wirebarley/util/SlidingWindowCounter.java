@@ -0,0 +1,88 @@
+package com.example.wirebarley.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 락 없이 동작하는 슬라이딩 윈도우 카운터.
+ * <p>
+ * 윈도우를 slotCount 개의 구간으로 나눈 링 버퍼에 구간별 건수를 보관합니다. 구간 하나는 long 하나에
+ * "구간 번호(상위 40비트) | 건수(하위 24비트)" 로 담아 compareAndSet 으로 갱신하므로, 링 버퍼를 한 바퀴 돌아
+ * 오래된 구간을 재사용할 때도 초기화와 증가가 한 번에 일어나 다른 스레드의 증가를 잃지 않습니다.
+ * </p>
+ * 건수는 현재 구간을 포함한 최근 slotCount 개 구간의 합이므로, 윈도우의 시작 경계는 구간 길이(window / slotCount)만큼 근사됩니다.
+ */
+public class SlidingWindowCounter {
+
+    private static final int COUNT_BITS = 24;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long EPOCH_MASK = (1L << (Long.SIZE - COUNT_BITS)) - 1;
+    // 구간 번호는 EPOCH_MASK 로 잘라 저장하므로 차이가 이 값 이상이면 과거 구간으로 봅니다.
+    private static final long EPOCH_HALF_RANGE = 1L << (Long.SIZE - COUNT_BITS - 1);
+
+    private final long slotMillis;
+    private final AtomicLongArray slots;
+
+    public SlidingWindowCounter(long windowMillis, int slotCount) {
+        if (slotCount < 1 || windowMillis < slotCount) {
+            throw new IllegalArgumentException("slotCount 는 1 이상, windowMillis 는 slotCount 이상이어야 합니다.");
+        }
+        this.slotMillis = windowMillis / slotCount;
+        this.slots = new AtomicLongArray(slotCount);
+    }
+
+    /**
+     * 시각 nowMillis 에 1건을 기록합니다. 윈도우보다 오래된 시각의 기록은 무시합니다.
+     *
+     * @param nowMillis 기록 시각 (epoch millis)
+     */
+    public void increment(long nowMillis) {
+        long epoch = nowMillis / slotMillis;
+        int index = (int) (epoch % slots.length());
+        long tag = epoch & EPOCH_MASK;
+        while (true) {
+            long current = slots.get(index);
+            long currentTag = current >>> COUNT_BITS;
+            long next;
+            if (currentTag == tag) {
+                if ((current & COUNT_MASK) == COUNT_MASK) {
+                    return; // 구간 건수 포화
+                }
+                next = current + 1;
+            } else if (current == 0L || ((tag - currentTag) & EPOCH_MASK) < EPOCH_HALF_RANGE) {
+                // 링 버퍼를 한 바퀴 돌아 오래된 구간을 새 구간으로 재사용
+                next = (tag << COUNT_BITS) | 1L;
+            } else {
+                return; // 같은 자리에 더 최근 구간이 있으면 윈도우 밖의 기록
+            }
+            if (slots.compareAndSet(index, current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 시각 nowMillis 기준 윈도우 안의 건수를 반환합니다.
+     *
+     * @param nowMillis 기준 시각 (epoch millis)
+     */
+    public long count(long nowMillis) {
+        long tag = (nowMillis / slotMillis) & EPOCH_MASK;
+        int length = slots.length();
+        long sum = 0L;
+        for (int index = 0; index < length; index++) {
+            long slot = slots.get(index);
+            long age = (tag - (slot >>> COUNT_BITS)) & EPOCH_MASK;
+            if (age < length) {
+                sum += slot & COUNT_MASK;
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * 윈도우 안에 기록이 없는지 여부. 기록이 없는 카운터는 새로 만든 카운터와 같으므로 제거해도 결과가 달라지지 않습니다.
+     */
+    public boolean isIdle(long nowMillis) {
+        return this.count(nowMillis) == 0L;
+    }
+}
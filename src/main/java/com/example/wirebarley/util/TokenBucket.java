@@ -0,0 +1,61 @@
+package com.example.wirebarley.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 락 없이 동작하는 토큰 버킷.
+ * <p>
+ * GCRA(Generic Cell Rate Algorithm) 방식으로 "다음 토큰이 도착할 이론상 시각" 하나만 AtomicLong 으로 관리하며,
+ * compareAndSet 으로 갱신하므로 여러 스레드가 동시에 호출해도 락을 잡지 않습니다.
+ * 최대 capacity 개의 요청을 한 번에 허용하고, 이후에는 초당 refillPerSecond 개씩 허용합니다.
+ * </p>
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos; // 토큰 1개가 채워지는 데 걸리는 시간
+    private final long burstToleranceNanos;   // 한 번에 허용하는 요청(capacity - 1)만큼의 여유 시간
+    private final AtomicLong theoreticalArrivalTime;
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity 는 1 이상, refillPerSecond 는 0보다 커야 합니다.");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / refillPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.theoreticalArrivalTime = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 1개를 사용합니다.
+     *
+     * @param nowNanos 현재 시각 (System.nanoTime)
+     * @return 토큰을 얻었으면 0, 얻지 못했으면 다음 토큰까지 남은 시간(나노초)
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrivalTime.get();
+            long base = tat - nowNanos > 0 ? tat : nowNanos;
+            long waitNanos = base - burstToleranceNanos - nowNanos;
+            if (waitNanos > 0) {
+                rejectedCount.increment();
+                return waitNanos;
+            }
+            if (theoreticalArrivalTime.compareAndSet(tat, base + emissionIntervalNanos)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬 상태인지 여부. 가득 찬 버킷은 새로 만든 버킷과 같으므로 제거해도 제한 결과가 달라지지 않습니다.
+     */
+    public boolean isFull(long nowNanos) {
+        return theoreticalArrivalTime.get() - nowNanos <= 0;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.wirebarley.benchmark;
+
+import com.example.wirebarley.domain.Account;
+import com.example.wirebarley.dto.CreateAccountRequestDTO;
+import com.example.wirebarley.enumeration.LockingStrategy;
+import com.example.wirebarley.repository.AccountRepository;
+import com.example.wirebarley.service.AccountLockManager;
+import com.example.wirebarley.service.AccountService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 락 전략(PESSIMISTIC / OPTIMISTIC / AUTO)별 입금 처리량을 경합 정도에 따라 비교합니다.
+ * <p>
+ * - UNIFORM: 모든 계좌에 고르게 요청이 분산됩니다.<br>
+ * - SKEWED: 요청의 80%가 하나의 계좌에 몰립니다.
+ * </p>
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+// 입금이 락 전략을 거치도록 조건부 UPDATE 경로는 끕니다.
+@SpringBootTest(properties = "app.account.conditional-update.enabled=false")
+@ActiveProfiles("test")
+@DisplayName("계좌 락 전략 벤치마크")
+class AccountLockingBenchmarkTest {
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 250;
+    private static final int ACCOUNT_COUNT = 50;
+    private static final double HOT_ACCOUNT_RATIO = 0.8;
+
+    private static final AtomicInteger scenarioSequence = new AtomicInteger();
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountLockManager accountLockManager;
+
+    enum Contention {
+        UNIFORM,
+        SKEWED
+    }
+
+    static Stream<Arguments> scenarios() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (Contention contention : Contention.values()) {
+            for (LockingStrategy strategy : LockingStrategy.values()) {
+                arguments.add(Arguments.of(strategy, contention));
+            }
+        }
+        return arguments.stream();
+    }
+
+    @AfterEach
+    void tearDown() {
+        accountLockManager.setStrategy(LockingStrategy.PESSIMISTIC);
+    }
+
+    @ParameterizedTest(name = "{0} / {1}")
+    @MethodSource("scenarios")
+    void deposit(LockingStrategy strategy, Contention contention) throws Exception {
+        // given (준비)
+        accountLockManager.setStrategy(strategy);
+        List<Long> accountIds = this.createAccounts();
+        long conflictsBefore = accountLockManager.getConflictCount();
+
+        // when (실행)
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long startedAt = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    long accountId = this.pickAccount(accountIds, contention);
+                    try {
+                        accountService.deposit(accountId, 1L);
+                        succeeded.incrementAndGet();
+                    } catch (Throwable ex) {
+                        failed.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        // then (검증): 성공한 입금 수와 잔액 합계가 일치해야 한다 (갱신 손실 없음)
+        long totalBalance = accountRepository.findAllById(accountIds).stream()
+                .mapToLong(Account::getBalance)
+                .sum();
+        assertThat(totalBalance).isEqualTo(succeeded.get());
+
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("[locking] %-11s %-7s ops=%d ok=%d failed=%d conflicts=%d elapsed=%.3fs throughput=%.1f ops/s%n",
+                strategy, contention, THREADS * OPERATIONS_PER_THREAD, succeeded.get(), failed.get(),
+                accountLockManager.getConflictCount() - conflictsBefore, seconds, succeeded.get() / seconds);
+    }
+
+    private List<Long> createAccounts() {
+        int scenario = scenarioSequence.incrementAndGet();
+        List<Long> accountIds = new ArrayList<>();
+        for (int i = 0; i < ACCOUNT_COUNT; i++) {
+            String phone = String.format("010-%04d-%04d", scenario, i);
+            CreateAccountRequestDTO request = new CreateAccountRequestDTO("벤치마크", "bench@test.com", phone, "password");
+            accountIds.add(accountService.createAccount(request).getId());
+        }
+        return accountIds;
+    }
+
+    private long pickAccount(List<Long> accountIds, Contention contention) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (contention == Contention.SKEWED && random.nextDouble() < HOT_ACCOUNT_RATIO) {
+            return accountIds.get(0);
+        }
+        return accountIds.get(random.nextInt(accountIds.size()));
+    }
+}
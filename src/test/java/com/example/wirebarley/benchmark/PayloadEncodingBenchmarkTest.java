@@ -0,0 +1,108 @@
+package com.example.wirebarley.benchmark;
+
+import com.example.wirebarley.dto.TransactionDTO;
+import com.example.wirebarley.enumeration.TransactionType;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 100건짜리 거래 내역 페이지를 JSON / CBOR / Smile 로 직렬화할 때의 크기(원본, gzip)와 직렬화 시간을 비교합니다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@DisplayName("응답 포맷 벤치마크")
+class PayloadEncodingBenchmarkTest {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP_ITERATIONS = 5_000;
+    private static final int MEASURE_ITERATIONS = 20_000;
+
+    private static volatile Object sink;
+
+    @Test
+    void transactionHistoryPage() throws IOException {
+        // given (준비)
+        List<TransactionDTO> page = this.historyPage();
+        Map<String, ObjectMapper> mappers = Map.of(
+                "json", new ObjectMapper(),
+                "cbor", new CBORMapper(),
+                "smile", new SmileMapper());
+
+        for (String format : List.of("json", "cbor", "smile")) {
+            ObjectMapper mapper = mappers.get(format);
+            byte[] encoded = mapper.writeValueAsBytes(page);
+
+            // 다시 읽었을 때 같은 건수여야 한다
+            JavaType type = mapper.getTypeFactory().constructCollectionType(List.class, Map.class);
+            List<?> decoded = mapper.readValue(encoded, type);
+            assertThat(decoded).hasSize(PAGE_SIZE);
+
+            // when (실행)
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                sink = mapper.writeValueAsBytes(page);
+            }
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+                sink = mapper.writeValueAsBytes(page);
+            }
+            long serializeNanos = (System.nanoTime() - startedAt) / MEASURE_ITERATIONS;
+
+            startedAt = System.nanoTime();
+            for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+                sink = mapper.readValue(encoded, type);
+            }
+            long deserializeNanos = (System.nanoTime() - startedAt) / MEASURE_ITERATIONS;
+
+            // then (검증)
+            System.out.printf("[payload] %-5s rows=%d bytes=%d gzip=%d serialize=%.1fus deserialize=%.1fus%n",
+                    format, PAGE_SIZE, encoded.length, this.gzip(encoded).length,
+                    serializeNanos / 1000.0, deserializeNanos / 1000.0);
+        }
+    }
+
+    private List<TransactionDTO> historyPage() {
+        List<TransactionDTO> page = new ArrayList<>();
+        long balance = 10_000_000L;
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            boolean transfer = i % 3 == 0;
+            long amount = 10_000L + i * 137L;
+            long fee = transfer ? amount / 100 : 0L;
+            page.add(TransactionDTO.builder()
+                    .id(1_000_000L + i)
+                    .type(transfer ? TransactionType.TRANSFER : TransactionType.DEPOSIT)
+                    .netAmount(amount)
+                    .prevBalance(balance)
+                    .postBalance(balance - amount - fee)
+                    .fee(fee)
+                    .feeRate(transfer ? "0.0100" : "0")
+                    .relatedTransactionId(transfer ? 2_000_000L + i : null)
+                    .counterpartyName(transfer ? "수취인" + i : null)
+                    .counterpartyAccountNumber(transfer ? "A1B2C3D4E5F6" + String.format("%04d", i) : null)
+                    .build());
+            balance -= amount + fee;
+        }
+        return page;
+    }
+
+    private byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
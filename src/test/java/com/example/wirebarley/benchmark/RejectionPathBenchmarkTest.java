@@ -0,0 +1,106 @@
+package com.example.wirebarley.benchmark;
+
+import com.example.wirebarley.domain.Account;
+import com.example.wirebarley.domain.Outcome;
+import com.example.wirebarley.enumeration.Rejection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 출금 거절(잔액 부족) 경로의 비용을 세 가지 방식으로 비교합니다.
+ * <p>
+ * - STACK_TRACE: 매번 스택 트레이스를 채우는 일반 예외를 생성하여 던집니다. (기존 방식)<br>
+ * - STACKLESS: 스택 트레이스 없는 싱글톤 예외를 던집니다.<br>
+ * - OUTCOME: 예외 없이 거절 결과를 반환합니다.
+ * </p>
+ * 실제 요청처럼 호출 스택이 깊은 상태에서 측정하기 위해 일정 깊이까지 재귀한 뒤 거절을 발생시킵니다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@DisplayName("거절 경로 벤치마크")
+class RejectionPathBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int MEASURE_ITERATIONS = 1_000_000;
+    private static final int STACK_DEPTH = 64;
+    private static final ZonedDateTime REJECTED_AT = ZonedDateTime.now();
+
+    private static volatile Object sink;
+
+    enum Path {
+        STACK_TRACE,
+        STACKLESS,
+        OUTCOME
+    }
+
+    @Test
+    void rejectionPath() {
+        // given (준비): 잔액이 0원인 계좌
+        Account account = new Account(1L);
+        account.setBalance(0L);
+
+        // 거절 결과는 모두 같은 사유를 가리켜야 한다
+        assertThat(this.reject(account, Path.STACK_TRACE)).isEqualTo(Rejection.INSUFFICIENT_BALANCE.getMessage());
+        assertThat(this.reject(account, Path.STACKLESS)).isEqualTo(Rejection.INSUFFICIENT_BALANCE.getMessage());
+        assertThat(this.reject(account, Path.OUTCOME)).isEqualTo(Rejection.INSUFFICIENT_BALANCE.getMessage());
+        assertThat(Rejection.INSUFFICIENT_BALANCE.exception().getStackTrace()).isEmpty();
+
+        // when (실행) & then (검증)
+        for (Path path : Path.values()) {
+            this.run(account, path, WARMUP_ITERATIONS);
+        }
+        for (Path path : Path.values()) {
+            long elapsedNanos = this.run(account, path, MEASURE_ITERATIONS);
+            System.out.printf("[rejection] %-11s depth=%d ops=%d elapsed=%.3fs %.1f ns/op%n",
+                    path, STACK_DEPTH, MEASURE_ITERATIONS, elapsedNanos / 1_000_000_000.0,
+                    (double) elapsedNanos / MEASURE_ITERATIONS);
+        }
+        // 잔액은 한 번도 변경되지 않아야 한다
+        assertThat(account.getBalance()).isZero();
+    }
+
+    private long run(Account account, Path path, int iterations) {
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink = this.reject(account, path);
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    /**
+     * 깊은 호출 스택 끝에서 발생한 거절을 호출자 쪽에서 받습니다. 예외는 던진 프레임을 벗어나 전파되어야
+     * JIT 이 throw/catch 를 같은 프레임의 분기로 바꾸지 못하므로, 실제 요청처럼 스택을 거슬러 올라오는 비용이 측정됩니다.
+     */
+    private String reject(Account account, Path path) {
+        try {
+            return this.rejectAt(account, path, STACK_DEPTH);
+        } catch (RuntimeException ex) {
+            sink = ex;
+            return ex.getMessage();
+        }
+    }
+
+    private String rejectAt(Account account, Path path, int depth) {
+        if (depth > 0) {
+            return this.rejectAt(account, path, depth - 1);
+        }
+        switch (path) {
+            case STACK_TRACE:
+                if (account.getBalance() < 1L) {
+                    throw new IllegalStateException(Rejection.INSUFFICIENT_BALANCE.getMessage());
+                }
+                return null;
+            case STACKLESS:
+                account.withdraw(1L, REJECTED_AT);
+                return null;
+            default:
+                Outcome<Void> outcome = account.tryWithdraw(1L, REJECTED_AT);
+                return outcome.getMessage();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.wirebarley.benchmark;
+
+import com.example.wirebarley.config.VelocityProperties;
+import com.example.wirebarley.service.VelocityService;
+import com.example.wirebarley.util.SlidingWindowCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이체 빈도 확인 1건의 비용을 측정합니다.
+ * <p>
+ * - count: 구간 60개인 윈도우의 건수 합산<br>
+ * - increment: 윈도우에 1건 기록 (CAS)<br>
+ * - check: 계좌 카운터 조회 + 두 규칙 확인 (단일 스레드 / 여러 스레드)
+ * </p>
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@DisplayName("이체 빈도 확인 벤치마크")
+class VelocityCheckBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 1_000_000;
+    private static final int MEASURE_ITERATIONS = 5_000_000;
+    private static final int ACCOUNTS = 10_000;
+    private static final int THREADS = 8;
+
+    private static volatile long sink;
+
+    @Test
+    void counter() {
+        // given (준비): 5분 윈도우, 구간 60개, 모든 구간에 기록이 있는 상태
+        long now = System.currentTimeMillis();
+        SlidingWindowCounter counter = new SlidingWindowCounter(300_000L, 60);
+        for (int i = 0; i < 60; i++) {
+            counter.increment(now - i * 5_000L);
+        }
+        assertThat(counter.count(now)).isEqualTo(60L);
+
+        // when (실행) & then (검증)
+        this.measureCount(counter, now, WARMUP_ITERATIONS);
+        long countNanos = this.measureCount(counter, now, MEASURE_ITERATIONS);
+        this.measureIncrement(counter, now, WARMUP_ITERATIONS);
+        long incrementNanos = this.measureIncrement(counter, now, MEASURE_ITERATIONS);
+
+        this.print("count", 1, MEASURE_ITERATIONS, countNanos);
+        this.print("increment", 1, MEASURE_ITERATIONS, incrementNanos);
+    }
+
+    @Test
+    void check() throws Exception {
+        // given (준비): 한도에 못 미치는 기록이 있는 계좌 ACCOUNTS 개
+        VelocityProperties properties = new VelocityProperties();
+        properties.getTransfers().setMaxCount(Integer.MAX_VALUE);
+        properties.getNewCounterparties().setMaxCount(Integer.MAX_VALUE);
+        VelocityService velocityService = new VelocityService();
+        ReflectionTestUtils.setField(velocityService, "properties", properties);
+        long now = System.currentTimeMillis();
+        for (long accountId = 1; accountId <= ACCOUNTS; accountId++) {
+            velocityService.record(accountId, true, now);
+        }
+        assertThat(velocityService.getAccountCount()).isEqualTo(ACCOUNTS);
+
+        // when (실행) & then (검증)
+        this.measureCheck(velocityService, WARMUP_ITERATIONS);
+        long singleNanos = this.measureCheck(velocityService, MEASURE_ITERATIONS);
+        this.print("check", 1, MEASURE_ITERATIONS, singleNanos);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            long startedAt = System.nanoTime();
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> this.measureCheck(velocityService, MEASURE_ITERATIONS)));
+            }
+            for (Future<Long> future : futures) {
+                future.get();
+            }
+            this.print("check", THREADS, (long) MEASURE_ITERATIONS * THREADS, System.nanoTime() - startedAt);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private long measureCount(SlidingWindowCounter counter, long now, int iterations) {
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink = counter.count(now);
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private long measureIncrement(SlidingWindowCounter counter, long now, int iterations) {
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            counter.increment(now + (i & 0xFFF));
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private long measureCheck(VelocityService velocityService, int iterations) {
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            velocityService.check(1L + i % ACCOUNTS, "0000000000");
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private void print(String operation, int threads, long ops, long elapsedNanos) {
+        System.out.printf("[velocity] %-9s threads=%d ops=%d elapsed=%.3fs %.1f ns/op%n",
+                operation, threads, ops, elapsedNanos / 1_000_000_000.0, (double) elapsedNanos / ops);
+    }
+}
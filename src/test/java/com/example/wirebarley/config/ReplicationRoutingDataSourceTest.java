@@ -0,0 +1,70 @@
+package com.example.wirebarley.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2 인메모리 DB 두 개(testdb: primary, replicadb: replica)로 트랜잭션 라우팅을 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "replication"})
+@DisplayName("primary / replica 라우팅 테스트")
+class ReplicationRoutingDataSourceTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @AfterEach
+    void tearDown() {
+        replicaLagMonitor.update(0L);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica 로 라우팅된다")
+    void readOnlyTransaction_RoutesToReplica() {
+        assertThat(this.currentDatabase(true)).isEqualToIgnoringCase("replicadb");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 primary 로 라우팅된다")
+    void readWriteTransaction_RoutesToPrimary() {
+        assertThat(this.currentDatabase(false)).isEqualToIgnoringCase("testdb");
+    }
+
+    @Test
+    @DisplayName("replica 지연이 허용치를 넘으면 읽기 전용 트랜잭션도 primary 로 라우팅된다")
+    void readOnlyTransaction_FallsBackToPrimaryWhenReplicaLags() {
+        // given (준비): 허용치(5초)를 넘는 지연
+        replicaLagMonitor.update(60L);
+
+        // when & then
+        assertThat(this.currentDatabase(true)).isEqualToIgnoringCase("testdb");
+
+        // 복제가 멈춘 경우(지연 측정 불가)에도 primary 를 사용한다
+        replicaLagMonitor.update(null);
+        assertThat(this.currentDatabase(true)).isEqualToIgnoringCase("testdb");
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class));
+    }
+}
@@ -2,6 +2,7 @@ package com.example.wirebarley.domain;
 
 import com.example.wirebarley.dto.AccountDTO;
 import com.example.wirebarley.enumeration.AccountStatus;
+import com.example.wirebarley.enumeration.Rejection;
 import com.example.wirebarley.exception.AccountNotActiveException;
 import com.example.wirebarley.exception.BalanceRemainingException;
 import com.example.wirebarley.exception.InsufficientBalanceException;
@@ -21,6 +22,7 @@ class AccountTest {
 
     private Account account;
     private User testUser;
+    private ZonedDateTime changedAt;
 
     // 각 테스트가 실행되기 전에, 테스트에 사용할 깨끗한 Account 객체를 생성합니다.
     @BeforeEach
@@ -32,6 +34,7 @@ class AccountTest {
         account.setUser(testUser);
         account.setBalance(10000L); // 초기 잔액 10,000원으로 설정
         account.setStatus(AccountStatus.ACTIVE);
+        changedAt = ZonedDateTime.now();
     }
 
     @Test
@@ -41,11 +44,11 @@ class AccountTest {
         long depositAmount = 5000L;
 
         // when (실행)
-        account.deposit(depositAmount);
+        account.deposit(depositAmount, changedAt);
 
         // then (검증)
         assertThat(account.getBalance()).isEqualTo(15000L);
-        assertThat(account.getLastBalanceChangedAt()).isNotNull();
+        assertThat(account.getLastBalanceChangedAt()).isEqualTo(changedAt);
     }
 
     @Test
@@ -57,7 +60,7 @@ class AccountTest {
         // when & then (실행 및 검증)
         // 특정 예외가 발생하는지 검증합니다.
         InvalidAmountException exception = assertThrows(InvalidAmountException.class, () -> {
-            account.deposit(depositAmount);
+            account.deposit(depositAmount, changedAt);
         });
 
         // 예외 메시지가 정확한지 확인합니다.
@@ -71,7 +74,7 @@ class AccountTest {
         long withdrawAmount = 3000L;
 
         // when (실행)
-        account.withdraw(withdrawAmount);
+        account.withdraw(withdrawAmount, changedAt);
 
         // then (검증)
         assertThat(account.getBalance()).isEqualTo(7000L);
@@ -86,7 +89,7 @@ class AccountTest {
 
         // when & then
         InsufficientBalanceException exception = assertThrows(InsufficientBalanceException.class, () -> {
-            account.withdraw(withdrawAmount);
+            account.withdraw(withdrawAmount, changedAt);
         });
 
         assertEquals("잔액이 부족합니다.", exception.getMessage());
@@ -151,4 +154,109 @@ class AccountTest {
         assertThat(dto.getUsername()).isEqualTo("testUser");
         assertThat(dto.getLastBalanceChangedAt()).isEqualTo(account.getLastBalanceChangedAt());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("출금 시도 실패: 잔액이 부족하면 예외 없이 거절 결과를 반환하고 잔액은 그대로다")
+    void testTryWithdrawRejected() {
+        // given (준비)
+        long withdrawAmount = 20000L;
+
+        // when (실행)
+        Outcome<Void> outcome = account.tryWithdraw(withdrawAmount, changedAt);
+
+        // then (검증)
+        assertThat(outcome.isRejected()).isTrue();
+        assertThat(outcome.getRejection()).isEqualTo(Rejection.INSUFFICIENT_BALANCE);
+        assertThat(outcome.getMessage()).isEqualTo("잔액이 부족합니다.");
+        assertThat(account.getBalance()).isEqualTo(10000L);
+        assertThat(account.getLastBalanceChangedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("출금 시도 성공: 성공 결과를 반환하고 잔액이 감소한다")
+    void testTryWithdrawSuccess() {
+        // when (실행)
+        Outcome<Void> outcome = account.tryWithdraw(3000L, changedAt);
+
+        // then (검증)
+        assertThat(outcome.isSuccess()).isTrue();
+        assertThat(account.getBalance()).isEqualTo(7000L);
+    }
+
+    @Test
+    @DisplayName("입출금 실패: 휴면 계좌는 입금과 출금 모두 AccountNotActiveException 발생")
+    void testDepositAndWithdrawFailWhenDormant() {
+        // given (준비)
+        account.setStatus(AccountStatus.DORMANT);
+
+        // when & then
+        assertThrows(AccountNotActiveException.class, () -> account.deposit(1000L, changedAt));
+        assertThrows(AccountNotActiveException.class, () -> account.withdraw(1000L, changedAt));
+        assertThat(account.checkReceivable().getRejection()).isEqualTo(Rejection.ACCOUNT_NOT_ACTIVE);
+        assertThat(account.getBalance()).isEqualTo(10000L);
+    }
+
+    @Test
+    @DisplayName("휴면 해제 성공: 활성 상태로 바뀌고 해제 시각부터 휴면 기간을 다시 계산한다")
+    void testReactivate() {
+        // given (준비)
+        account.setStatus(AccountStatus.DORMANT);
+        ZonedDateTime now = ZonedDateTime.now();
+
+        // when (실행)
+        account.reactivate(now);
+
+        // then (검증)
+        assertThat(account.getStatus()).isEqualTo(AccountStatus.ACTIVE);
+        assertThat(account.getLastBalanceChangedAt()).isEqualTo(now);
+    }
+
+    @Test
+    @DisplayName("휴면 해제 실패: 휴면 상태가 아니면 AccountNotActiveException 발생")
+    void testReactivateFailWhenNotDormant() {
+        // when & then
+        AccountNotActiveException exception = assertThrows(AccountNotActiveException.class,
+                () -> account.reactivate(ZonedDateTime.now()));
+
+        assertEquals("휴면 상태의 계좌만 다시 활성화할 수 있습니다.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("거절 예외는 스택 트레이스 없이 재사용된다")
+    void testRejectionIsStackless() {
+        // when (실행)
+        InsufficientBalanceException first = assertThrows(InsufficientBalanceException.class, () -> account.withdraw(20000L, changedAt));
+        InsufficientBalanceException second = assertThrows(InsufficientBalanceException.class, () -> account.withdraw(30000L, changedAt));
+
+        // then (검증)
+        assertThat(first).isSameAs(second);
+        assertThat(first.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("모든 거절 사유의 싱글톤 예외는 스택 트레이스를 채우지 않는다")
+    void testAllRejectionsAreStackless() {
+        for (Rejection rejection : Rejection.values()) {
+            // when (실행)
+            RuntimeException exception = rejection.exception();
+            exception.fillInStackTrace();
+
+            // then (검증)
+            assertThat(exception.getStackTrace()).as(rejection.name()).isEmpty();
+            assertThat(exception.getMessage()).isEqualTo(rejection.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("가변 메시지의 거절 결과는 그 메시지로 예외를 만든다")
+    void testRejectedWithMessage() {
+        // given (준비)
+        Outcome<Void> outcome = Outcome.rejected(Rejection.DAILY_TRANSFER_LIMIT_EXCEEDED, "일일 이체 한도 1000원을 초과했습니다.");
+
+        // when & then
+        assertThat(outcome.getMessage()).isEqualTo("일일 이체 한도 1000원을 초과했습니다.");
+        RuntimeException exception = assertThrows(RuntimeException.class, outcome::orElseThrow);
+        assertThat(exception.getMessage()).isEqualTo("일일 이체 한도 1000원을 초과했습니다.");
+        assertThat(exception).isNotSameAs(Rejection.DAILY_TRANSFER_LIMIT_EXCEEDED.exception());
+    }
+}
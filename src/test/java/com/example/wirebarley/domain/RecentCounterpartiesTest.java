@@ -0,0 +1,106 @@
+package com.example.wirebarley.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+@DisplayName("RecentCounterparties 도메인 로직 테스트")
+class RecentCounterpartiesTest {
+
+    private static final long DAY = 20_000L;
+
+    @Test
+    @DisplayName("자주 이체한 상대방이 먼저이고, 같은 점수면 최근에 이체한 상대방이 먼저다")
+    void testTop_OrdersByScoreThenRecency() {
+        // given (준비)
+        RecentCounterparties counterparties = new RecentCounterparties(1L);
+        counterparties.record("111", "가", DAY, 10);
+        counterparties.record("222", "나", DAY, 10);
+        counterparties.record("222", "나", DAY, 10);
+        counterparties.record("333", "다", DAY + 1, 10);
+
+        // when (실행)
+        List<RecentCounterparties.Entry> top = counterparties.top(DAY + 1, 10);
+
+        // then (검증)
+        assertThat(top).extracting(RecentCounterparties.Entry::accountNumber).containsExactly("222", "333", "111");
+        assertThat(top.get(0).count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("점수는 반감기마다 절반으로 줄어 오래전에 자주 이체한 상대방보다 최근 상대방이 앞선다")
+    void testTop_DecaysOldTransfers() {
+        // given (준비)
+        RecentCounterparties counterparties = new RecentCounterparties(1L);
+        for (int i = 0; i < 3; i++) {
+            counterparties.record("111", "가", DAY, 10);
+        }
+        long later = DAY + (long) (RecentCounterparties.HALF_LIFE_DAYS * 2);
+        counterparties.record("222", "나", later, 10);
+        counterparties.record("222", "나", later, 10);
+
+        // when (실행)
+        List<RecentCounterparties.Entry> top = counterparties.top(later, 10);
+
+        // then (검증)
+        // 3회 → 두 번의 반감기 후 0.75, 최근 2회 → 2.0
+        assertThat(top).extracting(RecentCounterparties.Entry::accountNumber).containsExactly("222", "111");
+        assertThat(top.get(1).scoreAt(later)).isCloseTo(0.75, offset(0.001));
+    }
+
+    @Test
+    @DisplayName("가득 차면 방금 이체한 상대방을 남기고 점수가 가장 낮은 상대방을 지운다")
+    void testRecord_EvictsLowestScore() {
+        // given (준비)
+        RecentCounterparties counterparties = new RecentCounterparties(1L);
+        counterparties.record("111", "가", DAY, 2);
+        counterparties.record("111", "가", DAY, 2);
+        counterparties.record("222", "나", DAY, 2);
+
+        // when (실행)
+        counterparties.record("333", "다", DAY, 2);
+
+        // then (검증)
+        assertThat(counterparties.entries()).extracting(RecentCounterparties.Entry::accountNumber)
+                .containsExactlyInAnyOrder("111", "333");
+    }
+
+    @Test
+    @DisplayName("목록에 없던 상대방을 기록하면 true 를 반환하고, 목록에서 밀려난 상대방은 다시 새로운 상대방이다")
+    void testRecord_ReturnsNewCounterparty() {
+        // given (준비)
+        RecentCounterparties counterparties = new RecentCounterparties(1L);
+
+        // when & then
+        assertThat(counterparties.record("111", "가", DAY, 1)).isTrue();
+        assertThat(counterparties.record("111", "가", DAY, 1)).isFalse();
+        assertThat(counterparties.contains("111")).isTrue();
+        assertThat(counterparties.record("222", "나", DAY, 1)).isTrue();
+        assertThat(counterparties.contains("111")).isFalse();
+        assertThat(counterparties.record("111", "가", DAY, 1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("저장된 문자열에서 다시 읽어도 같은 목록이다")
+    void testEntries_RoundTrip() {
+        // given (준비)
+        RecentCounterparties counterparties = new RecentCounterparties(1L);
+        counterparties.record("111", "탭\t이름", DAY, 10);
+        counterparties.record("222", null, DAY, 10);
+
+        // when (실행)
+        RecentCounterparties reloaded = new RecentCounterparties(1L);
+        ReflectionTestUtils.setField(reloaded, "entries", counterparties.getEntries());
+
+        // then (검증)
+        assertThat(reloaded.entries()).hasSize(2);
+        assertThat(reloaded.entries().get(0).name()).isEqualTo("탭 이름");
+        assertThat(reloaded.entries().get(1).name()).isEmpty();
+        assertThat(reloaded.entries().get(0).scoreAt(DAY)).isCloseTo(1.0, offset(0.001));
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.wirebarley.domain;
+
+import com.example.wirebarley.enumeration.StandingOrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StandingOrder 도메인 로직 테스트")
+class StandingOrderTest {
+
+    @Test
+    @DisplayName("다음 실행일: 이번 달 이체일이 지나지 않았으면 이번 달, 지났으면 다음 달이다")
+    void testNextRunDateAfter() {
+        assertThat(StandingOrder.nextRunDateAfter("20250110", 25)).isEqualTo("20250125");
+        assertThat(StandingOrder.nextRunDateAfter("20250125", 25)).isEqualTo("20250225");
+        assertThat(StandingOrder.nextRunDateAfter("20251215", 1)).isEqualTo("20260101");
+    }
+
+    @Test
+    @DisplayName("다음 실행일: 그 달에 없는 이체일이면 마지막 날이다")
+    void testNextRunDateAfter_ShortMonth() {
+        assertThat(StandingOrder.nextRunDateAfter("20250131", 31)).isEqualTo("20250228");
+        assertThat(StandingOrder.nextRunDateAfter("20240131", 31)).isEqualTo("20240229");
+        assertThat(StandingOrder.nextRunDateAfter("20250228", 31)).isEqualTo("20250331");
+        assertThat(StandingOrder.nextRunDateAfter("20250401", 31)).isEqualTo("20250430");
+    }
+
+    @Test
+    @DisplayName("실행 기록: 실패하면 연속 실패 횟수가 늘고, 성공하면 초기화되며 다음 실행일은 항상 옮겨진다")
+    void testRecordRun() {
+        // given (준비)
+        StandingOrder order = new StandingOrder(1L, "1234567890", 10_000L, 1, null, "20250115");
+        assertThat(order.getNextRunDate()).isEqualTo("20250201");
+        assertThat(order.isDue("20250131")).isFalse();
+        assertThat(order.isDue("20250201")).isTrue();
+
+        // when (실행)
+        order.recordRun("20250201", "잔액이 부족합니다.");
+        order.recordRun("20250301", "잔액이 부족합니다.");
+
+        // then (검증)
+        assertThat(order.getConsecutiveFailures()).isEqualTo(2);
+        assertThat(order.getLastFailureReason()).isEqualTo("잔액이 부족합니다.");
+        assertThat(order.getNextRunDate()).isEqualTo("20250401");
+
+        order.recordRun("20250401", null);
+        assertThat(order.getConsecutiveFailures()).isZero();
+        assertThat(order.getLastFailureReason()).isNull();
+        assertThat(order.getLastRunDate()).isEqualTo("20250401");
+    }
+
+    @Test
+    @DisplayName("해지한 주문은 실행일이 되어도 실행 대상이 아니다")
+    void testCancel() {
+        // given (준비)
+        StandingOrder order = new StandingOrder(1L, "1234567890", 10_000L, 1, null, "20250115");
+
+        // when (실행)
+        order.cancel();
+
+        // then (검증)
+        assertThat(order.getStatus()).isEqualTo(StandingOrderStatus.CANCELLED);
+        assertThat(order.isDue("20250201")).isFalse();
+    }
+}
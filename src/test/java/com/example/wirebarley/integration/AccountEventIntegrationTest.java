@@ -0,0 +1,294 @@
+package com.example.wirebarley.integration;
+
+import com.example.wirebarley.domain.Account;
+import com.example.wirebarley.domain.Transaction;
+import com.example.wirebarley.dto.CreateAccountRequestDTO;
+import com.example.wirebarley.dto.TransactionDTO;
+import com.example.wirebarley.dto.TransferRequestDTO;
+import com.example.wirebarley.enumeration.TransactionType;
+import com.example.wirebarley.service.AccountEventBus;
+import com.example.wirebarley.service.AccountService;
+import com.example.wirebarley.service.TransactionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 커밋된 거래가 계좌 이벤트 구독자에게 전달되는지, 느린 구독자의 버퍼가 넘치면 구독이 종료되는지,
+ * 재연결 시 마지막으로 받은 거래 이후의 거래를 DB 에서 보내는지 검증합니다.
+ */
+@SpringBootTest(properties = {
+        "app.events.buffer-size=4",
+        "app.events.replay-limit=3",
+        "app.events.send-timeout-ms=1000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("계좌 이벤트 스트림 통합 테스트")
+class AccountEventIntegrationTest {
+
+    private static final AtomicInteger phoneSequence = new AtomicInteger();
+
+    @Autowired
+    private AccountEventBus accountEventBus;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("입금과 이체가 커밋되면 양쪽 계좌의 구독자에게 거래가 전달된다")
+    void publish_DeliversCommittedTransactions() throws Throwable {
+        // given (준비)
+        Account from = this.createAccount();
+        Account to = this.createAccount();
+        CollectingSink fromSink = new CollectingSink();
+        CollectingSink toSink = new CollectingSink();
+        accountEventBus.start(accountEventBus.subscribe(from.getId(), fromSink), 0L);
+        accountEventBus.start(accountEventBus.subscribe(to.getId(), toSink), 0L);
+
+        // when (실행)
+        accountService.deposit(from.getId(), 100_000L);
+        accountService.transfer(from.getId(), new TransferRequestDTO(to.getAccountNumber(), 10_000L));
+
+        // then (검증)
+        TransactionDTO deposit = fromSink.next();
+        assertThat(deposit.getType()).isEqualTo(TransactionType.DEPOSIT);
+        assertThat(deposit.getPostBalance()).isEqualTo(100_000L);
+        TransactionDTO withdrawal = fromSink.next();
+        assertThat(withdrawal.getType()).isEqualTo(TransactionType.TRANSFER);
+        assertThat(withdrawal.getId()).isGreaterThan(deposit.getId());
+        TransactionDTO incoming = toSink.next();
+        assertThat(incoming.getType()).isEqualTo(TransactionType.DEPOSIT);
+        assertThat(incoming.getNetAmount()).isEqualTo(10_000L);
+    }
+
+    @Test
+    @DisplayName("롤백된 거래는 전달되지 않는다")
+    void publish_SkipsRolledBackTransactions() throws Throwable {
+        // given (준비)
+        Account account = this.createAccount();
+        CollectingSink sink = new CollectingSink();
+        accountEventBus.start(accountEventBus.subscribe(account.getId(), sink), 0L);
+
+        // when (실행)
+        assertThrows(Exception.class, () -> accountService.withdraw(account.getId(), 1_000L));
+        accountService.deposit(account.getId(), 500L);
+
+        // then (검증)
+        TransactionDTO first = sink.next();
+        assertThat(first.getType()).isEqualTo(TransactionType.DEPOSIT);
+        assertThat(first.getNetAmount()).isEqualTo(500L);
+    }
+
+    @Test
+    @DisplayName("느린 구독자의 버퍼가 넘치면 마지막으로 보낸 거래 ID 와 함께 overflow 를 알리고 구독을 종료한다")
+    void publish_OverflowClosesSlowSubscriber() throws Exception {
+        // given (준비)
+        Account account = this.createAccount();
+        CountDownLatch release = new CountDownLatch(1);
+        CollectingSink slow = new CollectingSink(release);
+        CollectingSink other = new CollectingSink();
+        long otherAccountId = this.createAccount().getId();
+        AccountEventBus.Subscriber subscriber = accountEventBus.subscribe(account.getId(), slow);
+        accountEventBus.start(subscriber, 0L);
+        accountEventBus.start(accountEventBus.subscribe(otherAccountId, other), 0L);
+        int before = accountEventBus.subscriberCount();
+
+        // when (실행)
+        accountEventBus.publish(account.getId(), this.event(1L));
+        slow.awaitBlocked();
+        for (long id = 2L; id <= 10L; id++) {
+            accountEventBus.publish(account.getId(), this.event(id));
+        }
+        accountEventBus.publish(otherAccountId, this.event(100L));
+
+        // then (검증)
+        // 느린 구독자가 막혀 있어도 다른 구독자는 전달받는다.
+        assertThat(other.next().getId()).isEqualTo(100L);
+        release.countDown();
+        assertThat(slow.next().getId()).isEqualTo(1L);
+        assertThat(slow.awaitOverflow()).isEqualTo(1L);
+        assertThat(slow.dropped.get()).isEqualTo(5L);
+        assertThat(accountEventBus.subscriberCount()).isEqualTo(before - 1);
+    }
+
+    @Test
+    @DisplayName("전송이 멈춘 구독자가 전달 스레드를 모두 잡고 있어도 다른 구독자는 전달받고, 멈춘 구독은 종료된다")
+    void publish_StalledSubscribersClosed() throws Exception {
+        // given (준비): 전달 스레드(2개)를 모두 잡는 멈춘 구독자 2명
+        CountDownLatch release = new CountDownLatch(1);
+        CollectingSink firstStalled = new CollectingSink(release);
+        CollectingSink secondStalled = new CollectingSink(release);
+        CollectingSink other = new CollectingSink();
+        long firstId = this.createAccount().getId();
+        long secondId = this.createAccount().getId();
+        long otherId = this.createAccount().getId();
+        accountEventBus.start(accountEventBus.subscribe(firstId, firstStalled), 0L);
+        accountEventBus.start(accountEventBus.subscribe(secondId, secondStalled), 0L);
+        accountEventBus.start(accountEventBus.subscribe(otherId, other), 0L);
+        int before = accountEventBus.subscriberCount();
+
+        // when (실행)
+        accountEventBus.publish(firstId, this.event(1L));
+        accountEventBus.publish(secondId, this.event(2L));
+        firstStalled.awaitBlocked();
+        secondStalled.awaitBlocked();
+        accountEventBus.publish(otherId, this.event(3L));
+
+        // then (검증)
+        try {
+            assertThat(other.next().getId()).isEqualTo(3L);
+        } finally {
+            release.countDown();
+        }
+        assertThat(firstStalled.awaitFailure()).isInstanceOf(TimeoutException.class);
+        assertThat(secondStalled.awaitFailure()).isInstanceOf(TimeoutException.class);
+        assertThat(accountEventBus.subscriberCount()).isEqualTo(before - 2);
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 로 다시 연결하면 그 이후의 거래를 DB 에서 보내고, replay-limit 을 넘으면 스트림을 종료한다")
+    void events_ReplaysAfterLastEventId() throws Throwable {
+        // given (준비)
+        Account account = this.createAccount();
+        for (int i = 1; i <= 5; i++) {
+            accountService.deposit(account.getId(), i * 1_000L);
+        }
+        List<Long> ids = transactionService.findBy(account.getId(), PageRequest.of(0, 10)).getContent()
+                .stream().map(Transaction::getId).sorted().toList();
+
+        // when (실행)
+        MvcResult tail = mockMvc.perform(get("/account/{id}/events", account.getId())
+                        .header("Last-Event-ID", ids.get(2))
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult truncated = mockMvc.perform(get("/account/{id}/events", account.getId())
+                        .param("after", "0")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then (검증)
+        String tailContent = tail.getResponse().getContentAsString();
+        assertThat(tailContent).doesNotContain("id:" + ids.get(2) + "\n");
+        assertThat(tailContent).contains("event:transaction", "id:" + ids.get(3) + "\n", "id:" + ids.get(4) + "\n");
+
+        String truncatedContent = truncated.getResponse().getContentAsString();
+        assertThat(truncatedContent).contains("id:" + ids.get(0) + "\n", "id:" + ids.get(2) + "\n");
+        assertThat(truncatedContent).doesNotContain("id:" + ids.get(3) + "\n");
+    }
+
+    @Test
+    @DisplayName("없는 계좌의 이벤트 스트림은 404 를 반환한다")
+    void events_UnknownAccount() throws Exception {
+        // when & then
+        mockMvc.perform(get("/account/{id}/events", Long.MAX_VALUE).accept(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
+    private TransactionDTO event(long id) {
+        return TransactionDTO.builder().id(id).type(TransactionType.DEPOSIT).netAmount(1L).feeRate("0").build();
+    }
+
+    private Account createAccount() {
+        String phone = String.format("010-9045-%04d", phoneSequence.incrementAndGet());
+        return accountService.createAccount(new CreateAccountRequestDTO("이벤트", "event@test.com", phone, "password"));
+    }
+
+    /**
+     * 전달받은 이벤트를 모으는 구독 대상. release 가 주어지면 첫 이벤트를 보낼 때 release 될 때까지 막힙니다.
+     */
+    private static class CollectingSink implements AccountEventBus.Sink {
+
+        private final BlockingQueue<TransactionDTO> events = new LinkedBlockingQueue<>();
+        private final BlockingQueue<Exception> failures = new LinkedBlockingQueue<>();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch overflowed = new CountDownLatch(1);
+        private final CountDownLatch release;
+        private final AtomicLong lastDeliveredId = new AtomicLong(-1L);
+        private final AtomicLong dropped = new AtomicLong();
+
+        private CollectingSink() {
+            this(null);
+        }
+
+        private CollectingSink(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(TransactionDTO transaction) throws InterruptedException {
+            if (release != null) {
+                blocked.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            events.add(transaction);
+        }
+
+        @Override
+        public void heartbeat() {
+        }
+
+        @Override
+        public void overflow(long lastDeliveredId, long dropped) {
+            this.lastDeliveredId.set(lastDeliveredId);
+            this.dropped.set(dropped);
+            overflowed.countDown();
+        }
+
+        @Override
+        public void failed(Exception ex) {
+            failures.add(ex);
+        }
+
+        private Exception awaitFailure() throws InterruptedException {
+            Exception failure = failures.poll(5, TimeUnit.SECONDS);
+            assertThat(failure).as("5초 안에 구독이 종료되어야 합니다").isNotNull();
+            return failure;
+        }
+
+        private TransactionDTO next() throws InterruptedException {
+            TransactionDTO event = events.poll(5, TimeUnit.SECONDS);
+            assertThat(event).as("5초 안에 이벤트가 전달되어야 합니다").isNotNull();
+            return event;
+        }
+
+        private void awaitBlocked() throws InterruptedException {
+            assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        private long awaitOverflow() throws InterruptedException {
+            assertThat(overflowed.await(5, TimeUnit.SECONDS)).isTrue();
+            return lastDeliveredId.get();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.wirebarley.integration;
+
+import com.example.wirebarley.domain.Account;
+import com.example.wirebarley.dto.AccountDTO;
+import com.example.wirebarley.dto.CreateAccountRequestDTO;
+import com.example.wirebarley.service.AccountService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계좌 목록 조회 시 계좌 수와 무관하게 실행되는 쿼리 수가 일정한지(N+1 이 없는지) 검증합니다.
+ * Hibernate Statistics 로 실제 실행된 JDBC statement 수를 셉니다.
+ */
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+@DisplayName("계좌 목록 조회 통합 테스트")
+public class AccountOverviewIntegrationTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("사용자 계좌 목록: 계좌 수가 늘어나도 쿼리는 1번만 실행된다")
+    void findAllByUserId_QueryCountIsConstant() {
+        // given (준비): 계좌 1개인 사용자와 계좌 5개인 사용자
+        long singleUserId = this.createAccounts("010-1000-0001", 1).get(0).getUser().getId();
+        long multiUserId = this.createAccounts("010-1000-0005", 5).get(0).getUser().getId();
+        this.clearPersistenceContext();
+
+        // when (실행)
+        long singleCount = this.countStatements(() -> accountService.findAllByUserId(singleUserId));
+        long multiCount = this.countStatements(() -> accountService.findAllByUserId(multiUserId));
+
+        // then (검증)
+        assertThat(singleCount).isEqualTo(1L);
+        assertThat(multiCount).isEqualTo(singleCount);
+    }
+
+    @Test
+    @DisplayName("계좌 ID 목록 조회: 계좌 수가 늘어나도 쿼리는 1번만 실행된다")
+    void findAllByIds_QueryCountIsConstant() {
+        // given (준비): 서로 다른 사용자의 계좌 5개
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(this.createAccounts("010-2000-000" + i, 1).get(0).getId());
+        }
+        this.clearPersistenceContext();
+
+        // when (실행)
+        long singleCount = this.countStatements(() -> accountService.findAllByIds(ids.subList(0, 1)));
+        this.clearPersistenceContext();
+        long multiCount = this.countStatements(() -> accountService.findAllByIds(ids));
+
+        // then (검증)
+        assertThat(singleCount).isEqualTo(1L);
+        assertThat(multiCount).isEqualTo(singleCount);
+    }
+
+    @Test
+    @DisplayName("사용자 계좌 목록: 모든 계좌와 소유자 정보가 조회된다")
+    void findAllByUserId_ReturnsAccountsWithOwner() throws Throwable {
+        // given (준비)
+        List<Account> created = this.createAccounts("010-3000-0003", 3);
+        accountService.deposit(created.get(0).getId(), 1000L);
+        accountService.deposit(created.get(2).getId(), 500L);
+        long userId = created.get(0).getUser().getId();
+        this.clearPersistenceContext();
+
+        // when (실행)
+        List<Account> accounts = accountService.findAllByUserId(userId);
+
+        // then (검증)
+        assertThat(accounts).hasSize(3);
+        assertThat(accounts).extracting(Account::getId)
+                .containsExactly(created.get(0).getId(), created.get(1).getId(), created.get(2).getId());
+        assertThat(accounts.stream().mapToLong(Account::getBalance).sum()).isEqualTo(1500L);
+    }
+
+    // 같은 전화번호로 계좌를 생성하면 동일한 사용자에게 계좌가 추가됩니다.
+    private List<Account> createAccounts(String phone, int count) {
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            CreateAccountRequestDTO request = new CreateAccountRequestDTO("사용자" + phone, "user@test.com", phone, "password");
+            accounts.add(accountService.createAccount(request));
+        }
+        return accounts;
+    }
+
+    private void clearPersistenceContext() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // 조회 후 DTO 변환(user 접근)까지 포함하여 실행된 statement 수를 반환합니다.
+    private long countStatements(AccountsQuery query) {
+        statistics.clear();
+        List<AccountDTO> dtos = query.execute().stream()
+                .map(Account::toDTO)
+                .toList();
+        assertThat(dtos).isNotEmpty();
+        return statistics.getPrepareStatementCount();
+    }
+
+    @FunctionalInterface
+    private interface AccountsQuery {
+        List<Account> execute();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.wirebarley.integration;
+
+import com.example.wirebarley.domain.Account;
+import com.example.wirebarley.dto.CreateAccountRequestDTO;
+import com.example.wirebarley.service.AccountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 계좌별 요청 빈도를 넘는 요청이 컨트롤러에 도달하기 전에 429 와 Retry-After 헤더로 거절되는지 검증합니다.
+ * 입금은 한 번에 2건, 초당 0.5건까지만 허용하도록 줄입니다.
+ */
+@SpringBootTest(properties = {
+        "app.rate-limit.enabled=true",
+        "app.rate-limit.endpoints.deposit.capacity=2",
+        "app.rate-limit.endpoints.deposit.refill-per-second=0.5"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("계좌별 요청 빈도 제한 통합 테스트")
+class AccountRateLimitIntegrationTest {
+
+    private static final AtomicInteger phoneSequence = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Test
+    @DisplayName("허용된 빈도를 넘는 요청은 잔액 변경 없이 429 와 Retry-After 헤더를 반환한다")
+    void deposit_RejectedOverLimit() throws Exception {
+        // given (준비)
+        Account account = this.createAccount();
+        for (int i = 0; i < 2; i++) {
+            this.deposit(account).andExpect(status().isOk());
+        }
+
+        // when (실행)
+        MvcResult rejected = this.deposit(account)
+                .andExpect(status().isTooManyRequests())
+                .andReturn();
+
+        // then (검증)
+        String retryAfter = rejected.getResponse().getHeader(HttpHeaders.RETRY_AFTER);
+        assertThat(retryAfter).isNotNull();
+        assertThat(Long.parseLong(retryAfter)).isBetween(1L, 2L);
+        assertThat(accountService.findAllByIds(List.of(account.getId())).get(0).getBalance()).isEqualTo(2_000L);
+    }
+
+    @Test
+    @DisplayName("빈도는 계좌마다 따로 제한한다")
+    void deposit_LimitedPerAccount() throws Exception {
+        // given (준비)
+        Account first = this.createAccount();
+        Account second = this.createAccount();
+        for (int i = 0; i < 2; i++) {
+            this.deposit(first).andExpect(status().isOk());
+        }
+
+        // when & then
+        this.deposit(first).andExpect(status().isTooManyRequests());
+        this.deposit(second).andExpect(status().isOk());
+    }
+
+    private ResultActions deposit(Account account) throws Exception {
+        return mockMvc.perform(post("/account/{accountId}/deposit", account.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"amount\": 1000}"));
+    }
+
+    private Account createAccount() {
+        String phone = String.format("010-9031-%04d", phoneSequence.incrementAndGet());
+        return accountService.createAccount(new CreateAccountRequestDTO("빈도제한", "ratelimit@test.com", phone, "password"));
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.wirebarley.integration;
+
+import com.example.wirebarley.filter.ActuatorWriteAccessFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * actuator 변경 작업은 운영자 토큰이 있어야 실행되고, 조회는 제한하지 않는지 검증합니다.
+ */
+@SpringBootTest(properties = {
+        "management.endpoints.web.exposure.include=health,usercache,reconciliation",
+        "app.management.admin-token=test-admin-token"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("actuator 변경 작업 접근 제한 통합 테스트")
+class ActuatorWriteAccessIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("토큰 없이 또는 다른 토큰으로 캐시를 비우면 401 을 반환한다")
+    void evict_RejectedWithoutToken() throws Exception {
+        // when & then
+        mockMvc.perform(delete("/actuator/usercache"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/actuator/usercache").header(HttpHeaders.AUTHORIZATION, "Bearer wrong-token"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("토큰 없이 원장 대사를 시작하면 401 을 반환한다")
+    void reconcile_RejectedWithoutToken() throws Exception {
+        // when & then
+        mockMvc.perform(post("/actuator/reconciliation"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("운영자 토큰이 있으면 캐시를 비운다")
+    void evict_AllowedWithToken() throws Exception {
+        // when & then
+        mockMvc.perform(delete("/actuator/usercache").header(HttpHeaders.AUTHORIZATION, "Bearer test-admin-token"))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @DisplayName("조회는 토큰 없이 할 수 있다")
+    void read_AllowedWithoutToken() throws Exception {
+        // when & then
+        mockMvc.perform(get("/actuator/usercache"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("운영자 토큰을 설정하지 않으면 토큰과 무관하게 변경 작업은 403 이다")
+    void write_ForbiddenWithoutConfiguredToken() throws Exception {
+        // given (준비)
+        ActuatorWriteAccessFilter filter = new ActuatorWriteAccessFilter();
+        ReflectionTestUtils.setField(filter, "basePath", "/actuator");
+        ReflectionTestUtils.setField(filter, "adminToken", "");
+        ReflectionTestUtils.setField(filter, "objectMapper", new ObjectMapper());
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/actuator/reconciliation");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer ");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when (실행)
+        filter.doFilter(request, response, chain);
+
+        // then (검증)
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(chain.getRequest()).isNull();
+    }
+}
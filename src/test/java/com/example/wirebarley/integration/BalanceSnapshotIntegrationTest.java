@@ -0,0 +1,177 @@
+package com.example.wirebarley.integration;
+
+import com.example.wirebarley.domain.Account;
+import com.example.wirebarley.dto.BalanceAsOfDTO;
+import com.example.wirebarley.dto.CreateAccountRequestDTO;
+import com.example.wirebarley.exception.BadRequestException;
+import com.example.wirebarley.service.AccountService;
+import com.example.wirebarley.service.BalanceSnapshotService;
+import com.example.wirebarley.util.BusinessClock;
+import com.example.wirebarley.util.DateUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.StringWriter;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 일별 마감 잔액 스냅샷과 그 이후의 거래 기록으로 특정 시각의 잔액을 조회하는지 검증합니다.
+ * 거래 기록의 date 는 영업일 시계를, 기록 시각(createdAt)은 실제 시각을 따르므로 영업일 시계를 하루 앞으로 옮겨 오늘을 마감합니다.
+ */
+@SpringBootTest(properties = "app.balance-snapshot.chunk-size=2")
+@ActiveProfiles("test")
+@DisplayName("특정 시각 잔액 조회 통합 테스트")
+class BalanceSnapshotIntegrationTest {
+
+    private static final AtomicInteger phoneSequence = new AtomicInteger();
+
+    @Autowired
+    private BalanceSnapshotService balanceSnapshotService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private BusinessClock businessClock;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        businessClock.setClock(Clock.system(DateUtil.getZoneId()));
+    }
+
+    @Test
+    @DisplayName("스냅샷 전후의 거래를 반영하여 조회 시각의 잔액을 반환한다")
+    void balanceAsOf_UsesSnapshotAndLedger() throws Throwable {
+        // given (준비)
+        Account account = this.createAccount();
+        this.createAccount();
+        ZonedDateTime beforeDeposits = this.now();
+        accountService.deposit(account.getId(), 1_000L);
+        ZonedDateTime afterFirst = this.now();
+        accountService.deposit(account.getId(), 2_000L);
+        ZonedDateTime afterSecond = this.now();
+
+        // 오늘을 마감하고, 다음 영업일에 한 번 더 입금
+        String today = businessClock.todayText();
+        businessClock.setClock(Clock.offset(Clock.system(DateUtil.getZoneId()), Duration.ofDays(1)));
+        long snapshots = balanceSnapshotService.snapshot(today);
+        accountService.deposit(account.getId(), 4_000L);
+        ZonedDateTime nextDay = businessClock.now();
+
+        // when (실행)
+        BalanceAsOfDTO atStart = balanceSnapshotService.balanceAsOf(account.getId(), beforeDeposits);
+        BalanceAsOfDTO atFirst = balanceSnapshotService.balanceAsOf(account.getId(), afterFirst);
+        BalanceAsOfDTO atSecond = balanceSnapshotService.balanceAsOf(account.getId(), afterSecond);
+        BalanceAsOfDTO atNextDay = balanceSnapshotService.balanceAsOf(account.getId(), nextDay);
+
+        // then (검증)
+        assertThat(snapshots).isGreaterThanOrEqualTo(1L);
+        assertThat(atStart.getBalance()).isEqualTo(0L);
+        assertThat(atStart.getTransactionId()).isNull();
+        assertThat(atFirst.getBalance()).isEqualTo(1_000L);
+        assertThat(atSecond.getBalance()).isEqualTo(3_000L);
+        assertThat(atNextDay.getBalance()).isEqualTo(7_000L);
+        assertThat(atNextDay.getTransactionId()).isGreaterThan(atSecond.getTransactionId());
+    }
+
+    @Test
+    @DisplayName("원래 거래의 날짜로 나중에 기록된 거래는 기록된 날의 스냅샷에 들어간다")
+    void balanceAsOf_UsesRecordedTimeForLateRows() throws Throwable {
+        // given (준비)
+        Account account = this.createAccount();
+        accountService.deposit(account.getId(), 1_000L);
+        ZonedDateTime afterFirst = this.now();
+        accountService.deposit(account.getId(), 2_000L);
+        ZonedDateTime afterSecond = this.now();
+
+        // 이체 취소처럼 오늘 기록되었지만 어제 날짜를 가진 거래
+        long lateId = balanceSnapshotService.balanceAsOf(account.getId(), afterSecond).getTransactionId();
+        String yesterday = DateUtil.yyyymmdd(businessClock.now().minusDays(1));
+        jdbcTemplate.update("UPDATE transaction SET date = ? WHERE id = ?", yesterday, lateId);
+        balanceSnapshotService.snapshot(yesterday);
+
+        // when (실행)
+        BalanceAsOfDTO atFirst = balanceSnapshotService.balanceAsOf(account.getId(), afterFirst);
+        BalanceAsOfDTO atSecond = balanceSnapshotService.balanceAsOf(account.getId(), afterSecond);
+        StringWriter writer = new StringWriter();
+        balanceSnapshotService.writeBalancesAsOf(afterFirst, writer);
+
+        // then (검증)
+        assertThat(atFirst.getBalance()).isEqualTo(1_000L);
+        assertThat(atSecond.getBalance()).isEqualTo(3_000L);
+        assertThat(atSecond.getTransactionId()).isEqualTo(lateId);
+        assertThat(writer.toString()).contains(account.getId() + "," + account.getAccountNumber() + ",1000,");
+    }
+
+    @Test
+    @DisplayName("전체 계좌 잔액은 조회 시각 이전에 개설된 계좌만 CSV 로 쓴다")
+    void writeBalancesAsOf_WritesEveryAccount() throws Throwable {
+        // given (준비)
+        Account first = this.createAccount();
+        Account second = this.createAccount();
+        Account third = this.createAccount();
+        accountService.deposit(first.getId(), 5_000L);
+        accountService.deposit(third.getId(), 7_000L);
+        ZonedDateTime asOf = this.now();
+        accountService.deposit(third.getId(), 100L);
+        Account late = this.createAccount();
+
+        // when (실행)
+        StringWriter writer = new StringWriter();
+        long written = balanceSnapshotService.writeBalancesAsOf(asOf, writer);
+
+        // then (검증)
+        String csv = writer.toString();
+        assertThat(csv).startsWith("accountId,accountNumber,balance,transactionId\n");
+        assertThat(csv).contains(first.getId() + "," + first.getAccountNumber() + ",5000,");
+        assertThat(csv).contains(second.getId() + "," + second.getAccountNumber() + ",0,\n");
+        assertThat(csv).contains(third.getId() + "," + third.getAccountNumber() + ",7000,");
+        assertThat(csv).doesNotContain(late.getAccountNumber());
+        assertThat(written).isEqualTo(csv.lines().count() - 1);
+    }
+
+    @Test
+    @DisplayName("조회 시각이 현재 이후이면 거절한다")
+    void balanceAsOf_RejectsFuture() {
+        // given (준비)
+        Account account = this.createAccount();
+
+        // when & then
+        assertThrows(BadRequestException.class,
+                () -> balanceSnapshotService.balanceAsOf(account.getId(), this.now().plusMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("마감되지 않은 오늘의 스냅샷은 만들지 않는다")
+    void snapshot_RejectsOpenDay() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> balanceSnapshotService.snapshot(businessClock.todayText()));
+    }
+
+    private ZonedDateTime now() throws InterruptedException {
+        // 기록 시각이 같은 밀리초에 겹치지 않도록 잠시 기다립니다.
+        Thread.sleep(5L);
+        ZonedDateTime now = ZonedDateTime.now(DateUtil.getZoneId());
+        Thread.sleep(5L);
+        return now;
+    }
+
+    private Account createAccount() {
+        String phone = String.format("010-9046-%04d", phoneSequence.incrementAndGet());
+        return accountService.createAccount(new CreateAccountRequestDTO("잔액", "balance@test.com", phone, "password"));
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.wirebarley.integration;
+
+import com.example.wirebarley.domain.Account;
+import com.example.wirebarley.domain.Transaction;
+import com.example.wirebarley.dto.CreateAccountRequestDTO;
+import com.example.wirebarley.exception.DailyLimitExceededException;
+import com.example.wirebarley.repository.TransactionRepository;
+import com.example.wirebarley.service.AccountService;
+import com.example.wirebarley.util.BusinessClock;
+import com.example.wirebarley.util.DateUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 영업일 경계(자정)에서 일일 한도와 거래 일자가 BusinessClock 기준으로 처리되는지 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("영업일 경계 통합 테스트")
+public class BusinessDayIntegrationTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private BusinessClock businessClock;
+
+    @AfterEach
+    void tearDown() {
+        businessClock.setClock(Clock.system(DateUtil.getZoneId()));
+    }
+
+    @Test
+    @DisplayName("자정이 지나면 일일 출금 한도가 새로 적용되고 거래 일자도 바뀐다")
+    void withdrawalLimitResetsAtMidnight() throws Throwable {
+        // given (준비): 서울 2025-08-01 23:59, 기본 일일 출금 한도 1,000,000원을 모두 사용
+        this.setNow(ZonedDateTime.of(2025, 8, 1, 23, 59, 0, 0, DateUtil.getZoneId()));
+        Account account = accountService.createAccount(
+                new CreateAccountRequestDTO("영업일", "business-day@test.com", "010-9034-0001", "password"));
+        accountService.deposit(account.getId(), 2_000_000L);
+        accountService.withdraw(account.getId(), 1_000_000L);
+        assertThrows(DailyLimitExceededException.class, () -> accountService.withdraw(account.getId(), 1L));
+
+        // when (실행): 서울 2025-08-02 00:00:01
+        this.setNow(ZonedDateTime.of(2025, 8, 2, 0, 0, 1, 0, DateUtil.getZoneId()));
+        Account result = accountService.withdraw(account.getId(), 500_000L);
+
+        // then (검증)
+        assertThat(result.getBalance()).isEqualTo(500_000L);
+        List<Transaction> transactions = transactionRepository
+                .findByAccountIdOrderByIdDesc(account.getId(), PageRequest.of(0, 10)).getContent();
+        assertThat(transactions).extracting(Transaction::getDate)
+                .containsExactly("20250802", "20250801", "20250801");
+    }
+
+    private void setNow(ZonedDateTime dateTime) {
+        businessClock.setClock(Clock.fixed(dateTime.toInstant(), DateUtil.getZoneId()));
+    }
+}
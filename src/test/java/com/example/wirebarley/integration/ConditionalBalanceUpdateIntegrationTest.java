@@ -0,0 +1,147 @@
+package com.example.wirebarley.integration;
+
+import com.example.wirebarley.domain.Account;
+import com.example.wirebarley.domain.Transaction;
+import com.example.wirebarley.dto.CreateAccountRequestDTO;
+import com.example.wirebarley.enumeration.TransactionType;
+import com.example.wirebarley.exception.AccountNotActiveException;
+import com.example.wirebarley.exception.InsufficientBalanceException;
+import com.example.wirebarley.repository.AccountRepository;
+import com.example.wirebarley.repository.TransactionRepository;
+import com.example.wirebarley.service.AccountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 조건부 UPDATE 로 처리되는 입금/출금을 검증합니다.
+ * 실패 시 잔액 변경이 롤백되는지 확인해야 하므로 테스트 메소드에 트랜잭션을 걸지 않습니다.
+ */
+@SpringBootTest(properties = "app.account.conditional-update.enabled=true")
+@ActiveProfiles("test")
+@DisplayName("조건부 UPDATE 입출금 통합 테스트")
+public class ConditionalBalanceUpdateIntegrationTest {
+
+    private static final AtomicInteger phoneSequence = new AtomicInteger();
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("입금 성공: 잔액이 증가하고 거래 전/후 잔액이 기록된다")
+    void deposit_Success() throws Throwable {
+        // given (준비)
+        Account account = this.createAccount();
+
+        // when (실행)
+        Account result = accountService.deposit(account.getId(), 10000L);
+        accountService.deposit(account.getId(), 5000L);
+
+        // then (검증)
+        assertThat(result.getBalance()).isEqualTo(10000L);
+        assertThat(result.getUser().getUsername()).isNotNull();
+        assertThat(this.balanceOf(account)).isEqualTo(15000L);
+
+        Transaction latest = this.transactionsOf(account).get(0);
+        assertThat(latest.getType()).isEqualTo(TransactionType.DEPOSIT);
+        assertThat(latest.getPrevBalance()).isEqualTo(10000L);
+        assertThat(latest.getPostBalance()).isEqualTo(15000L);
+    }
+
+    @Test
+    @DisplayName("출금 실패: 잔액이 부족하면 InsufficientBalanceException 이 발생하고 잔액은 그대로다")
+    void withdraw_FailWithInsufficientBalance() throws Throwable {
+        // given (준비)
+        Account account = this.createAccount();
+        accountService.deposit(account.getId(), 1000L);
+
+        // when & then
+        assertThrows(InsufficientBalanceException.class, () -> accountService.withdraw(account.getId(), 1001L));
+        assertThat(this.balanceOf(account)).isEqualTo(1000L);
+        assertThat(this.transactionsOf(account)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("출금 실패: 일일 한도를 초과하면 이미 차감된 잔액도 롤백된다")
+    void withdraw_FailOverLimitRollsBack() throws Throwable {
+        // given (준비): 기본 일일 출금 한도는 1,000,000원
+        Account account = this.createAccount();
+        accountService.deposit(account.getId(), 2_000_000L);
+
+        // when & then
+        Exception exception = assertThrows(Exception.class, () -> accountService.withdraw(account.getId(), 1_500_000L));
+        assertThat(exception.getMessage()).isEqualTo("일일 출금 한도 1000000원을 초과했습니다.");
+        assertThat(this.balanceOf(account)).isEqualTo(2_000_000L);
+        assertThat(this.transactionsOf(account)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("입금 실패: 삭제된 계좌에는 입금할 수 없다")
+    void deposit_FailWithDeletedAccount() throws Throwable {
+        // given (준비)
+        Account account = this.createAccount();
+        accountService.deleteAccount(account.getId());
+
+        // when & then
+        assertThrows(AccountNotActiveException.class, () -> accountService.deposit(account.getId(), 1000L));
+        assertThat(this.balanceOf(account)).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 트랜잭션에서 이미 읽은 계좌는 그 로우만 다시 읽어 UPDATE 결과가 반영되고, 다른 엔티티는 분리되지 않는다")
+    void deposit_RefreshesAccountHeldByCaller() {
+        // given (준비)
+        Account account = this.createAccount();
+        Account other = this.createAccount();
+
+        // when (실행)
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            try {
+                Account held = accountRepository.findWithoutLockById(account.getId()).orElseThrow();
+                Account heldOther = accountRepository.findWithoutLockById(other.getId()).orElseThrow();
+                Account result = accountService.deposit(account.getId(), 7000L);
+
+                // then (검증)
+                assertThat(result).isSameAs(held);
+                assertThat(held.getBalance()).isEqualTo(7000L);
+                assertThat(accountRepository.findWithoutLockById(other.getId()).orElseThrow()).isSameAs(heldOther);
+            } catch (Throwable ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        assertThat(this.balanceOf(account)).isEqualTo(7000L);
+    }
+
+    private Account createAccount() {
+        String phone = String.format("010-9029-%04d", phoneSequence.incrementAndGet());
+        return accountService.createAccount(new CreateAccountRequestDTO("조건부", "conditional@test.com", phone, "password"));
+    }
+
+    private long balanceOf(Account account) {
+        return accountService.findAllByIds(List.of(account.getId())).get(0).getBalance();
+    }
+
+    private List<Transaction> transactionsOf(Account account) {
+        return transactionRepository.findByAccountIdOrderByIdDesc(account.getId(), PageRequest.of(0, 10)).getContent();
+    }
+}
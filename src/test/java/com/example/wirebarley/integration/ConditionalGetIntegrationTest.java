@@ -0,0 +1,168 @@
+package com.example.wirebarley.integration;
+
+import com.example.wirebarley.domain.Account;
+import com.example.wirebarley.dto.CreateAccountRequestDTO;
+import com.example.wirebarley.repository.TransactionRepository;
+import com.example.wirebarley.service.AccountService;
+import com.example.wirebarley.util.BusinessClock;
+import com.example.wirebarley.util.DateUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Clock;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ETag / If-None-Match 조건부 GET 을 검증합니다.
+ * 변경이 없으면 DB 를 조회하지 않고 304 를 반환하는지 Hibernate Statistics 로 실행된 statement 수를 셉니다.
+ */
+@SpringBootTest(properties = "app.etag.version-ttl-ms=60000")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("조건부 GET 통합 테스트")
+public class ConditionalGetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private BusinessClock businessClock;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        businessClock.setClock(Clock.system(DateUtil.getZoneId()));
+    }
+
+    @Test
+    @DisplayName("거래 내역: 변경이 없으면 쿼리 없이 304, 입금 후에는 새 ETag 로 200 을 반환한다")
+    void transactionHistory_NotModifiedUntilChanged() throws Throwable {
+        // given (준비)
+        Account account = this.createAccount("010-9037-0001");
+        accountService.deposit(account.getId(), 1000L);
+        String etag = mockMvc.perform(get("/account/{id}/transaction", account.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when (실행)
+        statistics.clear();
+        mockMvc.perform(get("/account/{id}/transaction", account.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        long statementsForNotModified = statistics.getPrepareStatementCount();
+
+        accountService.deposit(account.getId(), 1000L);
+        MvcResult changed = mockMvc.perform(get("/account/{id}/transaction", account.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then (검증)
+        assertThat(statementsForNotModified).isZero();
+        assertThat(changed.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("계좌 목록: 변경이 없으면 쿼리 없이 304 를 반환한다")
+    void findAccounts_NotModified() throws Throwable {
+        // given (준비)
+        Account first = this.createAccount("010-9037-0002");
+        Account second = this.createAccount("010-9037-0003");
+        String ids = first.getId() + "," + second.getId();
+        String etag = mockMvc.perform(get("/account").param("ids", ids))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when (실행)
+        statistics.clear();
+        mockMvc.perform(get("/account").param("ids", ids).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // then (검증)
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        accountService.deposit(second.getId(), 1000L);
+        mockMvc.perform(get("/account").param("ids", ids).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("오늘 이전 거래만 담긴 beforeId 페이지는 오래 캐시하고, 재검증 시 쿼리 없이 304 를 반환한다")
+    void transactionHistory_SettledPageIsImmutable() throws Throwable {
+        // given (준비): 어제 입금 3건
+        businessClock.setClock(Clock.fixed(ZonedDateTime.now(DateUtil.getZoneId()).minusDays(1).toInstant(), DateUtil.getZoneId()));
+        Account account = this.createAccount("010-9037-0004");
+        accountService.deposit(account.getId(), 1000L);
+        accountService.deposit(account.getId(), 2000L);
+        accountService.deposit(account.getId(), 3000L);
+        businessClock.setClock(Clock.system(DateUtil.getZoneId()));
+        long anchorId = transactionRepository.findByAccountIdOrderByIdDesc(account.getId(), PageRequest.of(0, 1))
+                .getContent().get(0).getId();
+
+        // when (실행)
+        MvcResult settled = mockMvc.perform(get("/account/{id}/transaction", account.getId())
+                        .param("beforeId", String.valueOf(anchorId))
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String etag = settled.getResponse().getHeader(HttpHeaders.ETAG);
+
+        // 오늘 입금이 추가되어도 기준 거래 이전의 페이지는 바뀌지 않는다
+        accountService.deposit(account.getId(), 4000L);
+        statistics.clear();
+        mockMvc.perform(get("/account/{id}/transaction", account.getId())
+                        .param("beforeId", String.valueOf(anchorId))
+                        .param("size", "10")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        long statementsForNotModified = statistics.getPrepareStatementCount();
+
+        // 기준 거래가 없는 최신 페이지는 오래 캐시하지 않는다
+        MvcResult latest = mockMvc.perform(get("/account/{id}/transaction", account.getId())
+                        .param("beforeId", String.valueOf(Long.MAX_VALUE))
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then (검증)
+        assertThat(settled.getResponse().getHeader(HttpHeaders.CACHE_CONTROL)).contains("max-age=31536000", "immutable");
+        assertThat(statementsForNotModified).isZero();
+        assertThat(latest.getResponse().getHeader(HttpHeaders.CACHE_CONTROL)).contains("no-cache");
+    }
+
+    private Account createAccount(String phone) {
+        return accountService.createAccount(new CreateAccountRequestDTO("조건부GET", "etag@test.com", phone, "password"));
+    }
+}
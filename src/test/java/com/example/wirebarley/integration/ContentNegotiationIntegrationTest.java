@@ -0,0 +1,137 @@
+package com.example.wirebarley.integration;
+
+import com.example.wirebarley.domain.Account;
+import com.example.wirebarley.dto.CreateAccountRequestDTO;
+import com.example.wirebarley.dto.DepositRequestDTO;
+import com.example.wirebarley.filter.IdempotencyFilter;
+import com.example.wirebarley.service.AccountService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Accept / Content-Type 헤더에 따라 JSON, CBOR, Smile 로 요청과 응답을 주고받는지 검증합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("콘텐츠 협상 통합 테스트")
+public class ContentNegotiationIntegrationTest {
+
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final ObjectMapper cborMapper = new CBORMapper();
+    private final ObjectMapper smileMapper = new SmileMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Test
+    @DisplayName("CBOR 로 입금을 요청하면 CBOR 로 응답한다")
+    void deposit_Cbor() throws Exception {
+        // given (준비)
+        Account account = this.createAccount("010-9036-0001");
+        byte[] body = cborMapper.writeValueAsBytes(new DepositRequestDTO(1000L));
+
+        // when (실행)
+        MvcResult result = mockMvc.perform(post("/account/{id}/deposit", account.getId())
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        // then (검증)
+        JsonNode response = cborMapper.readTree(result.getResponse().getContentAsByteArray());
+        assertThat(response.get("id").asLong()).isEqualTo(account.getId());
+        assertThat(response.get("balance").asLong()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("거래 내역은 Accept 헤더에 따라 Smile 또는 JSON 으로 응답한다")
+    void transactionHistory_NegotiatesFormat() throws Throwable {
+        // given (준비)
+        Account account = this.createAccount("010-9036-0002");
+        accountService.deposit(account.getId(), 1000L);
+        accountService.deposit(account.getId(), 2000L);
+
+        // when (실행)
+        MvcResult smile = mockMvc.perform(get("/account/{id}/transaction", account.getId()).accept(APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_SMILE))
+                .andReturn();
+        MvcResult json = mockMvc.perform(get("/account/{id}/transaction", account.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn();
+
+        // then (검증): 같은 내용이며 바이너리 포맷이 더 작다
+        JsonNode fromSmile = smileMapper.readTree(smile.getResponse().getContentAsByteArray());
+        JsonNode fromJson = new ObjectMapper().readTree(json.getResponse().getContentAsByteArray());
+        assertThat(fromSmile).hasSize(2);
+        assertThat(fromJson).hasSize(2);
+        for (int i = 0; i < 2; i++) {
+            assertThat(fromSmile.get(i).get("id").asLong()).isEqualTo(fromJson.get(i).get("id").asLong());
+            assertThat(fromSmile.get(i).get("postBalance").asLong()).isEqualTo(fromJson.get(i).get("postBalance").asLong());
+        }
+        assertThat(smile.getResponse().getContentAsByteArray().length)
+                .isLessThan(json.getResponse().getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("CBOR 응답도 Idempotency-Key 재시도 시 그대로 재생된다")
+    void deposit_CborReplayed() throws Exception {
+        // given (준비)
+        Account account = this.createAccount("010-9036-0003");
+        String key = UUID.randomUUID().toString();
+        byte[] body = cborMapper.writeValueAsBytes(new DepositRequestDTO(1000L));
+
+        // when (실행)
+        MvcResult first = mockMvc.perform(post("/account/{id}/deposit", account.getId())
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn();
+        MvcResult replay = mockMvc.perform(post("/account/{id}/deposit", account.getId())
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        // then (검증)
+        assertThat(replay.getResponse().getContentAsByteArray()).isEqualTo(first.getResponse().getContentAsByteArray());
+    }
+
+    private Account createAccount(String phone) {
+        return accountService.createAccount(new CreateAccountRequestDTO("협상", "negotiation@test.com", phone, "password"));
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.wirebarley.integration;
+
+import com.example.wirebarley.domain.Account;
+import com.example.wirebarley.domain.Transaction;
+import com.example.wirebarley.dto.CreateAccountRequestDTO;
+import com.example.wirebarley.dto.TransferRequestDTO;
+import com.example.wirebarley.enumeration.AccountStatus;
+import com.example.wirebarley.enumeration.TransactionType;
+import com.example.wirebarley.exception.AccountNotActiveException;
+import com.example.wirebarley.repository.AccountRepository;
+import com.example.wirebarley.service.AccountService;
+import com.example.wirebarley.service.DormantAccountSweeper;
+import com.example.wirebarley.service.TransactionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 오래 잔액 변경이 없는 활성 계좌를 청크 단위 UPDATE 로 휴면 전환하는 작업을 검증합니다.
+ * 청크 경계를 지나도록 chunk-size 를 작게 설정하고, 마지막 잔액 변경 시각은 JDBC 로 과거로 옮깁니다.
+ */
+@SpringBootTest(properties = {
+        "app.dormant.inactive-days=30",
+        "app.dormant.chunk-size=2"
+})
+@ActiveProfiles("test")
+@DisplayName("휴면 계좌 전환 통합 테스트")
+class DormantAccountSweeperIntegrationTest {
+
+    private static final AtomicInteger phoneSequence = new AtomicInteger();
+
+    @Autowired
+    private DormantAccountSweeper dormantAccountSweeper;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("기준 기간 동안 잔액 변경이 없는 활성 계좌만 휴면으로 전환한다")
+    void sweep_MarksInactiveAccountsDormant() throws Throwable {
+        // given (준비)
+        Account first = this.createAccount();
+        Account second = this.createAccount();
+        Account third = this.createAccount();
+        Account recent = this.createAccount();
+        for (Account account : List.of(first, second, third, recent)) {
+            accountService.deposit(account.getId(), 10_000L);
+        }
+        for (Account account : List.of(first, second, third)) {
+            this.changeLastBalanceChangedAt(account, 40);
+        }
+
+        // when (실행)
+        long swept = dormantAccountSweeper.sweep();
+
+        // then (검증)
+        assertThat(swept).isGreaterThanOrEqualTo(3);
+        assertThat(this.statusOf(first)).isEqualTo(AccountStatus.DORMANT);
+        assertThat(this.statusOf(second)).isEqualTo(AccountStatus.DORMANT);
+        assertThat(this.statusOf(third)).isEqualTo(AccountStatus.DORMANT);
+        assertThat(this.statusOf(recent)).isEqualTo(AccountStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("휴면 계좌도 잔액과 거래 내역은 조회할 수 있다")
+    void sweep_DormantAccountLedgerReadable() throws Throwable {
+        // given (준비)
+        Account account = this.createAccount();
+        accountService.deposit(account.getId(), 10_000L);
+        this.changeLastBalanceChangedAt(account, 31);
+
+        // when (실행)
+        dormantAccountSweeper.sweep();
+
+        // then (검증)
+        assertThat(this.statusOf(account)).isEqualTo(AccountStatus.DORMANT);
+        assertThat(accountService.findAllByIds(List.of(account.getId())).get(0).getBalance()).isEqualTo(10_000L);
+        List<Transaction> history = transactionService.findBy(account.getId(), PageRequest.of(0, 10)).getContent();
+        assertThat(history).hasSize(1);
+        assertThat(history.get(0).getType()).isEqualTo(TransactionType.DEPOSIT);
+    }
+
+    @Test
+    @DisplayName("휴면 계좌로는 이체할 수 없고, 송금인 잔액도 그대로다")
+    void transfer_ToDormantAccountRejected() throws Throwable {
+        // given (준비)
+        Account from = this.createAccount();
+        Account dormant = this.createAccount();
+        accountService.deposit(from.getId(), 100_000L);
+        accountService.deposit(dormant.getId(), 10_000L);
+        this.changeLastBalanceChangedAt(dormant, 31);
+        dormantAccountSweeper.sweep();
+
+        // when & then
+        assertThrows(AccountNotActiveException.class,
+                () -> accountService.transfer(from.getId(), new TransferRequestDTO(dormant.getAccountNumber(), 10_000L)));
+        assertThat(this.balanceOf(from)).isEqualTo(100_000L);
+        assertThat(this.balanceOf(dormant)).isEqualTo(10_000L);
+    }
+
+    @Test
+    @DisplayName("휴면 해제한 계좌는 다시 입금할 수 있고, 바로 다시 휴면으로 전환되지 않는다")
+    void reactivate_AllowsDepositAgain() throws Throwable {
+        // given (준비)
+        Account account = this.createAccount();
+        accountService.deposit(account.getId(), 10_000L);
+        this.changeLastBalanceChangedAt(account, 31);
+        dormantAccountSweeper.sweep();
+        assertThrows(AccountNotActiveException.class, () -> accountService.deposit(account.getId(), 1_000L));
+
+        // when (실행)
+        accountService.reactivateAccount(account.getId());
+        accountService.deposit(account.getId(), 1_000L);
+        dormantAccountSweeper.sweep();
+
+        // then (검증)
+        assertThat(this.statusOf(account)).isEqualTo(AccountStatus.ACTIVE);
+        assertThat(this.balanceOf(account)).isEqualTo(11_000L);
+    }
+
+    @Test
+    @DisplayName("개설 후 잔액 변경이 없는 계좌는 개설 시각부터 휴면 기간을 계산한다")
+    void sweep_UsesCreationTimeWithoutBalanceChange() {
+        // given (준비): 새 계좌와, 잔액 변경 시각 없이 40일 전에 개설된 예전 계좌
+        Account fresh = this.createAccount();
+        Account legacy = this.createAccount();
+        Timestamp createdAt = Timestamp.from(Instant.now().minus(40, ChronoUnit.DAYS));
+        jdbcTemplate.update("UPDATE account SET last_balance_changed_at = NULL, created_at = ? WHERE id = ?", createdAt, legacy.getId());
+
+        // when (실행)
+        dormantAccountSweeper.sweep();
+
+        // then (검증)
+        assertThat(fresh.getLastBalanceChangedAt()).isNotNull();
+        assertThat(this.statusOf(fresh)).isEqualTo(AccountStatus.ACTIVE);
+        assertThat(this.statusOf(legacy)).isEqualTo(AccountStatus.DORMANT);
+        assertThat(accountRepository.findWithoutLockById(legacy.getId()).orElseThrow().getLastBalanceChangedAt()).isNotNull();
+    }
+
+    private Account createAccount() {
+        String phone = String.format("010-9041-%04d", phoneSequence.incrementAndGet());
+        return accountService.createAccount(new CreateAccountRequestDTO("휴면", "dormant@test.com", phone, "password"));
+    }
+
+    private void changeLastBalanceChangedAt(Account account, int daysAgo) {
+        Timestamp changedAt = Timestamp.from(Instant.now().minus(daysAgo, ChronoUnit.DAYS));
+        jdbcTemplate.update("UPDATE account SET last_balance_changed_at = ? WHERE id = ?", changedAt, account.getId());
+    }
+
+    private AccountStatus statusOf(Account account) {
+        return accountRepository.findWithoutLockById(account.getId()).orElseThrow().getStatus();
+    }
+
+    private long balanceOf(Account account) {
+        return accountRepository.findWithoutLockById(account.getId()).orElseThrow().getBalance();
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.wirebarley.integration;
+
+import com.example.wirebarley.domain.Account;
+import com.example.wirebarley.dto.CreateAccountRequestDTO;
+import com.example.wirebarley.filter.IdempotencyFilter;
+import com.example.wirebarley.repository.TransactionRepository;
+import com.example.wirebarley.service.AccountService;
+import com.example.wirebarley.service.IdempotencyService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Idempotency-Key 헤더로 재시도된 변경 요청이 한 번만 실행되는지 검증합니다.
+ * 키와 응답이 실제로 커밋되어야 하므로 테스트 메소드에 트랜잭션을 걸지 않습니다.
+ * 처리 중 선점을 이어받는 테스트를 위해 lease 를 1초로 줄입니다.
+ */
+@SpringBootTest(properties = "app.idempotency.lease=PT1S")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Idempotency-Key 통합 테스트")
+public class IdempotencyIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Test
+    @DisplayName("같은 키로 재시도하면 입금은 한 번만 처리되고 최초 응답이 그대로 반환된다")
+    void deposit_ReplayedWithSameKey() throws Exception {
+        // given (준비)
+        Account account = this.createAccount("010-9030-0001");
+        String key = UUID.randomUUID().toString();
+
+        // when (실행)
+        MvcResult first = mockMvc.perform(post("/account/{id}/deposit", account.getId())
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\": 1000}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        MvcResult replay = mockMvc.perform(post("/account/{id}/deposit", account.getId())
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\": 1000}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andReturn();
+
+        // then (검증)
+        assertThat(replay.getResponse().getContentAsString()).isEqualTo(first.getResponse().getContentAsString());
+        assertThat(this.balanceOf(account)).isEqualTo(1000L);
+        assertThat(transactionRepository.findByAccountIdOrderByIdDesc(account.getId(), PageRequest.of(0, 10))
+                .getTotalElements()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청을 보내면 422 를 반환한다")
+    void deposit_RejectedWithDifferentRequest() throws Exception {
+        // given (준비)
+        Account account = this.createAccount("010-9030-0002");
+        String key = UUID.randomUUID().toString();
+        mockMvc.perform(post("/account/{id}/deposit", account.getId())
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\": 1000}"))
+                .andExpect(status().isOk());
+
+        // when & then
+        mockMvc.perform(post("/account/{id}/deposit", account.getId())
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\": 2000}"))
+                .andExpect(status().isUnprocessableEntity());
+        assertThat(this.balanceOf(account)).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 키가 저장되지 않아 같은 키로 다시 시도할 수 있다")
+    void withdraw_FailedRequestCanBeRetried() throws Exception {
+        // given (준비): 잔액 0원 계좌
+        Account account = this.createAccount("010-9030-0003");
+        String key = UUID.randomUUID().toString();
+
+        // when (실행): 잔액 부족으로 실패한 뒤, 입금 후 같은 키로 재시도
+        mockMvc.perform(post("/account/{id}/withdraw", account.getId())
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\": 500}"))
+                .andExpect(status().isBadRequest());
+        accountService.deposit(account.getId(), 1000L);
+
+        // then (검증)
+        mockMvc.perform(post("/account/{id}/withdraw", account.getId())
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\": 500}"))
+                .andExpect(status().isOk());
+        assertThat(this.balanceOf(account)).isEqualTo(500L);
+    }
+
+    @Test
+    @DisplayName("처리 중에 중단된 요청의 키는 lease 동안 409 이고, lease 가 지나면 재시도가 이어받아 처리한다")
+    void deposit_RetryTakesOverExpiredLease() throws Exception {
+        // given (준비): 키를 선점한 뒤 응답을 저장하지 못하고 중단된 요청
+        Account account = this.createAccount("010-9030-0004");
+        String key = UUID.randomUUID().toString();
+        Optional<Long> crashed = idempotencyService.reserve(key, "crashed-request");
+        assertThat(crashed).isPresent();
+
+        // when & then
+        mockMvc.perform(post("/account/{id}/deposit", account.getId())
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\": 1000}"))
+                .andExpect(status().isConflict());
+
+        Thread.sleep(1_100L);
+        mockMvc.perform(post("/account/{id}/deposit", account.getId())
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\": 1000}"))
+                .andExpect(status().isOk());
+
+        // 중단되었던 요청이 뒤늦게 끝나도 이어받은 요청의 응답은 바뀌지 않는다
+        idempotencyService.complete(crashed.get(), 500, null, "{}");
+        idempotencyService.release(crashed.get());
+        assertThat(idempotencyService.findCompleted(key).orElseThrow().getResponseStatus()).isEqualTo(200);
+        assertThat(this.balanceOf(account)).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("처리에 성공했지만 응답을 저장하지 못한 키는 lease 가 지나도 재시도가 다시 실행하지 않고 409 를 받는다")
+    void deposit_UnsavedResponseKeepsReservation() throws Exception {
+        // given (준비): 키를 선점하고 처리했지만 응답 저장에 실패한 요청
+        Account account = this.createAccount("010-9030-0005");
+        String key = UUID.randomUUID().toString();
+        Optional<Long> reserved = idempotencyService.reserve(key, "unsaved-request");
+        assertThat(reserved).isPresent();
+        idempotencyService.keepReserved(reserved.get());
+
+        // when & then
+        Thread.sleep(1_100L);
+        mockMvc.perform(post("/account/{id}/deposit", account.getId())
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\": 1000}"))
+                .andExpect(status().isConflict());
+        assertThat(this.balanceOf(account)).isEqualTo(0L);
+    }
+
+    private Account createAccount(String phone) {
+        return accountService.createAccount(new CreateAccountRequestDTO("멱등", "idempotency@test.com", phone, "password"));
+    }
+
+    private long balanceOf(Account account) {
+        return accountService.findAllByIds(List.of(account.getId())).get(0).getBalance();
+    }
+}
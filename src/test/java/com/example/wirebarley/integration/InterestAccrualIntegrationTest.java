@@ -0,0 +1,213 @@
+package com.example.wirebarley.integration;
+
+import com.example.wirebarley.domain.Account;
+import com.example.wirebarley.domain.InterestAccrualCheckpoint;
+import com.example.wirebarley.domain.Transaction;
+import com.example.wirebarley.dto.CreateAccountRequestDTO;
+import com.example.wirebarley.dto.InterestAccrualReportDTO;
+import com.example.wirebarley.dto.TransactionDTO;
+import com.example.wirebarley.enumeration.TransactionType;
+import com.example.wirebarley.repository.AccountRepository;
+import com.example.wirebarley.repository.InterestAccrualCheckpointRepository;
+import com.example.wirebarley.service.AccountEventBus;
+import com.example.wirebarley.service.AccountService;
+import com.example.wirebarley.service.InterestAccrualService;
+import com.example.wirebarley.service.TransactionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 활성 계좌 전체에 하루 이자를 청크 단위로 지급하는 배치를 검증합니다.
+ * 연이율 3.65% 이면 하루 이자가 잔액의 0.01% 이므로 1,000,000원에 100원이 지급됩니다.
+ * 청크/파티션 경계를 지나도록 chunk-size 와 parallelism 을 작게 설정하고, 테스트마다 다른 지급일을 사용합니다.
+ */
+@SpringBootTest(properties = {
+        "app.interest.annual-rate=0.0365",
+        "app.interest.chunk-size=2",
+        "app.interest.parallelism=2"
+})
+@ActiveProfiles("test")
+@DisplayName("이자 지급 배치 통합 테스트")
+class InterestAccrualIntegrationTest {
+
+    private static final AtomicInteger phoneSequence = new AtomicInteger();
+
+    @Autowired
+    private InterestAccrualService interestAccrualService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private InterestAccrualCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private AccountEventBus accountEventBus;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("활성 계좌에만 하루 이자를 입금 거래로 지급하고, 1원 미만 이자는 지급하지 않는다")
+    void accrue_CreditsActiveAccounts() throws Throwable {
+        // given (준비)
+        Account first = this.createAccount();
+        Account second = this.createAccount();
+        Account small = this.createAccount();
+        Account dormant = this.createAccount();
+        accountService.deposit(first.getId(), 1_000_000L);
+        accountService.deposit(second.getId(), 2_000_000L);
+        accountService.deposit(small.getId(), 100L);
+        accountService.deposit(dormant.getId(), 1_000_000L);
+        jdbcTemplate.update("UPDATE account SET status = 'DORMANT' WHERE id = ?", dormant.getId());
+
+        // when (실행)
+        InterestAccrualReportDTO report = interestAccrualService.accrue("20990101");
+
+        // then (검증)
+        assertThat(this.balanceOf(first)).isEqualTo(1_000_100L);
+        assertThat(this.balanceOf(second)).isEqualTo(2_000_200L);
+        assertThat(this.balanceOf(small)).isEqualTo(100L);
+        assertThat(this.balanceOf(dormant)).isEqualTo(1_000_000L);
+        assertThat(report.getAccounts()).isGreaterThanOrEqualTo(2);
+        assertThat(report.getTotalInterest()).isGreaterThanOrEqualTo(300L);
+
+        Transaction interest = this.latestTransactionOf(first);
+        assertThat(interest.getType()).isEqualTo(TransactionType.DEPOSIT);
+        assertThat(interest.getNetAmount()).isEqualTo(100L);
+        assertThat(interest.getPrevBalance()).isEqualTo(1_000_000L);
+        assertThat(interest.getPostBalance()).isEqualTo(1_000_100L);
+        assertThat(interest.getDate()).isEqualTo("20990101");
+        assertThat(interest.getMemo()).isEqualTo("이자");
+    }
+
+    @Test
+    @DisplayName("같은 지급일로 다시 실행해도 이자를 두 번 지급하지 않는다")
+    void accrue_SameDateTwice_CreditsOnce() throws Throwable {
+        // given (준비)
+        Account account = this.createAccount();
+        accountService.deposit(account.getId(), 1_000_000L);
+        interestAccrualService.accrue("20990102");
+
+        // when (실행)
+        interestAccrualService.accrue("20990102");
+
+        // then (검증)
+        assertThat(this.balanceOf(account)).isEqualTo(1_000_100L);
+    }
+
+    @Test
+    @DisplayName("중단된 지급일을 다시 실행하면 마지막으로 커밋된 계좌 다음부터 이어서 지급한다")
+    void accrue_ResumesFromCheckpoint() throws Throwable {
+        // given (준비)
+        Account processed = this.createAccount();
+        Account remaining = this.createAccount();
+        accountService.deposit(processed.getId(), 1_000_000L);
+        accountService.deposit(remaining.getId(), 1_000_000L);
+
+        // processed 계좌까지 커밋한 뒤 중단된 상태
+        InterestAccrualCheckpoint checkpoint = new InterestAccrualCheckpoint("20990103", 0, 0L, Long.MAX_VALUE);
+        checkpoint.setLastAccountId(processed.getId());
+        checkpointRepository.save(checkpoint);
+
+        // when (실행)
+        interestAccrualService.accrue("20990103");
+
+        // then (검증)
+        assertThat(this.balanceOf(processed)).isEqualTo(1_000_000L);
+        assertThat(this.balanceOf(remaining)).isEqualTo(1_000_100L);
+        assertThat(checkpointRepository.findAllByAccrualDateOrderByPartitionNoAsc("20990103"))
+                .allMatch(InterestAccrualCheckpoint::isCompleted);
+    }
+
+    @Test
+    @DisplayName("이자 지급은 마지막 잔액 변경 시각을 바꾸지 않는다 (이자만 쌓이는 계좌도 휴면 전환 대상)")
+    void accrue_KeepsLastBalanceChangedAt() throws Throwable {
+        // given (준비)
+        Account account = this.createAccount();
+        accountService.deposit(account.getId(), 1_000_000L);
+        Timestamp changedAt = Timestamp.valueOf("2020-01-01 00:00:00");
+        jdbcTemplate.update("UPDATE account SET last_balance_changed_at = ? WHERE id = ?", changedAt, account.getId());
+
+        // when (실행)
+        interestAccrualService.accrue("20990104");
+
+        // then (검증)
+        assertThat(this.balanceOf(account)).isEqualTo(1_000_100L);
+        assertThat(jdbcTemplate.queryForObject("SELECT last_balance_changed_at FROM account WHERE id = ?", Timestamp.class,
+                account.getId())).isEqualTo(changedAt);
+    }
+
+    @Test
+    @DisplayName("지급한 이자 입금 거래는 커밋 후 계좌 구독자에게 발행된다")
+    void accrue_PublishesDeposits() throws Throwable {
+        // given (준비)
+        Account account = this.createAccount();
+        accountService.deposit(account.getId(), 1_000_000L);
+        BlockingQueue<TransactionDTO> received = new LinkedBlockingQueue<>();
+        AccountEventBus.Subscriber subscriber = accountEventBus.subscribe(account.getId(), new AccountEventBus.Sink() {
+            @Override
+            public void send(TransactionDTO transaction) {
+                received.add(transaction);
+            }
+
+            @Override
+            public void heartbeat() {
+            }
+
+            @Override
+            public void overflow(long lastDeliveredId, long dropped) {
+            }
+
+            @Override
+            public void failed(Exception ex) {
+            }
+        });
+        accountEventBus.start(subscriber, 0L);
+
+        // when (실행)
+        interestAccrualService.accrue("20990105");
+
+        // then (검증)
+        TransactionDTO interest = received.poll(5, TimeUnit.SECONDS);
+        accountEventBus.unsubscribe(subscriber);
+        assertThat(interest).isNotNull();
+        assertThat(interest.getId()).isEqualTo(this.latestTransactionOf(account).getId());
+        assertThat(interest.getType()).isEqualTo(TransactionType.DEPOSIT);
+        assertThat(interest.getNetAmount()).isEqualTo(100L);
+        assertThat(interest.getPostBalance()).isEqualTo(1_000_100L);
+        assertThat(interest.getMemo()).isEqualTo("이자");
+    }
+
+    private Account createAccount() {
+        String phone = String.format("010-9040-%04d", phoneSequence.incrementAndGet());
+        return accountService.createAccount(new CreateAccountRequestDTO("이자", "interest@test.com", phone, "password"));
+    }
+
+    private long balanceOf(Account account) {
+        return accountRepository.findWithoutLockById(account.getId()).orElseThrow().getBalance();
+    }
+
+    private Transaction latestTransactionOf(Account account) {
+        return transactionService.findBy(account.getId(), PageRequest.of(0, 1)).getContent().get(0);
+    }
+}
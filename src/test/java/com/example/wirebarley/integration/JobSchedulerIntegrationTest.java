@@ -0,0 +1,213 @@
+package com.example.wirebarley.integration;
+
+import com.example.wirebarley.domain.JobLease;
+import com.example.wirebarley.domain.JobPartition;
+import com.example.wirebarley.enumeration.JobPartitionStatus;
+import com.example.wirebarley.repository.JobLeaseRepository;
+import com.example.wirebarley.repository.JobPartitionRepository;
+import com.example.wirebarley.service.JobScheduler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * DB 임대로 작업을 한 노드에서만 실행하고, 파티션을 여러 실행자가 나누어 처리하는지 검증합니다.
+ * 다른 노드는 임대/파티션 로우의 owner 를 직접 바꾸어 재현합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("DB 임대 작업 스케줄러 통합 테스트")
+class JobSchedulerIntegrationTest {
+
+    @Autowired
+    private JobScheduler jobScheduler;
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Autowired
+    private JobPartitionRepository jobPartitionRepository;
+
+    @Test
+    @DisplayName("임대를 가져오면 작업을 실행하고, 끝나면 임대를 반납한다")
+    void runExclusively_RunsAndReleases() {
+        // given (준비)
+        AtomicInteger runs = new AtomicInteger();
+
+        // when (실행)
+        boolean first = jobScheduler.runExclusively("test-job-release", runs::incrementAndGet);
+        boolean second = jobScheduler.runExclusively("test-job-release", runs::incrementAndGet);
+
+        // then (검증)
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(runs.get()).isEqualTo(2);
+        assertThat(jobLeaseRepository.findByName("test-job-release").orElseThrow().getOwner()).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 임대 중이면 실행하지 않고, 임대가 만료되면 이어받아 실행한다")
+    void runExclusively_OtherNodeHoldsLease() {
+        // given (준비)
+        JobLease lease = new JobLease("test-job-other-node", ZonedDateTime.now().plusMinutes(10));
+        lease.setOwner("other-node");
+        jobLeaseRepository.save(lease);
+        AtomicInteger runs = new AtomicInteger();
+
+        // when (실행)
+        boolean whileHeld = jobScheduler.runExclusively("test-job-other-node", runs::incrementAndGet);
+        JobLease expired = jobLeaseRepository.findByName("test-job-other-node").orElseThrow();
+        expired.setLeaseUntil(ZonedDateTime.now().minusSeconds(1));
+        jobLeaseRepository.save(expired);
+        boolean afterExpiry = jobScheduler.runExclusively("test-job-other-node", runs::incrementAndGet);
+
+        // then (검증)
+        assertThat(whileHeld).isFalse();
+        assertThat(afterExpiry).isTrue();
+        assertThat(runs.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 노드에서 이미 실행 중인 작업은 다시 실행하지 않는다")
+    void runExclusively_NestedRunSkipped() {
+        // given (준비)
+        AtomicInteger runs = new AtomicInteger();
+
+        // when (실행)
+        jobScheduler.runExclusively("test-job-nested", () -> {
+            runs.incrementAndGet();
+            assertThat(jobScheduler.runExclusively("test-job-nested", runs::incrementAndGet)).isFalse();
+        });
+
+        // then (검증)
+        assertThat(runs.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("완료한 실행 단위는 임대를 반납한 뒤에도 다시 실행하지 않고, 실패한 실행 단위는 다시 실행한다")
+    void runExclusively_CompletedRunSkipped() {
+        // given (준비)
+        AtomicInteger runs = new AtomicInteger();
+        assertThrows(IllegalStateException.class, () -> jobScheduler.runExclusively("test-job-run-key", "20240101", () -> {
+            throw new IllegalStateException("작업 실패");
+        }));
+
+        // when (실행)
+        boolean retried = jobScheduler.runExclusively("test-job-run-key", "20240101", runs::incrementAndGet);
+        boolean again = jobScheduler.runExclusively("test-job-run-key", "20240101", runs::incrementAndGet);
+        boolean nextRun = jobScheduler.runExclusively("test-job-run-key", "20240102", runs::incrementAndGet);
+
+        // then (검증)
+        assertThat(retried).isTrue();
+        assertThat(again).isFalse();
+        assertThat(nextRun).isTrue();
+        assertThat(runs.get()).isEqualTo(2);
+        JobLease lease = jobLeaseRepository.findByName("test-job-run-key").orElseThrow();
+        assertThat(lease.getOwner()).isNull();
+        assertThat(lease.getLastCompletedRunKey()).isEqualTo("20240102");
+    }
+
+    @Test
+    @DisplayName("임대가 끝난 지 보관 기간이 지난 임대 로우만 삭제한다")
+    void purgeExpiredLeases_DeletesOldLeases() {
+        // given (준비)
+        jobLeaseRepository.save(new JobLease("test-payout-old", ZonedDateTime.now().minusDays(30)));
+        jobLeaseRepository.save(new JobLease("test-payout-recent", ZonedDateTime.now().minusMinutes(1)));
+
+        // when (실행)
+        jobScheduler.purgeExpiredLeases();
+
+        // then (검증)
+        assertThat(jobLeaseRepository.findByName("test-payout-old")).isEmpty();
+        assertThat(jobLeaseRepository.findByName("test-payout-recent")).isPresent();
+    }
+
+    @Test
+    @DisplayName("여러 실행자가 동시에 실행해도 각 파티션은 한 번씩만 처리된다")
+    void runPartitioned_EachPartitionOnce() throws Exception {
+        // given (준비)
+        int partitions = 8;
+        int workers = 3;
+        Queue<Integer> processed = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+
+        // when (실행)
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return jobScheduler.runPartitioned("test-partitioned", "run-1", partitions, partitionNo -> {
+                    processed.add(partitionNo);
+                    sleep(20);
+                });
+            }));
+        }
+        start.countDown();
+        int completed = 0;
+        for (Future<Integer> result : results) {
+            completed += result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then (검증)
+        assertThat(completed).isEqualTo(partitions);
+        assertThat(processed).containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6, 7);
+        assertThat(jobPartitionRepository.findAllByJobNameAndRunKeyOrderByPartitionNoAsc("test-partitioned", "run-1"))
+                .allMatch(partition -> partition.getStatus() == JobPartitionStatus.DONE);
+
+        // 같은 실행 단위로 다시 실행하면 처리할 파티션이 없다
+        assertThat(jobScheduler.runPartitioned("test-partitioned", "run-1", partitions, processed::add)).isZero();
+    }
+
+    @Test
+    @DisplayName("실패한 파티션은 반납되어 다음 실행에서 다시 처리되고, 다른 노드가 처리 중인 파티션은 건너뛴다")
+    void runPartitioned_FailedPartitionRetried() {
+        // given (준비)
+        JobPartition running = new JobPartition("test-partitioned-retry", "run-1", 2);
+        running.setStatus(JobPartitionStatus.RUNNING);
+        running.setOwner("other-node");
+        running.setLeaseUntil(ZonedDateTime.now().plusMinutes(10));
+        jobPartitionRepository.save(running);
+        Queue<Integer> processed = new ConcurrentLinkedQueue<>();
+
+        // when (실행)
+        assertThrows(IllegalStateException.class, () -> jobScheduler.runPartitioned("test-partitioned-retry", "run-1", 3, partitionNo -> {
+            if (partitionNo == 1 && !processed.contains(-1)) {
+                processed.add(-1);
+                throw new IllegalStateException("파티션 처리 실패");
+            }
+            processed.add(partitionNo);
+        }));
+        int retried = jobScheduler.runPartitioned("test-partitioned-retry", "run-1", 3, processed::add);
+
+        // then (검증)
+        assertThat(retried).isEqualTo(1);
+        assertThat(processed).containsExactly(0, -1, 1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
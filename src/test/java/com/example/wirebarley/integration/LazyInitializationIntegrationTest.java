@@ -0,0 +1,41 @@
+package com.example.wirebarley.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 빠른 시작 모드(지연 초기화)에서도 계좌 API 와 주기 작업 빈은 시작 시 생성되고, 나머지 빈은 처음 사용할 때 생성되는지 검증합니다.
+ */
+@SpringBootTest(properties = "spring.main.lazy-initialization=true")
+@ActiveProfiles("test")
+@DisplayName("지연 초기화 통합 테스트")
+class LazyInitializationIntegrationTest {
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Test
+    @DisplayName("계좌 API 와 그 의존 빈, @Scheduled 빈은 시작 시 생성된다")
+    void eagerBeans_CreatedAtStartup() {
+        // then (검증)
+        assertThat(beanFactory.containsSingleton("accountController")).isTrue();
+        assertThat(beanFactory.containsSingleton("accountService")).isTrue();
+        assertThat(beanFactory.containsSingleton("transactionService")).isTrue();
+        assertThat(beanFactory.containsSingleton("dormantAccountSweeper")).isTrue();
+        assertThat(beanFactory.containsSingleton("idempotencyService")).isTrue();
+    }
+
+    @Test
+    @DisplayName("그 외의 API 빈은 처음 사용할 때 생성된다")
+    void otherBeans_CreatedOnFirstUse() {
+        // then (검증)
+        assertThat(beanFactory.containsSingleton("userController")).isFalse();
+        assertThat(beanFactory.containsSingleton("payoutController")).isFalse();
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.wirebarley.integration;
+
+import com.example.wirebarley.domain.Account;
+import com.example.wirebarley.dto.CreateAccountRequestDTO;
+import com.example.wirebarley.dto.LedgerDiscrepancyDTO;
+import com.example.wirebarley.dto.ReconciliationReportDTO;
+import com.example.wirebarley.dto.TransferRequestDTO;
+import com.example.wirebarley.enumeration.DiscrepancyType;
+import com.example.wirebarley.service.AccountService;
+import com.example.wirebarley.service.LedgerReconciliationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계좌 잔액과 거래 원장을 병렬로 대사하는 작업을 검증합니다.
+ * 테스트 DB 는 다른 테스트와 함께 사용하므로 이 테스트에서 만든 계좌의 결과만 확인합니다.
+ * 구간 분할과 연결 거래 조회가 모두 동작하도록 range-size 를 작게 설정합니다.
+ */
+@SpringBootTest(properties = {
+        "app.reconciliation.range-size=4",
+        "app.reconciliation.report-dir=${java.io.tmpdir}/wirebarley-reconciliation-test"
+})
+@ActiveProfiles("test")
+@DisplayName("원장 대사 통합 테스트")
+class LedgerReconciliationIntegrationTest {
+
+    private static final AtomicInteger phoneSequence = new AtomicInteger();
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private LedgerReconciliationService ledgerReconciliationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("입금/출금/이체만 있었다면 잔액과 원장이 일치하여 불일치가 없다")
+    void reconcile_ConsistentLedger() throws Throwable {
+        // given (준비)
+        Account from = this.createAccount();
+        Account to = this.createAccount();
+        accountService.deposit(from.getId(), 100_000L);
+        accountService.withdraw(from.getId(), 5_000L);
+        accountService.transfer(from.getId(), new TransferRequestDTO(to.getAccountNumber(), 10_000L));
+        accountService.withdraw(to.getId(), 1_000L);
+
+        // when (실행)
+        ReconciliationReportDTO report = ledgerReconciliationService.reconcile();
+
+        // then (검증)
+        assertThat(this.discrepanciesOf(report, from, to)).isEmpty();
+        assertThat(report.getAccounts()).isGreaterThanOrEqualTo(2);
+        assertThat(report.getTransactions()).isGreaterThanOrEqualTo(5);
+        assertThat(ledgerReconciliationService.progress())
+                .containsEntry("running", false)
+                .containsEntry("progress", 1.0);
+    }
+
+    @Test
+    @DisplayName("잔액, 잔액 흐름, 연결 거래가 어긋난 계좌를 찾아 보고서 파일로 남긴다")
+    void reconcile_DetectsDiscrepancies() throws Throwable {
+        // given (준비)
+        Account balanceBroken = this.createAccount();
+        Account chainBroken = this.createAccount();
+        Account linkBroken = this.createAccount();
+        Account receiver = this.createAccount();
+        accountService.deposit(balanceBroken.getId(), 50_000L);
+        accountService.deposit(chainBroken.getId(), 50_000L);
+        accountService.withdraw(chainBroken.getId(), 10_000L);
+        accountService.deposit(linkBroken.getId(), 50_000L);
+        accountService.transfer(linkBroken.getId(), new TransferRequestDTO(receiver.getAccountNumber(), 10_000L));
+
+        jdbcTemplate.update("UPDATE account SET balance = balance + 1 WHERE id = ?", balanceBroken.getId());
+        jdbcTemplate.update("UPDATE transaction SET prev_balance = prev_balance + 7 " +
+                "WHERE id = (SELECT MAX(id) FROM transaction WHERE account_id = ?)", chainBroken.getId());
+        jdbcTemplate.update("UPDATE transaction SET related_transaction_id = NULL " +
+                "WHERE account_id = ? AND type = 'TRANSFER'", linkBroken.getId());
+
+        // when (실행)
+        ReconciliationReportDTO report = ledgerReconciliationService.reconcile();
+
+        // then (검증)
+        assertThat(this.typesOf(report, balanceBroken))
+                .containsExactlyInAnyOrder(DiscrepancyType.BALANCE_NOT_LAST_POST_BALANCE, DiscrepancyType.BALANCE_NOT_LEDGER_SUM);
+        assertThat(this.typesOf(report, chainBroken))
+                .containsExactlyInAnyOrder(DiscrepancyType.BROKEN_CHAIN, DiscrepancyType.AMOUNT_MISMATCH);
+        // 입금 쪽은 이체 거래를 가리키지만 이체 거래는 입금을 가리키지 않습니다. (완료 전의 샤드 간 이체와 구분되지 않으므로 허용)
+        // 이체 쪽은 연결이 없어졌으므로 잔액 흐름만 확인합니다.
+        assertThat(this.typesOf(report, linkBroken)).isEmpty();
+        assertThat(this.typesOf(report, receiver)).isEmpty();
+        assertThat(report.getReportFile()).isNotNull();
+        assertThat(Files.readAllLines(Path.of(report.getReportFile())))
+                .first().isEqualTo("type,accountId,transactionId,expected,actual");
+    }
+
+    @Test
+    @DisplayName("연결된 입금 거래의 금액이 다르면 양쪽 거래를 모두 불일치로 보고한다")
+    void reconcile_DetectsRelatedMismatch() throws Throwable {
+        // given (준비)
+        Account from = this.createAccount();
+        Account to = this.createAccount();
+        accountService.deposit(from.getId(), 50_000L);
+        accountService.transfer(from.getId(), new TransferRequestDTO(to.getAccountNumber(), 10_000L));
+
+        // 입금 거래의 금액과 잔액을 함께 바꾸어 잔액 흐름은 맞지만 이체 금액과는 다르게 만듭니다.
+        jdbcTemplate.update("UPDATE transaction SET net_amount = net_amount + 100, gross_amount = gross_amount + 100, " +
+                "post_balance = post_balance + 100 WHERE account_id = ? AND type = 'DEPOSIT'", to.getId());
+        jdbcTemplate.update("UPDATE account SET balance = balance + 100 WHERE id = ?", to.getId());
+
+        // when (실행)
+        ReconciliationReportDTO report = ledgerReconciliationService.reconcile();
+
+        // then (검증)
+        assertThat(this.typesOf(report, from)).containsExactly(DiscrepancyType.RELATED_MISMATCH);
+        assertThat(this.typesOf(report, to)).containsExactly(DiscrepancyType.RELATED_MISMATCH);
+    }
+
+    private Account createAccount() {
+        String phone = String.format("010-9039-%04d", phoneSequence.incrementAndGet());
+        return accountService.createAccount(new CreateAccountRequestDTO("대사", "reconciliation@test.com", phone, "password"));
+    }
+
+    private List<LedgerDiscrepancyDTO> discrepanciesOf(ReconciliationReportDTO report, Account... accounts) {
+        Set<Long> accountIds = Arrays.stream(accounts).map(Account::getId).collect(Collectors.toSet());
+        return report.getDiscrepancies().stream()
+                .filter(discrepancy -> accountIds.contains(discrepancy.getAccountId()))
+                .toList();
+    }
+
+    private List<DiscrepancyType> typesOf(ReconciliationReportDTO report, Account account) {
+        return this.discrepanciesOf(report, account).stream().map(LedgerDiscrepancyDTO::getType).toList();
+    }
+}
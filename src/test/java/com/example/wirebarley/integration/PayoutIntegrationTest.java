@@ -0,0 +1,244 @@
+package com.example.wirebarley.integration;
+
+import com.example.wirebarley.domain.Account;
+import com.example.wirebarley.domain.PayoutJob;
+import com.example.wirebarley.domain.PayoutLine;
+import com.example.wirebarley.domain.Transaction;
+import com.example.wirebarley.dto.CreateAccountRequestDTO;
+import com.example.wirebarley.dto.TransferRequestDTO;
+import com.example.wirebarley.enumeration.PayoutJobStatus;
+import com.example.wirebarley.enumeration.PayoutLineStatus;
+import com.example.wirebarley.enumeration.TransactionType;
+import com.example.wirebarley.exception.BadRequestException;
+import com.example.wirebarley.service.AccountService;
+import com.example.wirebarley.service.PayoutService;
+import com.example.wirebarley.service.TransactionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 지급 계좌 하나에서 여러 수취인에게 청크 단위로 지급하는 대량 지급 작업을 검증합니다.
+ * 청크 경계를 지나도록 chunk-size 를 작게 설정하고, 지급은 백그라운드에서 진행되므로 작업이 완료될 때까지 기다립니다.
+ */
+@SpringBootTest(properties = {
+        "app.payout.chunk-size=2",
+        "app.payout.resume-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+@DisplayName("대량 지급 통합 테스트")
+class PayoutIntegrationTest {
+
+    private static final AtomicInteger phoneSequence = new AtomicInteger();
+
+    @Autowired
+    private PayoutService payoutService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("지급할 수 있는 건은 지급하고, 지급할 수 없는 건은 사유와 함께 실패로 기록한다")
+    void submit_PaysValidLinesAndReportsFailures() throws Throwable {
+        // given (준비)
+        Account source = this.createAccount();
+        Account first = this.createAccount();
+        Account second = this.createAccount();
+        accountService.deposit(source.getId(), 100_000L);
+        List<TransferRequestDTO> lines = List.of(
+                new TransferRequestDTO(first.getAccountNumber(), 10_000L),
+                new TransferRequestDTO("0000000000000000", 5_000L),
+                new TransferRequestDTO(second.getAccountNumber(), 20_000L),
+                new TransferRequestDTO(first.getAccountNumber(), 5_000L),
+                new TransferRequestDTO(second.getAccountNumber(), 0L),
+                new TransferRequestDTO(second.getAccountNumber(), 200_000L));
+
+        // when (실행)
+        PayoutJob job = this.awaitCompleted(source, payoutService.submit(source.getId(), "급여", lines));
+
+        // then (검증)
+        assertThat(job.getTotalLines()).isEqualTo(6);
+        assertThat(job.getPaidLines()).isEqualTo(3);
+        assertThat(job.getFailedLines()).isEqualTo(3);
+        assertThat(job.getPaidAmount()).isEqualTo(35_000L);
+        assertThat(job.getFeeAmount()).isEqualTo(350L);
+        assertThat(this.balanceOf(source)).isEqualTo(100_000L - 35_350L);
+        assertThat(this.balanceOf(first)).isEqualTo(15_000L);
+        assertThat(this.balanceOf(second)).isEqualTo(20_000L);
+
+        Map<Integer, String> failures = payoutService.findFailures(source.getId(), job.getId(), PageRequest.of(0, 10))
+                .stream()
+                .collect(Collectors.toMap(PayoutLine::getLineNo, PayoutLine::getFailureReason));
+        assertThat(failures).containsOnlyKeys(2, 5, 6);
+        assertThat(failures.get(2)).isEqualTo("존재하지 않는 계좌번호입니다.");
+        assertThat(failures.get(5)).isEqualTo("이체 금액은 0보다 커야 합니다.");
+        assertThat(failures.get(6)).isEqualTo("잔액이 부족합니다.");
+    }
+
+    @Test
+    @DisplayName("지급 계좌의 이체 기록과 수취인의 입금 기록이 서로 연결된다")
+    void submit_LinksLedgerPairs() throws Throwable {
+        // given (준비)
+        Account source = this.createAccount();
+        Account recipient = this.createAccount();
+        accountService.deposit(source.getId(), 50_000L);
+
+        // when (실행)
+        this.awaitCompleted(source, payoutService.submit(source.getId(), "정산",
+                List.of(new TransferRequestDTO(recipient.getAccountNumber(), 10_000L))));
+
+        // then (검증)
+        Transaction withdrawal = this.historyOf(source).stream()
+                .filter(tx -> tx.getType() == TransactionType.TRANSFER)
+                .findFirst().orElseThrow();
+        Transaction deposit = this.historyOf(recipient).get(0);
+        assertThat(withdrawal.getGrossAmount()).isEqualTo(10_100L);
+        assertThat(withdrawal.getPostBalance()).isEqualTo(50_000L - 10_100L);
+        assertThat(withdrawal.getRelatedTransactionId()).isEqualTo(deposit.getId());
+        assertThat(deposit.getRelatedTransactionId()).isEqualTo(withdrawal.getId());
+        assertThat(deposit.getPostBalance()).isEqualTo(10_000L);
+        assertThat(deposit.getMemo()).isEqualTo("정산");
+    }
+
+    @Test
+    @DisplayName("지급 계좌로 보내는 건은 실패로 기록하고, 나머지 건의 이체/입금 기록은 금액이 같은 짝끼리 연결된다")
+    void submit_RejectsSelfPayoutAndLinksEachPair() throws Throwable {
+        // given (준비)
+        Account source = this.createAccount();
+        Account first = this.createAccount();
+        Account second = this.createAccount();
+        accountService.deposit(source.getId(), 100_000L);
+        List<TransferRequestDTO> lines = List.of(
+                new TransferRequestDTO(first.getAccountNumber(), 1_000L),
+                new TransferRequestDTO(source.getAccountNumber(), 2_000L),
+                new TransferRequestDTO(second.getAccountNumber(), 3_000L),
+                new TransferRequestDTO(first.getAccountNumber(), 4_000L));
+
+        // when (실행)
+        PayoutJob job = this.awaitCompleted(source, payoutService.submit(source.getId(), null, lines));
+
+        // then (검증)
+        assertThat(job.getPaidLines()).isEqualTo(3);
+        assertThat(payoutService.findFailures(source.getId(), job.getId(), PageRequest.of(0, 10)))
+                .extracting(PayoutLine::getFailureReason)
+                .containsExactly("지급 계좌로는 지급할 수 없습니다.");
+
+        List<Transaction> withdrawals = this.historyOf(source).stream()
+                .filter(tx -> tx.getType() == TransactionType.TRANSFER)
+                .toList();
+        Map<Long, Transaction> deposits = Stream.concat(this.historyOf(first).stream(), this.historyOf(second).stream())
+                .collect(Collectors.toMap(Transaction::getId, tx -> tx));
+        assertThat(withdrawals).hasSize(3);
+        for (Transaction withdrawal : withdrawals) {
+            Transaction deposit = deposits.get(withdrawal.getRelatedTransactionId());
+            assertThat(deposit.getNetAmount()).isEqualTo(withdrawal.getNetAmount());
+            assertThat(deposit.getRelatedTransactionId()).isEqualTo(withdrawal.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("진행 위치가 되돌아간 작업을 재개해도 이미 지급한 건은 다시 지급하지 않는다")
+    void resume_DoesNotPayTwice() throws Throwable {
+        // given (준비)
+        Account source = this.createAccount();
+        Account recipient = this.createAccount();
+        accountService.deposit(source.getId(), 50_000L);
+        List<TransferRequestDTO> lines = List.of(
+                new TransferRequestDTO(recipient.getAccountNumber(), 1_000L),
+                new TransferRequestDTO(recipient.getAccountNumber(), 2_000L),
+                new TransferRequestDTO(recipient.getAccountNumber(), 3_000L));
+        PayoutJob job = this.awaitCompleted(source, payoutService.submit(source.getId(), null, lines));
+        // 청크를 커밋하기 전에 중단된 것처럼 작업을 처음 상태로 되돌립니다.
+        jdbcTemplate.update("UPDATE payout_job SET status = ?, next_line_no = 1 WHERE id = ?", PayoutJobStatus.RUNNING.name(), job.getId());
+
+        // when (실행)
+        // 직전 실행이 아직 작업 목록에서 빠지지 않았을 수 있으므로 완료될 때까지 재개를 반복합니다.
+        PayoutJob resumed = payoutService.findJob(source.getId(), job.getId());
+        for (int attempt = 0; attempt < 100 && resumed.getStatus() != PayoutJobStatus.COMPLETED; attempt++) {
+            payoutService.resumeUnfinished();
+            Thread.sleep(50L);
+            resumed = payoutService.findJob(source.getId(), job.getId());
+        }
+
+        // then (검증)
+        assertThat(resumed.getPaidLines()).isEqualTo(3);
+        assertThat(this.balanceOf(recipient)).isEqualTo(6_000L);
+        assertThat(this.balanceOf(source)).isEqualTo(50_000L - 6_060L);
+        Map<PayoutLineStatus, Long> statuses = jdbcTemplate.queryForList("SELECT status FROM payout_line WHERE job_id = ?", String.class, job.getId())
+                .stream()
+                .collect(Collectors.groupingBy(PayoutLineStatus::valueOf, Collectors.counting()));
+        assertThat(statuses).containsExactlyEntriesOf(Map.of(PayoutLineStatus.PAID, 3L));
+    }
+
+    @Test
+    @DisplayName("지급 내역이 비어 있으면 등록할 수 없다")
+    void submit_EmptyLines_Rejected() {
+        // given (준비)
+        Account source = this.createAccount();
+
+        // when & then
+        assertThrows(BadRequestException.class, () -> payoutService.submit(source.getId(), null, List.of()));
+    }
+
+    @Test
+    @DisplayName("CSV 의 금액을 읽을 수 없는 줄은 실패로 기록한다")
+    void submitCsv_InvalidRow_Failed() throws Throwable {
+        // given (준비)
+        Account source = this.createAccount();
+        Account recipient = this.createAccount();
+        accountService.deposit(source.getId(), 50_000L);
+        String csv = "# 계좌번호,금액\n" + recipient.getAccountNumber() + ",7000\n\n" + recipient.getAccountNumber() + ",칠천\n";
+
+        // when (실행)
+        PayoutJob job = this.awaitCompleted(source, payoutService.submitCsv(source.getId(), null, csv));
+
+        // then (검증)
+        assertThat(job.getTotalLines()).isEqualTo(2);
+        assertThat(job.getPaidLines()).isEqualTo(1);
+        assertThat(job.getFailedLines()).isEqualTo(1);
+        assertThat(this.balanceOf(recipient)).isEqualTo(7_000L);
+    }
+
+    private Account createAccount() {
+        String phone = String.format("010-9044-%04d", phoneSequence.incrementAndGet());
+        return accountService.createAccount(new CreateAccountRequestDTO("지급", "payout@test.com", phone, "password"));
+    }
+
+    private PayoutJob awaitCompleted(Account source, PayoutJob job) throws Throwable {
+        long deadline = System.currentTimeMillis() + 10_000L;
+        while (true) {
+            PayoutJob current = payoutService.findJob(source.getId(), job.getId());
+            if (current.getStatus() == PayoutJobStatus.COMPLETED || System.currentTimeMillis() > deadline) {
+                return current;
+            }
+            Thread.sleep(20L);
+        }
+    }
+
+    private long balanceOf(Account account) {
+        return accountService.findAllByIds(List.of(account.getId())).get(0).getBalance();
+    }
+
+    private List<Transaction> historyOf(Account account) {
+        return transactionService.findBy(account.getId(), PageRequest.of(0, 10)).getContent();
+    }
+}
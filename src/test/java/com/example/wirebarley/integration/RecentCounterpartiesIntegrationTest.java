@@ -0,0 +1,189 @@
+package com.example.wirebarley.integration;
+
+import com.example.wirebarley.domain.Account;
+import com.example.wirebarley.dto.CounterpartyDTO;
+import com.example.wirebarley.dto.CreateAccountRequestDTO;
+import com.example.wirebarley.dto.TransferRequestDTO;
+import com.example.wirebarley.exception.AccountNotFoundException;
+import com.example.wirebarley.service.AccountService;
+import com.example.wirebarley.service.CounterpartyService;
+import com.example.wirebarley.util.BusinessClock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 이체할 때마다 송금 계좌의 자주 이체한 상대방 목록이 갱신되는지 검증합니다.
+ */
+@SpringBootTest(properties = "app.counterparties.capacity=2")
+@ActiveProfiles("test")
+@DisplayName("자주 이체한 상대방 통합 테스트")
+class RecentCounterpartiesIntegrationTest {
+
+    private static final AtomicInteger phoneSequence = new AtomicInteger();
+
+    @Autowired
+    private CounterpartyService counterpartyService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private BusinessClock businessClock;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("이체 횟수가 많은 상대방부터 조회하고, 가득 차면 점수가 가장 낮은 상대방을 지운다")
+    void findRecent_OrdersByTransferCount() throws Throwable {
+        // given (준비)
+        Account from = this.createAccount();
+        Account first = this.createAccount();
+        Account second = this.createAccount();
+        Account third = this.createAccount();
+        accountService.deposit(from.getId(), 1_000_000L);
+
+        // when (실행)
+        this.transfer(from, first, 2);
+        this.transfer(from, second, 3);
+        this.transfer(from, third, 1);
+        List<CounterpartyDTO> counterparties = counterpartyService.findRecent(from.getId(), null);
+
+        // then (검증)
+        assertThat(counterparties).extracting(CounterpartyDTO::getCounterpartyAccountNumber)
+                .containsExactly(second.getAccountNumber(), third.getAccountNumber());
+        assertThat(counterparties.get(0).getTransferCount()).isEqualTo(3);
+        assertThat(counterparties.get(0).getCounterpartyName()).isEqualTo("상대방");
+        assertThat(counterparties.get(0).getLastTransferDate()).isEqualTo(businessClock.todayText());
+        // 수취 계좌의 목록은 바뀌지 않는다.
+        assertThat(counterpartyService.findRecent(second.getId(), null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("limit 만큼만 조회한다")
+    void findRecent_Limit() throws Throwable {
+        // given (준비)
+        Account from = this.createAccount();
+        Account first = this.createAccount();
+        Account second = this.createAccount();
+        accountService.deposit(from.getId(), 1_000_000L);
+        this.transfer(from, first, 1);
+        this.transfer(from, second, 2);
+
+        // when (실행)
+        List<CounterpartyDTO> counterparties = counterpartyService.findRecent(from.getId(), 1);
+
+        // then (검증)
+        assertThat(counterparties).extracting(CounterpartyDTO::getCounterpartyAccountNumber)
+                .containsExactly(second.getAccountNumber());
+    }
+
+    @Test
+    @DisplayName("목록 로우 없이 개설된 계좌에 동시에 처음 기록해도 모두 기록된다")
+    void record_ConcurrentFirstRecords() throws Exception {
+        // given (준비): 목록 로우를 만들기 전에 개설된 계좌
+        Account from = this.createAccount();
+        Account first = this.createAccount();
+        Account second = this.createAccount();
+        this.deleteRow(from);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when (실행)
+        try {
+            Future<Boolean> firstRecord = executor.submit(() -> {
+                start.await();
+                return counterpartyService.record(from.getId(), first.getAccountNumber(), "가");
+            });
+            Future<Boolean> secondRecord = executor.submit(() -> {
+                start.await();
+                return counterpartyService.record(from.getId(), second.getAccountNumber(), "나");
+            });
+            start.countDown();
+
+            // then (검증)
+            assertThat(firstRecord.get(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(secondRecord.get(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(counterpartyService.findRecent(from.getId(), null)).extracting(CounterpartyDTO::getCounterpartyAccountNumber)
+                .containsExactlyInAnyOrder(first.getAccountNumber(), second.getAccountNumber());
+    }
+
+    @Test
+    @DisplayName("계좌를 개설하면 빈 목록 로우를 함께 만든다")
+    void createAccount_CreatesRow() {
+        // when (실행)
+        Account account = this.createAccount();
+
+        // then (검증)
+        assertThat(this.countRows(account)).isEqualTo(1);
+        assertThat(counterpartyService.findRecent(account.getId(), null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("처음 기록하며 만든 목록 로우는 바깥 트랜잭션이 롤백되면 함께 롤백된다")
+    void record_RolledBackWithCaller() {
+        // given (준비)
+        Account from = this.createAccount();
+        Account to = this.createAccount();
+        this.deleteRow(from);
+
+        // when (실행)
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            counterpartyService.record(from.getId(), to.getAccountNumber(), "가");
+            status.setRollbackOnly();
+        });
+
+        // then (검증)
+        assertThat(this.countRows(from)).isZero();
+    }
+
+    @Test
+    @DisplayName("없는 계좌는 조회할 수 없다")
+    void findRecent_UnknownAccount() {
+        // when & then
+        assertThrows(AccountNotFoundException.class, () -> counterpartyService.findRecent(Long.MAX_VALUE, null));
+    }
+
+    private void transfer(Account from, Account to, int times) throws Throwable {
+        for (int i = 0; i < times; i++) {
+            accountService.transfer(from.getId(), new TransferRequestDTO(to.getAccountNumber(), 1_000L));
+        }
+    }
+
+    private void deleteRow(Account account) {
+        jdbcTemplate.update("DELETE FROM recent_counterparties WHERE account_id = ?", account.getId());
+    }
+
+    private int countRows(Account account) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM recent_counterparties WHERE account_id = ?",
+                Integer.class, account.getId());
+    }
+
+    private Account createAccount() {
+        String phone = String.format("010-9047-%04d", phoneSequence.incrementAndGet());
+        return accountService.createAccount(new CreateAccountRequestDTO("상대방", "counterparty@test.com", phone, "password"));
+    }
+}
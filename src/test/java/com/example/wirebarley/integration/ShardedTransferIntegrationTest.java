@@ -0,0 +1,303 @@
+package com.example.wirebarley.integration;
+
+import com.example.wirebarley.config.ShardContext;
+import com.example.wirebarley.config.ShardingProperties;
+import com.example.wirebarley.domain.Account;
+import com.example.wirebarley.domain.Transaction;
+import com.example.wirebarley.domain.TransferLog;
+import com.example.wirebarley.dto.CreateAccountRequestDTO;
+import com.example.wirebarley.dto.TransferRequestDTO;
+import com.example.wirebarley.enumeration.TransactionType;
+import com.example.wirebarley.enumeration.TransferStatus;
+import com.example.wirebarley.exception.AccountNotFoundException;
+import com.example.wirebarley.repository.TransactionRepository;
+import com.example.wirebarley.repository.TransferLogRepository;
+import com.example.wirebarley.service.AccountService;
+import com.example.wirebarley.service.CrossShardTransferService;
+import com.example.wirebarley.service.ShardRouter;
+import com.example.wirebarley.service.TransactionService;
+import com.example.wirebarley.util.BusinessClock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * H2 인메모리 DB 두 개(shard0, shard1)로 샤드 라우팅과 샤드 간 이체, 중단된 이체의 복구를 검증합니다.
+ * 장애는 수취인 샤드의 transfer_receipt 테이블 이름을 잠시 바꾸어 입금 트랜잭션이 실패하도록 만들어 재현합니다.
+ * 여러 트랜잭션에 걸친 동작을 확인해야 하므로 테스트 메소드에 트랜잭션을 걸지 않습니다.
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "sharding"})
+@DisplayName("샤딩 / 샤드 간 이체 통합 테스트")
+class ShardedTransferIntegrationTest {
+
+    private static final AtomicInteger phoneSequence = new AtomicInteger();
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private CrossShardTransferService crossShardTransferService;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private TransferLogRepository transferLogRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private BusinessClock businessClock;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("계좌는 사용자의 샤드에 저장되고, ID 대역과 계좌번호의 샤드 접두어로 샤드를 알 수 있다")
+    void createAccount_StoredInUserShard() {
+        // given & when
+        Account first = this.createAccountOn(0);
+        Account second = this.createAccountOn(1);
+
+        // then (검증)
+        assertThat(first.getId()).isLessThan(ShardingProperties.ID_RANGE);
+        assertThat(first.getAccountNumber()).startsWith("S00").hasSize(16);
+        assertThat(second.getId()).isGreaterThan(ShardingProperties.ID_RANGE);
+        assertThat(second.getAccountNumber()).startsWith("S01").hasSize(16);
+
+        assertThat(this.countOn(1, "SELECT COUNT(*) FROM account WHERE id = " + second.getId())).isEqualTo(1);
+        assertThat(this.countOn(0, "SELECT COUNT(*) FROM account WHERE id = " + second.getId())).isZero();
+
+        // 여러 샤드의 계좌도 한 번에 조회된다
+        assertThat(accountService.findAllByIds(List.of(second.getId(), first.getId())))
+                .extracting(Account::getId)
+                .containsExactly(first.getId(), second.getId());
+    }
+
+    @Test
+    @DisplayName("샤드 간 이체 성공: 양쪽 샤드에 거래가 기록되고 서로 연결된다")
+    void transfer_AcrossShards() throws Throwable {
+        // given (준비)
+        Account from = this.createAccountOn(0);
+        Account to = this.createAccountOn(1);
+        accountService.deposit(from.getId(), 100_000L);
+
+        // when (실행)
+        Account result = accountService.transfer(from.getId(), new TransferRequestDTO(to.getAccountNumber(), 10_000L));
+
+        // then (검증): 수수료 1% 포함 10,100원 출금, 10,000원 입금
+        assertThat(result.getBalance()).isEqualTo(89_900L);
+        assertThat(this.balanceOf(from)).isEqualTo(89_900L);
+        assertThat(this.balanceOf(to)).isEqualTo(10_000L);
+
+        TransferLog transferLog = this.transferLogOf(from);
+        assertThat(transferLog.getStatus()).isEqualTo(TransferStatus.COMPLETED);
+
+        Transaction withdrawalTx = this.latestTransactionOf(from);
+        Transaction depositTx = this.latestTransactionOf(to);
+        assertThat(withdrawalTx.getType()).isEqualTo(TransactionType.TRANSFER);
+        assertThat(withdrawalTx.getCounterpartyAccountNumber()).isEqualTo(to.getAccountNumber());
+        assertThat(depositTx.getType()).isEqualTo(TransactionType.DEPOSIT);
+        assertThat(depositTx.getCounterpartyAccountNumber()).isEqualTo(from.getAccountNumber());
+        assertThat(withdrawalTx.getRelatedTransactionId()).isEqualTo(depositTx.getId());
+        assertThat(depositTx.getRelatedTransactionId()).isEqualTo(withdrawalTx.getId());
+    }
+
+    @Test
+    @DisplayName("샤드 간 이체 실패: 수취인 계좌가 없으면 출금하지 않는다")
+    void transfer_FailWithUnknownCounterparty() throws Throwable {
+        // given (준비)
+        Account from = this.createAccountOn(0);
+        accountService.deposit(from.getId(), 100_000L);
+
+        // when & then
+        assertThrows(AccountNotFoundException.class,
+                () -> accountService.transfer(from.getId(), new TransferRequestDTO("S01FFFFFFFFFFFFF", 10_000L)));
+        assertThat(this.balanceOf(from)).isEqualTo(100_000L);
+        assertThat(this.transferLogsOf(from)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("없는 샤드 번호를 가리키거나 접두어가 없는 계좌번호는 기본 샤드에서 찾고, 없으면 계좌 없음으로 거절한다")
+    void transfer_FailWithUnknownShard() throws Throwable {
+        // given (준비)
+        Account from = this.createAccountOn(1);
+        accountService.deposit(from.getId(), 100_000L);
+
+        // when & then
+        assertThrows(AccountNotFoundException.class,
+                () -> accountService.transfer(from.getId(), new TransferRequestDTO("S99FFFFFFFFFFFFF", 10_000L)));
+        assertThrows(AccountNotFoundException.class,
+                () -> accountService.transfer(from.getId(), new TransferRequestDTO("99FFFFFFFFFFFFFF", 10_000L)));
+        assertThat(this.balanceOf(from)).isEqualTo(100_000L);
+    }
+
+    @Test
+    @DisplayName("샤딩 이전에 발급된 계좌번호는 숫자로 시작해도 기본 샤드로 찾아간다")
+    void transfer_ToLegacyAccountNumber() throws Throwable {
+        // given (준비): 기본 샤드에 있는, 숫자 두 자리로 시작하는 기존 형식의 계좌번호
+        Account from = this.createAccountOn(1);
+        Account legacy = this.createAccountOn(0);
+        this.executeOn(0, "UPDATE account SET account_number = '01AB23CD45EF6789' WHERE id = " + legacy.getId());
+        accountService.deposit(from.getId(), 100_000L);
+
+        // when (실행)
+        accountService.transfer(from.getId(), new TransferRequestDTO("01AB23CD45EF6789", 10_000L));
+
+        // then (검증)
+        assertThat(this.balanceOf(legacy)).isEqualTo(10_000L);
+        assertThat(this.balanceOf(from)).isEqualTo(89_900L);
+    }
+
+    @Test
+    @DisplayName("입금 전 수취인 샤드 장애: 출금은 유지되고, 복구 작업이 입금을 완료한다")
+    void recover_CompletesTransferInterruptedBeforeCredit() throws Throwable {
+        // given (준비): 수취인 샤드의 입금 트랜잭션이 실패하는 상태에서 이체
+        Account from = this.createAccountOn(0);
+        Account to = this.createAccountOn(1);
+        accountService.deposit(from.getId(), 100_000L);
+
+        this.breakReceipts(1);
+        try {
+            accountService.transfer(from.getId(), new TransferRequestDTO(to.getAccountNumber(), 10_000L));
+        } finally {
+            this.restoreReceipts(1);
+        }
+        assertThat(this.balanceOf(from)).isEqualTo(89_900L);
+        assertThat(this.balanceOf(to)).isZero();
+        TransferLog pending = this.transferLogOf(from);
+        assertThat(pending.getStatus()).isEqualTo(TransferStatus.DEBITED);
+        assertThat(pending.getAttempts()).isEqualTo(1);
+
+        // when (실행)
+        crossShardTransferService.recover(0, Duration.ZERO);
+
+        // then (검증)
+        assertThat(this.transferLogOf(from).getStatus()).isEqualTo(TransferStatus.COMPLETED);
+        assertThat(this.balanceOf(from)).isEqualTo(89_900L);
+        assertThat(this.balanceOf(to)).isEqualTo(10_000L);
+    }
+
+    @Test
+    @DisplayName("완료 처리 전 중단: 복구 작업은 영수증을 확인하고 다시 입금하지 않는다")
+    void recover_DoesNotCreditTwice() throws Throwable {
+        // given (준비): 입금까지 끝났지만 송금인 샤드의 완료 처리가 기록되지 않은 상태
+        Account from = this.createAccountOn(0);
+        Account to = this.createAccountOn(1);
+        accountService.deposit(from.getId(), 100_000L);
+        accountService.transfer(from.getId(), new TransferRequestDTO(to.getAccountNumber(), 10_000L));
+
+        String transferId = this.transferLogOf(from).getTransferId();
+        shardRouter.inNewTransaction(0, false, () -> {
+            transferLogRepository.findByTransferId(transferId).orElseThrow().setStatus(TransferStatus.DEBITED);
+            return null;
+        });
+
+        // when (실행)
+        crossShardTransferService.recover(0, Duration.ZERO);
+
+        // then (검증)
+        assertThat(this.transferLogOf(from).getStatus()).isEqualTo(TransferStatus.COMPLETED);
+        assertThat(this.balanceOf(to)).isEqualTo(10_000L);
+        assertThat(this.countOn(1, "SELECT COUNT(*) FROM transfer_receipt WHERE transfer_id = '" + transferId + "'")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("입금 거절 시 보상: 출금 후 수취인 계좌가 해지되면 송금인에게 환불하고 이체 한도도 되돌린다")
+    void recover_CompensatesWhenCounterpartyClosed() throws Throwable {
+        // given (준비): 입금 전에 중단된 이체, 그 사이 수취인 계좌 해지
+        Account from = this.createAccountOn(0);
+        Account to = this.createAccountOn(1);
+        accountService.deposit(from.getId(), 100_000L);
+
+        this.breakReceipts(1);
+        try {
+            accountService.transfer(from.getId(), new TransferRequestDTO(to.getAccountNumber(), 10_000L));
+        } finally {
+            this.restoreReceipts(1);
+        }
+        accountService.deleteAccount(to.getId());
+
+        // when (실행)
+        crossShardTransferService.recover(0, Duration.ZERO);
+
+        // then (검증)
+        TransferLog transferLog = this.transferLogOf(from);
+        assertThat(transferLog.getStatus()).isEqualTo(TransferStatus.COMPENSATED);
+        assertThat(this.balanceOf(from)).isEqualTo(100_000L);
+
+        Transaction reversalTx = this.latestTransactionOf(from);
+        assertThat(reversalTx.getNetAmount()).isEqualTo(-10_000L);
+        assertThat(reversalTx.getPostBalance()).isEqualTo(100_000L);
+        assertThat(reversalTx.getRelatedTransactionId()).isEqualTo(transferLog.getWithdrawalTransactionId());
+        assertThat(transactionService.sumOfNetAmountBy(from.getUser().getId(), TransactionType.TRANSFER, businessClock.todayText()))
+                .isZero();
+    }
+
+    // 전화번호 해시가 원하는 샤드로 계산될 때까지 전화번호를 바꾸어 계좌를 생성합니다.
+    private Account createAccountOn(int shard) {
+        String phone;
+        do {
+            phone = String.format("010-9038-%04d", phoneSequence.incrementAndGet());
+        } while (shardRouter.shardOfPhone(phone) != shard);
+        return accountService.createAccount(new CreateAccountRequestDTO("샤딩", "sharding@test.com", phone, "password"));
+    }
+
+    private long balanceOf(Account account) {
+        return accountService.findAllByIds(List.of(account.getId())).get(0).getBalance();
+    }
+
+    private Transaction latestTransactionOf(Account account) {
+        return transactionService.findBy(account.getId(), PageRequest.of(0, 1)).getContent().get(0);
+    }
+
+    private List<TransferLog> transferLogsOf(Account account) {
+        return shardRouter.inNewTransaction(shardRouter.shardOfId(account.getId()), true, () -> transferLogRepository.findAll()
+                .stream()
+                .filter(transferLog -> transferLog.getFromAccountId().equals(account.getId()))
+                .toList());
+    }
+
+    private TransferLog transferLogOf(Account account) {
+        List<TransferLog> transferLogs = this.transferLogsOf(account);
+        assertThat(transferLogs).hasSize(1);
+        return transferLogs.get(0);
+    }
+
+    private void breakReceipts(int shard) {
+        this.executeOn(shard, "ALTER TABLE transfer_receipt RENAME TO transfer_receipt_down");
+    }
+
+    private void restoreReceipts(int shard) {
+        this.executeOn(shard, "ALTER TABLE transfer_receipt_down RENAME TO transfer_receipt");
+    }
+
+    private void executeOn(int shard, String sql) {
+        try (ShardContext.Scope scope = ShardContext.enter(shard)) {
+            new JdbcTemplate(dataSource).execute(sql);
+        }
+    }
+
+    private long countOn(int shard, String sql) {
+        try (ShardContext.Scope scope = ShardContext.enter(shard)) {
+            return new JdbcTemplate(dataSource).queryForObject(sql, Long.class);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.wirebarley.integration;
+
+import com.example.wirebarley.domain.Account;
+import com.example.wirebarley.domain.StandingOrder;
+import com.example.wirebarley.dto.CreateAccountRequestDTO;
+import com.example.wirebarley.dto.CreateStandingOrderRequestDTO;
+import com.example.wirebarley.dto.StandingOrderDTO;
+import com.example.wirebarley.dto.StandingOrderRunReportDTO;
+import com.example.wirebarley.exception.InvalidAmountException;
+import com.example.wirebarley.service.AccountService;
+import com.example.wirebarley.service.StandingOrderExecutor;
+import com.example.wirebarley.service.StandingOrderService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 실행일이 된 자동이체를 송금인 계좌별로 묶어 실행하는 작업을 검증합니다.
+ * 실행 구간(window-ms)은 0 으로 두어 묶음을 바로 실행합니다.
+ */
+@SpringBootTest(properties = {
+        "app.standing-order.window-ms=0",
+        "app.standing-order.workers=2"
+})
+@ActiveProfiles("test")
+@DisplayName("자동이체 통합 테스트")
+class StandingOrderIntegrationTest {
+
+    private static final AtomicInteger phoneSequence = new AtomicInteger();
+
+    @Autowired
+    private StandingOrderService standingOrderService;
+
+    @Autowired
+    private StandingOrderExecutor standingOrderExecutor;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Test
+    @DisplayName("같은 송금인 계좌의 자동이체를 한 번에 실행하고, 실패한 주문은 사유와 함께 보고한다")
+    void execute_TransfersDueOrdersAndReportsFailures() throws Throwable {
+        // given (준비)
+        Account from = this.createAccount();
+        Account rent = this.createAccount();
+        Account loan = this.createAccount();
+        accountService.deposit(from.getId(), 50_000L);
+        StandingOrder rentOrder = standingOrderService.create(from.getId(), new CreateStandingOrderRequestDTO(rent.getAccountNumber(), 30_000L, 1, "월세"));
+        StandingOrder loanOrder = standingOrderService.create(from.getId(), new CreateStandingOrderRequestDTO(loan.getAccountNumber(), 30_000L, 1, "대출"));
+        String runDate = rentOrder.getNextRunDate();
+
+        // when (실행)
+        StandingOrderRunReportDTO report = standingOrderExecutor.execute(runDate);
+
+        // then (검증)
+        // 첫 주문은 이체(수수료 1% 포함 30,300원 출금)되고, 두 번째 주문은 잔액 부족으로 실패합니다.
+        assertThat(this.balanceOf(from)).isEqualTo(50_000L - 30_300L);
+        assertThat(this.balanceOf(rent)).isEqualTo(30_000L);
+        assertThat(this.balanceOf(loan)).isZero();
+        assertThat(report.getFailedOrders()).extracting(StandingOrderDTO::getId).contains(loanOrder.getId());
+
+        List<StandingOrderDTO> orders = standingOrderService.findAllByAccountId(from.getId()).stream().map(StandingOrder::toDTO).toList();
+        StandingOrderDTO executedRent = orders.get(0);
+        StandingOrderDTO failedLoan = orders.get(1);
+        assertThat(executedRent.getLastRunDate()).isEqualTo(runDate);
+        assertThat(executedRent.getLastFailureReason()).isNull();
+        assertThat(executedRent.getNextRunDate()).isEqualTo(StandingOrder.nextRunDateAfter(runDate, 1));
+        assertThat(failedLoan.getLastFailureReason()).isEqualTo("잔액이 부족합니다.");
+        assertThat(failedLoan.getConsecutiveFailures()).isEqualTo(1);
+        assertThat(failedLoan.getNextRunDate()).isEqualTo(StandingOrder.nextRunDateAfter(runDate, 1));
+    }
+
+    @Test
+    @DisplayName("같은 실행일로 다시 실행해도 이미 실행한 주문은 다시 이체하지 않는다")
+    void execute_SameRunDateTwice_TransfersOnce() throws Throwable {
+        // given (준비)
+        Account from = this.createAccount();
+        Account to = this.createAccount();
+        accountService.deposit(from.getId(), 50_000L);
+        StandingOrder order = standingOrderService.create(from.getId(), new CreateStandingOrderRequestDTO(to.getAccountNumber(), 10_000L, 15, null));
+        String runDate = order.getNextRunDate();
+
+        // when (실행)
+        standingOrderExecutor.execute(runDate);
+        standingOrderExecutor.execute(runDate);
+
+        // then (검증)
+        assertThat(this.balanceOf(to)).isEqualTo(10_000L);
+        assertThat(this.balanceOf(from)).isEqualTo(50_000L - 10_100L);
+    }
+
+    @Test
+    @DisplayName("해지한 자동이체는 실행하지 않는다")
+    void execute_CancelledOrder_NotExecuted() throws Throwable {
+        // given (준비)
+        Account from = this.createAccount();
+        Account to = this.createAccount();
+        accountService.deposit(from.getId(), 50_000L);
+        StandingOrder order = standingOrderService.create(from.getId(), new CreateStandingOrderRequestDTO(to.getAccountNumber(), 10_000L, 20, null));
+        standingOrderService.cancel(from.getId(), order.getId());
+
+        // when (실행)
+        standingOrderExecutor.execute(order.getNextRunDate());
+
+        // then (검증)
+        assertThat(this.balanceOf(to)).isZero();
+        assertThat(this.balanceOf(from)).isEqualTo(50_000L);
+    }
+
+    @Test
+    @DisplayName("0원 이하의 자동이체는 등록할 수 없다")
+    void create_InvalidAmount_Rejected() {
+        // given (준비)
+        Account from = this.createAccount();
+        Account to = this.createAccount();
+
+        // when & then
+        assertThrows(InvalidAmountException.class, () -> standingOrderService.create(from.getId(),
+                new CreateStandingOrderRequestDTO(to.getAccountNumber(), 0L, 1, null)));
+    }
+
+    private Account createAccount() {
+        String phone = String.format("010-9043-%04d", phoneSequence.incrementAndGet());
+        return accountService.createAccount(new CreateAccountRequestDTO("자동이체", "standing@test.com", phone, "password"));
+    }
+
+    private long balanceOf(Account account) {
+        return accountService.findAllByIds(List.of(account.getId())).get(0).getBalance();
+    }
+}
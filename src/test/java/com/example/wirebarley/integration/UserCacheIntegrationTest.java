@@ -0,0 +1,88 @@
+package com.example.wirebarley.integration;
+
+import com.example.wirebarley.domain.Account;
+import com.example.wirebarley.domain.User;
+import com.example.wirebarley.dto.CreateAccountRequestDTO;
+import com.example.wirebarley.dto.TransferRequestDTO;
+import com.example.wirebarley.exception.DailyLimitExceededException;
+import com.example.wirebarley.service.AccountService;
+import com.example.wirebarley.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 사용자(User) 2차 캐시가 있어도 출금/이체의 일일 한도는 member 테이블의 최신 값으로 확인하는지 검증합니다.
+ * 캐시는 트랜잭션 커밋 후에 채워지므로 테스트 메소드에 트랜잭션을 걸지 않습니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("사용자 2차 캐시 통합 테스트")
+public class UserCacheIntegrationTest {
+
+    private static final AtomicInteger phoneSequence = new AtomicInteger();
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("출금과 이체는 캐시에 남은 한도가 아니라 member 테이블의 한도로 확인한다")
+    void moneyMovementReadsLimitsUncached() throws Throwable {
+        // given (준비): 사용자가 캐시된 상태에서 다른 인스턴스가 한도를 변경한 것처럼 테이블만 수정
+        Account from = this.createAccount();
+        Account to = this.createAccount();
+        long userId = from.getUser().getId();
+        accountService.deposit(from.getId(), 3_000_000L);
+        accountService.withdraw(from.getId(), 1_000L);
+        userService.findById(userId);
+        jdbcTemplate.update("UPDATE member SET daily_withdrawal_limit = ?, daily_transfer_limit = ? WHERE id = ?", 1_000L, 1_000L, userId);
+
+        // when & then
+        assertThat(entityManagerFactory.getCache().contains(User.class, userId)).isTrue();
+        assertThrows(DailyLimitExceededException.class, () -> accountService.withdraw(from.getId(), 1L));
+        assertThrows(DailyLimitExceededException.class,
+                () -> accountService.transfer(from.getId(), new TransferRequestDTO(to.getAccountNumber(), 1_001L)));
+    }
+
+    @Test
+    @DisplayName("한도를 변경하면 캐시가 무효화되어 다음 출금부터 새 한도가 적용된다")
+    void updatingLimitsInvalidatesCache() throws Throwable {
+        // given (준비): 기본 일일 출금 한도 1,000,000원
+        Account account = this.createAccount();
+        long userId = account.getUser().getId();
+        accountService.deposit(account.getId(), 3_000_000L);
+        accountService.withdraw(account.getId(), 1_000_000L);
+        assertThrows(DailyLimitExceededException.class, () -> accountService.withdraw(account.getId(), 1L));
+
+        // when (실행)
+        userService.updateDailyLimits(userId, 2_000_000L, null);
+        Account result = accountService.withdraw(account.getId(), 500_000L);
+
+        // then (검증)
+        assertThat(result.getBalance()).isEqualTo(1_500_000L);
+        assertThat(userService.findById(userId).getDailyTransferLimit()).isEqualTo(3_000_000L);
+    }
+
+    private Account createAccount() {
+        String phone = String.format("010-9035-%04d", phoneSequence.incrementAndGet());
+        return accountService.createAccount(new CreateAccountRequestDTO("캐시", "cache@test.com", phone, "password"));
+    }
+}
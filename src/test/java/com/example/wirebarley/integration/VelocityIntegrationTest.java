@@ -0,0 +1,127 @@
+package com.example.wirebarley.integration;
+
+import com.example.wirebarley.domain.Account;
+import com.example.wirebarley.dto.CreateAccountRequestDTO;
+import com.example.wirebarley.dto.TransferRequestDTO;
+import com.example.wirebarley.exception.VelocityExceededException;
+import com.example.wirebarley.service.AccountService;
+import com.example.wirebarley.service.VelocityService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 이체 빈도 규칙이 계좌 락 전에 이체를 거절하는지, 재시작 후 거래 기록으로 카운터를 다시 만드는지 검증합니다.
+ */
+@SpringBootTest(properties = {
+        "app.velocity.enabled=true",
+        "app.velocity.transfers.max-count=3",
+        "app.velocity.new-counterparties.max-count=2",
+        "app.velocity.rebuild-on-startup=false"
+})
+@ActiveProfiles("test")
+@DisplayName("이체 빈도 규칙 통합 테스트")
+class VelocityIntegrationTest {
+
+    private static final AtomicInteger phoneSequence = new AtomicInteger();
+
+    @Autowired
+    private VelocityService velocityService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Test
+    @DisplayName("윈도우 안의 이체가 max-count 건이면 다음 이체를 잔액 변경 없이 거절한다")
+    void transfer_RejectsOverTransferCount() throws Throwable {
+        // given (준비)
+        Account from = this.createAccount();
+        Account to = this.createAccount();
+        accountService.deposit(from.getId(), 100_000L);
+        for (int i = 0; i < 3; i++) {
+            accountService.transfer(from.getId(), new TransferRequestDTO(to.getAccountNumber(), 1_000L));
+        }
+        long balance = accountService.findById(from.getId()).getBalance();
+
+        // when & then
+        assertThrows(VelocityExceededException.class,
+                () -> accountService.transfer(from.getId(), new TransferRequestDTO(to.getAccountNumber(), 1_000L)));
+        assertThat(accountService.findById(from.getId()).getBalance()).isEqualTo(balance);
+    }
+
+    @Test
+    @DisplayName("새로운 상대방 이체가 max-count 건이면 다른 새로운 상대방은 거절하고, 이미 이체한 상대방은 허용한다")
+    void transfer_RejectsOverNewCounterparties() throws Throwable {
+        // given (준비)
+        Account from = this.createAccount();
+        Account first = this.createAccount();
+        Account second = this.createAccount();
+        Account third = this.createAccount();
+        accountService.deposit(from.getId(), 100_000L);
+        accountService.transfer(from.getId(), new TransferRequestDTO(first.getAccountNumber(), 1_000L));
+        accountService.transfer(from.getId(), new TransferRequestDTO(second.getAccountNumber(), 1_000L));
+
+        // when & then
+        assertThrows(VelocityExceededException.class,
+                () -> accountService.transfer(from.getId(), new TransferRequestDTO(third.getAccountNumber(), 1_000L)));
+        accountService.transfer(from.getId(), new TransferRequestDTO(first.getAccountNumber(), 1_000L));
+    }
+
+    @Test
+    @DisplayName("자동이체/대량 지급 같은 시스템 이체는 빈도 규칙을 확인하지 않고 카운터에도 기록하지 않는다")
+    void systemTransfers_NotCounted() throws Throwable {
+        // given (준비)
+        Account from = this.createAccount();
+        Account to = this.createAccount();
+        Account other = this.createAccount();
+        accountService.deposit(from.getId(), 100_000L);
+        TransferRequestDTO request = new TransferRequestDTO(to.getAccountNumber(), 1_000L);
+        List<String> rejections = accountService.transferAll(from.getId(),
+                List.of(request, request, request, request, new TransferRequestDTO(other.getAccountNumber(), 1_000L)));
+
+        // when & then
+        assertThat(rejections).containsOnlyNulls();
+        for (int i = 0; i < 3; i++) {
+            accountService.transfer(from.getId(), request);
+        }
+        assertThrows(VelocityExceededException.class, () -> accountService.transfer(from.getId(), request));
+        accountService.systemTransfer(from.getId(), request);
+    }
+
+    @Test
+    @DisplayName("카운터를 비우고 최근 거래 기록으로 다시 만들면 같은 규칙이 적용된다")
+    void rebuild_RestoresCounters() throws Throwable {
+        // given (준비)
+        Account from = this.createAccount();
+        Account first = this.createAccount();
+        Account second = this.createAccount();
+        Account third = this.createAccount();
+        accountService.deposit(from.getId(), 100_000L);
+        accountService.transfer(from.getId(), new TransferRequestDTO(first.getAccountNumber(), 1_000L));
+        accountService.transfer(from.getId(), new TransferRequestDTO(second.getAccountNumber(), 1_000L));
+
+        // when (실행)
+        long rebuilt = velocityService.rebuild();
+
+        // then (검증)
+        assertThat(rebuilt).isGreaterThanOrEqualTo(2L);
+        assertThrows(VelocityExceededException.class,
+                () -> accountService.transfer(from.getId(), new TransferRequestDTO(third.getAccountNumber(), 1_000L)));
+        accountService.transfer(from.getId(), new TransferRequestDTO(second.getAccountNumber(), 1_000L));
+        assertThrows(VelocityExceededException.class,
+                () -> accountService.transfer(from.getId(), new TransferRequestDTO(first.getAccountNumber(), 1_000L)));
+    }
+
+    private Account createAccount() {
+        String phone = String.format("010-9050-%04d", phoneSequence.incrementAndGet());
+        return accountService.createAccount(new CreateAccountRequestDTO("빈도", "velocity@test.com", phone, "password"));
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.wirebarley.integration;
+
+import com.example.wirebarley.dto.WarmUpReportDTO;
+import com.example.wirebarley.repository.UserRepository;
+import com.example.wirebarley.service.VelocityService;
+import com.example.wirebarley.service.WarmUpRunner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 워밍업이 롤백되는 트랜잭션으로 실행되어 데이터를 남기지 않는지, 실행 중에는 readiness 를 REFUSING_TRAFFIC 으로 유지하는지 검증합니다.
+ */
+@SpringBootTest(properties = {
+        "app.warm-up.threads=2",
+        "app.warm-up.iterations=3"
+})
+@ActiveProfiles("test")
+@DisplayName("워밍업 통합 테스트")
+class WarmUpIntegrationTest {
+
+    @Autowired
+    private WarmUpRunner warmUpRunner;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationAvailability applicationAvailability;
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Autowired
+    private VelocityService velocityService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("모든 작업 묶음을 실행하고 롤백하여 DB 와 이체 빈도 카운터에 남기지 않는다")
+    void warmUp_RollsBackEveryIteration() {
+        // given (준비)
+        int counterpartyRows = this.countCounterpartyRows();
+        int velocityAccounts = velocityService.getAccountCount();
+
+        // when (실행)
+        WarmUpReportDTO report = warmUpRunner.warmUp();
+
+        // then (검증)
+        assertThat(report.getIterations()).isEqualTo(6L);
+        assertThat(report.getFailed()).isZero();
+        assertThat(report.isTimedOut()).isFalse();
+        assertThat(userRepository.findByPhone("warm-up-0-0")).isEmpty();
+        assertThat(userRepository.findByPhone("warm-up-1-2")).isEmpty();
+        assertThat(this.countCounterpartyRows()).isEqualTo(counterpartyRows);
+        assertThat(velocityService.getAccountCount()).isEqualTo(velocityAccounts);
+    }
+
+    @Test
+    @DisplayName("워밍업 중에는 readiness 를 REFUSING_TRAFFIC 으로 바꾸고, 끝나면 이전 상태로 되돌린다")
+    void warmUp_HoldsReadiness() {
+        // given (준비)
+        List<ReadinessState> states = new CopyOnWriteArrayList<>();
+        applicationContext.addApplicationListener((ApplicationListener<AvailabilityChangeEvent<?>>) event -> {
+            if (event.getState() instanceof ReadinessState state) {
+                states.add(state);
+            }
+        });
+
+        // when (실행)
+        warmUpRunner.warmUp();
+
+        // then (검증)
+        assertThat(states).containsExactly(ReadinessState.REFUSING_TRAFFIC, ReadinessState.ACCEPTING_TRAFFIC);
+        assertThat(applicationAvailability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+    }
+
+    @Test
+    @DisplayName("시간 예산을 넘기면 끝나지 않은 작업을 기다리지 않고 트래픽을 받는다")
+    void warmUp_StopsAtTimeBudget() {
+        // given (준비)
+        ReflectionTestUtils.setField(warmUpRunner, "maxDurationMillis", 0L);
+
+        try {
+            // when (실행)
+            WarmUpReportDTO report = warmUpRunner.warmUp();
+
+            // then (검증)
+            assertThat(report.isTimedOut()).isTrue();
+            assertThat(applicationAvailability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+        } finally {
+            ReflectionTestUtils.setField(warmUpRunner, "maxDurationMillis", 60_000L);
+        }
+    }
+
+    private int countCounterpartyRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM recent_counterparties", Integer.class);
+    }
+}
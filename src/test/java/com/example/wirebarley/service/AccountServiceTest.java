@@ -6,6 +6,7 @@ import com.example.wirebarley.dto.CreateAccountRequestDTO;
 import com.example.wirebarley.enumeration.AccountStatus;
 import com.example.wirebarley.enumeration.TransactionType;
 import com.example.wirebarley.repository.AccountRepository;
+import com.example.wirebarley.util.BusinessClock;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
@@ -35,6 +37,12 @@ class AccountServiceTest {
     @Mock private UserService userService;
     @Mock private AccountRepository accountRepository;
     @Mock private TransactionService transactionService;
+    @Mock private AccountVersionRegistry accountVersionRegistry;
+    // 트랜잭션 매니저가 없으므로 작업을 PESSIMISTIC_WRITE 로 한 번만 실행합니다.
+    @Spy private AccountLockManager accountLockManager = new AccountLockManager();
+    @Spy private BusinessClock businessClock = new BusinessClock();
+    // 샤딩 설정이 없으므로 모든 계좌를 기본 샤드로 계산합니다.
+    @Spy private ShardRouter shardRouter = new ShardRouter();
 
     private User testUser;
     private Account testAccount;
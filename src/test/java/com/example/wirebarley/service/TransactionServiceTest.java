@@ -5,6 +5,7 @@ import com.example.wirebarley.domain.Transaction;
 import com.example.wirebarley.domain.User;
 import com.example.wirebarley.enumeration.TransactionType;
 import com.example.wirebarley.repository.TransactionRepository;
+import com.example.wirebarley.util.BusinessClock;
 import com.example.wirebarley.util.DateUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -39,6 +41,21 @@ class TransactionServiceTest {
     @Mock
     private TransactionRepository transactionRepository;
 
+    @Mock
+    private AccountEventBus accountEventBus;
+
+    @Mock
+    private CounterpartyService counterpartyService;
+
+    @Mock
+    private VelocityService velocityService;
+
+    @Spy
+    private BusinessClock businessClock = new BusinessClock();
+
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter();
+
     private Account testAccount;
     private User testUser;
 
@@ -131,7 +148,7 @@ class TransactionServiceTest {
         // when (실행)
         Transaction savedTx = transactionService.createTransferTransaction(
                 testAccount, TransactionType.TRANSFER, grossAmount, netAmount,
-                feeRate, feeAmount, prevBalance, counterpartyAccount, yyyymmdd
+                feeRate, feeAmount, prevBalance, counterpartyAccount, yyyymmdd, true
         );
 
         // then (검증)
@@ -148,6 +165,9 @@ class TransactionServiceTest {
         // 상대방 정보 검증
         assertThat(savedTx.getCounterpartyName()).isEqualTo("receiver");
         assertThat(savedTx.getCounterpartyAccountNumber()).isEqualTo("999-888-7777");
+        // 자주 이체한 상대방 목록 갱신 검증
+        verify(counterpartyService, times(1)).record(testAccount.getId(), "999-888-7777", "receiver");
+        verify(velocityService, times(1)).recordAfterCommit(testAccount.getId(), false);
     }
 
     @Test
@@ -0,0 +1,144 @@
+package com.example.wirebarley.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptiveConcurrencyLimiter 테스트")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("한도와 대기열이 모두 차면 요청을 거절한다")
+    void rejectsWhenLimitAndQueueAreFull() throws InterruptedException {
+        // given (준비): 한도 2, 대기열 없음
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0, MILLIS, 2.0, () -> 0);
+
+        // when & then
+        assertThat(limiter.acquire()).isTrue();
+        assertThat(limiter.acquire()).isTrue();
+        assertThat(limiter.acquire()).isFalse();
+        assertThat(limiter.getRejectedCount()).isEqualTo(1L);
+
+        // 하나가 끝나면 다시 허용한다
+        limiter.release(10 * MILLIS, System.nanoTime());
+        assertThat(limiter.acquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("응답 시간이 기준보다 크게 늘어나면 한도를 줄인다")
+    void decreasesLimitWhenLatencyRises() throws InterruptedException {
+        // given (준비)
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 10, 200, 0, MILLIS, 2.0, () -> 0);
+        long now = System.nanoTime();
+        limiter.acquire();
+        limiter.release(10 * MILLIS, now); // 기준 응답 시간 10ms
+
+        // when (실행): 기준의 5배 응답 시간이 쿨다운 간격으로 이어짐
+        for (int i = 1; i <= 5; i++) {
+            limiter.acquire();
+            limiter.release(50 * MILLIS, now + i * 200 * MILLIS);
+        }
+
+        // then (검증): 100 * 0.9^5 ≈ 59
+        assertThat(limiter.getLimit()).isEqualTo(59);
+    }
+
+    @Test
+    @DisplayName("커넥션을 기다리는 스레드가 있으면 응답 시간이 정상이어도 한도를 줄인다")
+    void decreasesLimitWhenPoolIsSaturated() throws InterruptedException {
+        // given (준비)
+        AtomicInteger poolWaiters = new AtomicInteger(3);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 10, 200, 0, MILLIS, 2.0, poolWaiters::get);
+
+        // when (실행)
+        limiter.acquire();
+        limiter.release(10 * MILLIS, System.nanoTime());
+
+        // then (검증)
+        assertThat(limiter.getLimit()).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("응답 시간이 안정적이고 한도를 충분히 사용 중이면 한도를 늘린다")
+    void increasesLimitWhenHealthyAndUtilized() throws InterruptedException {
+        // given (준비): 한도 10 을 모두 사용 중
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 0, MILLIS, 2.0, () -> 0);
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire();
+        }
+
+        // when (실행): 같은 응답 시간으로 요청을 계속 처리
+        long now = System.nanoTime();
+        for (int i = 0; i < 200; i++) {
+            limiter.release(10 * MILLIS, now);
+            limiter.acquire();
+        }
+
+        // then (검증)
+        assertThat(limiter.getLimit()).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("기준 응답 시간은 경로마다 따로 두어 가벼운 경로가 무거운 경로를 혼잡으로 보이게 하지 않는다")
+    void keepsBaselinePerRoute() throws InterruptedException {
+        // given (준비): 조회는 1ms, 이체는 20ms 가 정상
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 10, 200, 0, MILLIS, 2.0, () -> 0);
+        long now = System.nanoTime();
+        limiter.acquire();
+        limiter.release("GET /account/{accountId}", MILLIS, now);
+
+        // when (실행)
+        for (int i = 1; i <= 5; i++) {
+            limiter.acquire();
+            limiter.release("POST /account/{accountId}/transfer", 20 * MILLIS, now + i * 200 * MILLIS);
+        }
+
+        // then (검증)
+        assertThat(limiter.getLimit()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("응답 시간 없이 반납한 요청은 한도 조절에 쓰지 않는다")
+    void releaseWithoutSampleKeepsLimit() throws InterruptedException {
+        // given (준비)
+        AtomicInteger poolWaiters = new AtomicInteger(3);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 10, 200, 0, MILLIS, 2.0, poolWaiters::get);
+
+        // when (실행)
+        limiter.acquire();
+        limiter.releaseWithoutSample();
+
+        // then (검증)
+        assertThat(limiter.getLimit()).isEqualTo(100);
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열에서 기다리던 요청은 다른 요청이 끝나면 처리 권한을 얻는다")
+    void queuedRequestAcquiresAfterRelease() throws Exception {
+        // given (준비): 한도 1, 대기열 1, 최대 대기 1초
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 1, 1000 * MILLIS, 2.0, () -> 0);
+        limiter.acquire();
+
+        // when (실행)
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            limiter.release(10 * MILLIS, System.nanoTime());
+        });
+        releaser.start();
+
+        // then (검증)
+        assertThat(limiter.acquire()).isTrue();
+        releaser.join();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.wirebarley.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BusinessClock 테스트")
+class BusinessClockTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Test
+    @DisplayName("오늘 날짜는 시스템 시간대와 무관하게 Asia/Seoul 기준으로 계산한다")
+    void todayUsesSeoulZone() {
+        // given (준비): UTC 2025-07-31 15:30 = 서울 2025-08-01 00:30
+        BusinessClock businessClock = new BusinessClock();
+        businessClock.setClock(Clock.fixed(Instant.parse("2025-07-31T15:30:00Z"), ZoneOffset.UTC));
+
+        // when & then
+        assertThat(businessClock.today()).isEqualTo(20250801);
+        assertThat(businessClock.todayText()).isEqualTo("20250801");
+        assertThat(businessClock.now().getZone()).isEqualTo(SEOUL);
+    }
+
+    @Test
+    @DisplayName("자정이 지나면 다음 날짜로 넘어간다")
+    void rollsOverAtMidnight() {
+        // given (준비): 서울 2025-08-01 23:59:59
+        BusinessClock businessClock = new BusinessClock();
+        businessClock.setClock(this.fixedAt(ZonedDateTime.of(2025, 8, 1, 23, 59, 59, 0, SEOUL)));
+        assertThat(businessClock.today()).isEqualTo(20250801);
+
+        // when (실행): 서울 2025-08-02 00:00:00
+        businessClock.setClock(this.fixedAt(ZonedDateTime.of(2025, 8, 2, 0, 0, 0, 0, SEOUL)));
+
+        // then (검증)
+        assertThat(businessClock.today()).isEqualTo(20250802);
+        assertThat(businessClock.todayText()).isEqualTo("20250802");
+    }
+
+    @Test
+    @DisplayName("스케줄 없이 시계만 자정을 넘어도 조회 시 날짜를 갱신한다")
+    void refreshesWhenCachedDayIsStale() {
+        // given (준비): 시계가 흘러가는 상황을 오프셋 시계로 재현
+        ZonedDateTime beforeMidnight = ZonedDateTime.of(2025, 12, 31, 23, 59, 0, 0, SEOUL);
+        BusinessClock businessClock = new BusinessClock();
+        businessClock.setClock(this.fixedAt(beforeMidnight));
+        assertThat(businessClock.today()).isEqualTo(20251231);
+
+        // when (실행): 캐시된 날짜는 그대로 둔 채 시계만 2분 앞으로 이동
+        MovableClock clock = new MovableClock(beforeMidnight.toInstant());
+        businessClock.setClock(clock);
+        clock.advanceSeconds(120);
+
+        // then (검증)
+        assertThat(businessClock.today()).isEqualTo(20260101);
+    }
+
+    private Clock fixedAt(ZonedDateTime dateTime) {
+        return Clock.fixed(dateTime.toInstant(), SEOUL);
+    }
+
+    /**
+     * 테스트에서 시간을 직접 앞으로 움직일 수 있는 시계.
+     */
+    private static class MovableClock extends Clock {
+
+        private Instant instant;
+
+        MovableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advanceSeconds(long seconds) {
+            this.instant = instant.plusSeconds(seconds);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return SEOUL;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.wirebarley.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SlidingWindowCounter 테스트")
+class SlidingWindowCounterTest {
+
+    // 1분 윈도우, 6구간 (구간 10초)
+    private static final long WINDOW = 60_000L;
+    private static final long SLOT = 10_000L;
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("윈도우 안의 기록만 센다")
+    void countsWithinWindow() {
+        // given (준비)
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, 6);
+        counter.increment(NOW);
+        counter.increment(NOW + SLOT);
+        counter.increment(NOW + SLOT * 2);
+
+        // when & then
+        assertThat(counter.count(NOW + SLOT * 2)).isEqualTo(3L);
+        assertThat(counter.count(NOW + WINDOW)).isEqualTo(2L);
+        assertThat(counter.count(NOW + WINDOW + SLOT * 2)).isZero();
+        assertThat(counter.isIdle(NOW + WINDOW + SLOT * 2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("링 버퍼를 한 바퀴 돌면 오래된 구간을 비우고 재사용한다")
+    void reusesExpiredSlot() {
+        // given (준비)
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, 6);
+        counter.increment(NOW);
+        counter.increment(NOW);
+
+        // when (실행): 같은 자리의 다음 바퀴 구간
+        counter.increment(NOW + WINDOW);
+
+        // then (검증)
+        assertThat(counter.count(NOW + WINDOW)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("같은 자리에 더 최근 구간이 있으면 오래된 기록은 무시한다")
+    void ignoresRecordOlderThanWindow() {
+        // given (준비)
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, 6);
+        counter.increment(NOW + WINDOW);
+
+        // when (실행)
+        counter.increment(NOW);
+
+        // then (검증)
+        assertThat(counter.count(NOW + WINDOW)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 건수를 잃지 않는다")
+    void concurrentIncrements() throws Exception {
+        // given (준비)
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, 6);
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when (실행): 구간 경계를 넘나들며 기록
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    counter.increment(NOW + (i % 3) * SLOT);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then (검증)
+        assertThat(counter.count(NOW + SLOT * 2)).isEqualTo((long) threads * perThread);
+    }
+}
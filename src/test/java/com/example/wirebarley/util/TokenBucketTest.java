@@ -0,0 +1,84 @@
+package com.example.wirebarley.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenBucket 테스트")
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("capacity 만큼은 한 번에 허용하고, 그 이후 요청은 거절한다")
+    void allowsBurstUpToCapacity() {
+        // given (준비): 최대 3건, 초당 1건
+        long now = 0L;
+        TokenBucket bucket = new TokenBucket(3, 1.0, now);
+
+        // when & then
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isEqualTo(SECOND);
+        assertThat(bucket.getRejectedCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 초당 refillPerSecond 만큼 다시 허용한다")
+    void refillsOverTime() {
+        // given (준비): 최대 2건, 초당 2건
+        long now = 0L;
+        TokenBucket bucket = new TokenBucket(2, 2.0, now);
+        bucket.tryAcquire(now);
+        bucket.tryAcquire(now);
+        assertThat(bucket.tryAcquire(now)).isPositive();
+
+        // when & then: 0.5초 후 1건 허용
+        long later = now + SECOND / 2;
+        assertThat(bucket.tryAcquire(later)).isZero();
+        assertThat(bucket.tryAcquire(later)).isPositive();
+
+        // 충분히 시간이 지나면 버킷이 가득 찬다
+        assertThat(bucket.isFull(later + SECOND)).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 요청해도 capacity 를 넘겨 허용하지 않는다")
+    void concurrentAcquireNeverExceedsCapacity() throws Exception {
+        // given (준비): 시간이 흐르지 않는다고 가정하여 capacity 만큼만 허용되어야 함
+        long now = System.nanoTime();
+        TokenBucket bucket = new TokenBucket(100, 0.001, now);
+        AtomicInteger acquired = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when (실행)
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    if (bucket.tryAcquire(now) == 0L) {
+                        acquired.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then (검증)
+        assertThat(acquired.get()).isEqualTo(100);
+        assertThat(bucket.getRejectedCount()).isEqualTo(8 * 1000 - 100);
+    }
+}